@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import com.mongodb.MongoClient;
+import com.mongodb.ServerAddress;
+
+/**
+ * Benchmark for creating {@link org.springframework.data.mongodb.core.query.Query queries} from common
+ * {@link Query @Query} shapes.
+ *
+ * @since 2.2
+ */
+@State(Scope.Benchmark)
+public class StringBasedMongoQueryBenchmark extends AbstractMicrobenchmark {
+
+	private static final String DB_NAME = "string-based-mongo-query-benchmark";
+
+	private MongoClient client;
+	private MongoTemplate template;
+
+	private QueryInvocation equality, range, in, nestedWithFields, quotedPlaceholder;
+
+	@Setup
+	public void setUp() throws Exception {
+
+		client = new MongoClient(new ServerAddress());
+		template = new MongoTemplate(client, DB_NAME);
+
+		equality = invocation("findByLastname", new Class<?>[] { String.class }, "Matthews");
+		range = invocation("findByAgeBetween", new Class<?>[] { int.class, int.class }, 18, 65);
+		in = invocation("findByLastnameIn", new Class<?>[] { Collection.class },
+				Arrays.asList("Matthews", "Beauford", "Tinsley", "Moore"));
+		nestedWithFields = invocation("findByAddressCityAndActive", new Class<?>[] { String.class, boolean.class },
+				"Charlottesville", true);
+		quotedPlaceholder = invocation("findByQuotedLastname", new Class<?>[] { String.class }, "Matthews");
+	}
+
+	@TearDown
+	public void tearDown() {
+
+		client.dropDatabase(DB_NAME);
+		client.close();
+	}
+
+	@Benchmark
+	public Object equality() {
+		return equality.createQuery();
+	}
+
+	@Benchmark
+	public Object range() {
+		return range.createQuery();
+	}
+
+	@Benchmark
+	public Object in() {
+		return in.createQuery();
+	}
+
+	@Benchmark
+	public Object nestedWithFields() {
+		return nestedWithFields.createQuery();
+	}
+
+	@Benchmark
+	public Object quotedPlaceholder() {
+		return quotedPlaceholder.createQuery();
+	}
+
+	private QueryInvocation invocation(String name, Class<?>[] parameterTypes, Object... args) throws Exception {
+
+		Method method = PersonRepository.class.getMethod(name, parameterTypes);
+		MongoQueryMethod queryMethod = new MongoQueryMethod(method, new DefaultRepositoryMetadata(PersonRepository.class),
+				new SpelAwareProxyProjectionFactory(), template.getConverter().getMappingContext());
+
+		StringBasedMongoQuery query = new StringBasedMongoQuery(queryMethod, template, new SpelExpressionParser(),
+				QueryMethodEvaluationContextProvider.DEFAULT);
+
+		return new QueryInvocation(query, new ConvertingParameterAccessor(template.getConverter(),
+				new MongoParametersParameterAccessor(queryMethod, args)));
+	}
+
+	static class QueryInvocation {
+
+		private final StringBasedMongoQuery query;
+		private final ConvertingParameterAccessor accessor;
+
+		QueryInvocation(StringBasedMongoQuery query, ConvertingParameterAccessor accessor) {
+
+			this.query = query;
+			this.accessor = accessor;
+		}
+
+		org.springframework.data.mongodb.core.query.Query createQuery() {
+			return query.createQuery(accessor);
+		}
+	}
+
+	interface PersonRepository extends Repository<Person, String> {
+
+		@Query("{ 'lastname' : ?0 }")
+		List<Person> findByLastname(String lastname);
+
+		@Query("{ 'age' : { '$gte' : ?0, '$lte' : ?1 } }")
+		List<Person> findByAgeBetween(int from, int to);
+
+		@Query("{ 'lastname' : { '$in' : ?0 } }")
+		List<Person> findByLastnameIn(Collection<String> lastnames);
+
+		@Query(value = "{ 'address.city' : ?0, 'active' : ?1, 'tags' : { '$exists' : true } }",
+				fields = "{ 'firstname' : 1, 'lastname' : 1, 'address' : 1 }")
+		List<Person> findByAddressCityAndActive(String city, boolean active);
+
+		@Query("{ 'lastname' : '?0' }")
+		List<Person> findByQuotedLastname(String lastname);
+	}
+
+	@Document
+	static class Person {
+
+		@Id String id;
+		String firstname, lastname;
+		int age;
+		boolean active;
+		Address address;
+		List<String> tags;
+	}
+
+	static class Address {
+		String city;
+	}
+}
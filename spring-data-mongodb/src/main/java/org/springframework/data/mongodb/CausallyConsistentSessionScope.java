@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+
+/**
+ * Scope binding a causally consistent {@link ClientSession} to the current {@link Thread} for a given
+ * {@link MongoDbFactory}. Operations run through a {@link org.springframework.data.mongodb.core.MongoTemplate} (and
+ * therefore repositories) using that factory on the current thread pick up the session via
+ * {@link MongoDatabaseUtils} unless a transaction provides a session of its own. Consecutive reads within the scope,
+ * e.g. throughout a web request, thus observe the writes made before them even when reading from secondaries,
+ * without having to pass the session around explicitly.
+ *
+ * <pre class="code">
+ * try (CausallyConsistentSessionScope scope = CausallyConsistentSessionScope.open(dbFactory)) {
+ *
+ * 	template.save(order);
+ * 	template.find(query(where("customerId").is(order.getCustomerId())), Order.class);
+ * }
+ * </pre>
+ *
+ * Opening a scope for a factory that already has one on the current thread joins the existing scope. The session is
+ * closed once the outermost scope is closed, which returns it to the pool if
+ * {@link org.springframework.data.mongodb.core.MongoDbFactorySupport#setSessionPoolOptions session pooling} is
+ * enabled. A scope must be closed on the thread that opened it.
+ *
+ * @since 2.2
+ */
+public final class CausallyConsistentSessionScope implements AutoCloseable {
+
+	private static final ThreadLocal<Map<MongoDbFactory, CausallyConsistentSessionScope>> SCOPES = new NamedThreadLocal<>(
+			"Causally consistent MongoDB session scopes");
+
+	private static final ClientSessionOptions SESSION_OPTIONS = ClientSessionOptions.builder().causallyConsistent(true)
+			.build();
+
+	private final MongoDbFactory dbFactory;
+	private final ClientSession session;
+
+	private int depth = 1;
+
+	private CausallyConsistentSessionScope(MongoDbFactory dbFactory, ClientSession session) {
+
+		this.dbFactory = dbFactory;
+		this.session = session;
+	}
+
+	/**
+	 * Open a scope for the given {@link MongoDbFactory} on the current thread or join the one already open.
+	 *
+	 * @param dbFactory must not be {@literal null}.
+	 * @return the scope. Never {@literal null}.
+	 */
+	public static CausallyConsistentSessionScope open(MongoDbFactory dbFactory) {
+
+		Assert.notNull(dbFactory, "MongoDbFactory must not be null!");
+
+		Map<MongoDbFactory, CausallyConsistentSessionScope> scopes = SCOPES.get();
+
+		if (scopes == null) {
+
+			scopes = new IdentityHashMap<>(2);
+			SCOPES.set(scopes);
+		}
+
+		CausallyConsistentSessionScope scope = scopes.get(dbFactory);
+
+		if (scope != null) {
+
+			scope.depth++;
+			return scope;
+		}
+
+		scope = new CausallyConsistentSessionScope(dbFactory, dbFactory.getSession(SESSION_OPTIONS));
+		scopes.put(dbFactory, scope);
+
+		return scope;
+	}
+
+	/**
+	 * Obtain the session of the scope open for the given {@link MongoDbFactory} on the current thread.
+	 *
+	 * @param dbFactory must not be {@literal null}.
+	 * @return the session or {@literal null} if no scope is open.
+	 */
+	@Nullable
+	public static ClientSession getCurrentSession(MongoDbFactory dbFactory) {
+
+		Map<MongoDbFactory, CausallyConsistentSessionScope> scopes = SCOPES.get();
+
+		if (scopes == null) {
+			return null;
+		}
+
+		CausallyConsistentSessionScope scope = scopes.get(dbFactory);
+		return scope != null ? scope.session : null;
+	}
+
+	/**
+	 * @return the causally consistent session of this scope. Never {@literal null}.
+	 */
+	public ClientSession getSession() {
+		return session;
+	}
+
+	/**
+	 * Leave the scope and close the session if this is the outermost scope.
+	 */
+	@Override
+	public void close() {
+
+		if (depth <= 0 || --depth > 0) {
+			return;
+		}
+
+		Map<MongoDbFactory, CausallyConsistentSessionScope> scopes = SCOPES.get();
+
+		if (scopes != null && scopes.get(dbFactory) == this) {
+
+			scopes.remove(dbFactory);
+
+			if (scopes.isEmpty()) {
+				SCOPES.remove();
+			}
+		}
+
+		session.close();
+	}
+}
@@ -29,7 +29,9 @@ import com.mongodb.client.MongoDatabase;
 /**
  * Helper class for managing a {@link MongoDatabase} instances via {@link MongoDbFactory}. Used for obtaining
  * {@link ClientSession session bound} resources, such as {@link MongoDatabase} and
- * {@link com.mongodb.client.MongoCollection} suitable for transactional usage.
+ * {@link com.mongodb.client.MongoCollection} suitable for transactional usage. Without a transactional session the
+ * session of a {@link CausallyConsistentSessionScope} open on the current thread is used, if any. Neither is used with
+ * {@link SessionSynchronization#NEVER}.
  * <p />
  * <strong>Note:</strong> Intended for internal usage only.
  *
@@ -104,11 +106,17 @@ public class MongoDatabaseUtils {
 
 		Assert.notNull(factory, "Factory must not be null!");
 
-		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+		if (SessionSynchronization.NEVER.equals(sessionSynchronization)) {
 			return StringUtils.hasText(dbName) ? factory.getDb(dbName) : factory.getDb();
 		}
 
-		ClientSession session = doGetSession(factory, sessionSynchronization);
+		ClientSession session = TransactionSynchronizationManager.isSynchronizationActive()
+				? doGetSession(factory, sessionSynchronization)
+				: null;
+
+		if (session == null) {
+			session = CausallyConsistentSessionScope.getCurrentSession(factory);
+		}
 
 		if (session == null) {
 			return StringUtils.hasText(dbName) ? factory.getDb(dbName) : factory.getDb();
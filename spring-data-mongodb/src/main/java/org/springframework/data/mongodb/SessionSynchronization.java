@@ -34,5 +34,12 @@ public enum SessionSynchronization {
 	/**
 	 * Synchronize with native MongoDB transactions initiated via {@link MongoTransactionManager}.
 	 */
-	ON_ACTUAL_TRANSACTION;
+	ON_ACTUAL_TRANSACTION,
+
+	/**
+	 * Do not participate in ongoing transactions nor use the session of a {@link CausallyConsistentSessionScope}.
+	 *
+	 * @since 2.2
+	 */
+	NEVER;
 }
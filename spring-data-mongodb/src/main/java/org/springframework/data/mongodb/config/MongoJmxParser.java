@@ -15,6 +15,8 @@
  */
 package org.springframework.data.mongodb.config;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.parsing.BeanComponentDefinition;
 import org.springframework.beans.factory.parsing.CompositeComponentDefinition;
@@ -49,14 +51,30 @@ public class MongoJmxParser implements BeanDefinitionParser {
 
 		CompositeComponentDefinition compositeDef = new CompositeComponentDefinition(element.getTagName(), eleSource);
 
-		createBeanDefEntry(AssertMetrics.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(BackgroundFlushingMetrics.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(BtreeIndexCounters.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(ConnectionMetrics.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(GlobalLockMetrics.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(MemoryMetrics.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(OperationCounters.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(ServerInfo.class, compositeDef, mongoRefName, eleSource, parserContext);
+		BeanDefinitionBuilder cacheBuilder = BeanDefinitionBuilder.genericBeanDefinition(ServerStatusCache.class);
+		cacheBuilder.addConstructorArgReference(mongoRefName);
+
+		String refreshInterval = element.getAttribute("refresh-interval");
+		if (StringUtils.hasText(refreshInterval)) {
+			cacheBuilder.addConstructorArgValue(BeanDefinitionBuilder.genericBeanDefinition(Duration.class)
+					.setFactoryMethod("ofMillis").addConstructorArgValue(refreshInterval).getBeanDefinition());
+		}
+
+		String cacheRefName = registerBeanDefEntry(cacheBuilder, compositeDef, eleSource, parserContext);
+
+		createMonitorBeanDefEntry(AssertMetrics.class, compositeDef, mongoRefName, cacheRefName, eleSource, parserContext);
+		createMonitorBeanDefEntry(BackgroundFlushingMetrics.class, compositeDef, mongoRefName, cacheRefName, eleSource,
+				parserContext);
+		createMonitorBeanDefEntry(BtreeIndexCounters.class, compositeDef, mongoRefName, cacheRefName, eleSource,
+				parserContext);
+		createMonitorBeanDefEntry(ConnectionMetrics.class, compositeDef, mongoRefName, cacheRefName, eleSource,
+				parserContext);
+		createMonitorBeanDefEntry(GlobalLockMetrics.class, compositeDef, mongoRefName, cacheRefName, eleSource,
+				parserContext);
+		createMonitorBeanDefEntry(MemoryMetrics.class, compositeDef, mongoRefName, cacheRefName, eleSource, parserContext);
+		createMonitorBeanDefEntry(OperationCounters.class, compositeDef, mongoRefName, cacheRefName, eleSource,
+				parserContext);
+		createMonitorBeanDefEntry(ServerInfo.class, compositeDef, mongoRefName, cacheRefName, eleSource, parserContext);
 		createBeanDefEntry(MongoAdmin.class, compositeDef, mongoRefName, eleSource, parserContext);
 
 		parserContext.registerComponent(compositeDef);
@@ -66,11 +84,31 @@ public class MongoJmxParser implements BeanDefinitionParser {
 	protected void createBeanDefEntry(Class<?> clazz, CompositeComponentDefinition compositeDef, String mongoRefName,
 			Object eleSource, ParserContext parserContext) {
 		BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(clazz);
-		builder.getRawBeanDefinition().setSource(eleSource);
 		builder.addConstructorArgReference(mongoRefName);
-		BeanDefinition assertDef = builder.getBeanDefinition();
-		String assertName = parserContext.getReaderContext().registerWithGeneratedName(assertDef);
-		compositeDef.addNestedComponent(new BeanComponentDefinition(assertDef, assertName));
+		registerBeanDefEntry(builder, compositeDef, eleSource, parserContext);
+	}
+
+	/**
+	 * Register a monitor sharing the {@link ServerStatusCache} registered under the given name with all other monitors.
+	 *
+	 * @since 2.2
+	 */
+	protected void createMonitorBeanDefEntry(Class<? extends AbstractMonitor> clazz,
+			CompositeComponentDefinition compositeDef, String mongoRefName, String cacheRefName, Object eleSource,
+			ParserContext parserContext) {
+		BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(clazz);
+		builder.addConstructorArgReference(mongoRefName);
+		builder.addConstructorArgReference(cacheRefName);
+		registerBeanDefEntry(builder, compositeDef, eleSource, parserContext);
+	}
+
+	private static String registerBeanDefEntry(BeanDefinitionBuilder builder, CompositeComponentDefinition compositeDef,
+			Object eleSource, ParserContext parserContext) {
+		builder.getRawBeanDefinition().setSource(eleSource);
+		BeanDefinition beanDef = builder.getBeanDefinition();
+		String beanName = parserContext.getReaderContext().registerWithGeneratedName(beanDef);
+		compositeDef.addNestedComponent(new BeanComponentDefinition(beanDef, beanName));
+		return beanName;
 	}
 
 }
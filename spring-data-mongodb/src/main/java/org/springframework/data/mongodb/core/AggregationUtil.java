@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.bson.Document;
@@ -30,6 +31,8 @@ import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.aggregation.CountOperation;
+import org.springframework.data.mongodb.core.aggregation.PreparedAggregation;
+import org.springframework.data.mongodb.core.aggregation.PreparedTypedAggregation;
 import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
@@ -92,7 +95,7 @@ class AggregationUtil {
 			return aggregation.toPipeline(context);
 		}
 
-		return mapAggregationPipeline(aggregation.toPipeline(context));
+		return mapAggregationPipeline(aggregation, () -> aggregation.toPipeline(context));
 	}
 
 	/**
@@ -110,7 +113,7 @@ class AggregationUtil {
 			return command;
 		}
 
-		command.put("pipeline", mapAggregationPipeline(command.get("pipeline", List.class)));
+		command.put("pipeline", mapAggregationPipeline(aggregation, () -> command.get("pipeline", List.class)));
 
 		return command;
 	}
@@ -162,6 +165,24 @@ class AggregationUtil {
 		return Arrays.asList(Aggregation.match(criteria), count);
 	}
 
+	/**
+	 * Map the pipeline rendered against the {@link Aggregation#DEFAULT_CONTEXT}. Prepared aggregations are mapped once
+	 * and return a copy of their cached mapped pipeline.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<Document> mapAggregationPipeline(Aggregation aggregation, Supplier<List<?>> pipeline) {
+
+		if (aggregation instanceof PreparedAggregation) {
+			return ((PreparedAggregation) aggregation).toMappedPipeline(queryMapper);
+		}
+
+		if (aggregation instanceof PreparedTypedAggregation) {
+			return ((PreparedTypedAggregation<?>) aggregation).toMappedPipeline(queryMapper);
+		}
+
+		return mapAggregationPipeline((List<Document>) pipeline.get());
+	}
+
 	private List<Document> mapAggregationPipeline(List<Document> pipeline) {
 
 		return pipeline.stream().map(val -> queryMapper.getMappedObject(val, Optional.empty()))
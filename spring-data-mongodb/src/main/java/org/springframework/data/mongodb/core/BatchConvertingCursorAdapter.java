@@ -0,0 +1,235 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.bson.Document;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.lang.Nullable;
+
+import com.mongodb.client.MongoCursor;
+
+/**
+ * {@link CloseableIterator} reading a {@link MongoCursor} batch by batch. While the documents of a batch are converted,
+ * the next batch is fetched from the server using the given {@link Executor}. Batches are split into chunks converted
+ * concurrently on the {@link Executor} and the calling thread. The order of the cursor is retained.
+ *
+ * @since 2.2
+ */
+class BatchConvertingCursorAdapter<T> implements CloseableIterator<T> {
+
+	private final MongoCursor<Document> cursor;
+	private final int batchSize;
+	private final int parallelism;
+	private final Executor executor;
+	private final DocumentCallback<T> callback;
+	private final PersistenceExceptionTranslator exceptionTranslator;
+	private final DefaultCursorMetrics metrics;
+
+	private Iterator<T> current = Collections.emptyIterator();
+	private @Nullable CompletableFuture<List<Document>> prefetch;
+	private long position;
+	private boolean exhausted;
+	private boolean closed;
+
+	/**
+	 * @param cursor the cursor to read from. Its batch size should match the given {@code batchSize}.
+	 * @param batchSize number of documents to read and convert at once.
+	 * @param parallelism maximum number of chunks to convert a batch in.
+	 * @param executor the {@link Executor} to fetch batches and convert chunks on.
+	 * @param callback the conversion callback.
+	 * @param exceptionTranslator the exception translator.
+	 * @param metrics metrics to record the cursor activity in.
+	 */
+	BatchConvertingCursorAdapter(MongoCursor<Document> cursor, int batchSize, int parallelism, Executor executor,
+			DocumentCallback<T> callback, PersistenceExceptionTranslator exceptionTranslator, DefaultCursorMetrics metrics) {
+
+		this.cursor = cursor;
+		this.batchSize = batchSize;
+		this.parallelism = parallelism;
+		this.executor = executor;
+		this.callback = callback;
+		this.exceptionTranslator = exceptionTranslator;
+		this.metrics = metrics;
+
+		metrics.onCursorOpened();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		if (current.hasNext()) {
+			return true;
+		}
+
+		if (closed || (prefetch == null && exhausted)) {
+			return false;
+		}
+
+		try {
+
+			List<Document> batch = nextBatch();
+
+			if (batch.isEmpty()) {
+				return false;
+			}
+
+			current = convert(batch).iterator();
+			return true;
+		} catch (RuntimeException ex) {
+			throw MongoTemplate.potentiallyConvertRuntimeException(unwrap(ex), exceptionTranslator);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		return current.next();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.util.CloseableIterator#close()
+	 */
+	@Override
+	public void close() {
+
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+		current = Collections.emptyIterator();
+
+		try {
+
+			if (prefetch != null) {
+				prefetch.handle((result, error) -> null).join();
+			}
+
+			cursor.close();
+		} catch (RuntimeException ex) {
+			throw MongoTemplate.potentiallyConvertRuntimeException(ex, exceptionTranslator);
+		} finally {
+			prefetch = null;
+		}
+	}
+
+	private List<Document> nextBatch() {
+
+		List<Document> batch;
+
+		if (prefetch != null) {
+
+			CompletableFuture<List<Document>> future = prefetch;
+			prefetch = null;
+			batch = future.join();
+		} else {
+			batch = readBatch();
+		}
+
+		if (!exhausted) {
+			prefetch = CompletableFuture.supplyAsync(this::readBatch, executor);
+		}
+
+		return batch;
+	}
+
+	/**
+	 * Read the next batch from the cursor. Invoked by a single thread at a time.
+	 */
+	private List<Document> readBatch() {
+
+		List<Document> batch = new ArrayList<>(batchSize);
+
+		while (batch.size() < batchSize && cursor.hasNext()) {
+
+			batch.add(cursor.next());
+			metrics.onDocument(position++, batchSize);
+		}
+
+		if (batch.size() < batchSize) {
+			exhausted = true;
+		}
+
+		return batch;
+	}
+
+	private List<T> convert(List<Document> batch) {
+
+		int chunkSize = Math.max(1, (batch.size() + parallelism - 1) / parallelism);
+
+		if (chunkSize >= batch.size()) {
+			return convertChunk(batch);
+		}
+
+		List<CompletableFuture<List<T>>> chunks = new ArrayList<>();
+
+		for (int start = chunkSize; start < batch.size(); start += chunkSize) {
+
+			List<Document> chunk = batch.subList(start, Math.min(start + chunkSize, batch.size()));
+			chunks.add(CompletableFuture.supplyAsync(() -> convertChunk(chunk), executor));
+		}
+
+		List<T> result = new ArrayList<>(batch.size());
+		result.addAll(convertChunk(batch.subList(0, chunkSize)));
+
+		for (CompletableFuture<List<T>> chunk : chunks) {
+			result.addAll(chunk.join());
+		}
+
+		return result;
+	}
+
+	private List<T> convertChunk(List<Document> chunk) {
+
+		List<T> result = new ArrayList<>(chunk.size());
+
+		for (Document document : chunk) {
+			result.add(callback.doWith(document));
+		}
+
+		return result;
+	}
+
+	private static RuntimeException unwrap(RuntimeException ex) {
+		return ex instanceof CompletionException && ex.getCause() instanceof RuntimeException
+				? (RuntimeException) ex.getCause()
+				: ex;
+	}
+}
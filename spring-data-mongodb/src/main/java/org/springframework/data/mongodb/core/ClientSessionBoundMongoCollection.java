@@ -0,0 +1,1295 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.DistinctIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.ListIndexesIterable;
+import com.mongodb.client.MapReduceIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.CreateIndexOptions;
+import com.mongodb.client.model.DeleteOptions;
+import com.mongodb.client.model.DropIndexOptions;
+import com.mongodb.client.model.EstimatedDocumentCountOptions;
+import com.mongodb.client.model.FindOneAndDeleteOptions;
+import com.mongodb.client.model.FindOneAndReplaceOptions;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.InsertOneOptions;
+import com.mongodb.client.model.RenameCollectionOptions;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+
+/**
+ * {@link MongoCollection} bound to a {@link ClientSession}. Operations are invoked on the {@link ClientSession}
+ * accepting overloads of the actual {@link MongoCollection}, collections derived from it via {@code with…} are bound
+ * to the same {@link ClientSession}. Operations called with an explicit {@link ClientSession} are passed on as they
+ * are.
+ *
+ * @param <TDocument> the document type of the collection.
+ * @since 2.2
+ * @see ClientSessionBoundMongoDatabase
+ */
+class ClientSessionBoundMongoCollection<TDocument> implements MongoCollection<TDocument> {
+
+	private final ClientSession session;
+	private final MongoCollection<TDocument> delegate;
+
+	/**
+	 * @param session must not be {@literal null}.
+	 * @param delegate must not be {@literal null}.
+	 */
+	ClientSessionBoundMongoCollection(ClientSession session, MongoCollection<TDocument> delegate) {
+
+		Assert.notNull(session, "ClientSession must not be null!");
+		Assert.notNull(delegate, "MongoCollection must not be null!");
+
+		this.session = session;
+		this.delegate = delegate;
+	}
+
+	/**
+	 * @return the {@link ClientSession} all operations are bound to.
+	 */
+	ClientSession getSession() {
+		return session;
+	}
+
+	/**
+	 * @return the actual {@link MongoCollection}.
+	 */
+	MongoCollection<TDocument> getDelegate() {
+		return delegate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#getNamespace()
+	 */
+	@Override
+	public MongoNamespace getNamespace() {
+		return delegate.getNamespace();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#getDocumentClass()
+	 */
+	@Override
+	public Class<TDocument> getDocumentClass() {
+		return delegate.getDocumentClass();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#getCodecRegistry()
+	 */
+	@Override
+	public CodecRegistry getCodecRegistry() {
+		return delegate.getCodecRegistry();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#getReadPreference()
+	 */
+	@Override
+	public ReadPreference getReadPreference() {
+		return delegate.getReadPreference();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#getWriteConcern()
+	 */
+	@Override
+	public WriteConcern getWriteConcern() {
+		return delegate.getWriteConcern();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#getReadConcern()
+	 */
+	@Override
+	public ReadConcern getReadConcern() {
+		return delegate.getReadConcern();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#withDocumentClass(java.lang.Class)
+	 */
+	@Override
+	public <NewTDocument extends Object> MongoCollection<NewTDocument> withDocumentClass(Class<NewTDocument> clazz) {
+		return new ClientSessionBoundMongoCollection<>(session, delegate.withDocumentClass(clazz));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#withCodecRegistry(org.bson.codecs.configuration.CodecRegistry)
+	 */
+	@Override
+	public MongoCollection<TDocument> withCodecRegistry(CodecRegistry codecRegistry) {
+		return new ClientSessionBoundMongoCollection<>(session, delegate.withCodecRegistry(codecRegistry));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#withReadPreference(com.mongodb.ReadPreference)
+	 */
+	@Override
+	public MongoCollection<TDocument> withReadPreference(ReadPreference readPreference) {
+		return new ClientSessionBoundMongoCollection<>(session, delegate.withReadPreference(readPreference));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#withWriteConcern(com.mongodb.WriteConcern)
+	 */
+	@Override
+	public MongoCollection<TDocument> withWriteConcern(WriteConcern writeConcern) {
+		return new ClientSessionBoundMongoCollection<>(session, delegate.withWriteConcern(writeConcern));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#withReadConcern(com.mongodb.ReadConcern)
+	 */
+	@Override
+	public MongoCollection<TDocument> withReadConcern(ReadConcern readConcern) {
+		return new ClientSessionBoundMongoCollection<>(session, delegate.withReadConcern(readConcern));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#count()
+	 */
+	@Override
+	@Deprecated
+	public long count() {
+		return delegate.count(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#count(org.bson.conversions.Bson)
+	 */
+	@Override
+	@Deprecated
+	public long count(Bson filter) {
+		return delegate.count(session, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#count(org.bson.conversions.Bson, com.mongodb.client.model.CountOptions)
+	 */
+	@Override
+	@Deprecated
+	public long count(Bson filter, CountOptions options) {
+		return delegate.count(session, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#count(com.mongodb.client.ClientSession)
+	 */
+	@Override
+	@Deprecated
+	public long count(ClientSession clientSession) {
+		return delegate.count(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#count(com.mongodb.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	@Deprecated
+	public long count(ClientSession clientSession, Bson filter) {
+		return delegate.count(clientSession, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#count(com.mongodb.client.ClientSession, org.bson.conversions.Bson, com.mongodb.client.model.CountOptions)
+	 */
+	@Override
+	@Deprecated
+	public long count(ClientSession clientSession, Bson filter, CountOptions options) {
+		return delegate.count(clientSession, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#countDocuments()
+	 */
+	@Override
+	public long countDocuments() {
+		return delegate.countDocuments(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#countDocuments(org.bson.conversions.Bson)
+	 */
+	@Override
+	public long countDocuments(Bson filter) {
+		return delegate.countDocuments(session, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#countDocuments(org.bson.conversions.Bson, com.mongodb.client.model.CountOptions)
+	 */
+	@Override
+	public long countDocuments(Bson filter, CountOptions options) {
+		return delegate.countDocuments(session, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#countDocuments(com.mongodb.client.ClientSession)
+	 */
+	@Override
+	public long countDocuments(ClientSession clientSession) {
+		return delegate.countDocuments(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#countDocuments(com.mongodb.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	public long countDocuments(ClientSession clientSession, Bson filter) {
+		return delegate.countDocuments(clientSession, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#countDocuments(com.mongodb.client.ClientSession, org.bson.conversions.Bson, com.mongodb.client.model.CountOptions)
+	 */
+	@Override
+	public long countDocuments(ClientSession clientSession, Bson filter, CountOptions options) {
+		return delegate.countDocuments(clientSession, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#estimatedDocumentCount()
+	 */
+	@Override
+	public long estimatedDocumentCount() {
+		return delegate.estimatedDocumentCount();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#estimatedDocumentCount(com.mongodb.client.model.EstimatedDocumentCountOptions)
+	 */
+	@Override
+	public long estimatedDocumentCount(EstimatedDocumentCountOptions options) {
+		return delegate.estimatedDocumentCount(options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#distinct(java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> DistinctIterable<TResult> distinct(String fieldName, Class<TResult> resultClass) {
+		return delegate.distinct(session, fieldName, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#distinct(java.lang.String, org.bson.conversions.Bson, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> DistinctIterable<TResult> distinct(String fieldName, Bson filter, Class<TResult> resultClass) {
+		return delegate.distinct(session, fieldName, filter, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#distinct(com.mongodb.client.ClientSession, java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> DistinctIterable<TResult> distinct(ClientSession clientSession, String fieldName, Class<TResult> resultClass) {
+		return delegate.distinct(clientSession, fieldName, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#distinct(com.mongodb.client.ClientSession, java.lang.String, org.bson.conversions.Bson, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> DistinctIterable<TResult> distinct(ClientSession clientSession, String fieldName, Bson filter, Class<TResult> resultClass) {
+		return delegate.distinct(clientSession, fieldName, filter, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#find()
+	 */
+	@Override
+	public FindIterable<TDocument> find() {
+		return delegate.find(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#find(java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> FindIterable<TResult> find(Class<TResult> resultClass) {
+		return delegate.find(session, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#find(org.bson.conversions.Bson)
+	 */
+	@Override
+	public FindIterable<TDocument> find(Bson filter) {
+		return delegate.find(session, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#find(org.bson.conversions.Bson, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> FindIterable<TResult> find(Bson filter, Class<TResult> resultClass) {
+		return delegate.find(session, filter, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#find(com.mongodb.client.ClientSession)
+	 */
+	@Override
+	public FindIterable<TDocument> find(ClientSession clientSession) {
+		return delegate.find(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#find(com.mongodb.client.ClientSession, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> FindIterable<TResult> find(ClientSession clientSession, Class<TResult> resultClass) {
+		return delegate.find(clientSession, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#find(com.mongodb.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	public FindIterable<TDocument> find(ClientSession clientSession, Bson filter) {
+		return delegate.find(clientSession, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#find(com.mongodb.client.ClientSession, org.bson.conversions.Bson, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> FindIterable<TResult> find(ClientSession clientSession, Bson filter, Class<TResult> resultClass) {
+		return delegate.find(clientSession, filter, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#aggregate(java.util.List)
+	 */
+	@Override
+	public AggregateIterable<TDocument> aggregate(List<? extends Bson> pipeline) {
+		return delegate.aggregate(session, pipeline);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#aggregate(java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> AggregateIterable<TResult> aggregate(List<? extends Bson> pipeline, Class<TResult> resultClass) {
+		return delegate.aggregate(session, pipeline, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#aggregate(com.mongodb.client.ClientSession, java.util.List)
+	 */
+	@Override
+	public AggregateIterable<TDocument> aggregate(ClientSession clientSession, List<? extends Bson> pipeline) {
+		return delegate.aggregate(clientSession, pipeline);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#aggregate(com.mongodb.client.ClientSession, java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> AggregateIterable<TResult> aggregate(ClientSession clientSession, List<? extends Bson> pipeline, Class<TResult> resultClass) {
+		return delegate.aggregate(clientSession, pipeline, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#watch()
+	 */
+	@Override
+	public ChangeStreamIterable<TDocument> watch() {
+		return delegate.watch(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#watch(java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ChangeStreamIterable<TResult> watch(Class<TResult> resultClass) {
+		return delegate.watch(session, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#watch(java.util.List)
+	 */
+	@Override
+	public ChangeStreamIterable<TDocument> watch(List<? extends Bson> pipeline) {
+		return delegate.watch(session, pipeline);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#watch(java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ChangeStreamIterable<TResult> watch(List<? extends Bson> pipeline, Class<TResult> resultClass) {
+		return delegate.watch(session, pipeline, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#watch(com.mongodb.client.ClientSession)
+	 */
+	@Override
+	public ChangeStreamIterable<TDocument> watch(ClientSession clientSession) {
+		return delegate.watch(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#watch(com.mongodb.client.ClientSession, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ChangeStreamIterable<TResult> watch(ClientSession clientSession, Class<TResult> resultClass) {
+		return delegate.watch(clientSession, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#watch(com.mongodb.client.ClientSession, java.util.List)
+	 */
+	@Override
+	public ChangeStreamIterable<TDocument> watch(ClientSession clientSession, List<? extends Bson> pipeline) {
+		return delegate.watch(clientSession, pipeline);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#watch(com.mongodb.client.ClientSession, java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ChangeStreamIterable<TResult> watch(ClientSession clientSession, List<? extends Bson> pipeline, Class<TResult> resultClass) {
+		return delegate.watch(clientSession, pipeline, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#mapReduce(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public MapReduceIterable<TDocument> mapReduce(String mapFunction, String reduceFunction) {
+		return delegate.mapReduce(session, mapFunction, reduceFunction);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#mapReduce(java.lang.String, java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> MapReduceIterable<TResult> mapReduce(String mapFunction, String reduceFunction, Class<TResult> resultClass) {
+		return delegate.mapReduce(session, mapFunction, reduceFunction, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#mapReduce(com.mongodb.client.ClientSession, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public MapReduceIterable<TDocument> mapReduce(ClientSession clientSession, String mapFunction, String reduceFunction) {
+		return delegate.mapReduce(clientSession, mapFunction, reduceFunction);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#mapReduce(com.mongodb.client.ClientSession, java.lang.String, java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> MapReduceIterable<TResult> mapReduce(ClientSession clientSession, String mapFunction, String reduceFunction, Class<TResult> resultClass) {
+		return delegate.mapReduce(clientSession, mapFunction, reduceFunction, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#bulkWrite(java.util.List)
+	 */
+	@Override
+	public BulkWriteResult bulkWrite(List<? extends WriteModel<? extends TDocument>> requests) {
+		return delegate.bulkWrite(session, requests);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#bulkWrite(java.util.List, com.mongodb.client.model.BulkWriteOptions)
+	 */
+	@Override
+	public BulkWriteResult bulkWrite(List<? extends WriteModel<? extends TDocument>> requests, BulkWriteOptions options) {
+		return delegate.bulkWrite(session, requests, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#bulkWrite(com.mongodb.client.ClientSession, java.util.List)
+	 */
+	@Override
+	public BulkWriteResult bulkWrite(ClientSession clientSession, List<? extends WriteModel<? extends TDocument>> requests) {
+		return delegate.bulkWrite(clientSession, requests);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#bulkWrite(com.mongodb.client.ClientSession, java.util.List, com.mongodb.client.model.BulkWriteOptions)
+	 */
+	@Override
+	public BulkWriteResult bulkWrite(ClientSession clientSession, List<? extends WriteModel<? extends TDocument>> requests, BulkWriteOptions options) {
+		return delegate.bulkWrite(clientSession, requests, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#insertOne(java.lang.Object)
+	 */
+	@Override
+	public void insertOne(TDocument document) {
+		delegate.insertOne(session, document);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#insertOne(java.lang.Object, com.mongodb.client.model.InsertOneOptions)
+	 */
+	@Override
+	public void insertOne(TDocument document, InsertOneOptions options) {
+		delegate.insertOne(session, document, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#insertOne(com.mongodb.client.ClientSession, java.lang.Object)
+	 */
+	@Override
+	public void insertOne(ClientSession clientSession, TDocument document) {
+		delegate.insertOne(clientSession, document);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#insertOne(com.mongodb.client.ClientSession, java.lang.Object, com.mongodb.client.model.InsertOneOptions)
+	 */
+	@Override
+	public void insertOne(ClientSession clientSession, TDocument document, InsertOneOptions options) {
+		delegate.insertOne(clientSession, document, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#insertMany(java.util.List)
+	 */
+	@Override
+	public void insertMany(List<? extends TDocument> documents) {
+		delegate.insertMany(session, documents);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#insertMany(java.util.List, com.mongodb.client.model.InsertManyOptions)
+	 */
+	@Override
+	public void insertMany(List<? extends TDocument> documents, InsertManyOptions options) {
+		delegate.insertMany(session, documents, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#insertMany(com.mongodb.client.ClientSession, java.util.List)
+	 */
+	@Override
+	public void insertMany(ClientSession clientSession, List<? extends TDocument> documents) {
+		delegate.insertMany(clientSession, documents);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#insertMany(com.mongodb.client.ClientSession, java.util.List, com.mongodb.client.model.InsertManyOptions)
+	 */
+	@Override
+	public void insertMany(ClientSession clientSession, List<? extends TDocument> documents, InsertManyOptions options) {
+		delegate.insertMany(clientSession, documents, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#deleteOne(org.bson.conversions.Bson)
+	 */
+	@Override
+	public DeleteResult deleteOne(Bson filter) {
+		return delegate.deleteOne(session, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#deleteOne(org.bson.conversions.Bson, com.mongodb.client.model.DeleteOptions)
+	 */
+	@Override
+	public DeleteResult deleteOne(Bson filter, DeleteOptions options) {
+		return delegate.deleteOne(session, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#deleteOne(com.mongodb.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	public DeleteResult deleteOne(ClientSession clientSession, Bson filter) {
+		return delegate.deleteOne(clientSession, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#deleteOne(com.mongodb.client.ClientSession, org.bson.conversions.Bson, com.mongodb.client.model.DeleteOptions)
+	 */
+	@Override
+	public DeleteResult deleteOne(ClientSession clientSession, Bson filter, DeleteOptions options) {
+		return delegate.deleteOne(clientSession, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#deleteMany(org.bson.conversions.Bson)
+	 */
+	@Override
+	public DeleteResult deleteMany(Bson filter) {
+		return delegate.deleteMany(session, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#deleteMany(org.bson.conversions.Bson, com.mongodb.client.model.DeleteOptions)
+	 */
+	@Override
+	public DeleteResult deleteMany(Bson filter, DeleteOptions options) {
+		return delegate.deleteMany(session, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#deleteMany(com.mongodb.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	public DeleteResult deleteMany(ClientSession clientSession, Bson filter) {
+		return delegate.deleteMany(clientSession, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#deleteMany(com.mongodb.client.ClientSession, org.bson.conversions.Bson, com.mongodb.client.model.DeleteOptions)
+	 */
+	@Override
+	public DeleteResult deleteMany(ClientSession clientSession, Bson filter, DeleteOptions options) {
+		return delegate.deleteMany(clientSession, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#replaceOne(org.bson.conversions.Bson, java.lang.Object)
+	 */
+	@Override
+	public UpdateResult replaceOne(Bson filter, TDocument replacement) {
+		return delegate.replaceOne(session, filter, replacement);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#replaceOne(org.bson.conversions.Bson, java.lang.Object, com.mongodb.client.model.UpdateOptions)
+	 */
+	@Override
+	@Deprecated
+	public UpdateResult replaceOne(Bson filter, TDocument replacement, UpdateOptions options) {
+		return delegate.replaceOne(session, filter, replacement, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#replaceOne(org.bson.conversions.Bson, java.lang.Object, com.mongodb.client.model.ReplaceOptions)
+	 */
+	@Override
+	public UpdateResult replaceOne(Bson filter, TDocument replacement, ReplaceOptions options) {
+		return delegate.replaceOne(session, filter, replacement, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#replaceOne(com.mongodb.client.ClientSession, org.bson.conversions.Bson, java.lang.Object)
+	 */
+	@Override
+	public UpdateResult replaceOne(ClientSession clientSession, Bson filter, TDocument replacement) {
+		return delegate.replaceOne(clientSession, filter, replacement);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#replaceOne(com.mongodb.client.ClientSession, org.bson.conversions.Bson, java.lang.Object, com.mongodb.client.model.UpdateOptions)
+	 */
+	@Override
+	@Deprecated
+	public UpdateResult replaceOne(ClientSession clientSession, Bson filter, TDocument replacement, UpdateOptions options) {
+		return delegate.replaceOne(clientSession, filter, replacement, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#replaceOne(com.mongodb.client.ClientSession, org.bson.conversions.Bson, java.lang.Object, com.mongodb.client.model.ReplaceOptions)
+	 */
+	@Override
+	public UpdateResult replaceOne(ClientSession clientSession, Bson filter, TDocument replacement, ReplaceOptions options) {
+		return delegate.replaceOne(clientSession, filter, replacement, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#updateOne(org.bson.conversions.Bson, org.bson.conversions.Bson)
+	 */
+	@Override
+	public UpdateResult updateOne(Bson filter, Bson update) {
+		return delegate.updateOne(session, filter, update);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#updateOne(org.bson.conversions.Bson, org.bson.conversions.Bson, com.mongodb.client.model.UpdateOptions)
+	 */
+	@Override
+	public UpdateResult updateOne(Bson filter, Bson update, UpdateOptions options) {
+		return delegate.updateOne(session, filter, update, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#updateOne(com.mongodb.client.ClientSession, org.bson.conversions.Bson, org.bson.conversions.Bson)
+	 */
+	@Override
+	public UpdateResult updateOne(ClientSession clientSession, Bson filter, Bson update) {
+		return delegate.updateOne(clientSession, filter, update);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#updateOne(com.mongodb.client.ClientSession, org.bson.conversions.Bson, org.bson.conversions.Bson, com.mongodb.client.model.UpdateOptions)
+	 */
+	@Override
+	public UpdateResult updateOne(ClientSession clientSession, Bson filter, Bson update, UpdateOptions options) {
+		return delegate.updateOne(clientSession, filter, update, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#updateMany(org.bson.conversions.Bson, org.bson.conversions.Bson)
+	 */
+	@Override
+	public UpdateResult updateMany(Bson filter, Bson update) {
+		return delegate.updateMany(session, filter, update);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#updateMany(org.bson.conversions.Bson, org.bson.conversions.Bson, com.mongodb.client.model.UpdateOptions)
+	 */
+	@Override
+	public UpdateResult updateMany(Bson filter, Bson update, UpdateOptions options) {
+		return delegate.updateMany(session, filter, update, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#updateMany(com.mongodb.client.ClientSession, org.bson.conversions.Bson, org.bson.conversions.Bson)
+	 */
+	@Override
+	public UpdateResult updateMany(ClientSession clientSession, Bson filter, Bson update) {
+		return delegate.updateMany(clientSession, filter, update);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#updateMany(com.mongodb.client.ClientSession, org.bson.conversions.Bson, org.bson.conversions.Bson, com.mongodb.client.model.UpdateOptions)
+	 */
+	@Override
+	public UpdateResult updateMany(ClientSession clientSession, Bson filter, Bson update, UpdateOptions options) {
+		return delegate.updateMany(clientSession, filter, update, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#findOneAndDelete(org.bson.conversions.Bson)
+	 */
+	@Override
+	public TDocument findOneAndDelete(Bson filter) {
+		return delegate.findOneAndDelete(session, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#findOneAndDelete(org.bson.conversions.Bson, com.mongodb.client.model.FindOneAndDeleteOptions)
+	 */
+	@Override
+	public TDocument findOneAndDelete(Bson filter, FindOneAndDeleteOptions options) {
+		return delegate.findOneAndDelete(session, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#findOneAndDelete(com.mongodb.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	public TDocument findOneAndDelete(ClientSession clientSession, Bson filter) {
+		return delegate.findOneAndDelete(clientSession, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#findOneAndDelete(com.mongodb.client.ClientSession, org.bson.conversions.Bson, com.mongodb.client.model.FindOneAndDeleteOptions)
+	 */
+	@Override
+	public TDocument findOneAndDelete(ClientSession clientSession, Bson filter, FindOneAndDeleteOptions options) {
+		return delegate.findOneAndDelete(clientSession, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#findOneAndReplace(org.bson.conversions.Bson, java.lang.Object)
+	 */
+	@Override
+	public TDocument findOneAndReplace(Bson filter, TDocument replacement) {
+		return delegate.findOneAndReplace(session, filter, replacement);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#findOneAndReplace(org.bson.conversions.Bson, java.lang.Object, com.mongodb.client.model.FindOneAndReplaceOptions)
+	 */
+	@Override
+	public TDocument findOneAndReplace(Bson filter, TDocument replacement, FindOneAndReplaceOptions options) {
+		return delegate.findOneAndReplace(session, filter, replacement, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#findOneAndReplace(com.mongodb.client.ClientSession, org.bson.conversions.Bson, java.lang.Object)
+	 */
+	@Override
+	public TDocument findOneAndReplace(ClientSession clientSession, Bson filter, TDocument replacement) {
+		return delegate.findOneAndReplace(clientSession, filter, replacement);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#findOneAndReplace(com.mongodb.client.ClientSession, org.bson.conversions.Bson, java.lang.Object, com.mongodb.client.model.FindOneAndReplaceOptions)
+	 */
+	@Override
+	public TDocument findOneAndReplace(ClientSession clientSession, Bson filter, TDocument replacement, FindOneAndReplaceOptions options) {
+		return delegate.findOneAndReplace(clientSession, filter, replacement, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#findOneAndUpdate(org.bson.conversions.Bson, org.bson.conversions.Bson)
+	 */
+	@Override
+	public TDocument findOneAndUpdate(Bson filter, Bson update) {
+		return delegate.findOneAndUpdate(session, filter, update);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#findOneAndUpdate(org.bson.conversions.Bson, org.bson.conversions.Bson, com.mongodb.client.model.FindOneAndUpdateOptions)
+	 */
+	@Override
+	public TDocument findOneAndUpdate(Bson filter, Bson update, FindOneAndUpdateOptions options) {
+		return delegate.findOneAndUpdate(session, filter, update, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#findOneAndUpdate(com.mongodb.client.ClientSession, org.bson.conversions.Bson, org.bson.conversions.Bson)
+	 */
+	@Override
+	public TDocument findOneAndUpdate(ClientSession clientSession, Bson filter, Bson update) {
+		return delegate.findOneAndUpdate(clientSession, filter, update);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#findOneAndUpdate(com.mongodb.client.ClientSession, org.bson.conversions.Bson, org.bson.conversions.Bson, com.mongodb.client.model.FindOneAndUpdateOptions)
+	 */
+	@Override
+	public TDocument findOneAndUpdate(ClientSession clientSession, Bson filter, Bson update, FindOneAndUpdateOptions options) {
+		return delegate.findOneAndUpdate(clientSession, filter, update, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#drop()
+	 */
+	@Override
+	public void drop() {
+		delegate.drop(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#drop(com.mongodb.client.ClientSession)
+	 */
+	@Override
+	public void drop(ClientSession clientSession) {
+		delegate.drop(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#createIndex(org.bson.conversions.Bson)
+	 */
+	@Override
+	public String createIndex(Bson keys) {
+		return delegate.createIndex(session, keys);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#createIndex(org.bson.conversions.Bson, com.mongodb.client.model.IndexOptions)
+	 */
+	@Override
+	public String createIndex(Bson keys, IndexOptions options) {
+		return delegate.createIndex(session, keys, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#createIndex(com.mongodb.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	public String createIndex(ClientSession clientSession, Bson keys) {
+		return delegate.createIndex(clientSession, keys);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#createIndex(com.mongodb.client.ClientSession, org.bson.conversions.Bson, com.mongodb.client.model.IndexOptions)
+	 */
+	@Override
+	public String createIndex(ClientSession clientSession, Bson keys, IndexOptions options) {
+		return delegate.createIndex(clientSession, keys, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#createIndexes(java.util.List)
+	 */
+	@Override
+	public List<String> createIndexes(List<IndexModel> indexes) {
+		return delegate.createIndexes(session, indexes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#createIndexes(java.util.List, com.mongodb.client.model.CreateIndexOptions)
+	 */
+	@Override
+	public List<String> createIndexes(List<IndexModel> indexes, CreateIndexOptions options) {
+		return delegate.createIndexes(session, indexes, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#createIndexes(com.mongodb.client.ClientSession, java.util.List)
+	 */
+	@Override
+	public List<String> createIndexes(ClientSession clientSession, List<IndexModel> indexes) {
+		return delegate.createIndexes(clientSession, indexes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#createIndexes(com.mongodb.client.ClientSession, java.util.List, com.mongodb.client.model.CreateIndexOptions)
+	 */
+	@Override
+	public List<String> createIndexes(ClientSession clientSession, List<IndexModel> indexes, CreateIndexOptions options) {
+		return delegate.createIndexes(clientSession, indexes, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#listIndexes()
+	 */
+	@Override
+	public ListIndexesIterable<Document> listIndexes() {
+		return delegate.listIndexes(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#listIndexes(java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ListIndexesIterable<TResult> listIndexes(Class<TResult> resultClass) {
+		return delegate.listIndexes(session, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#listIndexes(com.mongodb.client.ClientSession)
+	 */
+	@Override
+	public ListIndexesIterable<Document> listIndexes(ClientSession clientSession) {
+		return delegate.listIndexes(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#listIndexes(com.mongodb.client.ClientSession, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ListIndexesIterable<TResult> listIndexes(ClientSession clientSession, Class<TResult> resultClass) {
+		return delegate.listIndexes(clientSession, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#dropIndex(java.lang.String)
+	 */
+	@Override
+	public void dropIndex(String indexName) {
+		delegate.dropIndex(session, indexName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#dropIndex(java.lang.String, com.mongodb.client.model.DropIndexOptions)
+	 */
+	@Override
+	public void dropIndex(String indexName, DropIndexOptions options) {
+		delegate.dropIndex(session, indexName, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#dropIndex(org.bson.conversions.Bson)
+	 */
+	@Override
+	public void dropIndex(Bson keys) {
+		delegate.dropIndex(session, keys);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#dropIndex(org.bson.conversions.Bson, com.mongodb.client.model.DropIndexOptions)
+	 */
+	@Override
+	public void dropIndex(Bson keys, DropIndexOptions options) {
+		delegate.dropIndex(session, keys, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#dropIndex(com.mongodb.client.ClientSession, java.lang.String)
+	 */
+	@Override
+	public void dropIndex(ClientSession clientSession, String indexName) {
+		delegate.dropIndex(clientSession, indexName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#dropIndex(com.mongodb.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	public void dropIndex(ClientSession clientSession, Bson keys) {
+		delegate.dropIndex(clientSession, keys);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#dropIndex(com.mongodb.client.ClientSession, java.lang.String, com.mongodb.client.model.DropIndexOptions)
+	 */
+	@Override
+	public void dropIndex(ClientSession clientSession, String indexName, DropIndexOptions options) {
+		delegate.dropIndex(clientSession, indexName, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#dropIndex(com.mongodb.client.ClientSession, org.bson.conversions.Bson, com.mongodb.client.model.DropIndexOptions)
+	 */
+	@Override
+	public void dropIndex(ClientSession clientSession, Bson keys, DropIndexOptions options) {
+		delegate.dropIndex(clientSession, keys, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#dropIndexes()
+	 */
+	@Override
+	public void dropIndexes() {
+		delegate.dropIndexes(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#dropIndexes(com.mongodb.client.ClientSession)
+	 */
+	@Override
+	public void dropIndexes(ClientSession clientSession) {
+		delegate.dropIndexes(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#dropIndexes(com.mongodb.client.model.DropIndexOptions)
+	 */
+	@Override
+	public void dropIndexes(DropIndexOptions options) {
+		delegate.dropIndexes(session, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#dropIndexes(com.mongodb.client.ClientSession, com.mongodb.client.model.DropIndexOptions)
+	 */
+	@Override
+	public void dropIndexes(ClientSession clientSession, DropIndexOptions options) {
+		delegate.dropIndexes(clientSession, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#renameCollection(com.mongodb.MongoNamespace)
+	 */
+	@Override
+	public void renameCollection(MongoNamespace newCollectionNamespace) {
+		delegate.renameCollection(session, newCollectionNamespace);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#renameCollection(com.mongodb.MongoNamespace, com.mongodb.client.model.RenameCollectionOptions)
+	 */
+	@Override
+	public void renameCollection(MongoNamespace newCollectionNamespace, RenameCollectionOptions options) {
+		delegate.renameCollection(session, newCollectionNamespace, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#renameCollection(com.mongodb.client.ClientSession, com.mongodb.MongoNamespace)
+	 */
+	@Override
+	public void renameCollection(ClientSession clientSession, MongoNamespace newCollectionNamespace) {
+		delegate.renameCollection(clientSession, newCollectionNamespace);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.client.MongoCollection#renameCollection(com.mongodb.client.ClientSession, com.mongodb.MongoNamespace, com.mongodb.client.model.RenameCollectionOptions)
+	 */
+	@Override
+	public void renameCollection(ClientSession clientSession, MongoNamespace newCollectionNamespace, RenameCollectionOptions options) {
+		delegate.renameCollection(clientSession, newCollectionNamespace, options);
+	}
+
+	/**
+	 * Count the documents matching the given filter using the given {@link ReadPreference} within the bound
+	 * {@link ClientSession}.
+	 *
+	 * @param filter the query filter.
+	 * @param options the count options.
+	 * @param readPreference the read preference to use.
+	 * @return the number of matching documents.
+	 */
+	@Deprecated
+	public long count(Bson filter, CountOptions options, ReadPreference readPreference) {
+		return delegate.withReadPreference(readPreference).count(session, filter, options);
+	}
+
+	/**
+	 * Count the documents matching the given filter using the given {@link ReadPreference} within the bound
+	 * {@link ClientSession}.
+	 *
+	 * @param filter the query filter.
+	 * @param options the count options.
+	 * @param readPreference the read preference to use.
+	 * @return the number of matching documents.
+	 */
+	public long countDocuments(Bson filter, CountOptions options, ReadPreference readPreference) {
+		return delegate.withReadPreference(readPreference).countDocuments(session, filter, options);
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.lang.Nullable;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.session.ClientSession;
+import com.mongodb.session.ServerSession;
+
+/**
+ * Pool of idle {@link ClientSession sessions} partitioned by their {@link ClientSessionOptions}. Sessions handed out
+ * are decorated so that {@link ClientSession#close() closing} them {@link #release(ClientSession) releases} the
+ * underlying session back to the pool. The most recently released session is reused first so that rarely used ones
+ * expire. A session is only reused if its {@link ServerSession} is still open, it has no active transaction and it has
+ * not been idle longer than {@link ClientSessionPoolOptions#getMaxIdleTime()}. All other sessions are ended.
+ *
+ * @param <S> the session type.
+ * @since 2.2
+ */
+class ClientSessionPool<S extends ClientSession> {
+
+	private static final Log LOGGER = LogFactory.getLog(ClientSessionPool.class);
+
+	private final ClientSessionPoolOptions options;
+	private final long maxIdleNanos;
+	private final Predicate<S> activeTransaction;
+	private final BiFunction<S, ClientSessionPool<S>, S> decorator;
+	private final Map<ClientSessionOptions, Deque<IdleSession<S>>> idleSessions = new ConcurrentHashMap<>();
+
+	private volatile boolean closed;
+
+	/**
+	 * @param options the pool options.
+	 * @param activeTransaction predicate to check a session for an active transaction.
+	 * @param decorator creates the session handed out for a pooled session. Closing it has to
+	 *          {@link #release(ClientSession) release} the pooled session.
+	 */
+	ClientSessionPool(ClientSessionPoolOptions options, Predicate<S> activeTransaction,
+			BiFunction<S, ClientSessionPool<S>, S> decorator) {
+
+		this.options = options;
+		this.maxIdleNanos = options.getMaxIdleTime().toNanos();
+		this.activeTransaction = activeTransaction;
+		this.decorator = decorator;
+	}
+
+	/**
+	 * Lease an idle session created with the given {@link ClientSessionOptions}.
+	 *
+	 * @param sessionOptions the options the session has to be created with.
+	 * @return the {@link #decorate(ClientSession) decorated} session or {@literal null} if no healthy idle session is
+	 *         available.
+	 */
+	@Nullable
+	S acquire(ClientSessionOptions sessionOptions) {
+
+		Deque<IdleSession<S>> sessions = idleSessions.get(sessionOptions);
+
+		if (sessions == null) {
+			return null;
+		}
+
+		long now = System.nanoTime();
+
+		while (true) {
+
+			IdleSession<S> candidate;
+
+			synchronized (sessions) {
+				candidate = sessions.pollFirst();
+			}
+
+			if (candidate == null) {
+				return null;
+			}
+
+			if (candidate.getIdleTime(now) < maxIdleNanos && isReusable(candidate.session)) {
+				return decorate(candidate.session);
+			}
+
+			discard(candidate.session);
+		}
+	}
+
+	/**
+	 * Decorate a newly started session so that closing it returns it to this pool.
+	 *
+	 * @param session the session to decorate.
+	 * @return the decorated session.
+	 */
+	S decorate(S session) {
+		return decorator.apply(session, this);
+	}
+
+	/**
+	 * Return the given session to the pool or end it if it cannot be reused or the pool is full.
+	 *
+	 * @param session the underlying session of a decorated one.
+	 */
+	void release(S session) {
+
+		if (closed || !isReusable(session)) {
+
+			discard(session);
+			return;
+		}
+
+		Deque<IdleSession<S>> sessions = idleSessions.computeIfAbsent(session.getOptions(), key -> new ArrayDeque<>());
+		List<S> evicted = new ArrayList<>();
+		long now = System.nanoTime();
+
+		synchronized (sessions) {
+
+			for (Iterator<IdleSession<S>> iterator = sessions.descendingIterator(); iterator.hasNext();) {
+
+				IdleSession<S> candidate = iterator.next();
+
+				if (candidate.getIdleTime(now) < maxIdleNanos) {
+					break;
+				}
+
+				iterator.remove();
+				evicted.add(candidate.session);
+			}
+
+			if (sessions.size() < options.getMaxIdleSessions()) {
+				sessions.offerFirst(new IdleSession<>(session, now));
+			} else {
+				evicted.add(session);
+			}
+		}
+
+		evicted.forEach(this::discard);
+
+		if (closed) {
+			clear();
+		}
+	}
+
+	/**
+	 * Close the pool and end all idle sessions. Sessions released afterwards are ended right away.
+	 */
+	void close() {
+
+		closed = true;
+		clear();
+	}
+
+	/**
+	 * @return the number of idle sessions in the pool.
+	 */
+	int getIdleSessionCount() {
+
+		int count = 0;
+
+		for (Deque<IdleSession<S>> sessions : idleSessions.values()) {
+			synchronized (sessions) {
+				count += sessions.size();
+			}
+		}
+
+		return count;
+	}
+
+	private boolean isReusable(S session) {
+
+		ServerSession serverSession = session.getServerSession();
+		return serverSession != null && !serverSession.isClosed() && !activeTransaction.test(session);
+	}
+
+	private void clear() {
+
+		List<S> evicted = new ArrayList<>();
+
+		for (Deque<IdleSession<S>> sessions : idleSessions.values()) {
+
+			synchronized (sessions) {
+
+				sessions.forEach(it -> evicted.add(it.session));
+				sessions.clear();
+			}
+		}
+
+		evicted.forEach(this::discard);
+	}
+
+	private void discard(S session) {
+
+		try {
+			session.close();
+		} catch (RuntimeException ex) {
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Failed to close pooled ClientSession.", ex);
+			}
+		}
+	}
+
+	/**
+	 * An idle session along with the time it was released.
+	 */
+	private static class IdleSession<S> {
+
+		private final S session;
+		private final long releasedAt;
+
+		IdleSession(S session, long releasedAt) {
+
+			this.session = session;
+			this.releasedAt = releasedAt;
+		}
+
+		long getIdleTime(long now) {
+			return now - releasedAt;
+		}
+	}
+}
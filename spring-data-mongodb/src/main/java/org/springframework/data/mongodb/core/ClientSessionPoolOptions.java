@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Value object describing how {@link com.mongodb.session.ClientSession sessions} are pooled by a
+ * {@link org.springframework.data.mongodb.MongoDbFactory} or
+ * {@link org.springframework.data.mongodb.ReactiveMongoDatabaseFactory}. Closing a pooled session returns it to the pool
+ * instead of ending it. Up to {@link #getMaxIdleSessions() max idle sessions} are kept per
+ * {@link com.mongodb.ClientSessionOptions}. Sessions idle longer than the {@link #getMaxIdleTime() max idle time} are
+ * evicted. The max idle time should stay well below the server side {@literal logicalSessionTimeoutMinutes} (30
+ * minutes by default) as the server expires sessions that have not been used in between.
+ *
+ * @since 2.2
+ */
+public final class ClientSessionPoolOptions {
+
+	private static final ClientSessionPoolOptions DEFAULT = new ClientSessionPoolOptions(32, Duration.ofMinutes(5));
+
+	private final int maxIdleSessions;
+	private final Duration maxIdleTime;
+
+	private ClientSessionPoolOptions(int maxIdleSessions, Duration maxIdleTime) {
+
+		this.maxIdleSessions = maxIdleSessions;
+		this.maxIdleTime = maxIdleTime;
+	}
+
+	/**
+	 * Default options keeping up to 32 idle sessions per {@link com.mongodb.ClientSessionOptions} for at most 5 minutes.
+	 *
+	 * @return the default {@link ClientSessionPoolOptions}.
+	 */
+	public static ClientSessionPoolOptions defaults() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Create new {@link ClientSessionPoolOptions} using the given maximum number of idle sessions.
+	 *
+	 * @param maxIdleSessions the maximum number of idle sessions per {@link com.mongodb.ClientSessionOptions}. Must be
+	 *          greater than zero.
+	 * @return new instance of {@link ClientSessionPoolOptions}.
+	 */
+	public ClientSessionPoolOptions maxIdleSessions(int maxIdleSessions) {
+
+		Assert.isTrue(maxIdleSessions > 0, "Max idle sessions must be greater than zero!");
+
+		return new ClientSessionPoolOptions(maxIdleSessions, maxIdleTime);
+	}
+
+	/**
+	 * Create new {@link ClientSessionPoolOptions} using the given maximum idle time.
+	 *
+	 * @param maxIdleTime the time after which an idle session is evicted. Must not be {@literal null}, zero or negative.
+	 * @return new instance of {@link ClientSessionPoolOptions}.
+	 */
+	public ClientSessionPoolOptions maxIdleTime(Duration maxIdleTime) {
+
+		Assert.notNull(maxIdleTime, "Max idle time must not be null!");
+		Assert.isTrue(!maxIdleTime.isNegative() && !maxIdleTime.isZero(), "Max idle time must be positive!");
+
+		return new ClientSessionPoolOptions(maxIdleSessions, maxIdleTime);
+	}
+
+	/**
+	 * @return the maximum number of idle sessions per {@link com.mongodb.ClientSessionOptions}.
+	 */
+	public int getMaxIdleSessions() {
+		return maxIdleSessions;
+	}
+
+	/**
+	 * @return the time after which an idle session is evicted.
+	 */
+	public Duration getMaxIdleTime() {
+		return maxIdleTime;
+	}
+}
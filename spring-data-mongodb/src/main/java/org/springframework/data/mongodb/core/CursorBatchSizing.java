@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import org.springframework.util.Assert;
+
+/**
+ * Strategy to determine the cursor {@literal batchSize} of aggregations that do not define
+ * {@link org.springframework.data.mongodb.core.aggregation.AggregationOptions#getCursorBatchSize() an explicit batch
+ * size}. {@link #demandAware(int, int) Demand aware} sizing derives the batch size from the demand signalled by the
+ * first {@link org.reactivestreams.Subscription#request(long) request} of a reactive subscriber, bounded by a floor and
+ * a ceiling. Blocking streams have no notion of demand and use the ceiling.
+ *
+ * @since 2.2
+ */
+public final class CursorBatchSizing {
+
+	private static final CursorBatchSizing DRIVER_DEFAULT = new CursorBatchSizing(0, 0);
+
+	private final int minBatchSize;
+	private final int maxBatchSize;
+
+	private CursorBatchSizing(int minBatchSize, int maxBatchSize) {
+
+		this.minBatchSize = minBatchSize;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Leave the batch size to the driver.
+	 *
+	 * @return the {@link CursorBatchSizing} applying the driver defaults.
+	 */
+	public static CursorBatchSizing driverDefault() {
+		return DRIVER_DEFAULT;
+	}
+
+	/**
+	 * Derive the batch size from subscriber demand.
+	 *
+	 * @param minBatchSize the smallest batch size to use, must be greater than zero.
+	 * @param maxBatchSize the largest batch size to use, must not be less than {@code minBatchSize}. Also used for
+	 *          unbounded demand.
+	 * @return new instance of {@link CursorBatchSizing}.
+	 */
+	public static CursorBatchSizing demandAware(int minBatchSize, int maxBatchSize) {
+
+		Assert.isTrue(minBatchSize > 0, "Minimum batch size must be greater than zero!");
+		Assert.isTrue(maxBatchSize >= minBatchSize, "Maximum batch size must not be less than the minimum batch size!");
+
+		return new CursorBatchSizing(minBatchSize, maxBatchSize);
+	}
+
+	/**
+	 * @return {@literal true} if the batch size is derived from demand.
+	 */
+	public boolean isDemandAware() {
+		return maxBatchSize > 0;
+	}
+
+	/**
+	 * @return the smallest batch size. Zero if {@link #isDemandAware() not demand aware}.
+	 */
+	public int getMinBatchSize() {
+		return minBatchSize;
+	}
+
+	/**
+	 * @return the largest batch size. Zero if {@link #isDemandAware() not demand aware}.
+	 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * Compute the batch size for the given demand.
+	 *
+	 * @param demand the number of requested elements. {@link Long#MAX_VALUE} for unbounded demand.
+	 * @return the demand bounded by {@link #getMinBatchSize()} and {@link #getMaxBatchSize()}.
+	 * @throws IllegalStateException if {@link #isDemandAware() not demand aware}.
+	 */
+	public int getBatchSize(long demand) {
+
+		Assert.state(isDemandAware(), "Batch size is determined by the driver!");
+
+		return (int) Math.max(minBatchSize, Math.min(maxBatchSize, demand));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return isDemandAware() ? String.format("CursorBatchSizing [%s..%s]", minBatchSize, maxBatchSize)
+				: "CursorBatchSizing [driver default]";
+	}
+}
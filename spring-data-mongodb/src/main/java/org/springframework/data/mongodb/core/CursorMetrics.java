@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+/**
+ * Cumulative metrics of aggregation cursors read with a known batch size. Round trips are derived from the number of
+ * documents read and the batch size in use: the initial {@literal aggregate} command plus one {@literal getMore} for
+ * every further batch.
+ *
+ * @since 2.2
+ * @see CursorBatchSizing
+ */
+public interface CursorMetrics {
+
+	/**
+	 * @return the number of cursors opened.
+	 */
+	long getCursorCount();
+
+	/**
+	 * @return the number of documents read from all cursors.
+	 */
+	long getDocumentCount();
+
+	/**
+	 * @return the number of server round trips of all cursors.
+	 */
+	long getRoundTripCount();
+
+	/**
+	 * @return the average number of documents per round trip. Zero if no round trip was recorded.
+	 */
+	default double getDocumentsPerRoundTrip() {
+
+		long roundTrips = getRoundTripCount();
+		return roundTrips == 0 ? 0 : (double) getDocumentCount() / roundTrips;
+	}
+}
@@ -28,6 +28,7 @@ import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.core.OperationMetricsRecorder.OperationType;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.convert.UpdateMapper;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
@@ -70,6 +71,8 @@ class DefaultBulkOperations implements BulkOperations {
 
 	private PersistenceExceptionTranslator exceptionTranslator;
 	private @Nullable WriteConcern defaultWriteConcern;
+	private @Nullable OperationMetricsRecorder operationMetricsRecorder;
+	private @Nullable QueryResultCache queryResultCache;
 
 	private BulkWriteOptions bulkOptions;
 
@@ -114,6 +117,27 @@ class DefaultBulkOperations implements BulkOperations {
 		this.defaultWriteConcern = defaultWriteConcern;
 	}
 
+	/**
+	 * Configures the {@link OperationMetricsRecorder} to report executions to. Defaults to {@literal null}.
+	 *
+	 * @param operationMetricsRecorder can be {@literal null}.
+	 * @since 2.2
+	 */
+	void setOperationMetricsRecorder(@Nullable OperationMetricsRecorder operationMetricsRecorder) {
+		this.operationMetricsRecorder = operationMetricsRecorder;
+	}
+
+	/**
+	 * Configures the {@link QueryResultCache} to invalidate for the collection once the bulk got executed. Defaults to
+	 * {@literal null}.
+	 *
+	 * @param queryResultCache can be {@literal null}.
+	 * @since 2.2
+	 */
+	void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.BulkOperations#insert(java.lang.Object)
@@ -274,6 +298,8 @@ class DefaultBulkOperations implements BulkOperations {
 	@Override
 	public com.mongodb.bulk.BulkWriteResult execute() {
 
+		OperationTimer timer = OperationTimer.start(operationMetricsRecorder, OperationType.BULK, collectionName);
+
 		try {
 
 			return mongoOperations.execute(collectionName, collection -> {
@@ -281,10 +307,22 @@ class DefaultBulkOperations implements BulkOperations {
 				if (defaultWriteConcern != null) {
 					collection = collection.withWriteConcern(defaultWriteConcern);
 				}
-				return collection.bulkWrite(models.stream().map(this::mapWriteModel).collect(Collectors.toList()), bulkOptions);
+
+				long conversionStarted = timer.startConversion();
+				List<WriteModel<Document>> writeModels = models.stream().map(this::mapWriteModel).collect(Collectors.toList());
+				timer.stopConversion(conversionStarted);
+				timer.documents(writeModels.size());
+
+				return collection.bulkWrite(writeModels, bulkOptions);
 			});
 		} finally {
+
+			timer.stop();
 			this.bulkOptions = getBulkWriteOptions(bulkOperationContext.getBulkMode());
+
+			if (queryResultCache != null) {
+				queryResultCache.invalidate(collectionName);
+			}
 		}
 	}
 
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link CursorMetrics} implementation shared by all cursors of a template.
+ *
+ * @since 2.2
+ */
+class DefaultCursorMetrics implements CursorMetrics {
+
+	private final LongAdder cursors = new LongAdder();
+	private final LongAdder documents = new LongAdder();
+	private final LongAdder roundTrips = new LongAdder();
+
+	/**
+	 * Record opening a cursor, which includes the round trip of the initial command.
+	 */
+	void onCursorOpened() {
+
+		cursors.increment();
+		roundTrips.increment();
+	}
+
+	/**
+	 * Record reading the document at the given zero based position of a cursor using the given batch size. The first
+	 * document of every batch but the first one requires a {@literal getMore} round trip.
+	 *
+	 * @param position the position of the document within the cursor.
+	 * @param batchSize the batch size of the cursor.
+	 */
+	void onDocument(long position, int batchSize) {
+
+		documents.increment();
+
+		if (batchSize > 0 && position > 0 && position % batchSize == 0) {
+			roundTrips.increment();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.CursorMetrics#getCursorCount()
+	 */
+	@Override
+	public long getCursorCount() {
+		return cursors.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.CursorMetrics#getDocumentCount()
+	 */
+	@Override
+	public long getDocumentCount() {
+		return documents.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.CursorMetrics#getRoundTripCount()
+	 */
+	@Override
+	public long getRoundTripCount() {
+		return roundTrips.sum();
+	}
+}
@@ -17,6 +17,7 @@ package org.springframework.data.mongodb.core;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.bson.Document;
@@ -33,6 +34,7 @@ import org.springframework.util.Assert;
 import com.mongodb.MongoException;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.IndexModel;
 import com.mongodb.client.model.IndexOptions;
 
 /**
@@ -118,22 +120,46 @@ public class DefaultIndexOperations implements IndexOperations {
 	 */
 	public String ensureIndex(final IndexDefinition indexDefinition) {
 
-		return execute(collection -> {
+		return execute(collection -> collection.createIndex(indexDefinition.getIndexKeys(), toIndexOptions(indexDefinition)));
+	}
 
-			Document indexOptions = indexDefinition.getIndexOptions();
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.index.IndexOperations#ensureIndexes(java.util.List)
+	 */
+	@Override
+	public List<String> ensureIndexes(List<? extends IndexDefinition> indexDefinitions) {
 
-			IndexOptions ops = IndexConverters.indexDefinitionToIndexOptionsConverter().convert(indexDefinition);
+		Assert.notNull(indexDefinitions, "IndexDefinitions must not be null!");
 
-			if (indexOptions.containsKey(PARTIAL_FILTER_EXPRESSION_KEY)) {
+		if (indexDefinitions.isEmpty()) {
+			return Collections.emptyList();
+		}
 
-				Assert.isInstanceOf(Document.class, indexOptions.get(PARTIAL_FILTER_EXPRESSION_KEY));
+		List<IndexModel> models = new ArrayList<>(indexDefinitions.size());
 
-				ops.partialFilterExpression(mapper.getMappedObject((Document) indexOptions.get(PARTIAL_FILTER_EXPRESSION_KEY),
-						lookupPersistentEntity(type, collectionName)));
-			}
+		for (IndexDefinition indexDefinition : indexDefinitions) {
+			models.add(new IndexModel(indexDefinition.getIndexKeys(), toIndexOptions(indexDefinition)));
+		}
 
-			return collection.createIndex(indexDefinition.getIndexKeys(), ops);
-		});
+		return execute(collection -> collection.createIndexes(models));
+	}
+
+	private IndexOptions toIndexOptions(IndexDefinition indexDefinition) {
+
+		Document indexOptions = indexDefinition.getIndexOptions();
+
+		IndexOptions ops = IndexConverters.indexDefinitionToIndexOptionsConverter().convert(indexDefinition);
+
+		if (indexOptions.containsKey(PARTIAL_FILTER_EXPRESSION_KEY)) {
+
+			Assert.isInstanceOf(Document.class, indexOptions.get(PARTIAL_FILTER_EXPRESSION_KEY));
+
+			ops.partialFilterExpression(mapper.getMappedObject((Document) indexOptions.get(PARTIAL_FILTER_EXPRESSION_KEY),
+					lookupPersistentEntity(type, collectionName)));
+		}
+
+		return ops;
 	}
 
 	@Nullable
@@ -18,7 +18,9 @@ package org.springframework.data.mongodb.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.bson.Document;
@@ -30,6 +32,7 @@ import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import com.mongodb.client.model.IndexModel;
 import com.mongodb.client.model.IndexOptions;
 
 /**
@@ -92,27 +95,56 @@ public class DefaultReactiveIndexOperations implements ReactiveIndexOperations {
 	 */
 	public Mono<String> ensureIndex(final IndexDefinition indexDefinition) {
 
-		return mongoOperations.execute(collectionName, collection -> {
+		return mongoOperations
+				.execute(collectionName,
+						collection -> collection.createIndex(indexDefinition.getIndexKeys(), toIndexOptions(indexDefinition)))
+				.next();
+	}
 
-			Document indexOptions = indexDefinition.getIndexOptions();
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.index.ReactiveIndexOperations#ensureIndexes(java.util.List)
+	 */
+	@Override
+	public Flux<String> ensureIndexes(List<? extends IndexDefinition> indexDefinitions) {
 
-			IndexOptions ops = IndexConverters.indexDefinitionToIndexOptionsConverter().convert(indexDefinition);
+		Assert.notNull(indexDefinitions, "IndexDefinitions must not be null!");
 
-			if (indexOptions.containsKey(PARTIAL_FILTER_EXPRESSION_KEY)) {
+		if (indexDefinitions.isEmpty()) {
+			return Flux.empty();
+		}
 
-				Assert.isInstanceOf(Document.class, indexOptions.get(PARTIAL_FILTER_EXPRESSION_KEY));
+		return mongoOperations.execute(collectionName, collection -> {
 
-				MongoPersistentEntity<?> entity = type
-						.map(val -> (MongoPersistentEntity) queryMapper.getMappingContext().getRequiredPersistentEntity(val))
-						.orElseGet(() -> lookupPersistentEntity(collectionName));
+			List<IndexModel> models = new ArrayList<>(indexDefinitions.size());
 
-				ops = ops.partialFilterExpression(
-						queryMapper.getMappedObject(indexOptions.get(PARTIAL_FILTER_EXPRESSION_KEY, Document.class), entity));
+			for (IndexDefinition indexDefinition : indexDefinitions) {
+				models.add(new IndexModel(indexDefinition.getIndexKeys(), toIndexOptions(indexDefinition)));
 			}
 
-			return collection.createIndex(indexDefinition.getIndexKeys(), ops);
+			return collection.createIndexes(models);
+		});
+	}
+
+	private IndexOptions toIndexOptions(IndexDefinition indexDefinition) {
+
+		Document indexOptions = indexDefinition.getIndexOptions();
+
+		IndexOptions ops = IndexConverters.indexDefinitionToIndexOptionsConverter().convert(indexDefinition);
+
+		if (indexOptions.containsKey(PARTIAL_FILTER_EXPRESSION_KEY)) {
+
+			Assert.isInstanceOf(Document.class, indexOptions.get(PARTIAL_FILTER_EXPRESSION_KEY));
+
+			MongoPersistentEntity<?> entity = type
+					.map(val -> (MongoPersistentEntity) queryMapper.getMappingContext().getRequiredPersistentEntity(val))
+					.orElseGet(() -> lookupPersistentEntity(collectionName));
+
+			ops = ops.partialFilterExpression(
+					queryMapper.getMappedObject(indexOptions.get(PARTIAL_FILTER_EXPRESSION_KEY, Document.class), entity));
+		}
 
-		}).next();
+		return ops;
 	}
 
 	@Nullable
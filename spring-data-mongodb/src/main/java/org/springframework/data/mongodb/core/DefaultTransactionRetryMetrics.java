@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link TransactionRetryMetrics} implementation shared by all transactions of an executor.
+ *
+ * @since 2.2
+ */
+class DefaultTransactionRetryMetrics implements TransactionRetryMetrics {
+
+	private final LongAdder transactions = new LongAdder();
+	private final LongAdder transactionRetries = new LongAdder();
+	private final LongAdder commitRetries = new LongAdder();
+	private final LongAdder retriesExhausted = new LongAdder();
+
+	void onTransaction() {
+		transactions.increment();
+	}
+
+	void onTransactionRetry() {
+		transactionRetries.increment();
+	}
+
+	void onCommitRetry() {
+		commitRetries.increment();
+	}
+
+	void onRetriesExhausted() {
+		retriesExhausted.increment();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.TransactionRetryMetrics#getTransactionCount()
+	 */
+	@Override
+	public long getTransactionCount() {
+		return transactions.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.TransactionRetryMetrics#getTransactionRetryCount()
+	 */
+	@Override
+	public long getTransactionRetryCount() {
+		return transactionRetries.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.TransactionRetryMetrics#getCommitRetryCount()
+	 */
+	@Override
+	public long getCommitRetryCount() {
+		return commitRetries.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.TransactionRetryMetrics#getRetriesExhaustedCount()
+	 */
+	@Override
+	public long getRetriesExhaustedCount() {
+		return retriesExhausted.sum();
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Operators;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+import java.util.function.LongToIntFunction;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * {@link Publisher} deferring the creation of a cursor {@link Publisher} until the first
+ * {@link Subscription#request(long) request} so that the cursor {@literal batchSize} can be derived from the demand
+ * of the subscriber. Documents emitted by the cursor are recorded in {@link DefaultCursorMetrics}.
+ *
+ * @since 2.2
+ */
+class DemandAwareCursorPublisher<T> implements Publisher<T> {
+
+	private final IntFunction<Publisher<T>> cursorFunction;
+	private final LongToIntFunction batchSizeFunction;
+	private final DefaultCursorMetrics metrics;
+
+	/**
+	 * @param cursorFunction creates the cursor {@link Publisher} for a given batch size.
+	 * @param batchSizeFunction computes the batch size for the demand of the first request.
+	 * @param metrics the metrics to record cursor activity in.
+	 */
+	DemandAwareCursorPublisher(IntFunction<Publisher<T>> cursorFunction, LongToIntFunction batchSizeFunction,
+			DefaultCursorMetrics metrics) {
+
+		this.cursorFunction = cursorFunction;
+		this.batchSizeFunction = batchSizeFunction;
+		this.metrics = metrics;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.reactivestreams.Publisher#subscribe(org.reactivestreams.Subscriber)
+	 */
+	@Override
+	public void subscribe(Subscriber<? super T> subscriber) {
+		subscriber.onSubscribe(new DemandAwareSubscription(subscriber));
+	}
+
+	/**
+	 * {@link Subscription} handed to the actual subscriber, subscribing to the cursor on the first request and relaying
+	 * its signals.
+	 */
+	private class DemandAwareSubscription extends Operators.DeferredSubscription implements CoreSubscriber<T> {
+
+		private final Subscriber<? super T> actual;
+
+		private final AtomicBoolean started = new AtomicBoolean();
+		private int batchSize;
+		private long position;
+
+		DemandAwareSubscription(Subscriber<? super T> actual) {
+			this.actual = actual;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see reactor.core.publisher.Operators.DeferredSubscription#request(long)
+		 */
+		@Override
+		public void request(long n) {
+
+			if (!Operators.validate(n)) {
+				return;
+			}
+
+			if (!isCancelled() && started.compareAndSet(false, true)) {
+
+				batchSize = batchSizeFunction.applyAsInt(n);
+				metrics.onCursorOpened();
+
+				super.request(n);
+				cursorFunction.apply(batchSize).subscribe(this);
+
+				return;
+			}
+
+			super.request(n);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.reactivestreams.Subscriber#onSubscribe(org.reactivestreams.Subscription)
+		 */
+		@Override
+		public void onSubscribe(Subscription s) {
+			set(s);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.reactivestreams.Subscriber#onNext(java.lang.Object)
+		 */
+		@Override
+		public void onNext(T t) {
+
+			metrics.onDocument(position++, batchSize);
+			actual.onNext(t);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.reactivestreams.Subscriber#onError(java.lang.Throwable)
+		 */
+		@Override
+		public void onError(Throwable t) {
+			actual.onError(t);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.reactivestreams.Subscriber#onComplete()
+		 */
+		@Override
+		public void onComplete() {
+			actual.onComplete();
+		}
+	}
+}
@@ -0,0 +1,662 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.Decimal128;
+import org.bson.types.MaxKey;
+import org.bson.types.MinKey;
+import org.bson.types.ObjectId;
+import org.bson.types.Symbol;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link Comparator} ordering raw {@link Document}s the way the server orders them for a given mapped
+ * {@literal sort} specification. Values of different types are ordered by the BSON comparison order, missing fields
+ * compare like {@literal null} and arrays compare by their smallest element in ascending and their largest element in
+ * descending order. Strings are compared by code point, which matches the binary comparison of the server when no
+ * collation is in place.
+ *
+ * @since 2.2
+ */
+class DocumentSortComparator implements Comparator<Document> {
+
+	private static final String ID_FIELD = "_id";
+
+	private final Map<String, Integer> sort;
+
+	/**
+	 * @param mappedSort the {@literal sort} specification using field names of the stored documents. Must not be
+	 *          {@literal null} or empty.
+	 */
+	DocumentSortComparator(Document mappedSort) {
+
+		Assert.notNull(mappedSort, "Sort must not be null!");
+		Assert.isTrue(!mappedSort.isEmpty(), "Sort must not be empty!");
+
+		this.sort = new LinkedHashMap<>(mappedSort.size());
+
+		for (Entry<String, Object> entry : mappedSort.entrySet()) {
+
+			Assert.isTrue(entry.getValue() instanceof Number,
+					() -> String.format("Cannot merge results sorted by %s! Only ascending and descending sorts are supported.",
+							entry.getKey()));
+
+			this.sort.put(entry.getKey(), ((Number) entry.getValue()).intValue() < 0 ? -1 : 1);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Comparator#compare(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public int compare(Document left, Document right) {
+
+		for (Entry<String, Integer> entry : sort.entrySet()) {
+
+			boolean ascending = entry.getValue() > 0;
+
+			int result = compareValues(sortKey(left, entry.getKey(), ascending), sortKey(right, entry.getKey(), ascending));
+
+			if (result != 0) {
+				return ascending ? result : -result;
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Add the sort keys to the given {@literal projection} so that the merged documents carry the values they are
+	 * compared by.
+	 *
+	 * @param fields the mapped {@literal projection}. Must not be {@literal null}.
+	 * @return the {@literal projection} to use.
+	 * @throws IllegalArgumentException if the {@literal projection} excludes a sort key.
+	 */
+	Document includeSortKeys(Document fields) {
+
+		if (fields.isEmpty()) {
+			return fields;
+		}
+
+		for (String key : sort.keySet()) {
+
+			for (Entry<String, Object> field : fields.entrySet()) {
+
+				boolean overlaps = isSameOrParent(field.getKey(), key) || isSameOrParent(key, field.getKey());
+
+				if (overlaps && !isInclusion(field.getValue())) {
+					throw new IllegalArgumentException(
+							String.format("Cannot merge results sorted by %s as the projection excludes %s!", key, field.getKey()));
+				}
+			}
+		}
+
+		Document result = new Document(fields);
+
+		for (String key : getMissingSortKeys(fields)) {
+
+			if (result.keySet().stream().noneMatch(it -> isSameOrParent(it, key))) {
+
+				result.keySet().removeIf(it -> isSameOrParent(key, it));
+				result.put(key, 1);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Remove the values the given document only carries because {@link #includeSortKeys(Document)} added sort keys to
+	 * the given {@literal projection}, so that it matches the document a query using that {@literal projection} returns.
+	 *
+	 * @param document the document read using the {@literal projection} returned by {@link #includeSortKeys(Document)}.
+	 *          Must not be {@literal null}.
+	 * @param fields the mapped {@literal projection} as passed to {@link #includeSortKeys(Document)}. Must not be
+	 *          {@literal null}.
+	 * @return the given document.
+	 */
+	Document removeSortKeys(Document document, Document fields) {
+
+		for (String key : getMissingSortKeys(fields)) {
+
+			String[] path = key.split("\\.");
+			List<String> nested = fields.keySet().stream() //
+					.filter(it -> isSameOrParent(key, it)) //
+					.map(it -> it.substring(key.length() + 1)) //
+					.collect(Collectors.toList());
+
+			if (!nested.isEmpty()) {
+				retain(document, path, 0, nested);
+				continue;
+			}
+
+			// remove the outermost part of the path the projection did not ask for
+			int depth = 0;
+			while (isParentOfAny(String.join(".", Arrays.copyOf(path, depth + 1)), fields.keySet())) {
+				depth++;
+			}
+
+			remove(document, path, 0, depth);
+		}
+
+		return document;
+	}
+
+	/**
+	 * @return the sort keys not covered by the given inclusion {@literal projection}.
+	 */
+	private List<String> getMissingSortKeys(Document fields) {
+
+		if (fields.values().stream().noneMatch(DocumentSortComparator::isInclusion)) {
+			return Collections.emptyList();
+		}
+
+		return sort.keySet().stream() //
+				.filter(key -> fields.keySet().stream().noneMatch(it -> isSameOrParent(it, key))) //
+				// the identifier is included unless excluded explicitly
+				.filter(key -> !isSameOrParent(ID_FIELD, key)) //
+				.collect(Collectors.toList());
+	}
+
+	private static boolean isInclusion(@Nullable Object value) {
+
+		if (value instanceof Boolean) {
+			return (Boolean) value;
+		}
+
+		if (value instanceof Number) {
+			return ((Number) value).intValue() != 0;
+		}
+
+		return true;
+	}
+
+	private static boolean isSameOrParent(String path, String other) {
+		return path.equals(other) || other.startsWith(path + ".");
+	}
+
+	private static boolean isParentOfAny(String path, Collection<String> others) {
+		return others.stream().anyMatch(it -> isSameOrParent(path, it));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void remove(@Nullable Object source, String[] path, int index, int depth) {
+
+		if (source instanceof Map) {
+
+			Map<String, Object> map = (Map<String, Object>) source;
+
+			if (index == depth) {
+				map.remove(path[index]);
+			} else {
+				remove(map.get(path[index]), path, index + 1, depth);
+			}
+		} else if (source instanceof List) {
+			((List<?>) source).forEach(element -> remove(element, path, index, depth));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void retain(@Nullable Object source, String[] path, int index, List<String> nested) {
+
+		if (source instanceof Map) {
+
+			Map<String, Object> map = (Map<String, Object>) source;
+
+			if (index < path.length - 1) {
+				retain(map.get(path[index]), path, index + 1, nested);
+			} else if (map.containsKey(path[index])) {
+
+				Object value = project(map.get(path[index]), nested);
+
+				if (value != null) {
+					map.put(path[index], value);
+				} else {
+					map.remove(path[index]);
+				}
+			}
+		} else if (source instanceof List) {
+			((List<?>) source).forEach(element -> retain(element, path, index, nested));
+		}
+	}
+
+	/**
+	 * Apply the given inclusion paths to the given value the way the server does.
+	 *
+	 * @return the projected value or {@literal null} if the value does not contain any of the paths.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static Object project(@Nullable Object value, List<String> paths) {
+
+		if (value instanceof Map) {
+
+			Document result = new Document();
+
+			for (Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+
+				String key = entry.getKey();
+
+				if (paths.contains(key)) {
+					result.put(key, entry.getValue());
+					continue;
+				}
+
+				List<String> nested = paths.stream() //
+						.filter(it -> it.startsWith(key + ".")) //
+						.map(it -> it.substring(key.length() + 1)) //
+						.collect(Collectors.toList());
+
+				Object projected = nested.isEmpty() ? null : project(entry.getValue(), nested);
+
+				if (projected != null) {
+					result.put(key, projected);
+				}
+			}
+
+			return result;
+		}
+
+		if (value instanceof List) {
+
+			List<Object> result = new ArrayList<>();
+
+			for (Object element : (List<?>) value) {
+				if (element instanceof Map) {
+					result.add(project(element, paths));
+				}
+			}
+
+			return result;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Resolve the value a document is sorted by for the given dot path. Arrays along the path contribute all of their
+	 * elements and the smallest (ascending) or largest (descending) candidate wins.
+	 */
+	@Nullable
+	private static Object sortKey(Document document, String path, boolean ascending) {
+
+		List<Object> candidates = new ArrayList<>();
+		collect(document, path.split("\\."), 0, candidates);
+
+		if (candidates.isEmpty()) {
+			return null;
+		}
+
+		Object result = candidates.get(0);
+
+		for (int i = 1; i < candidates.size(); i++) {
+
+			int comparison = compareValues(candidates.get(i), result);
+
+			if (ascending ? comparison < 0 : comparison > 0) {
+				result = candidates.get(i);
+			}
+		}
+
+		return result;
+	}
+
+	private static void collect(@Nullable Object source, String[] path, int index, List<Object> candidates) {
+
+		if (index == path.length) {
+
+			if (source instanceof List && !((List<?>) source).isEmpty()) {
+				candidates.addAll((List<?>) source);
+			} else if (!(source instanceof List)) {
+				candidates.add(source);
+			}
+
+			return;
+		}
+
+		if (source instanceof Map) {
+			collect(((Map<?, ?>) source).get(path[index]), path, index + 1, candidates);
+			return;
+		}
+
+		if (source instanceof List) {
+
+			for (Object element : (List<?>) source) {
+				if (element instanceof Map) {
+					collect(element, path, index, candidates);
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static int compareValues(@Nullable Object left, @Nullable Object right) {
+
+		int leftType = typeOrder(left);
+		int rightType = typeOrder(right);
+
+		if (leftType != rightType) {
+			return Integer.compare(leftType, rightType);
+		}
+
+		if (left == null || right == null || left instanceof MinKey || left instanceof MaxKey) {
+			return 0;
+		}
+
+		if (isNumber(left)) {
+			return compareNumbers(left, right);
+		}
+
+		if (left instanceof String || left instanceof Symbol) {
+			return compareStrings(left.toString(), right.toString());
+		}
+
+		if (left instanceof Map) {
+			return compareDocuments((Map<String, Object>) left, (Map<String, Object>) right);
+		}
+
+		if (left instanceof Collection) {
+			return compareArrays((Collection<?>) left, (Collection<?>) right);
+		}
+
+		if (left instanceof Binary || left instanceof byte[] || left instanceof UUID) {
+			return compareBinaries(toBinary(left), toBinary(right));
+		}
+
+		if (left instanceof Date) {
+			return ((Date) left).compareTo((Date) right);
+		}
+
+		if (left instanceof Pattern || left instanceof BsonRegularExpression) {
+			return compareStrings(regexString(left), regexString(right));
+		}
+
+		if (left instanceof Comparable && left.getClass().equals(right.getClass())) {
+			return ((Comparable) left).compareTo(right);
+		}
+
+		return compareStrings(left.toString(), right.toString());
+	}
+
+	/**
+	 * Position of the type of the given value in the server side comparison order.
+	 */
+	private static int typeOrder(@Nullable Object value) {
+
+		if (value instanceof MinKey) {
+			return 1;
+		}
+
+		if (value == null) {
+			return 2;
+		}
+
+		if (isNumber(value)) {
+			return 3;
+		}
+
+		if (value instanceof String || value instanceof Symbol) {
+			return 4;
+		}
+
+		if (value instanceof Map) {
+			return 5;
+		}
+
+		if (value instanceof Collection) {
+			return 6;
+		}
+
+		if (value instanceof Binary || value instanceof byte[] || value instanceof UUID) {
+			return 7;
+		}
+
+		if (value instanceof ObjectId) {
+			return 8;
+		}
+
+		if (value instanceof Boolean) {
+			return 9;
+		}
+
+		if (value instanceof Date) {
+			return 10;
+		}
+
+		if (value instanceof BsonTimestamp) {
+			return 11;
+		}
+
+		if (value instanceof Pattern || value instanceof BsonRegularExpression) {
+			return 12;
+		}
+
+		if (value instanceof MaxKey) {
+			return 14;
+		}
+
+		return 13;
+	}
+
+	private static boolean isNumber(Object value) {
+		return value instanceof Number || value instanceof Decimal128;
+	}
+
+	private static int compareNumbers(Object left, Object right) {
+
+		if (isIntegral(left) && isIntegral(right)) {
+			return Long.compare(((Number) left).longValue(), ((Number) right).longValue());
+		}
+
+		double leftDouble = toDouble(left);
+		double rightDouble = toDouble(right);
+
+		if (Double.isNaN(leftDouble) || Double.isNaN(rightDouble)) {
+			return Boolean.compare(!Double.isNaN(leftDouble), !Double.isNaN(rightDouble));
+		}
+
+		if (Double.isInfinite(leftDouble) || Double.isInfinite(rightDouble)) {
+			return Double.compare(leftDouble, rightDouble);
+		}
+
+		return toBigDecimal(left).compareTo(toBigDecimal(right));
+	}
+
+	private static boolean isIntegral(Object value) {
+		return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+	}
+
+	private static double toDouble(Object value) {
+
+		if (value instanceof Decimal128) {
+
+			Decimal128 decimal = (Decimal128) value;
+
+			if (decimal.isNaN()) {
+				return Double.NaN;
+			}
+
+			if (decimal.isInfinite()) {
+				return decimal.isNegative() ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+			}
+
+			return decimal.bigDecimalValue().doubleValue();
+		}
+
+		return ((Number) value).doubleValue();
+	}
+
+	private static BigDecimal toBigDecimal(Object value) {
+
+		if (value instanceof Decimal128) {
+			return ((Decimal128) value).bigDecimalValue();
+		}
+
+		if (isIntegral(value)) {
+			return BigDecimal.valueOf(((Number) value).longValue());
+		}
+
+		return new BigDecimal(((Number) value).doubleValue());
+	}
+
+	private static int compareStrings(String left, String right) {
+
+		int leftIndex = 0;
+		int rightIndex = 0;
+
+		while (leftIndex < left.length() && rightIndex < right.length()) {
+
+			int leftCodePoint = left.codePointAt(leftIndex);
+			int rightCodePoint = right.codePointAt(rightIndex);
+
+			if (leftCodePoint != rightCodePoint) {
+				return Integer.compare(leftCodePoint, rightCodePoint);
+			}
+
+			leftIndex += Character.charCount(leftCodePoint);
+			rightIndex += Character.charCount(rightCodePoint);
+		}
+
+		return Boolean.compare(leftIndex < left.length(), rightIndex < right.length());
+	}
+
+	private static int compareDocuments(Map<String, Object> left, Map<String, Object> right) {
+
+		Iterator<Entry<String, Object>> leftEntries = left.entrySet().iterator();
+		Iterator<Entry<String, Object>> rightEntries = right.entrySet().iterator();
+
+		while (leftEntries.hasNext() && rightEntries.hasNext()) {
+
+			Entry<String, Object> leftEntry = leftEntries.next();
+			Entry<String, Object> rightEntry = rightEntries.next();
+
+			int result = Integer.compare(typeOrder(leftEntry.getValue()), typeOrder(rightEntry.getValue()));
+
+			if (result == 0) {
+				result = compareStrings(leftEntry.getKey(), rightEntry.getKey());
+			}
+
+			if (result == 0) {
+				result = compareValues(leftEntry.getValue(), rightEntry.getValue());
+			}
+
+			if (result != 0) {
+				return result;
+			}
+		}
+
+		return Boolean.compare(leftEntries.hasNext(), rightEntries.hasNext());
+	}
+
+	private static int compareArrays(Collection<?> left, Collection<?> right) {
+
+		Iterator<?> leftElements = left.iterator();
+		Iterator<?> rightElements = right.iterator();
+
+		while (leftElements.hasNext() && rightElements.hasNext()) {
+
+			int result = compareValues(leftElements.next(), rightElements.next());
+
+			if (result != 0) {
+				return result;
+			}
+		}
+
+		return Boolean.compare(leftElements.hasNext(), rightElements.hasNext());
+	}
+
+	private static Binary toBinary(Object value) {
+
+		if (value instanceof Binary) {
+			return (Binary) value;
+		}
+
+		if (value instanceof byte[]) {
+			return new Binary((byte[]) value);
+		}
+
+		UUID uuid = (UUID) value;
+		byte[] bytes = new byte[16];
+
+		for (int i = 0; i < 8; i++) {
+			bytes[i] = (byte) (uuid.getMostSignificantBits() >>> (8 * (7 - i)));
+			bytes[8 + i] = (byte) (uuid.getLeastSignificantBits() >>> (8 * (7 - i)));
+		}
+
+		return new Binary((byte) 4, bytes);
+	}
+
+	private static int compareBinaries(Binary left, Binary right) {
+
+		int result = Integer.compare(left.length(), right.length());
+
+		if (result == 0) {
+			result = Byte.compare(left.getType(), right.getType());
+		}
+
+		byte[] leftData = left.getData();
+		byte[] rightData = right.getData();
+
+		for (int i = 0; result == 0 && i < leftData.length; i++) {
+			result = Integer.compare(leftData[i] & 0xFF, rightData[i] & 0xFF);
+		}
+
+		return result;
+	}
+
+	private static String regexString(Object value) {
+
+		if (value instanceof Pattern) {
+			return ((Pattern) value).pattern();
+		}
+
+		BsonRegularExpression expression = (BsonRegularExpression) value;
+		return expression.getPattern() + "/" + ObjectUtils.nullSafeToString(expression.getOptions());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "DocumentSortComparator " + sort;
+	}
+}
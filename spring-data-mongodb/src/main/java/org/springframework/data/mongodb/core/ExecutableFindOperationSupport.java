@@ -26,6 +26,7 @@ import java.util.stream.Stream;
 
 import org.bson.Document;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate.CloseableIterableCursorAdapter;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.SerializationUtils;
@@ -163,7 +164,12 @@ class ExecutableFindOperationSupport implements ExecutableFindOperation {
 		 */
 		@Override
 		public Stream<T> stream() {
-			return StreamUtils.createStreamFromIterator(doStream());
+
+			CloseableIterator<T> iterator = doStream();
+
+			return iterator instanceof CloseableIterableCursorAdapter
+					? ((CloseableIterableCursorAdapter<T>) iterator).stream()
+					: StreamUtils.createStreamFromIterator(iterator);
 		}
 
 		/*
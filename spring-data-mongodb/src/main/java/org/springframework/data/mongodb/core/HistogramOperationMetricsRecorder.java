@@ -0,0 +1,244 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link OperationMetricsRecorder} keeping {@link LatencyHistogram latency histograms} of I/O and conversion time
+ * along with operation and document counts per {@link OperationType operation type} and collection in memory. The
+ * number of distinct collections tracked is bounded, operations on further collections are only accounted for in the
+ * per operation type totals.
+ *
+ * @since 2.2
+ * @see org.springframework.data.mongodb.monitor.OperationLatencyMetrics
+ */
+public class HistogramOperationMetricsRecorder implements OperationMetricsRecorder {
+
+	/**
+	 * Pseudo collection name of the statistics aggregating all collections of an operation type.
+	 */
+	public static final String ALL_COLLECTIONS = "*";
+
+	private static final int DEFAULT_MAX_COLLECTIONS = 256;
+
+	private final int maxCollections;
+	private final Map<Key, OperationStatistics> statistics = new ConcurrentHashMap<>();
+	private final Set<String> collections = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Create a new {@link HistogramOperationMetricsRecorder} tracking up to 256 collections.
+	 */
+	public HistogramOperationMetricsRecorder() {
+		this(DEFAULT_MAX_COLLECTIONS);
+	}
+
+	/**
+	 * Create a new {@link HistogramOperationMetricsRecorder} tracking up to the given number of collections.
+	 *
+	 * @param maxCollections must be greater than zero.
+	 */
+	public HistogramOperationMetricsRecorder(int maxCollections) {
+
+		Assert.isTrue(maxCollections > 0, "Max collections must be greater than zero!");
+
+		this.maxCollections = maxCollections;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.OperationMetricsRecorder#record(org.springframework.data.mongodb.core.OperationMetricsRecorder.OperationType, java.lang.String, long, long, long)
+	 */
+	@Override
+	public void record(OperationType operationType, String collectionName, long ioNanos, long conversionNanos,
+			long documentCount) {
+
+		getOrCreate(operationType, ALL_COLLECTIONS).record(ioNanos, conversionNanos, documentCount);
+
+		if (isTracked(collectionName)) {
+			getOrCreate(operationType, collectionName).record(ioNanos, conversionNanos, documentCount);
+		}
+	}
+
+	/**
+	 * Obtain the statistics of the given operation type and collection.
+	 *
+	 * @param operationType must not be {@literal null}.
+	 * @param collectionName the collection or {@link #ALL_COLLECTIONS} for all collections.
+	 * @return the statistics or {@literal null} if no such operation has been recorded.
+	 */
+	@Nullable
+	public OperationStatistics getStatistics(OperationType operationType, String collectionName) {
+		return statistics.get(new Key(operationType, collectionName));
+	}
+
+	/**
+	 * @return the statistics of all recorded operation types and collections. Never {@literal null}.
+	 */
+	public List<OperationStatistics> getStatistics() {
+		return new ArrayList<>(statistics.values());
+	}
+
+	/**
+	 * Discard all recorded statistics.
+	 */
+	public void reset() {
+
+		synchronized (collections) {
+			collections.clear();
+		}
+
+		statistics.clear();
+	}
+
+	private boolean isTracked(String collectionName) {
+
+		if (collections.contains(collectionName)) {
+			return true;
+		}
+
+		synchronized (collections) {
+
+			if (collections.size() >= maxCollections && !collections.contains(collectionName)) {
+				return false;
+			}
+
+			collections.add(collectionName);
+			return true;
+		}
+	}
+
+	private OperationStatistics getOrCreate(OperationType operationType, String collectionName) {
+		return statistics.computeIfAbsent(new Key(operationType, collectionName),
+				key -> new OperationStatistics(operationType, collectionName));
+	}
+
+	/**
+	 * Statistics of a single operation type on a collection.
+	 */
+	public static class OperationStatistics {
+
+		private final OperationType operationType;
+		private final String collectionName;
+		private final LatencyHistogram ioLatency = new LatencyHistogram();
+		private final LatencyHistogram conversionLatency = new LatencyHistogram();
+		private final LongAdder documentCount = new LongAdder();
+
+		OperationStatistics(OperationType operationType, String collectionName) {
+
+			this.operationType = operationType;
+			this.collectionName = collectionName;
+		}
+
+		void record(long ioNanos, long conversionNanos, long documentCount) {
+
+			ioLatency.record(ioNanos);
+			conversionLatency.record(conversionNanos);
+			this.documentCount.add(documentCount);
+		}
+
+		/**
+		 * @return the operation type.
+		 */
+		public OperationType getOperationType() {
+			return operationType;
+		}
+
+		/**
+		 * @return the collection name or {@link HistogramOperationMetricsRecorder#ALL_COLLECTIONS}.
+		 */
+		public String getCollectionName() {
+			return collectionName;
+		}
+
+		/**
+		 * @return the number of recorded operations.
+		 */
+		public long getOperationCount() {
+			return ioLatency.getCount();
+		}
+
+		/**
+		 * @return the number of documents read or written.
+		 */
+		public long getDocumentCount() {
+			return documentCount.sum();
+		}
+
+		/**
+		 * @return the histogram of I/O time in nanoseconds.
+		 */
+		public LatencyHistogram getIoLatency() {
+			return ioLatency;
+		}
+
+		/**
+		 * @return the histogram of conversion time in nanoseconds.
+		 */
+		public LatencyHistogram getConversionLatency() {
+			return conversionLatency;
+		}
+	}
+
+	private static class Key {
+
+		private final OperationType operationType;
+		private final String collectionName;
+
+		Key(OperationType operationType, String collectionName) {
+
+			this.operationType = operationType;
+			this.collectionName = collectionName;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof Key)) {
+				return false;
+			}
+
+			Key that = (Key) o;
+			return operationType == that.operationType && ObjectUtils.nullSafeEquals(collectionName, that.collectionName);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * operationType.hashCode() + ObjectUtils.nullSafeHashCode(collectionName);
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Lock-free histogram of non-negative values, typically latencies in nanoseconds. Values are counted in buckets
+ * growing exponentially with 16 linear sub-buckets each, similar to an HdrHistogram with a precision of one
+ * significant decimal digit. Recording is a single atomic increment, percentiles are reported as the upper bound of
+ * the bucket holding them with a relative error of less than 6.25%.
+ *
+ * @since 2.2
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Record the given value. Negative values are recorded as zero.
+	 *
+	 * @param value the value to record.
+	 */
+	public void record(long value) {
+
+		long valueToUse = Math.max(0, value);
+
+		counts.incrementAndGet(indexOf(valueToUse));
+		count.increment();
+		total.add(valueToUse);
+		max.accumulate(valueToUse);
+	}
+
+	/**
+	 * @return the number of recorded values.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @return the sum of all recorded values.
+	 */
+	public long getTotal() {
+		return total.sum();
+	}
+
+	/**
+	 * @return the largest recorded value or zero if none has been recorded.
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * @return the mean of all recorded values or zero if none has been recorded.
+	 */
+	public double getMean() {
+
+		long count = getCount();
+		return count == 0 ? 0 : (double) getTotal() / count;
+	}
+
+	/**
+	 * Returns the value below or at which the given percentage of recorded values fall.
+	 *
+	 * @param percentile between {@literal 0} and {@literal 100}.
+	 * @return the value or zero if none has been recorded.
+	 */
+	public long getValueAtPercentile(double percentile) {
+
+		Assert.isTrue(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100!");
+
+		long[] snapshot = new long[BUCKET_COUNT];
+		long recorded = 0;
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+
+			snapshot[i] = counts.get(i);
+			recorded += snapshot[i];
+		}
+
+		if (recorded == 0) {
+			return 0;
+		}
+
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * recorded));
+		long seen = 0;
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+
+			seen += snapshot[i];
+
+			if (seen >= rank) {
+				return Math.min(upperBoundOf(i), getMax());
+			}
+		}
+
+		return getMax();
+	}
+
+	/**
+	 * Returns {@link #getValueAtPercentile(double)} of nanosecond values converted to the given {@link TimeUnit}.
+	 *
+	 * @param percentile between {@literal 0} and {@literal 100}.
+	 * @param unit must not be {@literal null}.
+	 * @return the value in the given unit.
+	 */
+	public double getValueAtPercentile(double percentile, TimeUnit unit) {
+		return (double) getValueAtPercentile(percentile) / unit.toNanos(1);
+	}
+
+	static int indexOf(long value) {
+
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+	}
+
+	static long upperBoundOf(int index) {
+
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+
+		return lowerBound + (1L << shift) - 1;
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import org.bson.Document;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback;
+import org.springframework.data.util.CloseableIterator;
+
+import com.mongodb.client.MongoCursor;
+
+/**
+ * {@link CloseableIterator} performing a k-way merge of {@link MongoCursor cursors} that each return documents in the
+ * order of the same {@link Comparator}. Only the current head document of every cursor is held in memory next to the
+ * batches buffered by the driver. Documents of different cursors comparing equal are returned in the order of the
+ * cursors. Reaching the {@literal limit} closes all cursors right away.
+ *
+ * @since 2.2
+ */
+class MergingCursorAdapter<T> implements CloseableIterator<T> {
+
+	private final List<MongoCursor<Document>> cursors;
+	private final List<DocumentCallback<T>> callbacks;
+	private final PriorityQueue<Head> heads;
+	private final PersistenceExceptionTranslator exceptionTranslator;
+
+	private long skip;
+	private long remaining;
+	private boolean initialized;
+	private boolean closed;
+
+	/**
+	 * @param cursors the sorted cursors to merge.
+	 * @param callbacks the conversion callback for each cursor.
+	 * @param comparator the order of the cursors.
+	 * @param skip number of merged documents to skip.
+	 * @param limit maximum number of merged documents to return. Zero for no limit.
+	 * @param exceptionTranslator the exception translator.
+	 */
+	MergingCursorAdapter(List<MongoCursor<Document>> cursors, List<DocumentCallback<T>> callbacks,
+			Comparator<Document> comparator, long skip, int limit, PersistenceExceptionTranslator exceptionTranslator) {
+
+		this.cursors = cursors;
+		this.callbacks = callbacks;
+		this.heads = new PriorityQueue<>(Math.max(1, cursors.size()),
+				Comparator.<Head, Document> comparing(it -> it.document, comparator).thenComparingInt(it -> it.index));
+		this.exceptionTranslator = exceptionTranslator;
+		this.skip = skip;
+		this.remaining = limit > 0 ? limit : Long.MAX_VALUE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		if (closed) {
+			return false;
+		}
+
+		try {
+
+			if (!initialized) {
+
+				initialized = true;
+
+				for (int i = 0; i < cursors.size(); i++) {
+					advance(i);
+				}
+
+				for (; skip > 0 && !heads.isEmpty(); skip--) {
+					advance(heads.poll().index);
+				}
+			}
+
+			if (remaining > 0 && !heads.isEmpty()) {
+				return true;
+			}
+		} catch (RuntimeException ex) {
+			throw MongoTemplate.potentiallyConvertRuntimeException(ex, exceptionTranslator);
+		}
+
+		close();
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		Head head = heads.poll();
+		remaining--;
+
+		try {
+
+			if (remaining > 0) {
+				advance(head.index);
+			}
+
+			return callbacks.get(head.index).doWith(head.document);
+		} catch (RuntimeException ex) {
+			throw MongoTemplate.potentiallyConvertRuntimeException(ex, exceptionTranslator);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.util.CloseableIterator#close()
+	 */
+	@Override
+	public void close() {
+
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+		heads.clear();
+
+		RuntimeException failure = null;
+
+		for (MongoCursor<Document> cursor : cursors) {
+
+			try {
+				cursor.close();
+			} catch (RuntimeException ex) {
+				failure = failure == null ? ex : failure;
+			}
+		}
+
+		if (failure != null) {
+			throw MongoTemplate.potentiallyConvertRuntimeException(failure, exceptionTranslator);
+		}
+	}
+
+	private void advance(int index) {
+
+		MongoCursor<Document> cursor = cursors.get(index);
+
+		if (cursor.hasNext()) {
+			heads.add(new Head(cursor.next(), index));
+		}
+	}
+
+	/**
+	 * The current document of a cursor.
+	 */
+	private static class Head {
+
+		private final Document document;
+		private final int index;
+
+		Head(Document document, int index) {
+
+			this.document = document;
+			this.index = index;
+		}
+	}
+}
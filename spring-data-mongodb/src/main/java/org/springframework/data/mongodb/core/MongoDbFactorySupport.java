@@ -17,11 +17,11 @@ package org.springframework.data.mongodb.core;
 
 import lombok.Value;
 
-import org.springframework.aop.framework.ProxyFactory;
+import java.util.function.Function;
+
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.mongodb.MongoDbFactory;
-import org.springframework.data.mongodb.SessionAwareMethodInterceptor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -29,7 +29,6 @@ import com.mongodb.ClientSessionOptions;
 import com.mongodb.DB;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.ClientSession;
-import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 
 /**
@@ -53,6 +52,7 @@ public abstract class MongoDbFactorySupport<C> implements MongoDbFactory {
 	private final PersistenceExceptionTranslator exceptionTranslator;
 
 	private @Nullable WriteConcern writeConcern;
+	private volatile @Nullable ClientSessionPool<ClientSession> sessionPool;
 
 	/**
 	 * Create a new {@link MongoDbFactorySupport} object given {@code mongoClient}, {@code databaseName},
@@ -87,6 +87,28 @@ public abstract class MongoDbFactorySupport<C> implements MongoDbFactory {
 		this.writeConcern = writeConcern;
 	}
 
+	/**
+	 * Configures pooling of {@link ClientSession sessions} obtained via {@link #getSession(ClientSessionOptions)}.
+	 * Closing a pooled session returns it to the pool so that it can be leased again instead of starting a new one for
+	 * every unit of work. Idle sessions are ended once they exceed {@link ClientSessionPoolOptions#getMaxIdleTime()} or
+	 * their server session has been closed. Sessions are not pooled by default.
+	 *
+	 * @param sessionPoolOptions the pool options or {@literal null} to disable pooling.
+	 * @since 2.2
+	 */
+	public void setSessionPoolOptions(@Nullable ClientSessionPoolOptions sessionPoolOptions) {
+
+		ClientSessionPool<ClientSession> previous = this.sessionPool;
+
+		this.sessionPool = sessionPoolOptions != null
+				? new ClientSessionPool<>(sessionPoolOptions, ClientSession::hasActiveTransaction, PooledClientSession::new)
+				: null;
+
+		if (previous != null) {
+			previous.close();
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.MongoDbFactory#getDb()
@@ -126,6 +148,13 @@ public abstract class MongoDbFactorySupport<C> implements MongoDbFactory {
 	 * @see org.springframework.beans.factory.DisposableBean#destroy()
 	 */
 	public void destroy() throws Exception {
+
+		ClientSessionPool<ClientSession> sessionPool = this.sessionPool;
+
+		if (sessionPool != null) {
+			sessionPool.close();
+		}
+
 		if (mongoInstanceCreated) {
 			closeClient();
 		}
@@ -147,6 +176,28 @@ public abstract class MongoDbFactorySupport<C> implements MongoDbFactory {
 		return new MongoDbFactorySupport.ClientSessionBoundMongoDbFactory(session, this);
 	}
 
+	/**
+	 * Lease a pooled {@link ClientSession} if {@link #setSessionPoolOptions(ClientSessionPoolOptions) pooling} is
+	 * enabled and a session created with the given {@link ClientSessionOptions} is idle, start a new one otherwise.
+	 *
+	 * @param options the options to create the session with.
+	 * @param sessionFactory starts a new session.
+	 * @return the session. Never {@literal null}.
+	 * @since 2.2
+	 */
+	protected ClientSession doGetSession(ClientSessionOptions options,
+			Function<ClientSessionOptions, ClientSession> sessionFactory) {
+
+		ClientSessionPool<ClientSession> sessionPool = this.sessionPool;
+
+		if (sessionPool == null) {
+			return sessionFactory.apply(options);
+		}
+
+		ClientSession session = sessionPool.acquire(options);
+		return session != null ? session : sessionPool.decorate(sessionFactory.apply(options));
+	}
+
 	/**
 	 * Close the client instance.
 	 */
@@ -167,8 +218,8 @@ public abstract class MongoDbFactorySupport<C> implements MongoDbFactory {
 	}
 
 	/**
-	 * {@link ClientSession} bound {@link MongoDbFactory} decorating the database with a
-	 * {@link SessionAwareMethodInterceptor}.
+	 * {@link ClientSession} bound {@link MongoDbFactory} binding the database to the session through a
+	 * {@link ClientSessionBoundMongoDatabase}.
 	 *
 	 * @author Christoph Strobl
 	 * @since 2.1
@@ -185,7 +236,7 @@ public abstract class MongoDbFactorySupport<C> implements MongoDbFactory {
 		 */
 		@Override
 		public MongoDatabase getDb() throws DataAccessException {
-			return proxyMongoDatabase(delegate.getDb());
+			return decorateDatabase(delegate.getDb());
 		}
 
 		/*
@@ -194,7 +245,7 @@ public abstract class MongoDbFactorySupport<C> implements MongoDbFactory {
 		 */
 		@Override
 		public MongoDatabase getDb(String dbName) throws DataAccessException {
-			return proxyMongoDatabase(delegate.getDb(dbName));
+			return decorateDatabase(delegate.getDb(dbName));
 		}
 
 		/*
@@ -242,30 +293,8 @@ public abstract class MongoDbFactorySupport<C> implements MongoDbFactory {
 			return session != null && session.hasActiveTransaction();
 		}
 
-		private MongoDatabase proxyMongoDatabase(MongoDatabase database) {
-			return createProxyInstance(session, database, MongoDatabase.class);
-		}
-
-		private MongoDatabase proxyDatabase(com.mongodb.session.ClientSession session, MongoDatabase database) {
-			return createProxyInstance(session, database, MongoDatabase.class);
-		}
-
-		private MongoCollection<?> proxyCollection(com.mongodb.session.ClientSession session,
-				MongoCollection<?> collection) {
-			return createProxyInstance(session, collection, MongoCollection.class);
-		}
-
-		private <T> T createProxyInstance(com.mongodb.session.ClientSession session, T target, Class<T> targetType) {
-
-			ProxyFactory factory = new ProxyFactory();
-			factory.setTarget(target);
-			factory.setInterfaces(targetType);
-			factory.setOpaque(true);
-
-			factory.addAdvice(new SessionAwareMethodInterceptor<>(session, target, ClientSession.class, MongoDatabase.class,
-					this::proxyDatabase, MongoCollection.class, this::proxyCollection));
-
-			return targetType.cast(factory.getProxy(target.getClass().getClassLoader()));
+		private MongoDatabase decorateDatabase(MongoDatabase database) {
+			return new ClientSessionBoundMongoDatabase(session, database);
 		}
 	}
 
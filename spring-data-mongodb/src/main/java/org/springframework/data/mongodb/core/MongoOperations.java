@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.bson.Document;
 import org.springframework.data.geo.GeoResults;
@@ -41,6 +42,7 @@ import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.util.CloseableIterator;
+import org.springframework.data.util.StreamUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -251,6 +253,94 @@ public interface MongoOperations extends FluentMongoOperations {
 	 */
 	<T> CloseableIterator<T> stream(Query query, Class<T> entityType, String collectionName);
 
+	/**
+	 * Executes the given sorted {@link Query} against each of the given collections and merges the results into a single
+	 * stream in the order of the {@link Query#getSortObject() sort} of the query. Use this to read ranges of data split
+	 * into multiple collections, for example one per month, without sorting the results in memory.
+	 * <p>
+	 * Each collection is read through its own cursor and only the current document of every cursor is held in memory
+	 * while merging. {@link Query#skip(long) Skip} and {@link Query#limit(int) limit} apply to the merged result. Reaching
+	 * the limit closes all cursors. Documents comparing equal are returned in the order of the given collections.
+	 * <p>
+	 * Merging compares the raw documents the way the server does without a collation. Queries using a
+	 * {@link Query#collation(org.springframework.data.mongodb.core.query.Collation) collation} or a projection
+	 * excluding sort keys cannot be merged.
+	 * <p>
+	 * The default implementation delegates to {@link #stream(Query, Class, String)} for a single collection and throws
+	 * {@link UnsupportedOperationException} for multiple collections.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record, the sort order and also an
+	 *          optional fields specification. Must not be {@literal null} and must be sorted.
+	 * @param entityType must not be {@literal null}.
+	 * @param collectionNames must not be {@literal null} or empty.
+	 * @param <T> element return type
+	 * @return will never be {@literal null}.
+	 * @throws UnsupportedOperationException if the implementation does not support merging multiple collections.
+	 * @since 2.2
+	 */
+	default <T> CloseableIterator<T> streamMerged(Query query, Class<T> entityType, Collection<String> collectionNames) {
+
+		Assert.notEmpty(collectionNames, "Collection names must not be empty!");
+
+		if (collectionNames.size() == 1) {
+			return stream(query, entityType, collectionNames.iterator().next());
+		}
+
+		throw new UnsupportedOperationException(
+				String.format("%s does not support merging results of multiple collections!", getClass().getName()));
+	}
+
+	/**
+	 * Executes the given {@link Query} on the collection of the specified {@code entityType} as a parallel scan. See
+	 * {@link #parallelScan(Query, Class, String, ParallelScanOptions)} for details.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification. Must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @param <T> element return type
+	 * @return a parallel {@link Stream} that needs to be closed. Will never be {@literal null}.
+	 * @since 2.2
+	 */
+	default <T> Stream<T> parallelScan(Query query, Class<T> entityType, ParallelScanOptions options) {
+		return parallelScan(query, entityType, getCollectionName(entityType), options);
+	}
+
+	/**
+	 * Executes the given {@link Query} on the given collection as a parallel scan. The key space of the
+	 * {@link ParallelScanOptions#getSplitKey() split key} is divided into {@link ParallelScanOptions#getPartitions()
+	 * ranges} holding about the same number of matching documents using a {@literal $bucketAuto} aggregation. Each range
+	 * is read through its own cursor bounded by the {@link ParallelScanOptions#getIndexKeys() index}, which therefore has to
+	 * exist.
+	 * <p>
+	 * The returned {@link Stream} is parallel and unordered. Its ranges are read concurrently by the
+	 * {@link java.util.concurrent.ForkJoinPool} running the terminal operation, which bounds the number of concurrently
+	 * open cursors. Run the terminal operation within a dedicated {@link java.util.concurrent.ForkJoinPool} to use a
+	 * separate set of threads. The {@link Stream} holds open cursors and needs to be closed. Scans do not support sort,
+	 * skip and limit and must not be used within a {@link com.mongodb.session.ClientSession session}.
+	 * <p>
+	 * The default implementation reads all matching documents through a single {@link #stream(Query, Class, String)
+	 * cursor} and only processes them in parallel.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification. Must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @param options must not be {@literal null}.
+	 * @param <T> element return type
+	 * @return a parallel {@link Stream} that needs to be closed. Will never be {@literal null}.
+	 * @since 2.2
+	 */
+	default <T> Stream<T> parallelScan(Query query, Class<T> entityType, String collectionName,
+			ParallelScanOptions options) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.isTrue(!query.isSorted() && query.getSkip() <= 0 && query.getLimit() <= 0,
+				"Parallel scans do not support sort, skip and limit!");
+
+		return StreamUtils.createStreamFromIterator(stream(query, entityType, collectionName)).parallel();
+	}
+
 	/**
 	 * Create an uncapped collection with a name based on the provided entity class.
 	 *
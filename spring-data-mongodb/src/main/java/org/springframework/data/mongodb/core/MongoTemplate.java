@@ -17,15 +17,21 @@ package org.springframework.data.mongodb.core;
 
 import static org.springframework.data.mongodb.core.query.SerializationUtils.*;
 
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.bson.BsonValue;
 import org.bson.Document;
@@ -61,6 +67,7 @@ import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.DefaultBulkOperations.BulkOperationContext;
 import org.springframework.data.mongodb.core.EntityOperations.AdaptibleEntity;
 import org.springframework.data.mongodb.core.MappedDocument.MappedUpdate;
+import org.springframework.data.mongodb.core.OperationMetricsRecorder.OperationType;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
@@ -71,8 +78,10 @@ import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.convert.*;
 import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.data.mongodb.core.index.IndexOperationsProvider;
+import org.springframework.data.mongodb.core.index.IndexResolver;
 import org.springframework.data.mongodb.core.index.MongoMappingEventPublisher;
 import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
@@ -84,6 +93,7 @@ import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeDeleteEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEventDispatcher;
 import org.springframework.data.mongodb.core.mapreduce.GroupBy;
 import org.springframework.data.mongodb.core.mapreduce.GroupByResults;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
@@ -160,6 +170,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	private static final Logger LOGGER = LoggerFactory.getLogger(MongoTemplate.class);
 	private static final WriteResultChecking DEFAULT_WRITE_RESULT_CHECKING = WriteResultChecking.NONE;
 	private static final Collection<String> ITERABLE_CLASSES;
+	private static final int DEFAULT_STREAM_BATCH_SIZE = 100;
 
 	static {
 
@@ -174,6 +185,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	private final MongoConverter mongoConverter;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	private final MongoDbFactory mongoDbFactory;
+	private final MongoDbFactory explainDbFactory;
 	private final PersistenceExceptionTranslator exceptionTranslator;
 	private final QueryMapper queryMapper;
 	private final UpdateMapper updateMapper;
@@ -187,8 +199,18 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	private WriteResultChecking writeResultChecking = WriteResultChecking.NONE;
 	private @Nullable ReadPreference readPreference;
 	private @Nullable ApplicationEventPublisher eventPublisher;
+	private @Nullable MongoMappingEventDispatcher eventDispatcher;
+	private @Nullable Executor asyncEventExecutor;
 	private @Nullable ResourceLoader resourceLoader;
 	private @Nullable MongoPersistentEntityIndexCreator indexCreator;
+	private @Nullable Executor aggregationStreamExecutor;
+	private CursorBatchSizing aggregationBatchSizing = CursorBatchSizing.driverDefault();
+	private DefaultCursorMetrics aggregationMetrics = new DefaultCursorMetrics();
+	private @Nullable Executor mergeExecutor;
+	private @Nullable QueryResultCache queryResultCache;
+	private boolean readFromQueryResultCache = true;
+	private @Nullable OperationMetricsRecorder operationMetricsRecorder;
+	private @Nullable SlowQueryRecorder slowQueryRecorder;
 
 	private SessionSynchronization sessionSynchronization = SessionSynchronization.ON_ACTUAL_TRANSACTION;
 
@@ -229,10 +251,45 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 * @param mongoConverter
 	 */
 	public MongoTemplate(MongoDbFactory mongoDbFactory, @Nullable MongoConverter mongoConverter) {
+		this(mongoDbFactory, mongoConverter, null);
+	}
+
+	/**
+	 * Constructor used for a template configuration creating indexes of mapped entities on the given {@link Executor}
+	 * instead of the thread constructing the template or publishing mapping events. Use {@link #getIndexCreation()} to
+	 * await completion, e.g. before reporting readiness.
+	 *
+	 * @param mongoDbFactory must not be {@literal null}.
+	 * @param mongoConverter
+	 * @param indexCreationExecutor the {@link Executor} to create indexes on. {@literal null} to create indexes
+	 *          synchronously.
+	 * @since 2.2
+	 */
+	public MongoTemplate(MongoDbFactory mongoDbFactory, @Nullable MongoConverter mongoConverter,
+			@Nullable Executor indexCreationExecutor) {
+		this(mongoDbFactory, mongoConverter, indexCreationExecutor, null);
+	}
+
+	/**
+	 * Constructor used for a template configuration creating indexes of mapped entities on the given {@link Executor}
+	 * and resolving them using the given {@link IndexResolver}, e.g. a
+	 * {@link org.springframework.data.mongodb.core.index.PrecomputedIndexResolver}.
+	 *
+	 * @param mongoDbFactory must not be {@literal null}.
+	 * @param mongoConverter
+	 * @param indexCreationExecutor the {@link Executor} to create indexes on. {@literal null} to create indexes
+	 *          synchronously.
+	 * @param indexResolver the {@link IndexResolver} to resolve indexes with. {@literal null} to resolve indexes from
+	 *          the mapping metadata at runtime.
+	 * @since 2.2
+	 */
+	public MongoTemplate(MongoDbFactory mongoDbFactory, @Nullable MongoConverter mongoConverter,
+			@Nullable Executor indexCreationExecutor, @Nullable IndexResolver indexResolver) {
 
 		Assert.notNull(mongoDbFactory, "MongoDbFactory must not be null!");
 
 		this.mongoDbFactory = mongoDbFactory;
+		this.explainDbFactory = mongoDbFactory;
 		this.exceptionTranslator = mongoDbFactory.getExceptionTranslator();
 		this.mongoConverter = mongoConverter == null ? getDefaultMongoConverter(mongoDbFactory) : mongoConverter;
 		this.queryMapper = new QueryMapper(this.mongoConverter);
@@ -246,7 +303,10 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		mappingContext = this.mongoConverter.getMappingContext();
 		// We create indexes based on mapping events
 		if (mappingContext instanceof MongoMappingContext) {
-			indexCreator = new MongoPersistentEntityIndexCreator((MongoMappingContext) mappingContext, this);
+			MongoMappingContext mongoMappingContext = (MongoMappingContext) mappingContext;
+			indexCreator = new MongoPersistentEntityIndexCreator(mongoMappingContext, this,
+					indexResolver != null ? indexResolver : new MongoPersistentEntityIndexResolver(mongoMappingContext),
+					indexCreationExecutor);
 			eventPublisher = new MongoMappingEventPublisher(indexCreator);
 			if (mappingContext instanceof ApplicationEventPublisherAware) {
 				((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(eventPublisher);
@@ -257,6 +317,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	private MongoTemplate(MongoDbFactory dbFactory, MongoTemplate that) {
 
 		this.mongoDbFactory = dbFactory;
+		// explain is not allowed within a transaction and must not use the session from a different thread
+		this.explainDbFactory = that.explainDbFactory;
 		this.exceptionTranslator = that.exceptionTranslator;
 		this.sessionSynchronization = that.sessionSynchronization;
 
@@ -275,6 +337,18 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		this.mappingContext = that.mappingContext;
 		this.operations = that.operations;
 		this.propertyOperations = that.propertyOperations;
+		this.aggregationStreamExecutor = that.aggregationStreamExecutor;
+		this.aggregationBatchSizing = that.aggregationBatchSizing;
+		this.aggregationMetrics = that.aggregationMetrics;
+		// a ClientSession must not be used concurrently so the cursors of a merge are opened one after another
+		this.mergeExecutor = null;
+		this.operationMetricsRecorder = that.operationMetricsRecorder;
+		this.slowQueryRecorder = that.slowQueryRecorder;
+
+		// writes within a session still invalidate but reads must not observe or populate the shared cache as they might
+		// see uncommitted state of a transaction.
+		this.queryResultCache = that.queryResultCache;
+		this.readFromQueryResultCache = false;
 	}
 
 	/**
@@ -318,6 +392,108 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		this.readPreference = readPreference;
 	}
 
+	/**
+	 * Configures the {@link Executor} used by {@code aggregateStream} to fetch the next batch of documents while the
+	 * current one is converted and to convert the documents of a batch in parallel. Setting {@literal null} (the
+	 * default) reads and converts documents one at a time on the calling thread. Conversion runs outside of the calling
+	 * thread, so it should not be used along with {@link ClientSession sessions} resolving {@literal DBRef}s.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @since 2.2
+	 */
+	public void setAggregationStreamExecutor(@Nullable Executor executor) {
+		this.aggregationStreamExecutor = executor;
+	}
+
+	/**
+	 * Configures the {@link CursorBatchSizing} used by {@code aggregateStream} with an
+	 * {@link #setAggregationStreamExecutor(Executor) executor} when the aggregation does not define a cursor batch
+	 * size. Streams have no notion of demand and use the {@link CursorBatchSizing#getMaxBatchSize() maximum batch size}.
+	 *
+	 * @param batchSizing can be {@literal null} to use the default batch size.
+	 * @since 2.2
+	 */
+	public void setAggregationBatchSizing(@Nullable CursorBatchSizing batchSizing) {
+		this.aggregationBatchSizing = batchSizing == null ? CursorBatchSizing.driverDefault() : batchSizing;
+	}
+
+	/**
+	 * Returns the {@link CursorMetrics} of aggregation streams read in batches using the
+	 * {@link #setAggregationStreamExecutor(Executor) aggregation stream executor}.
+	 *
+	 * @return never {@literal null}.
+	 * @since 2.2
+	 */
+	public CursorMetrics getAggregationMetrics() {
+		return aggregationMetrics;
+	}
+
+	/**
+	 * Configures the {@link Executor} used by {@link #streamMerged(Query, Class, Collection)} to run the initial query
+	 * against all collections concurrently. Setting {@literal null} (the default) opens the cursors one after another on
+	 * the calling thread. Templates bound to a {@link ClientSession} always open the cursors on the calling thread.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @since 2.2
+	 */
+	public void setMergeExecutor(@Nullable Executor executor) {
+		this.mergeExecutor = executor;
+	}
+
+	/**
+	 * Configures the {@link QueryResultCache} answering {@code find} and {@code findOne} queries on the collections
+	 * cached by it. Writes issued through this template invalidate the affected collection. Setting {@literal null}
+	 * (the default) disables caching.
+	 *
+	 * @param queryResultCache can be {@literal null}.
+	 * @since 2.2
+	 */
+	public void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
+	/**
+	 * Configures the {@link Executor} to publish {@link AfterSaveEvent}s and {@link AfterDeleteEvent}s on. Listeners of
+	 * those events then run neither on the calling thread nor within its transaction. Setting {@literal null} (the
+	 * default) publishes all events synchronously.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @since 2.2
+	 * @see MongoMappingEventDispatcher#setAsyncExecutor(Executor)
+	 */
+	public void setAsyncEventExecutor(@Nullable Executor executor) {
+
+		this.asyncEventExecutor = executor;
+
+		if (eventDispatcher != null) {
+			eventDispatcher.setAsyncExecutor(executor);
+		}
+	}
+
+	/**
+	 * Configures the {@link OperationMetricsRecorder} to report the latency, conversion time and document count of
+	 * find, count, aggregate, write and bulk operations to. Setting {@literal null} (the default) disables timing
+	 * entirely.
+	 *
+	 * @param operationMetricsRecorder can be {@literal null}.
+	 * @since 2.2
+	 * @see HistogramOperationMetricsRecorder
+	 */
+	public void setOperationMetricsRecorder(@Nullable OperationMetricsRecorder operationMetricsRecorder) {
+		this.operationMetricsRecorder = operationMetricsRecorder;
+	}
+
+	/**
+	 * Configures the {@link SlowQueryRecorder} to report the duration and mapped filter of {@code find} and
+	 * {@code findOne} queries to. Setting {@literal null} (the default) disables slow query recording.
+	 *
+	 * @param slowQueryRecorder can be {@literal null}.
+	 * @since 2.2
+	 */
+	public void setSlowQueryRecorder(@Nullable SlowQueryRecorder slowQueryRecorder) {
+		this.slowQueryRecorder = slowQueryRecorder;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.ApplicationContext)
@@ -327,6 +503,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		prepareIndexCreator(applicationContext);
 
 		eventPublisher = applicationContext;
+		eventDispatcher = new MongoMappingEventDispatcher(applicationContext);
+		eventDispatcher.setAsyncExecutor(asyncEventExecutor);
 
 		if (mappingContext instanceof ApplicationEventPublisherAware) {
 			((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(eventPublisher);
@@ -362,6 +540,19 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 	}
 
+	/**
+	 * Returns a {@link CompletableFuture} completing once the indexes of all mapped entities seen so far are created by
+	 * the template. Completes exceptionally if the creation of an index failed. Completes immediately if indexes are
+	 * created synchronously or index creation is not handled by the template.
+	 *
+	 * @return never {@literal null}.
+	 * @since 2.2
+	 * @see #MongoTemplate(MongoDbFactory, MongoConverter, Executor)
+	 */
+	public CompletableFuture<Void> getIndexCreation() {
+		return indexCreator != null ? indexCreator.getIndexCreation() : CompletableFuture.completedFuture(null);
+	}
+
 	/**
 	 * Returns the default {@link org.springframework.data.mongodb.core.convert.MongoConverter}.
 	 *
@@ -411,12 +602,126 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				FindIterable<Document> cursor = new QueryCursorPreparer(query, entityType)
 						.prepare(collection.find(mappedQuery, Document.class).projection(mappedFields));
 
+				Integer batchSize = query.getMeta().getCursorBatchSize();
+
 				return new CloseableIterableCursorAdapter<>(cursor, exceptionTranslator,
-						new ProjectingReadCallback<>(mongoConverter, entityType, returnType, collectionName));
+						new ProjectingReadCallback<>(mongoConverter, entityType, returnType, collectionName),
+						batchSize != null ? batchSize : DEFAULT_STREAM_BATCH_SIZE);
 			}
 		});
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#streamMerged(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.util.Collection)
+	 */
+	@Override
+	public <T> CloseableIterator<T> streamMerged(Query query, Class<T> entityType, Collection<String> collectionNames) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityType, "Entity type must not be null!");
+		Assert.notEmpty(collectionNames, "Collection names must not be empty!");
+		Assert.isTrue(query.isSorted(), "Query must define a sort to merge results!");
+		Assert.isTrue(!query.getCollation().isPresent(), "Results of a query using a collation cannot be merged!");
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityType);
+
+		DocumentSortComparator comparator = new DocumentSortComparator(getMappedSortObject(query, entityType));
+		Document mappedQuery = queryMapper.getMappedObject(query.getQueryObject(), entity);
+		Document fields = getMappedFieldsObject(query.getFieldsObject(), entity, entityType);
+		Document mappedFields = comparator.includeSortKeys(fields);
+
+		// every collection has to provide up to skip + limit documents as the merged result is skipped client side
+		int limit = query.getLimit() > 0 ? (int) Math.min(Integer.MAX_VALUE, query.getSkip() + query.getLimit()) : 0;
+
+		Executor executor = mergeExecutor != null ? mergeExecutor : Runnable::run;
+		List<CompletableFuture<MongoCursor<Document>>> openingCursors = new ArrayList<>(collectionNames.size());
+		List<DocumentCallback<T>> callbacks = new ArrayList<>(collectionNames.size());
+
+		for (String collectionName : collectionNames) {
+
+			Supplier<MongoCursor<Document>> cursor = () -> execute(collectionName,
+					collection -> new QueryCursorPreparer(query, entityType)
+							.prepare(collection.find(mappedQuery, Document.class).projection(mappedFields)) //
+							.skip(0) //
+							.limit(limit) //
+							.iterator());
+
+			DocumentCallback<T> callback = new ReadDocumentCallback<>(mongoConverter, entityType, collectionName);
+
+			openingCursors.add(CompletableFuture.supplyAsync(cursor, executor));
+			callbacks.add(document -> callback.doWith(comparator.removeSortKeys(document, fields)));
+		}
+
+		List<MongoCursor<Document>> cursors = new ArrayList<>(openingCursors.size());
+		RuntimeException failure = null;
+
+		for (CompletableFuture<MongoCursor<Document>> openingCursor : openingCursors) {
+
+			try {
+				cursors.add(openingCursor.join());
+			} catch (CompletionException ex) {
+				failure = failure != null ? failure
+						: ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : ex;
+			}
+		}
+
+		if (failure != null) {
+
+			cursors.forEach(MongoCursor::close);
+			throw potentiallyConvertRuntimeException(failure, exceptionTranslator);
+		}
+
+		return new MergingCursorAdapter<>(cursors, callbacks, comparator, query.getSkip(), query.getLimit(),
+				exceptionTranslator);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#parallelScan(org.springframework.data.mongodb.core.query.Query, java.lang.Class, org.springframework.data.mongodb.core.ParallelScanOptions)
+	 */
+	@Override
+	public <T> Stream<T> parallelScan(Query query, Class<T> entityType, ParallelScanOptions options) {
+		return parallelScan(query, entityType, getCollectionName(entityType), options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#parallelScan(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String, org.springframework.data.mongodb.core.ParallelScanOptions)
+	 */
+	@Override
+	public <T> Stream<T> parallelScan(Query query, Class<T> entityType, String collectionName,
+			ParallelScanOptions options) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityType, "Entity type must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+		Assert.notNull(options, "ParallelScanOptions must not be null!");
+		Assert.isTrue(!query.isSorted() && query.getSkip() <= 0 && query.getLimit() <= 0,
+				"Parallel scans do not support sort, skip and limit!");
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityType);
+
+		Document mappedQuery = queryMapper.getMappedObject(query.getQueryObject(), entity);
+		Document mappedFields = getMappedFieldsObject(query.getFieldsObject(), entity, entityType);
+		Document indexKeys = queryMapper.getMappedSort(options.getIndexKeys(), entity);
+		String splitKey = indexKeys.keySet().iterator().next();
+
+		ScanRange.assertNotMultikey(mappingContext, entity, options.getSplitKey());
+
+		List<Document> pipeline = ScanRange.boundaryPipeline(mappedQuery, splitKey, options.getPartitions());
+		List<ScanRange> ranges = ScanRange.of(indexKeys, execute(collectionName,
+				collection -> collection.aggregate(pipeline, Document.class).allowDiskUse(true).into(new ArrayList<>())));
+
+		RangeScanSpliterator<T> spliterator = new RangeScanSpliterator<>(ranges,
+				range -> execute(collectionName,
+						collection -> range.apply(new QueryCursorPreparer(query, entityType)
+								.prepare(collection.find(mappedQuery, Document.class).projection(mappedFields))).iterator()),
+				new ReadDocumentCallback<>(mongoConverter, entityType, collectionName), exceptionTranslator);
+
+		return StreamSupport.stream(spliterator, true).onClose(spliterator::close);
+	}
+
 	@Override
 	public String getCollectionName(Class<?> entityClass) {
 		return this.operations.determineCollectionName(entityClass);
@@ -684,7 +989,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		Assert.notNull(collectionName, "CollectionName must not be null!");
 
-		execute(collectionName, new CollectionCallback<Void>() {
+		executeWrite(collectionName, new CollectionCallback<Void>() {
 			public Void doInCollection(MongoCollection<Document> collection) throws MongoException, DataAccessException {
 				collection.drop();
 				if (LOGGER.isDebugEnabled()) {
@@ -742,6 +1047,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		operations.setExceptionTranslator(exceptionTranslator);
 		operations.setDefaultWriteConcern(writeConcern);
+		operations.setOperationMetricsRecorder(operationMetricsRecorder);
+		operations.setQueryResultCache(queryResultCache);
 
 		return operations;
 	}
@@ -1173,7 +1480,13 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Document document = queryMapper.getMappedObject(query.getQueryObject(),
 				Optional.ofNullable(entityClass).map(it -> mappingContext.getPersistentEntity(entityClass)));
 
-		return doCount(collectionName, document, options,readPreference);
+		OperationTimer timer = OperationTimer.start(operationMetricsRecorder, OperationType.COUNT, collectionName);
+
+		try {
+			return doCount(collectionName, document, options,readPreference);
+		} finally {
+			timer.stop();
+		}
 	}
 
 
@@ -1189,10 +1502,10 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 
 		if (MongoDatabaseUtils.isTransactionActive(getMongoDbFactory())) {
-			return execute(collectionName, collection -> collection.countDocuments(filter, options,readPreference));
+			return execute(collectionName, collection -> collection.countDocuments(filter, options));
 		}
 
-		return execute(collectionName, collection -> collection.count(filter, options,readPreference));
+		return execute(collectionName, collection -> collection.count(filter, options));
 	}
 
 	/*
@@ -1276,8 +1589,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	protected <T> T doInsert(String collectionName, T objectToSave, MongoWriter<T> writer) {
 
-		BeforeConvertEvent<T> event = new BeforeConvertEvent<>(objectToSave, collectionName);
-		T toConvert = maybeEmitEvent(event).getSource();
+		T toConvert = maybeEmitEvent(new BeforeConvertEvent<>(objectToSave, collectionName)).getSource();
 
 		AdaptibleEntity<T> entity = operations.forEntity(toConvert, mongoConverter.getConversionService());
 		entity.assertUpdateableIdIfNotSet();
@@ -1361,8 +1673,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		List<T> initializedBatchToSave = new ArrayList<>(batchToSave.size());
 		for (T uninitialized : batchToSave) {
 
-			BeforeConvertEvent<T> event = new BeforeConvertEvent<>(uninitialized, collectionName);
-			T toConvert = maybeEmitEvent(event).getSource();
+			T toConvert = maybeEmitEvent(new BeforeConvertEvent<>(uninitialized, collectionName)).getSource();
 
 			AdaptibleEntity<T> entity = operations.forEntity(toConvert, mongoConverter.getConversionService());
 			entity.assertUpdateableIdIfNotSet();
@@ -1429,7 +1740,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		// Bump version number
 		T toSave = source.incrementVersion();
 
-		toSave = maybeEmitEvent(new BeforeConvertEvent<T>(toSave, collectionName)).getSource();
+		toSave = maybeEmitEvent(new BeforeConvertEvent<>(toSave, collectionName)).getSource();
 
 		source.assertUpdateableIdIfNotSet();
 
@@ -1476,7 +1787,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			LOGGER.debug("Inserting Document containing fields: {} in collection: {}", document.keySet(), collectionName);
 		}
 
-		return execute(collectionName, new CollectionCallback<Object>() {
+		return executeWrite(OperationType.INSERT, collectionName, 1, new CollectionCallback<Object>() {
 			public Object doInCollection(MongoCollection<Document> collection) throws MongoException, DataAccessException {
 				MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.INSERT, collectionName,
 						entityClass, document, null);
@@ -1503,7 +1814,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			LOGGER.debug("Inserting list of Documents containing {} items", documents.size());
 		}
 
-		execute(collectionName, collection -> {
+		executeWrite(OperationType.INSERT, collectionName, documents.size(), collection -> {
 
 			MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.INSERT_LIST, collectionName, null,
 					null, null);
@@ -1527,7 +1838,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			LOGGER.debug("Saving Document containing fields: {}", dbDoc.keySet());
 		}
 
-		return execute(collectionName, new CollectionCallback<Object>() {
+		return executeWrite(OperationType.SAVE, collectionName, 1, new CollectionCallback<Object>() {
 			public Object doInCollection(MongoCollection<Document> collection) throws MongoException, DataAccessException {
 				MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.SAVE, collectionName, entityClass,
 						dbDoc, null);
@@ -1624,7 +1935,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					upsert ? "Upsert" : "UpdateFirst", serializeToJsonSafely(query.getSortObject()));
 		}
 
-		return execute(collectionName, new CollectionCallback<UpdateResult>() {
+		return executeWrite(OperationType.UPDATE, collectionName, 0, new CollectionCallback<UpdateResult>() {
 			public UpdateResult doInCollection(MongoCollection<Document> collection)
 					throws MongoException, DataAccessException {
 
@@ -1735,7 +2046,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		final MongoPersistentEntity<?> entity = getPersistentEntity(entityClass);
 		final Document queryObject = queryMapper.getMappedObject(query.getQueryObject(), entity);
 
-		return execute(collectionName, new CollectionCallback<DeleteResult>() {
+		return executeWrite(OperationType.REMOVE, collectionName, 0, new CollectionCallback<DeleteResult>() {
 
 			public DeleteResult doInCollection(MongoCollection<Document> collection)
 					throws MongoException, DataAccessException {
@@ -1916,8 +2227,16 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		List<T> mappedResults = new ArrayList<>();
 		DocumentCallback<T> callback = new ReadDocumentCallback<>(mongoConverter, resultType, inputCollectionName);
 
-		for (Document document : mapReduce) {
-			mappedResults.add(callback.doWith(document));
+		try {
+			for (Document document : mapReduce) {
+				mappedResults.add(callback.doWith(document));
+			}
+		} finally {
+
+			if (mapReduceOptions != null && StringUtils.hasText(mapReduceOptions.getOutputCollection())
+					&& !mapReduceOptions.usesInlineOutput()) {
+				invalidateQueryResults(mapReduceOptions.getOutputCollection());
+			}
 		}
 
 		return mappedResults;
@@ -2151,27 +2470,36 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			LOGGER.debug("Executing aggregation: {} in collection {}", serializeToJsonSafely(pipeline), collectionName);
 		}
 
-		return execute(collectionName, collection -> {
+		OperationTimer timer = OperationTimer.start(operationMetricsRecorder, OperationType.AGGREGATE, collectionName);
+		Function<Document, O> converter = callback::doWith;
 
-			List<Document> rawResult = new ArrayList<>();
+		try {
+			return execute(collectionName, collection -> {
 
-			AggregateIterable<Document> aggregateIterable = collection.aggregate(pipeline, Document.class) //
-					.collation(options.getCollation().map(Collation::toMongoCollation).orElse(null)) //
-					.allowDiskUse(options.isAllowDiskUse());
+				List<Document> rawResult = new ArrayList<>();
 
-			if (options.getCursorBatchSize() != null) {
-				aggregateIterable = aggregateIterable.batchSize(options.getCursorBatchSize());
-			}
+				AggregateIterable<Document> aggregateIterable = collection.aggregate(pipeline, Document.class) //
+						.collation(options.getCollation().map(Collation::toMongoCollation).orElse(null)) //
+						.allowDiskUse(options.isAllowDiskUse());
+
+				if (options.getCursorBatchSize() != null) {
+					aggregateIterable = aggregateIterable.batchSize(options.getCursorBatchSize());
+				}
 
-			MongoIterable<O> iterable = aggregateIterable.map(val -> {
+				MongoIterable<O> iterable = aggregateIterable.map(val -> {
 
-				rawResult.add(val);
-				return callback.doWith(val);
+					rawResult.add(val);
+					return timer.convert(val, converter);
+				});
+
+				return new AggregationResults<>(iterable.into(new ArrayList<>()),
+						new Document("results", rawResult).append("ok", 1.0D));
 			});
+		} finally {
 
-			return new AggregationResults<>(iterable.into(new ArrayList<>()),
-					new Document("results", rawResult).append("ok", 1.0D));
-		});
+			timer.stop();
+			getOutputCollection(pipeline).ifPresent(this::invalidateQueryResults);
+		}
 	}
 
 	protected <O> CloseableIterator<O> aggregateStream(Aggregation aggregation, String collectionName,
@@ -2193,6 +2521,17 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 
 		ReadDocumentCallback<O> readCallback = new ReadDocumentCallback<>(mongoConverter, outputType, collectionName);
+		Executor executor = this.aggregationStreamExecutor;
+
+		try {
+			return doAggregateStream(collectionName, pipeline, options, readCallback, executor);
+		} finally {
+			getOutputCollection(pipeline).ifPresent(this::invalidateQueryResults);
+		}
+	}
+
+	private <O> CloseableIterator<O> doAggregateStream(String collectionName, List<Document> pipeline,
+			AggregationOptions options, ReadDocumentCallback<O> readCallback, @Nullable Executor executor) {
 
 		return execute(collectionName, (CollectionCallback<CloseableIterator<O>>) collection -> {
 
@@ -2208,10 +2547,51 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				cursor = cursor.collation(options.getCollation().map(Collation::toMongoCollation).get());
 			}
 
-			return new CloseableIterableCursorAdapter<>(cursor, exceptionTranslator, readCallback);
+			if (executor == null) {
+				return new CloseableIterableCursorAdapter<>(cursor, exceptionTranslator, readCallback,
+						getStreamBatchSize(options));
+			}
+
+			int batchSize = getStreamBatchSize(options);
+
+			return new BatchConvertingCursorAdapter<>(cursor.batchSize(batchSize).iterator(), batchSize,
+					Runtime.getRuntime().availableProcessors(), executor, readCallback, exceptionTranslator,
+					aggregationMetrics);
 		});
 	}
 
+	/**
+	 * Returns the name of the collection an aggregation pipeline writes its results to through a trailing {@code $out}
+	 * stage.
+	 *
+	 * @param pipeline the mapped aggregation pipeline.
+	 * @return {@link Optional#empty()} if the pipeline does not write to a collection.
+	 */
+	private static Optional<String> getOutputCollection(List<Document> pipeline) {
+
+		if (pipeline.isEmpty()) {
+			return Optional.empty();
+		}
+
+		Object out = pipeline.get(pipeline.size() - 1).get("$out");
+
+		if (out instanceof Document) {
+			out = ((Document) out).get("coll");
+		}
+
+		return out instanceof String ? Optional.of((String) out) : Optional.empty();
+	}
+
+	private int getStreamBatchSize(AggregationOptions options) {
+
+		if (options.getCursorBatchSize() != null && options.getCursorBatchSize() > 0) {
+			return options.getCursorBatchSize();
+		}
+
+		return aggregationBatchSizing.isDemandAware() ? aggregationBatchSizing.getMaxBatchSize()
+				: DEFAULT_STREAM_BATCH_SIZE;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.ExecutableFindOperation#query(java.lang.Class)
@@ -2325,8 +2705,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	protected <E extends MongoMappingEvent<T>, T> E maybeEmitEvent(E event) {
 
-		if (null != eventPublisher) {
-			eventPublisher.publishEvent(event);
+		if (null != eventDispatcher && eventDispatcher.hasListeners(event)) {
+			eventDispatcher.publishEvent(event);
 		}
 
 		return event;
@@ -2414,8 +2794,9 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					mappedFields, entityClass, collectionName);
 		}
 
-		return executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields),
-				new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName), collectionName,readPreference);
+		return recordIfSlow(collectionName, mappedQuery,
+				() -> executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields),
+						new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName), collectionName,readPreference));
 	}
 
 	/**
@@ -2477,8 +2858,9 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					serializeToJsonSafely(mappedQuery), mappedFields, entityClass, collectionName);
 		}
 
-		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer, objectCallback,
-				collectionName,readPreference);
+		return recordIfSlow(collectionName, mappedQuery,
+				() -> executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer, objectCallback,
+						collectionName,readPreference));
 	}
 
 	/**
@@ -2512,8 +2894,39 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					serializeToJsonSafely(mappedQuery), mappedFields, sourceClass, collectionName);
 		}
 
-		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer,
-				new ProjectingReadCallback<>(mongoConverter, sourceClass, targetClass, collectionName), collectionName,readPreference);
+		return recordIfSlow(collectionName, mappedQuery,
+				() -> executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer,
+						new ProjectingReadCallback<>(mongoConverter, sourceClass, targetClass, collectionName), collectionName,readPreference));
+	}
+
+	/**
+	 * Run the given query and report its duration to the {@link SlowQueryRecorder} if one is configured.
+	 *
+	 * @param collectionName the collection queried.
+	 * @param mappedQuery the mapped filter.
+	 * @param query runs the query.
+	 * @return the query result.
+	 */
+	private <T> T recordIfSlow(String collectionName, Document mappedQuery, Supplier<T> query) {
+
+		SlowQueryRecorder recorder = this.slowQueryRecorder;
+
+		if (recorder == null) {
+			return query.get();
+		}
+
+		long start = System.nanoTime();
+
+		try {
+			return query.get();
+		} finally {
+			recorder.record(collectionName, mappedQuery, System.nanoTime() - start, () -> {
+
+				Document command = new Document("explain", new Document("find", collectionName).append("filter", mappedQuery))
+						.append("verbosity", "queryPlanner");
+				return explainDbFactory.getDb().runCommand(command, Document.class);
+			});
+		}
 	}
 
 	/**
@@ -2603,9 +3016,13 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
-		return executeFindOneInternal(
-				new FindAndRemoveCallback(queryMapper.getMappedObject(query, entity), fields, sort, collation),
-				new ReadDocumentCallback<>(readerToUse, entityClass, collectionName), collectionName);
+		try {
+			return executeFindOneInternal(
+					new FindAndRemoveCallback(queryMapper.getMappedObject(query, entity), fields, sort, collation),
+					new ReadDocumentCallback<>(readerToUse, entityClass, collectionName), collectionName);
+		} finally {
+			invalidateQueryResults(collectionName);
+		}
 	}
 
 	protected <T> T doFindAndModify(String collectionName, Document query, Document fields, Document sort,
@@ -2631,8 +3048,12 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					collectionName);
 		}
 
-		return executeFindOneInternal(new FindAndModifyCallback(mappedQuery, fields, sort, mappedUpdate, options),
-				new ReadDocumentCallback<>(readerToUse, entityClass, collectionName), collectionName);
+		try {
+			return executeFindOneInternal(new FindAndModifyCallback(mappedQuery, fields, sort, mappedUpdate, options),
+					new ReadDocumentCallback<>(readerToUse, entityClass, collectionName), collectionName);
+		} finally {
+			invalidateQueryResults(collectionName);
+		}
 	}
 
 	/**
@@ -2664,9 +3085,13 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		maybeEmitEvent(new BeforeSaveEvent<>(replacement, replacement, collectionName));
 
-		return executeFindOneInternal(
-				new FindAndReplaceCallback(mappedQuery, mappedFields, mappedSort, replacement, collation, options),
-				new ProjectingReadCallback<>(mongoConverter, entityType, resultType, collectionName), collectionName);
+		try {
+			return executeFindOneInternal(
+					new FindAndReplaceCallback(mappedQuery, mappedFields, mappedSort, replacement, collation, options),
+					new ProjectingReadCallback<>(mongoConverter, entityType, resultType, collectionName), collectionName);
+		} finally {
+			invalidateQueryResults(collectionName);
+		}
 	}
 
 	/**
@@ -2718,8 +3143,40 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 										 DocumentCallback<T> objectCallback, String collectionName,ReadPreference readPreference) {
 
 		try {
-			T result = objectCallback.doWith(collectionCallback.doInCollection(getAndPrepareCollection(doGetDatabase(), collectionName),readPreference));
-			return result;
+
+			if (collectionCallback instanceof FindOneCallback && isQueryResultCached(collectionName)) {
+
+				FindOneCallback findOneCallback = (FindOneCallback) collectionCallback;
+				QueryResultCache.Key key = QueryResultCache.key(collectionName, "findOne", findOneCallback.query,
+						findOneCallback.fields.orElseGet(Document::new), null, null, readPreference);
+
+				OperationTimer timer = OperationTimer.start(operationMetricsRecorder, OperationType.FIND_ONE, collectionName);
+
+				try {
+
+					List<Document> documents = queryResultCache.getOrLoad(key, () -> {
+
+						Document document = collectionCallback
+								.doInCollection(getAndPrepareCollection(doGetDatabase(), collectionName), readPreference);
+						return document != null ? Collections.singletonList(document) : Collections.emptyList();
+					});
+
+					return timer.convert(documents.isEmpty() ? null : documents.get(0), objectCallback::doWith);
+				} finally {
+					timer.stop();
+				}
+			}
+
+			OperationTimer timer = OperationTimer.start(operationMetricsRecorder, OperationType.FIND_ONE, collectionName);
+
+			try {
+
+				Document document = collectionCallback
+						.doInCollection(getAndPrepareCollection(doGetDatabase(), collectionName), readPreference);
+				return timer.convert(document, objectCallback::doWith);
+			} finally {
+				timer.stop();
+			}
 		} catch (RuntimeException e) {
 			throw potentiallyConvertRuntimeException(e, exceptionTranslator);
 		}
@@ -2748,38 +3205,126 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		try {
 
-			MongoCursor<Document> cursor = null;
+			if (collectionCallback instanceof FindCallback
+					&& (preparer == null || preparer.getClass() == QueryCursorPreparer.class)
+					&& isQueryResultCached(collectionName)) {
 
-			try {
+				FindCallback findCallback = (FindCallback) collectionCallback;
+				QueryCursorPreparer queryPreparer = (QueryCursorPreparer) preparer;
+				QueryResultCache.Key key = QueryResultCache.key(collectionName, "find", findCallback.query,
+						findCallback.fields, queryPreparer != null ? queryPreparer.query : null,
+						queryPreparer != null ? queryPreparer.type : null, readPreference);
 
-				FindIterable<Document> iterable = collectionCallback
-						.doInCollection(getAndPrepareCollection(doGetDatabase(), collectionName));
+				OperationTimer timer = OperationTimer.start(operationMetricsRecorder, OperationType.FIND, collectionName);
 
-				if (preparer != null) {
-					iterable = preparer.prepare(iterable);
-				}
-
-				cursor = iterable.iterator(readPreference);
+				try {
 
-				List<T> result = new ArrayList<>();
-
-				while (cursor.hasNext()) {
-					Document object = cursor.next();
-					result.add(objectCallback.doWith(object));
-				}
+					List<Document> documents = queryResultCache.getOrLoad(key, () -> readAll(collectionCallback, preparer,
+							document -> document, collectionName, readPreference, OperationTimer.disabled()));
+					List<T> result = new ArrayList<>(documents.size());
 
-				return result;
-			} finally {
+					for (Document document : documents) {
+						result.add(timer.convert(document, objectCallback::doWith));
+					}
 
-				if (cursor != null) {
-					cursor.close();
+					return result;
+				} finally {
+					timer.stop();
 				}
 			}
+
+			return readAll(collectionCallback, preparer, objectCallback, collectionName, readPreference);
 		} catch (RuntimeException e) {
 			throw potentiallyConvertRuntimeException(e, exceptionTranslator);
 		}
 	}
 
+	private <T> List<T> readAll(CollectionCallback<FindIterable<Document>> collectionCallback,
+			@Nullable CursorPreparer preparer, DocumentCallback<T> objectCallback, String collectionName,
+			@Nullable ReadPreference readPreference) {
+
+		return readAll(collectionCallback, preparer, objectCallback, collectionName, readPreference,
+				OperationTimer.start(operationMetricsRecorder, OperationType.FIND, collectionName));
+	}
+
+	private <T> List<T> readAll(CollectionCallback<FindIterable<Document>> collectionCallback,
+			@Nullable CursorPreparer preparer, DocumentCallback<T> objectCallback, String collectionName,
+			@Nullable ReadPreference readPreference, OperationTimer timer) {
+
+		MongoCursor<Document> cursor = null;
+
+		try {
+
+			FindIterable<Document> iterable = collectionCallback
+					.doInCollection(getAndPrepareCollection(doGetDatabase(), collectionName));
+
+			if (preparer != null) {
+				iterable = preparer.prepare(iterable);
+			}
+
+			cursor = iterable.iterator();
+
+			List<T> result = new ArrayList<>();
+
+			Function<Document, T> converter = objectCallback::doWith;
+
+			while (cursor.hasNext()) {
+				Document object = cursor.next();
+				result.add(timer.convert(object, converter));
+			}
+
+			return result;
+		} finally {
+
+			if (cursor != null) {
+				cursor.close();
+			}
+
+			timer.stop();
+		}
+	}
+
+	private boolean isQueryResultCached(String collectionName) {
+		return queryResultCache != null && readFromQueryResultCache && queryResultCache.isCached(collectionName);
+	}
+
+	/**
+	 * Invalidate cached query results of the given collection after a write. Also invoked if the write failed as it
+	 * might have been applied partially.
+	 *
+	 * @param collectionName the collection written to.
+	 */
+	private void invalidateQueryResults(String collectionName) {
+
+		if (queryResultCache != null) {
+			queryResultCache.invalidate(collectionName);
+		}
+	}
+
+	@Nullable
+	private <T> T executeWrite(String collectionName, CollectionCallback<T> callback) {
+
+		try {
+			return execute(collectionName, callback);
+		} finally {
+			invalidateQueryResults(collectionName);
+		}
+	}
+
+	private <T> T executeWrite(OperationType operationType, String collectionName, long documentCount,
+			CollectionCallback<T> callback) {
+
+		OperationTimer timer = OperationTimer.start(operationMetricsRecorder, operationType, collectionName);
+
+		try {
+			return executeWrite(collectionName, callback);
+		} finally {
+
+			timer.documents(documentCount);
+			timer.stop();
+		}
+	}
+
 	private void executeQueryInternal(CollectionCallback<FindIterable<Document>> collectionCallback,
 			@Nullable CursorPreparer preparer, DocumentCallbackHandler callbackHandler, String collectionName) {
 
@@ -2914,7 +3459,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				iterable = iterable.projection(fields.get());
 			}
 
-			return iterable.first(readPreference);
+			return iterable.first();
 		}
 	}
 
@@ -3337,17 +3882,32 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	}
 
 	/**
-	 * A {@link CloseableIterator} that is backed by a MongoDB {@link Cursor}.
+	 * A {@link CloseableIterator} that is backed by a MongoDB {@link Cursor}. Its {@link #spliterator() Spliterator}
+	 * splits off whole batches of raw documents so that parallel streams convert documents concurrently.
 	 *
 	 * @author Thomas Darimont
 	 * @since 1.7
 	 */
-	@AllArgsConstructor(access = AccessLevel.PACKAGE)
 	static class CloseableIterableCursorAdapter<T> implements CloseableIterator<T> {
 
 		private volatile @Nullable MongoCursor<Document> cursor;
 		private PersistenceExceptionTranslator exceptionTranslator;
 		private DocumentCallback<T> objectReadCallback;
+		private final int batchSize;
+
+		CloseableIterableCursorAdapter(MongoCursor<Document> cursor, PersistenceExceptionTranslator exceptionTranslator,
+				DocumentCallback<T> objectReadCallback) {
+			this(cursor, exceptionTranslator, objectReadCallback, DEFAULT_STREAM_BATCH_SIZE);
+		}
+
+		CloseableIterableCursorAdapter(MongoCursor<Document> cursor, PersistenceExceptionTranslator exceptionTranslator,
+				DocumentCallback<T> objectReadCallback, int batchSize) {
+
+			this.cursor = cursor;
+			this.exceptionTranslator = exceptionTranslator;
+			this.objectReadCallback = objectReadCallback;
+			this.batchSize = batchSize > 0 ? batchSize : DEFAULT_STREAM_BATCH_SIZE;
+		}
 
 		/**
 		 * Creates a new {@link CloseableIterableCursorAdapter} backed by the given {@link Cursor}.
@@ -3358,10 +3918,46 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		 */
 		public CloseableIterableCursorAdapter(MongoIterable<Document> cursor,
 				PersistenceExceptionTranslator exceptionTranslator, DocumentCallback<T> objectReadCallback) {
+			this(cursor.iterator(), exceptionTranslator, objectReadCallback);
+		}
 
-			this.cursor = cursor.iterator();
-			this.exceptionTranslator = exceptionTranslator;
-			this.objectReadCallback = objectReadCallback;
+		/**
+		 * Creates a new {@link CloseableIterableCursorAdapter} backed by the given {@link Cursor} splitting off
+		 * {@code batchSize} documents at a time.
+		 *
+		 * @param cursor
+		 * @param exceptionTranslator
+		 * @param objectReadCallback
+		 * @param batchSize the number of documents handed out by {@link Spliterator#trySplit()}. Values less than one use
+		 *          the default.
+		 * @since 2.2
+		 */
+		CloseableIterableCursorAdapter(MongoIterable<Document> cursor, PersistenceExceptionTranslator exceptionTranslator,
+				DocumentCallback<T> objectReadCallback, int batchSize) {
+			this(cursor.iterator(), exceptionTranslator, objectReadCallback, batchSize);
+		}
+
+		/**
+		 * Returns a {@link Spliterator} reading the remaining documents. {@link Spliterator#trySplit() Splitting} reads
+		 * the next batch of raw documents from the cursor and hands it out for conversion, so that only reading the cursor
+		 * remains sequential.
+		 *
+		 * @return never {@literal null}.
+		 * @since 2.2
+		 */
+		Spliterator<T> spliterator() {
+			return new CursorSpliterator();
+		}
+
+		/**
+		 * Returns a {@link Stream} of the remaining documents backed by the {@link #spliterator()}. Closing the
+		 * {@link Stream} closes the cursor.
+		 *
+		 * @return never {@literal null}.
+		 * @since 2.2
+		 */
+		Stream<T> stream() {
+			return StreamSupport.stream(spliterator(), false).onClose(this::close);
 		}
 
 		@Override
@@ -3397,6 +3993,161 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			}
 		}
 
+		private List<Document> nextBatch() {
+
+			MongoCursor<Document> cursor = this.cursor;
+
+			if (cursor == null) {
+				return Collections.emptyList();
+			}
+
+			try {
+
+				List<Document> batch = new ArrayList<>(batchSize);
+
+				while (batch.size() < batchSize && cursor.hasNext()) {
+					batch.add(cursor.next());
+				}
+
+				return batch;
+			} catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+			}
+		}
+
+		/**
+		 * {@link Spliterator} reading documents one by one and splitting off batches of raw documents.
+		 */
+		private class CursorSpliterator implements Spliterator<T> {
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+			 */
+			@Override
+			public boolean tryAdvance(Consumer<? super T> action) {
+
+				if (!hasNext()) {
+					return false;
+				}
+
+				action.accept(next());
+				return true;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Spliterator#trySplit()
+			 */
+			@Override
+			@Nullable
+			public Spliterator<T> trySplit() {
+
+				List<Document> batch = nextBatch();
+				return batch.isEmpty() ? null : new BatchSpliterator(batch, 0, batch.size());
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Spliterator#estimateSize()
+			 */
+			@Override
+			public long estimateSize() {
+				return Long.MAX_VALUE;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Spliterator#characteristics()
+			 */
+			@Override
+			public int characteristics() {
+				return ORDERED;
+			}
+		}
+
+		/**
+		 * {@link Spliterator} converting a batch of raw documents already read from the cursor.
+		 */
+		private class BatchSpliterator implements Spliterator<T> {
+
+			private final List<Document> batch;
+			private final DocumentCallback<T> callback;
+			private final PersistenceExceptionTranslator exceptionTranslator;
+			private int index;
+			private final int end;
+
+			BatchSpliterator(List<Document> batch, int index, int end) {
+
+				this.batch = batch;
+				this.callback = objectReadCallback;
+				this.exceptionTranslator = CloseableIterableCursorAdapter.this.exceptionTranslator;
+				this.index = index;
+				this.end = end;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+			 */
+			@Override
+			public boolean tryAdvance(Consumer<? super T> action) {
+
+				if (index >= end) {
+					return false;
+				}
+
+				T converted;
+
+				try {
+					converted = callback.doWith(batch.get(index++));
+				} catch (RuntimeException ex) {
+					throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+				}
+
+				action.accept(converted);
+				return true;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Spliterator#trySplit()
+			 */
+			@Override
+			@Nullable
+			public Spliterator<T> trySplit() {
+
+				int middle = (index + end) >>> 1;
+
+				if (middle <= index) {
+					return null;
+				}
+
+				BatchSpliterator prefix = new BatchSpliterator(batch, index, middle);
+				index = middle;
+
+				return prefix;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Spliterator#estimateSize()
+			 */
+			@Override
+			public long estimateSize() {
+				return end - index;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Spliterator#characteristics()
+			 */
+			@Override
+			public int characteristics() {
+				return ORDERED | SIZED | SUBSIZED;
+			}
+		}
+
 		@Override
 		public void close() {
 
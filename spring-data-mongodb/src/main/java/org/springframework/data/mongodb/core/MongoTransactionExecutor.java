@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+
+import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoException;
+import com.mongodb.TransactionOptions;
+
+/**
+ * Executes {@link TransactionCallback callbacks} within a MongoDB transaction and retries them according to a
+ * {@link TransactionRetryPolicy}. The whole callback is run again if the transaction fails with a
+ * {@link MongoException#TRANSIENT_TRANSACTION_ERROR_LABEL TransientTransactionError}, only the commit is repeated if it
+ * fails with an {@link MongoException#UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL UnknownTransactionCommitResult}. <br />
+ * Callbacks use the {@link MongoDbFactory} (e.g. through a {@link MongoTemplate}) the executor was created with and
+ * therefore must be safe to run more than once. If a transaction is already active on the current thread the callback
+ * participates in it and is not retried, as retrying is up to the outermost transaction.
+ *
+ * <pre class="code">
+ * MongoTransactionExecutor executor = new MongoTransactionExecutor(dbFactory);
+ *
+ * executor.execute(status -&gt; {
+ * 	template.insert(order);
+ * 	return template.updateFirst(query(where("id").is(order.getItemId())), new Update().inc("stock", -1), Item.class);
+ * });
+ * </pre>
+ *
+ * @since 2.2
+ */
+public class MongoTransactionExecutor {
+
+	private final TransactionRetryPolicy policy;
+	private final DefaultTransactionRetryMetrics metrics = new DefaultTransactionRetryMetrics();
+	private final ThreadLocal<Long> deadline = new ThreadLocal<>();
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * Create a new {@link MongoTransactionExecutor} using the {@link TransactionRetryPolicy#defaults() default policy}.
+	 *
+	 * @param dbFactory must not be {@literal null}.
+	 */
+	public MongoTransactionExecutor(MongoDbFactory dbFactory) {
+		this(dbFactory, null, TransactionRetryPolicy.defaults());
+	}
+
+	/**
+	 * Create a new {@link MongoTransactionExecutor}.
+	 *
+	 * @param dbFactory must not be {@literal null}.
+	 * @param options can be {@literal null}.
+	 * @param policy must not be {@literal null}.
+	 */
+	public MongoTransactionExecutor(MongoDbFactory dbFactory, @Nullable TransactionOptions options,
+			TransactionRetryPolicy policy) {
+
+		Assert.notNull(dbFactory, "DbFactory must not be null!");
+		Assert.notNull(policy, "TransactionRetryPolicy must not be null!");
+
+		this.policy = policy;
+		this.transactionTemplate = new TransactionTemplate(new CommitRetryingTransactionManager(dbFactory, options));
+	}
+
+	/**
+	 * Execute the given {@link TransactionCallback} within a transaction, retrying it as defined by the
+	 * {@link TransactionRetryPolicy}.
+	 *
+	 * @param action must not be {@literal null}.
+	 * @return the result of the callback. Can be {@literal null}.
+	 * @throws RuntimeException the error of the last attempt.
+	 */
+	@Nullable
+	public <T> T execute(TransactionCallback<T> action) {
+
+		Assert.notNull(action, "TransactionCallback must not be null!");
+
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return transactionTemplate.execute(action);
+		}
+
+		metrics.onTransaction();
+		deadline.set(policy.getDeadline());
+
+		try {
+
+			for (int retry = 0;; retry++) {
+
+				try {
+					return transactionTemplate.execute(action);
+				} catch (RuntimeException ex) {
+
+					if (!TransactionRetryPolicy.isTransientTransactionError(ex)) {
+						throw ex;
+					}
+
+					backOff(retry, ex);
+					metrics.onTransactionRetry();
+				}
+			}
+		} finally {
+			deadline.remove();
+		}
+	}
+
+	/**
+	 * @return the {@link TransactionRetryMetrics} of this executor. Never {@literal null}.
+	 */
+	public TransactionRetryMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Wait for the backoff before the given retry or rethrow the given exception if the retry would start after the
+	 * deadline of the current transaction.
+	 */
+	private <E extends Exception> void backOff(int retry, E ex) throws E {
+
+		Duration backoff = policy.getBackoff(retry);
+		Long deadline = this.deadline.get();
+
+		if (deadline == null || !TransactionRetryPolicy.canRetry(deadline, backoff)) {
+
+			metrics.onRetriesExhausted();
+			throw ex;
+		}
+
+		try {
+			Thread.sleep(backoff.toMillis(), backoff.getNano() % 1_000_000);
+		} catch (InterruptedException o_O) {
+
+			Thread.currentThread().interrupt();
+			throw ex;
+		}
+	}
+
+	/**
+	 * {@link MongoTransactionManager} retrying commits with an unknown result.
+	 */
+	private class CommitRetryingTransactionManager extends MongoTransactionManager {
+
+		CommitRetryingTransactionManager(MongoDbFactory dbFactory, @Nullable TransactionOptions options) {
+			super(dbFactory, options);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.MongoTransactionManager#doCommit(org.springframework.data.mongodb.MongoTransactionManager.MongoTransactionObject)
+		 */
+		@Override
+		protected void doCommit(MongoTransactionObject transactionObject) throws Exception {
+
+			for (int retry = 0;; retry++) {
+
+				try {
+
+					transactionObject.commitTransaction();
+					return;
+				} catch (MongoException ex) {
+
+					if (!TransactionRetryPolicy.isUnknownTransactionCommitResult(ex)) {
+						throw ex;
+					}
+
+					backOff(retry, ex);
+					metrics.onCommitRetry();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+/**
+ * SPI to record client side metrics of operations run through {@link MongoTemplate} or {@link ReactiveMongoTemplate}.
+ * Implementations adapt to a metrics registry of choice. {@link HistogramOperationMetricsRecorder} keeps latency
+ * histograms in memory that can be exposed via JMX through
+ * {@link org.springframework.data.mongodb.monitor.OperationLatencyMetrics}. <br />
+ * Recording happens on the thread completing the operation and must therefore not block. Without a recorder set on
+ * the template no timing takes place at all.
+ *
+ * @since 2.2
+ * @see MongoTemplate#setOperationMetricsRecorder(OperationMetricsRecorder)
+ * @see ReactiveMongoTemplate#setOperationMetricsRecorder(OperationMetricsRecorder)
+ */
+@FunctionalInterface
+public interface OperationMetricsRecorder {
+
+	/**
+	 * Record a completed, potentially failed, operation.
+	 *
+	 * @param operationType the type of the operation. Never {@literal null}.
+	 * @param collectionName the collection operated on. Never {@literal null}.
+	 * @param ioNanos the time spent on the operation apart from converting documents, which is mostly waiting for the
+	 *          server, in nanoseconds.
+	 * @param conversionNanos the time spent on mapping documents read or written in nanoseconds.
+	 * @param documentCount the number of documents read or written.
+	 */
+	void record(OperationType operationType, String collectionName, long ioNanos, long conversionNanos,
+			long documentCount);
+
+	/**
+	 * Types of operations recorded.
+	 */
+	enum OperationType {
+
+		FIND, FIND_ONE, COUNT, AGGREGATE, INSERT, SAVE, UPDATE, REMOVE, BULK;
+	}
+}
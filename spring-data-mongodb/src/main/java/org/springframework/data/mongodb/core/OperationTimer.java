@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.function.Function;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.OperationMetricsRecorder.OperationType;
+import org.springframework.lang.Nullable;
+
+/**
+ * Measures a single operation and reports it to an {@link OperationMetricsRecorder} once {@link #stop() stopped}. The
+ * {@link #disabled() disabled} instance does not read the clock at all. Not thread-safe, the steps of an operation
+ * have to happen one after another.
+ *
+ * @since 2.2
+ */
+class OperationTimer {
+
+	private static final OperationTimer DISABLED = new OperationTimer(null, OperationType.FIND, "", 0);
+
+	private final @Nullable OperationMetricsRecorder recorder;
+	private final OperationType operationType;
+	private final String collectionName;
+	private final long started;
+
+	private long conversionNanos;
+	private long documentCount;
+	private boolean stopped;
+
+	private OperationTimer(@Nullable OperationMetricsRecorder recorder, OperationType operationType,
+			String collectionName, long started) {
+
+		this.recorder = recorder;
+		this.operationType = operationType;
+		this.collectionName = collectionName;
+		this.started = started;
+	}
+
+	/**
+	 * Start timing an operation if a {@link OperationMetricsRecorder} is present.
+	 *
+	 * @param recorder can be {@literal null}.
+	 * @param operationType must not be {@literal null}.
+	 * @param collectionName must not be {@literal null}.
+	 * @return the running timer or the {@link #disabled() disabled} one.
+	 */
+	static OperationTimer start(@Nullable OperationMetricsRecorder recorder, OperationType operationType,
+			String collectionName) {
+		return recorder == null ? DISABLED : new OperationTimer(recorder, operationType, collectionName, System.nanoTime());
+	}
+
+	/**
+	 * @return the timer not measuring anything.
+	 */
+	static OperationTimer disabled() {
+		return DISABLED;
+	}
+
+	/**
+	 * Convert the given {@link Document} and account the time spent as conversion time.
+	 *
+	 * @param document can be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @return the converted object.
+	 */
+	@Nullable
+	<T> T convert(@Nullable Document document, Function<Document, T> converter) {
+
+		if (recorder == null) {
+			return converter.apply(document);
+		}
+
+		long conversionStarted = System.nanoTime();
+
+		try {
+			return converter.apply(document);
+		} finally {
+
+			conversionNanos += System.nanoTime() - conversionStarted;
+
+			if (document != null) {
+				documentCount++;
+			}
+		}
+	}
+
+	/**
+	 * Account the time since {@code conversionStarted} as conversion time.
+	 *
+	 * @param conversionStarted the {@link System#nanoTime()} the conversion started at as returned by
+	 *          {@link #startConversion()}.
+	 */
+	void stopConversion(long conversionStarted) {
+
+		if (recorder != null) {
+			conversionNanos += System.nanoTime() - conversionStarted;
+		}
+	}
+
+	/**
+	 * @return the current {@link System#nanoTime()} or zero if disabled.
+	 */
+	long startConversion() {
+		return recorder != null ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Account the given number of documents read or written.
+	 *
+	 * @param count the number of documents.
+	 */
+	void documents(long count) {
+		documentCount += count;
+	}
+
+	/**
+	 * Stop the timer and report the operation. Subsequent calls are ignored.
+	 */
+	void stop() {
+
+		if (recorder == null || stopped) {
+			return;
+		}
+
+		stopped = true;
+
+		long elapsed = System.nanoTime() - started;
+		recorder.record(operationType, collectionName, Math.max(0, elapsed - conversionNanos), conversionNanos,
+				documentCount);
+	}
+}
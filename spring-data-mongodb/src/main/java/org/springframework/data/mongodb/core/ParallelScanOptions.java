@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+import org.bson.Document;
+import org.springframework.util.Assert;
+
+/**
+ * Options for parallel scans splitting the key space of an indexed property into ranges read through one cursor each.
+ *
+ * @since 2.2
+ * @see MongoOperations#parallelScan(org.springframework.data.mongodb.core.query.Query, Class, ParallelScanOptions)
+ * @see ReactiveMongoOperations#parallelScan(org.springframework.data.mongodb.core.query.Query, Class,
+ *      ParallelScanOptions)
+ */
+public class ParallelScanOptions {
+
+	private String splitKey = "_id";
+	private Document indexKeys = new Document("_id", 1);
+	private int partitions = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Static factory method to create {@link ParallelScanOptions} splitting by {@literal _id} into as many ranges as
+	 * there are processors available.
+	 *
+	 * @return new instance of {@link ParallelScanOptions}.
+	 */
+	public static ParallelScanOptions options() {
+		return new ParallelScanOptions();
+	}
+
+	/**
+	 * Define the property to split the key space by and the index to read the ranges through. The property has to be the
+	 * leading, ascending key of the index and must not hold arrays as multikey indexes cannot bound ranges. Properties of
+	 * the index key document are mapped like those of a sort, e.g. {@code splitBy("lastname", new Document("lastname",
+	 * 1).append("firstname", 1))}.
+	 *
+	 * @param property the property path of the domain type. Must not be {@literal null} or empty.
+	 * @param indexKeys the key document of an existing index. Must not be {@literal null}.
+	 * @return this.
+	 */
+	public ParallelScanOptions splitBy(String property, Document indexKeys) {
+
+		Assert.hasText(property, "Property must not be null or empty!");
+		Assert.notNull(indexKeys, "Index keys must not be null!");
+
+		Iterator<Entry<String, Object>> keys = indexKeys.entrySet().iterator();
+
+		Assert.isTrue(keys.hasNext(), "Index keys must not be empty!");
+
+		Entry<String, Object> leadingKey = keys.next();
+
+		Assert.isTrue(property.equals(leadingKey.getKey()) && isDirection(leadingKey.getValue(), 1),
+				() -> String.format("Property %s must be the leading ascending key of index %s!", property,
+						indexKeys.toJson()));
+
+		while (keys.hasNext()) {
+
+			Entry<String, Object> key = keys.next();
+
+			Assert.isTrue(isDirection(key.getValue(), 1) || isDirection(key.getValue(), -1),
+					() -> String.format("Key %s of index %s must be ascending or descending!", key.getKey(),
+							indexKeys.toJson()));
+		}
+
+		this.splitKey = property;
+		this.indexKeys = new Document(indexKeys);
+		return this;
+	}
+
+	/**
+	 * Define the number of ranges to split the key space into.
+	 *
+	 * @param partitions must be greater than zero.
+	 * @return this.
+	 */
+	public ParallelScanOptions partitions(int partitions) {
+
+		Assert.isTrue(partitions > 0, "Partitions must be greater than zero!");
+
+		this.partitions = partitions;
+		return this;
+	}
+
+	/**
+	 * @return the property to split the key space by.
+	 */
+	public String getSplitKey() {
+		return splitKey;
+	}
+
+	/**
+	 * @return a copy of the key document of the index to read the ranges through.
+	 */
+	public Document getIndexKeys() {
+		return new Document(indexKeys);
+	}
+
+	/**
+	 * @return the number of ranges to split the key space into.
+	 */
+	public int getPartitions() {
+		return partitions;
+	}
+
+	private static boolean isDirection(Object value, int direction) {
+		return value instanceof Number && ((Number) value).doubleValue() == direction;
+	}
+}
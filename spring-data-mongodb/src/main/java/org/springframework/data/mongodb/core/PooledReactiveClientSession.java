@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.reactivestreams.Publisher;
+import org.springframework.util.Assert;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.TransactionOptions;
+import com.mongodb.reactivestreams.client.ClientSession;
+import com.mongodb.session.ServerSession;
+
+/**
+ * {@link ClientSession} leased from a {@link ClientSessionPool}. {@link #close() Closing} it returns the underlying
+ * session to the pool. The session must not be used once closed.
+ *
+ * @since 2.2
+ */
+class PooledReactiveClientSession implements ClientSession {
+
+	private final ClientSession delegate;
+	private final ClientSessionPool<ClientSession> pool;
+
+	private boolean closed;
+
+	PooledReactiveClientSession(ClientSession delegate, ClientSessionPool<ClientSession> pool) {
+
+		this.delegate = delegate;
+		this.pool = pool;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.ClientSession#hasActiveTransaction()
+	 */
+	@Override
+	public boolean hasActiveTransaction() {
+		return getDelegate().hasActiveTransaction();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.ClientSession#getWrapped()
+	 */
+	@Override
+	public com.mongodb.async.client.ClientSession getWrapped() {
+		return getDelegate().getWrapped();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.ClientSession#getTransactionOptions()
+	 */
+	@Override
+	public TransactionOptions getTransactionOptions() {
+		return getDelegate().getTransactionOptions();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.ClientSession#startTransaction()
+	 */
+	@Override
+	public void startTransaction() {
+		getDelegate().startTransaction();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.ClientSession#startTransaction(com.mongodb.TransactionOptions)
+	 */
+	@Override
+	public void startTransaction(TransactionOptions transactionOptions) {
+		getDelegate().startTransaction(transactionOptions);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.ClientSession#commitTransaction()
+	 */
+	@Override
+	public Publisher<Void> commitTransaction() {
+		return getDelegate().commitTransaction();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.ClientSession#abortTransaction()
+	 */
+	@Override
+	public Publisher<Void> abortTransaction() {
+		return getDelegate().abortTransaction();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.session.ClientSession#getOptions()
+	 */
+	@Override
+	public ClientSessionOptions getOptions() {
+		return delegate.getOptions();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.session.ClientSession#isCausallyConsistent()
+	 */
+	@Override
+	public boolean isCausallyConsistent() {
+		return delegate.isCausallyConsistent();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.session.ClientSession#getOriginator()
+	 */
+	@Override
+	public Object getOriginator() {
+		return delegate.getOriginator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.session.ClientSession#getServerSession()
+	 */
+	@Override
+	public ServerSession getServerSession() {
+		return getDelegate().getServerSession();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.session.ClientSession#getOperationTime()
+	 */
+	@Override
+	public BsonTimestamp getOperationTime() {
+		return getDelegate().getOperationTime();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.session.ClientSession#advanceOperationTime(org.bson.BsonTimestamp)
+	 */
+	@Override
+	public void advanceOperationTime(BsonTimestamp operationTime) {
+		getDelegate().advanceOperationTime(operationTime);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.session.ClientSession#advanceClusterTime(org.bson.BsonDocument)
+	 */
+	@Override
+	public void advanceClusterTime(BsonDocument clusterTime) {
+		getDelegate().advanceClusterTime(clusterTime);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.session.ClientSession#getClusterTime()
+	 */
+	@Override
+	public BsonDocument getClusterTime() {
+		return getDelegate().getClusterTime();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.session.ClientSession#close()
+	 */
+	@Override
+	public synchronized void close() {
+
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+		pool.release(delegate);
+	}
+
+	private synchronized ClientSession getDelegate() {
+
+		Assert.state(!closed, "ClientSession has already been returned to the pool!");
+		return delegate;
+	}
+}
@@ -0,0 +1,474 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.bson.BsonReader;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.data.mongodb.core.query.Meta;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.mongodb.MongoClient;
+
+/**
+ * Cache for the raw results of queries issued through {@link MongoTemplate#find(Query, Class) find} and
+ * {@link MongoTemplate#findOne(Query, Class) findOne} on selected collections. Entries are keyed by the collection, the
+ * mapped query and projection, sort, skip, limit and the remaining cursor options of the {@link Query}, compared in
+ * their Extended JSON form so that values without a notion of equality such as {@link java.util.regex.Pattern} still
+ * match. Queries containing values that cannot be encoded are not cached. Results are
+ * cached as immutable {@link RawBsonDocument}s and decoded and converted on every read, so callers never share
+ * {@link Document} or entity instances and may modify them, e.g. in an
+ * {@link org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent} listener.
+ * <p>
+ * Each collection has its own time to live and maximum number of entries, beyond which the least recently used entry
+ * is evicted. Writes issued through the {@link MongoTemplate} owning the cache invalidate all entries of the affected
+ * collection, including bulk operations and the output collections of aggregations and map-reduce operations. Writes by
+ * other applications are only picked up by {@link #invalidateOnChange(MessageListenerContainer) change stream
+ * invalidation} or expiry. Queries within a
+ * {@link com.mongodb.session.ClientSession session} bypass the cache. Writes within a transaction invalidate before the
+ * commit, so results read concurrently may remain stale until they expire or the change event arrives.
+ *
+ * <pre class="code">
+ * QueryResultCache cache = new QueryResultCache().cache("countries", Duration.ofMinutes(10), 500);
+ * template.setQueryResultCache(cache);
+ * cache.invalidateOnChange(messageListenerContainer);
+ * </pre>
+ *
+ * @since 2.2
+ * @see MongoTemplate#setQueryResultCache(QueryResultCache)
+ */
+public class QueryResultCache implements QueryResultCacheMetrics {
+
+	private static final Codec<Document> CODEC = MongoClient.getDefaultCodecRegistry().get(Document.class);
+	private static final JsonWriterSettings KEY_SETTINGS = JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED)
+			.build();
+
+	private final Map<String, Region> regions = new ConcurrentHashMap<>();
+	private final Clock clock;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
+
+	/**
+	 * Create a new {@link QueryResultCache} not caching any collection yet.
+	 */
+	public QueryResultCache() {
+		this(Clock.systemUTC());
+	}
+
+	QueryResultCache(Clock clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * Cache query results of the given collection.
+	 *
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @param timeToLive the time entries are kept after they were loaded. Must not be {@literal null} or negative.
+	 * @param maximumSize the maximum number of cached queries of the collection. Must be greater than zero.
+	 * @return this.
+	 */
+	public QueryResultCache cache(String collectionName, Duration timeToLive, int maximumSize) {
+
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+		Assert.notNull(timeToLive, "Time to live must not be null!");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive!");
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero!");
+
+		regions.put(collectionName, new Region(timeToLive.toMillis(), maximumSize));
+		return this;
+	}
+
+	/**
+	 * @param collectionName must not be {@literal null}.
+	 * @return {@literal true} if query results of the given collection are cached.
+	 */
+	public boolean isCached(String collectionName) {
+
+		Region region = regions.get(collectionName);
+		return region != null && region.enabled;
+	}
+
+	/**
+	 * @return the names of the cached collections.
+	 */
+	public Set<String> getCachedCollections() {
+		return Collections.unmodifiableSet(regions.keySet());
+	}
+
+	/**
+	 * Remove all entries of the given collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 */
+	public void invalidate(String collectionName) {
+
+		Region region = regions.get(collectionName);
+
+		if (region != null) {
+
+			region.invalidate();
+			invalidations.increment();
+		}
+	}
+
+	/**
+	 * Remove all entries.
+	 */
+	public void invalidateAll() {
+		regions.keySet().forEach(this::invalidate);
+	}
+
+	/**
+	 * Register a {@link ChangeStreamRequest} for every cached collection with the given container that invalidates the
+	 * entries of the collection on every change. If a change stream fails, caching of its collection is turned off as
+	 * changes can no longer be observed. Collections have to be {@link #cache(String, Duration, int) registered}
+	 * before.
+	 *
+	 * @param container must not be {@literal null}.
+	 * @return the {@link Subscription subscriptions}, one per cached collection.
+	 */
+	public List<Subscription> invalidateOnChange(MessageListenerContainer container) {
+
+		Assert.notNull(container, "MessageListenerContainer must not be null!");
+
+		List<Subscription> subscriptions = new ArrayList<>(regions.size());
+
+		for (Entry<String, Region> entry : regions.entrySet()) {
+
+			String collectionName = entry.getKey();
+			Region region = entry.getValue();
+
+			ChangeStreamRequest<Document> request = ChangeStreamRequest.<Document> builder(message -> invalidate(collectionName)) //
+					.collection(collectionName) //
+					.build();
+
+			subscriptions.add(container.register(request, Document.class, error -> {
+
+				region.enabled = false;
+				invalidate(collectionName);
+			}));
+		}
+
+		return subscriptions;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.QueryResultCacheMetrics#getHitCount()
+	 */
+	@Override
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.QueryResultCacheMetrics#getMissCount()
+	 */
+	@Override
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.QueryResultCacheMetrics#getEvictionCount()
+	 */
+	@Override
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.QueryResultCacheMetrics#getInvalidationCount()
+	 */
+	@Override
+	public long getInvalidationCount() {
+		return invalidations.sum();
+	}
+
+	/**
+	 * Return the cached documents for the given {@link Key} or load and cache them. Results loaded while the collection
+	 * was invalidated are not cached.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param loader loads the documents from the server.
+	 * @return copies of the cached documents or the loaded documents.
+	 */
+	List<Document> getOrLoad(Key key, Supplier<List<Document>> loader) {
+
+		Region region = regions.get(key.collectionName);
+
+		if (region == null || !region.enabled || !key.isCacheable()) {
+			return loader.get();
+		}
+
+		long generation;
+		List<RawBsonDocument> cached;
+
+		synchronized (region) {
+
+			cached = region.get(key, clock.millis());
+			generation = region.generation;
+		}
+
+		if (cached != null) {
+
+			hits.increment();
+			return decode(cached);
+		}
+
+		misses.increment();
+
+		List<Document> documents = loader.get();
+		List<RawBsonDocument> encoded = encode(documents);
+
+		if (encoded != null) {
+			region.put(key, encoded, generation, clock.millis());
+		}
+
+		return documents;
+	}
+
+	@Nullable
+	private static List<RawBsonDocument> encode(List<Document> documents) {
+
+		List<RawBsonDocument> encoded = new ArrayList<>(documents.size());
+
+		try {
+			for (Document document : documents) {
+				encoded.add(new RawBsonDocument(document, CODEC));
+			}
+		} catch (CodecConfigurationException e) {
+			return null;
+		}
+
+		return Collections.unmodifiableList(encoded);
+	}
+
+	private static List<Document> decode(List<RawBsonDocument> documents) {
+
+		List<Document> decoded = new ArrayList<>(documents.size());
+
+		for (RawBsonDocument document : documents) {
+			try (BsonReader reader = document.asBsonReader()) {
+				decoded.add(CODEC.decode(reader, DecoderContext.builder().build()));
+			}
+		}
+
+		return decoded;
+	}
+
+	/**
+	 * Create the cache {@link Key} of a query.
+	 *
+	 * @param collectionName the collection name.
+	 * @param operation the kind of operation, for example {@literal find} or {@literal findOne}.
+	 * @param mappedQuery the mapped query.
+	 * @param mappedFields the mapped projection.
+	 * @param query the {@link Query} defining sort and cursor options. Can be {@literal null}.
+	 * @param type the type the sort is mapped against. Can be {@literal null}.
+	 * @param readPreference the {@link com.mongodb.ReadPreference} used. Can be {@literal null}.
+	 * @return new instance of {@link Key}.
+	 */
+	static Key key(String collectionName, String operation, Document mappedQuery, Document mappedFields,
+			@Nullable Query query, @Nullable Class<?> type, @Nullable Object readPreference) {
+
+		return new Key(collectionName, operation, mappedQuery, mappedFields,
+				query != null ? query.getSortObject() : null, query != null ? query.getSkip() : 0,
+				query != null ? query.getLimit() : 0, query != null ? query.getHint() : null,
+				query != null ? toDocument(query.getMeta()) : null,
+				query != null ? query.getCollation().map(it -> it.toDocument()).orElse(null) : null, type, readPreference);
+	}
+
+	@Nullable
+	private static Document toDocument(Meta meta) {
+
+		if (!meta.hasValues()) {
+			return null;
+		}
+
+		Document document = new Document();
+		document.put("comment", meta.getComment());
+		document.put("snapshot", meta.getSnapshot());
+		document.put("maxScan", meta.getMaxScan());
+		document.put("maxTimeMsec", meta.getMaxTimeMsec());
+		document.put("flags", meta.getFlags().stream().sorted().map(Enum::name).collect(Collectors.toList()));
+		return document;
+	}
+
+	/**
+	 * Identity of a cached query. The query, projection, sort, meta and collation {@link Document}s are held in their
+	 * Extended JSON form as not all values they may contain implement {@link Object#equals(Object)}.
+	 */
+	@EqualsAndHashCode
+	@ToString
+	static final class Key {
+
+		private final String collectionName;
+		private final String operation;
+		private final @Nullable String documents;
+		private final long skip;
+		private final int limit;
+		private final @Nullable String hint;
+		private final @Nullable Class<?> type;
+		private final @Nullable Object readPreference;
+
+		Key(String collectionName, String operation, Document query, Document fields, @Nullable Document sort, long skip,
+				int limit, @Nullable String hint, @Nullable Document meta, @Nullable Document collation, @Nullable Class<?> type,
+				@Nullable Object readPreference) {
+
+			this.collectionName = collectionName;
+			this.operation = operation;
+			this.documents = toJson(new Document("query", query).append("fields", fields) //
+					.append("sort", ObjectUtils.isEmpty(sort) ? null : sort) //
+					.append("meta", meta) //
+					.append("collation", collation));
+			this.skip = skip;
+			this.limit = limit;
+			this.hint = hint;
+			this.type = type;
+			this.readPreference = readPreference;
+		}
+
+		/**
+		 * @return {@literal false} if the query contains values that cannot be encoded.
+		 */
+		boolean isCacheable() {
+			return documents != null;
+		}
+
+		@Nullable
+		private static String toJson(Document document) {
+
+			try {
+				return document.toJson(KEY_SETTINGS, CODEC);
+			} catch (CodecConfigurationException e) {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Entries of a single collection in least recently used order.
+	 */
+	private class Region {
+
+		private final long timeToLive;
+		private final int maximumSize;
+		private final LinkedHashMap<Key, CachedResult> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+		private long generation;
+		private volatile boolean enabled = true;
+
+		Region(long timeToLive, int maximumSize) {
+
+			this.timeToLive = timeToLive;
+			this.maximumSize = maximumSize;
+		}
+
+		@Nullable
+		List<RawBsonDocument> get(Key key, long now) {
+
+			CachedResult result = entries.get(key);
+
+			if (result == null) {
+				return null;
+			}
+
+			if (result.expires <= now) {
+
+				entries.remove(key);
+				evictions.increment();
+				return null;
+			}
+
+			return result.documents;
+		}
+
+		synchronized void put(Key key, List<RawBsonDocument> documents, long generation, long now) {
+
+			if (generation != this.generation || !enabled) {
+				return;
+			}
+
+			entries.put(key, new CachedResult(documents, now + timeToLive));
+
+			Iterator<CachedResult> iterator = entries.values().iterator();
+
+			while (entries.size() > maximumSize && iterator.hasNext()) {
+
+				iterator.next();
+				iterator.remove();
+				evictions.increment();
+			}
+		}
+
+		synchronized void invalidate() {
+
+			entries.clear();
+			generation++;
+		}
+	}
+
+	/**
+	 * Cached documents along with their expiry.
+	 */
+	private static class CachedResult {
+
+		private final List<RawBsonDocument> documents;
+		private final long expires;
+
+		CachedResult(List<RawBsonDocument> documents, long expires) {
+
+			this.documents = documents;
+			this.expires = expires;
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+/**
+ * Cumulative metrics of a {@link QueryResultCache}.
+ *
+ * @since 2.2
+ */
+public interface QueryResultCacheMetrics {
+
+	/**
+	 * @return the number of queries answered from the cache.
+	 */
+	long getHitCount();
+
+	/**
+	 * @return the number of queries on cached collections that had to be sent to the server.
+	 */
+	long getMissCount();
+
+	/**
+	 * @return the number of entries removed because they expired or exceeded the maximum size.
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return the number of times the entries of a collection were invalidated because of a write.
+	 */
+	long getInvalidationCount();
+
+	/**
+	 * @return the ratio of queries answered from the cache. Zero if no query was recorded.
+	 */
+	default double getHitRatio() {
+
+		long requests = getHitCount() + getMissCount();
+		return requests == 0 ? 0 : (double) getHitCount() / requests;
+	}
+}
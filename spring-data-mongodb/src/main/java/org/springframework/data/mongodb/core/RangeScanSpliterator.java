@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.bson.Document;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback;
+import org.springframework.lang.Nullable;
+
+import com.mongodb.client.MongoCursor;
+
+/**
+ * {@link Spliterator} reading a list of {@link ScanRange ranges} one cursor at a time. {@link #trySplit() Splitting}
+ * hands out ranges that have not been opened yet, so that a parallel {@link java.util.stream.Stream} reads the ranges
+ * concurrently. All splits share the set of open cursors, which allows {@link #close() closing} them from the
+ * {@link java.util.stream.Stream#onClose(Runnable) close handler} of the stream.
+ *
+ * @since 2.2
+ */
+class RangeScanSpliterator<T> implements Spliterator<T> {
+
+	private final List<ScanRange> ranges;
+	private final Function<ScanRange, MongoCursor<Document>> cursorFunction;
+	private final DocumentCallback<T> callback;
+	private final PersistenceExceptionTranslator exceptionTranslator;
+	private final Queue<MongoCursor<Document>> openCursors;
+	private final AtomicBoolean closed;
+
+	private int index;
+	private int end;
+	private @Nullable MongoCursor<Document> cursor;
+
+	/**
+	 * @param ranges the ranges to read.
+	 * @param cursorFunction opens the cursor for a range.
+	 * @param callback the conversion callback.
+	 * @param exceptionTranslator the exception translator.
+	 */
+	RangeScanSpliterator(List<ScanRange> ranges, Function<ScanRange, MongoCursor<Document>> cursorFunction,
+			DocumentCallback<T> callback, PersistenceExceptionTranslator exceptionTranslator) {
+
+		this(ranges, 0, ranges.size(), cursorFunction, callback, exceptionTranslator, new ConcurrentLinkedQueue<>(),
+				new AtomicBoolean());
+	}
+
+	private RangeScanSpliterator(List<ScanRange> ranges, int index, int end,
+			Function<ScanRange, MongoCursor<Document>> cursorFunction, DocumentCallback<T> callback,
+			PersistenceExceptionTranslator exceptionTranslator, Queue<MongoCursor<Document>> openCursors,
+			AtomicBoolean closed) {
+
+		this.ranges = ranges;
+		this.index = index;
+		this.end = end;
+		this.cursorFunction = cursorFunction;
+		this.callback = callback;
+		this.exceptionTranslator = exceptionTranslator;
+		this.openCursors = openCursors;
+		this.closed = closed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+	 */
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+
+		T next;
+
+		try {
+			next = readNext();
+		} catch (RuntimeException ex) {
+			throw MongoTemplate.potentiallyConvertRuntimeException(ex, exceptionTranslator);
+		}
+
+		if (next == null) {
+			return false;
+		}
+
+		action.accept(next);
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Spliterator#trySplit()
+	 */
+	@Override
+	@Nullable
+	public Spliterator<T> trySplit() {
+
+		int unopened = end - index;
+		int handOver = cursor == null ? unopened / 2 : (unopened + 1) / 2;
+
+		if (handOver == 0) {
+			return null;
+		}
+
+		RangeScanSpliterator<T> other = new RangeScanSpliterator<>(ranges, end - handOver, end, cursorFunction, callback,
+				exceptionTranslator, openCursors, closed);
+		end -= handOver;
+
+		return other;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Spliterator#estimateSize()
+	 */
+	@Override
+	public long estimateSize() {
+		return cursor == null && index == end ? 0 : Long.MAX_VALUE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Spliterator#characteristics()
+	 */
+	@Override
+	public int characteristics() {
+		return NONNULL;
+	}
+
+	/**
+	 * Close all cursors opened by this {@link Spliterator} and its splits and stop reading further ranges.
+	 */
+	void close() {
+
+		closed.set(true);
+
+		RuntimeException failure = null;
+		MongoCursor<Document> cursor;
+
+		while ((cursor = openCursors.poll()) != null) {
+
+			try {
+				cursor.close();
+			} catch (RuntimeException ex) {
+				failure = failure == null ? ex : failure;
+			}
+		}
+
+		if (failure != null) {
+			throw MongoTemplate.potentiallyConvertRuntimeException(failure, exceptionTranslator);
+		}
+	}
+
+	@Nullable
+	private T readNext() {
+
+		while (!closed.get()) {
+
+			MongoCursor<Document> cursor = this.cursor;
+
+			if (cursor != null) {
+
+				if (cursor.hasNext()) {
+
+					T next = callback.doWith(cursor.next());
+
+					if (next != null) {
+						return next;
+					}
+
+					continue;
+				}
+
+				this.cursor = null;
+				openCursors.remove(cursor);
+				cursor.close();
+			}
+
+			if (index >= end) {
+				return null;
+			}
+
+			this.cursor = cursorFunction.apply(ranges.get(index++));
+			openCursors.add(this.cursor);
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,1270 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.reactivestreams.Publisher;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.CreateIndexOptions;
+import com.mongodb.client.model.DeleteOptions;
+import com.mongodb.client.model.DropIndexOptions;
+import com.mongodb.client.model.EstimatedDocumentCountOptions;
+import com.mongodb.client.model.FindOneAndDeleteOptions;
+import com.mongodb.client.model.FindOneAndReplaceOptions;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.InsertOneOptions;
+import com.mongodb.client.model.RenameCollectionOptions;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
+import com.mongodb.reactivestreams.client.ChangeStreamPublisher;
+import com.mongodb.reactivestreams.client.ClientSession;
+import com.mongodb.reactivestreams.client.DistinctPublisher;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.ListIndexesPublisher;
+import com.mongodb.reactivestreams.client.MapReducePublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.Success;
+
+/**
+ * Reactive {@link MongoCollection} bound to a {@link ClientSession}. Operations are invoked on the
+ * {@link ClientSession} accepting overloads of the actual {@link MongoCollection}, collections derived from it via
+ * {@code with…} are bound to the same {@link ClientSession}. Operations called with an explicit {@link ClientSession}
+ * are passed on as they are.
+ *
+ * @param <TDocument> the document type of the collection.
+ * @since 2.2
+ * @see ReactiveClientSessionBoundMongoDatabase
+ */
+class ReactiveClientSessionBoundMongoCollection<TDocument> implements MongoCollection<TDocument> {
+
+	private final ClientSession session;
+	private final MongoCollection<TDocument> delegate;
+
+	/**
+	 * @param session must not be {@literal null}.
+	 * @param delegate must not be {@literal null}.
+	 */
+	ReactiveClientSessionBoundMongoCollection(ClientSession session, MongoCollection<TDocument> delegate) {
+
+		Assert.notNull(session, "ClientSession must not be null!");
+		Assert.notNull(delegate, "MongoCollection must not be null!");
+
+		this.session = session;
+		this.delegate = delegate;
+	}
+
+	/**
+	 * @return the {@link ClientSession} all operations are bound to.
+	 */
+	ClientSession getSession() {
+		return session;
+	}
+
+	/**
+	 * @return the actual {@link MongoCollection}.
+	 */
+	MongoCollection<TDocument> getDelegate() {
+		return delegate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#getNamespace()
+	 */
+	@Override
+	public MongoNamespace getNamespace() {
+		return delegate.getNamespace();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#getDocumentClass()
+	 */
+	@Override
+	public Class<TDocument> getDocumentClass() {
+		return delegate.getDocumentClass();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#getCodecRegistry()
+	 */
+	@Override
+	public CodecRegistry getCodecRegistry() {
+		return delegate.getCodecRegistry();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#getReadPreference()
+	 */
+	@Override
+	public ReadPreference getReadPreference() {
+		return delegate.getReadPreference();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#getWriteConcern()
+	 */
+	@Override
+	public WriteConcern getWriteConcern() {
+		return delegate.getWriteConcern();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#getReadConcern()
+	 */
+	@Override
+	public ReadConcern getReadConcern() {
+		return delegate.getReadConcern();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#withDocumentClass(java.lang.Class)
+	 */
+	@Override
+	public <NewTDocument extends Object> MongoCollection<NewTDocument> withDocumentClass(Class<NewTDocument> clazz) {
+		return new ReactiveClientSessionBoundMongoCollection<>(session, delegate.withDocumentClass(clazz));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#withCodecRegistry(org.bson.codecs.configuration.CodecRegistry)
+	 */
+	@Override
+	public MongoCollection<TDocument> withCodecRegistry(CodecRegistry codecRegistry) {
+		return new ReactiveClientSessionBoundMongoCollection<>(session, delegate.withCodecRegistry(codecRegistry));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#withReadPreference(com.mongodb.ReadPreference)
+	 */
+	@Override
+	public MongoCollection<TDocument> withReadPreference(ReadPreference readPreference) {
+		return new ReactiveClientSessionBoundMongoCollection<>(session, delegate.withReadPreference(readPreference));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#withWriteConcern(com.mongodb.WriteConcern)
+	 */
+	@Override
+	public MongoCollection<TDocument> withWriteConcern(WriteConcern writeConcern) {
+		return new ReactiveClientSessionBoundMongoCollection<>(session, delegate.withWriteConcern(writeConcern));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#withReadConcern(com.mongodb.ReadConcern)
+	 */
+	@Override
+	public MongoCollection<TDocument> withReadConcern(ReadConcern readConcern) {
+		return new ReactiveClientSessionBoundMongoCollection<>(session, delegate.withReadConcern(readConcern));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#count()
+	 */
+	@Override
+	@Deprecated
+	public Publisher<Long> count() {
+		return delegate.count(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#count(org.bson.conversions.Bson)
+	 */
+	@Override
+	@Deprecated
+	public Publisher<Long> count(Bson filter) {
+		return delegate.count(session, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#count(org.bson.conversions.Bson, com.mongodb.client.model.CountOptions)
+	 */
+	@Override
+	@Deprecated
+	public Publisher<Long> count(Bson filter, CountOptions options) {
+		return delegate.count(session, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#count(com.mongodb.reactivestreams.client.ClientSession)
+	 */
+	@Override
+	@Deprecated
+	public Publisher<Long> count(ClientSession clientSession) {
+		return delegate.count(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#count(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	@Deprecated
+	public Publisher<Long> count(ClientSession clientSession, Bson filter) {
+		return delegate.count(clientSession, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#count(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, com.mongodb.client.model.CountOptions)
+	 */
+	@Override
+	@Deprecated
+	public Publisher<Long> count(ClientSession clientSession, Bson filter, CountOptions options) {
+		return delegate.count(clientSession, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#estimatedDocumentCount()
+	 */
+	@Override
+	public Publisher<Long> estimatedDocumentCount() {
+		return delegate.estimatedDocumentCount();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#estimatedDocumentCount(com.mongodb.client.model.EstimatedDocumentCountOptions)
+	 */
+	@Override
+	public Publisher<Long> estimatedDocumentCount(EstimatedDocumentCountOptions options) {
+		return delegate.estimatedDocumentCount(options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#countDocuments()
+	 */
+	@Override
+	public Publisher<Long> countDocuments() {
+		return delegate.countDocuments(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#countDocuments(org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<Long> countDocuments(Bson filter) {
+		return delegate.countDocuments(session, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#countDocuments(org.bson.conversions.Bson, com.mongodb.client.model.CountOptions)
+	 */
+	@Override
+	public Publisher<Long> countDocuments(Bson filter, CountOptions options) {
+		return delegate.countDocuments(session, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#countDocuments(com.mongodb.reactivestreams.client.ClientSession)
+	 */
+	@Override
+	public Publisher<Long> countDocuments(ClientSession clientSession) {
+		return delegate.countDocuments(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#countDocuments(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<Long> countDocuments(ClientSession clientSession, Bson filter) {
+		return delegate.countDocuments(clientSession, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#countDocuments(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, com.mongodb.client.model.CountOptions)
+	 */
+	@Override
+	public Publisher<Long> countDocuments(ClientSession clientSession, Bson filter, CountOptions options) {
+		return delegate.countDocuments(clientSession, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#distinct(java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> DistinctPublisher<TResult> distinct(String fieldName, Class<TResult> resultClass) {
+		return delegate.distinct(session, fieldName, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#distinct(java.lang.String, org.bson.conversions.Bson, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> DistinctPublisher<TResult> distinct(String fieldName, Bson filter, Class<TResult> resultClass) {
+		return delegate.distinct(session, fieldName, filter, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#distinct(com.mongodb.reactivestreams.client.ClientSession, java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> DistinctPublisher<TResult> distinct(ClientSession clientSession, String fieldName, Class<TResult> resultClass) {
+		return delegate.distinct(clientSession, fieldName, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#distinct(com.mongodb.reactivestreams.client.ClientSession, java.lang.String, org.bson.conversions.Bson, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> DistinctPublisher<TResult> distinct(ClientSession clientSession, String fieldName, Bson filter, Class<TResult> resultClass) {
+		return delegate.distinct(clientSession, fieldName, filter, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#find()
+	 */
+	@Override
+	public FindPublisher<TDocument> find() {
+		return delegate.find(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#find(java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> FindPublisher<TResult> find(Class<TResult> resultClass) {
+		return delegate.find(session, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#find(org.bson.conversions.Bson)
+	 */
+	@Override
+	public FindPublisher<TDocument> find(Bson filter) {
+		return delegate.find(session, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#find(org.bson.conversions.Bson, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> FindPublisher<TResult> find(Bson filter, Class<TResult> resultClass) {
+		return delegate.find(session, filter, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#find(com.mongodb.reactivestreams.client.ClientSession)
+	 */
+	@Override
+	public FindPublisher<TDocument> find(ClientSession clientSession) {
+		return delegate.find(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#find(com.mongodb.reactivestreams.client.ClientSession, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> FindPublisher<TResult> find(ClientSession clientSession, Class<TResult> resultClass) {
+		return delegate.find(clientSession, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#find(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	public FindPublisher<TDocument> find(ClientSession clientSession, Bson filter) {
+		return delegate.find(clientSession, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#find(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> FindPublisher<TResult> find(ClientSession clientSession, Bson filter, Class<TResult> resultClass) {
+		return delegate.find(clientSession, filter, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#aggregate(java.util.List)
+	 */
+	@Override
+	public AggregatePublisher<Document> aggregate(List<? extends Bson> pipeline) {
+		return delegate.aggregate(session, pipeline);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#aggregate(java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> AggregatePublisher<TResult> aggregate(List<? extends Bson> pipeline, Class<TResult> resultClass) {
+		return delegate.aggregate(session, pipeline, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#aggregate(com.mongodb.reactivestreams.client.ClientSession, java.util.List)
+	 */
+	@Override
+	public AggregatePublisher<Document> aggregate(ClientSession clientSession, List<? extends Bson> pipeline) {
+		return delegate.aggregate(clientSession, pipeline);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#aggregate(com.mongodb.reactivestreams.client.ClientSession, java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> AggregatePublisher<TResult> aggregate(ClientSession clientSession, List<? extends Bson> pipeline, Class<TResult> resultClass) {
+		return delegate.aggregate(clientSession, pipeline, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#watch()
+	 */
+	@Override
+	public ChangeStreamPublisher<Document> watch() {
+		return delegate.watch(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#watch(java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ChangeStreamPublisher<TResult> watch(Class<TResult> resultClass) {
+		return delegate.watch(session, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#watch(java.util.List)
+	 */
+	@Override
+	public ChangeStreamPublisher<Document> watch(List<? extends Bson> pipeline) {
+		return delegate.watch(session, pipeline);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#watch(java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ChangeStreamPublisher<TResult> watch(List<? extends Bson> pipeline, Class<TResult> resultClass) {
+		return delegate.watch(session, pipeline, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#watch(com.mongodb.reactivestreams.client.ClientSession)
+	 */
+	@Override
+	public ChangeStreamPublisher<Document> watch(ClientSession clientSession) {
+		return delegate.watch(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#watch(com.mongodb.reactivestreams.client.ClientSession, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ChangeStreamPublisher<TResult> watch(ClientSession clientSession, Class<TResult> resultClass) {
+		return delegate.watch(clientSession, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#watch(com.mongodb.reactivestreams.client.ClientSession, java.util.List)
+	 */
+	@Override
+	public ChangeStreamPublisher<Document> watch(ClientSession clientSession, List<? extends Bson> pipeline) {
+		return delegate.watch(clientSession, pipeline);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#watch(com.mongodb.reactivestreams.client.ClientSession, java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ChangeStreamPublisher<TResult> watch(ClientSession clientSession, List<? extends Bson> pipeline, Class<TResult> resultClass) {
+		return delegate.watch(clientSession, pipeline, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#mapReduce(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public MapReducePublisher<Document> mapReduce(String mapFunction, String reduceFunction) {
+		return delegate.mapReduce(session, mapFunction, reduceFunction);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#mapReduce(java.lang.String, java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> MapReducePublisher<TResult> mapReduce(String mapFunction, String reduceFunction, Class<TResult> resultClass) {
+		return delegate.mapReduce(session, mapFunction, reduceFunction, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#mapReduce(com.mongodb.reactivestreams.client.ClientSession, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public MapReducePublisher<Document> mapReduce(ClientSession clientSession, String mapFunction, String reduceFunction) {
+		return delegate.mapReduce(clientSession, mapFunction, reduceFunction);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#mapReduce(com.mongodb.reactivestreams.client.ClientSession, java.lang.String, java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> MapReducePublisher<TResult> mapReduce(ClientSession clientSession, String mapFunction, String reduceFunction, Class<TResult> resultClass) {
+		return delegate.mapReduce(clientSession, mapFunction, reduceFunction, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#bulkWrite(java.util.List)
+	 */
+	@Override
+	public Publisher<BulkWriteResult> bulkWrite(List<? extends WriteModel<? extends TDocument>> requests) {
+		return delegate.bulkWrite(session, requests);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#bulkWrite(java.util.List, com.mongodb.client.model.BulkWriteOptions)
+	 */
+	@Override
+	public Publisher<BulkWriteResult> bulkWrite(List<? extends WriteModel<? extends TDocument>> requests, BulkWriteOptions options) {
+		return delegate.bulkWrite(session, requests, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#bulkWrite(com.mongodb.reactivestreams.client.ClientSession, java.util.List)
+	 */
+	@Override
+	public Publisher<BulkWriteResult> bulkWrite(ClientSession clientSession, List<? extends WriteModel<? extends TDocument>> requests) {
+		return delegate.bulkWrite(clientSession, requests);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#bulkWrite(com.mongodb.reactivestreams.client.ClientSession, java.util.List, com.mongodb.client.model.BulkWriteOptions)
+	 */
+	@Override
+	public Publisher<BulkWriteResult> bulkWrite(ClientSession clientSession, List<? extends WriteModel<? extends TDocument>> requests, BulkWriteOptions options) {
+		return delegate.bulkWrite(clientSession, requests, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#insertOne(java.lang.Object)
+	 */
+	@Override
+	public Publisher<Success> insertOne(TDocument document) {
+		return delegate.insertOne(session, document);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#insertOne(java.lang.Object, com.mongodb.client.model.InsertOneOptions)
+	 */
+	@Override
+	public Publisher<Success> insertOne(TDocument document, InsertOneOptions options) {
+		return delegate.insertOne(session, document, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#insertOne(com.mongodb.reactivestreams.client.ClientSession, java.lang.Object)
+	 */
+	@Override
+	public Publisher<Success> insertOne(ClientSession clientSession, TDocument document) {
+		return delegate.insertOne(clientSession, document);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#insertOne(com.mongodb.reactivestreams.client.ClientSession, java.lang.Object, com.mongodb.client.model.InsertOneOptions)
+	 */
+	@Override
+	public Publisher<Success> insertOne(ClientSession clientSession, TDocument document, InsertOneOptions options) {
+		return delegate.insertOne(clientSession, document, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#insertMany(java.util.List)
+	 */
+	@Override
+	public Publisher<Success> insertMany(List<? extends TDocument> documents) {
+		return delegate.insertMany(session, documents);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#insertMany(java.util.List, com.mongodb.client.model.InsertManyOptions)
+	 */
+	@Override
+	public Publisher<Success> insertMany(List<? extends TDocument> documents, InsertManyOptions options) {
+		return delegate.insertMany(session, documents, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#insertMany(com.mongodb.reactivestreams.client.ClientSession, java.util.List)
+	 */
+	@Override
+	public Publisher<Success> insertMany(ClientSession clientSession, List<? extends TDocument> documents) {
+		return delegate.insertMany(clientSession, documents);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#insertMany(com.mongodb.reactivestreams.client.ClientSession, java.util.List, com.mongodb.client.model.InsertManyOptions)
+	 */
+	@Override
+	public Publisher<Success> insertMany(ClientSession clientSession, List<? extends TDocument> documents, InsertManyOptions options) {
+		return delegate.insertMany(clientSession, documents, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#deleteOne(org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<DeleteResult> deleteOne(Bson filter) {
+		return delegate.deleteOne(session, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#deleteOne(org.bson.conversions.Bson, com.mongodb.client.model.DeleteOptions)
+	 */
+	@Override
+	public Publisher<DeleteResult> deleteOne(Bson filter, DeleteOptions options) {
+		return delegate.deleteOne(session, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#deleteOne(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<DeleteResult> deleteOne(ClientSession clientSession, Bson filter) {
+		return delegate.deleteOne(clientSession, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#deleteOne(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, com.mongodb.client.model.DeleteOptions)
+	 */
+	@Override
+	public Publisher<DeleteResult> deleteOne(ClientSession clientSession, Bson filter, DeleteOptions options) {
+		return delegate.deleteOne(clientSession, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#deleteMany(org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<DeleteResult> deleteMany(Bson filter) {
+		return delegate.deleteMany(session, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#deleteMany(org.bson.conversions.Bson, com.mongodb.client.model.DeleteOptions)
+	 */
+	@Override
+	public Publisher<DeleteResult> deleteMany(Bson filter, DeleteOptions options) {
+		return delegate.deleteMany(session, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#deleteMany(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<DeleteResult> deleteMany(ClientSession clientSession, Bson filter) {
+		return delegate.deleteMany(clientSession, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#deleteMany(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, com.mongodb.client.model.DeleteOptions)
+	 */
+	@Override
+	public Publisher<DeleteResult> deleteMany(ClientSession clientSession, Bson filter, DeleteOptions options) {
+		return delegate.deleteMany(clientSession, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#replaceOne(org.bson.conversions.Bson, java.lang.Object)
+	 */
+	@Override
+	public Publisher<UpdateResult> replaceOne(Bson filter, TDocument replacement) {
+		return delegate.replaceOne(session, filter, replacement);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#replaceOne(org.bson.conversions.Bson, java.lang.Object, com.mongodb.client.model.ReplaceOptions)
+	 */
+	@Override
+	public Publisher<UpdateResult> replaceOne(Bson filter, TDocument replacement, ReplaceOptions options) {
+		return delegate.replaceOne(session, filter, replacement, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#replaceOne(org.bson.conversions.Bson, java.lang.Object, com.mongodb.client.model.UpdateOptions)
+	 */
+	@Override
+	@Deprecated
+	public Publisher<UpdateResult> replaceOne(Bson filter, TDocument replacement, UpdateOptions options) {
+		return delegate.replaceOne(session, filter, replacement, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#replaceOne(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, java.lang.Object)
+	 */
+	@Override
+	public Publisher<UpdateResult> replaceOne(ClientSession clientSession, Bson filter, TDocument replacement) {
+		return delegate.replaceOne(clientSession, filter, replacement);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#replaceOne(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, java.lang.Object, com.mongodb.client.model.ReplaceOptions)
+	 */
+	@Override
+	public Publisher<UpdateResult> replaceOne(ClientSession clientSession, Bson filter, TDocument replacement, ReplaceOptions options) {
+		return delegate.replaceOne(clientSession, filter, replacement, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#replaceOne(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, java.lang.Object, com.mongodb.client.model.UpdateOptions)
+	 */
+	@Override
+	@Deprecated
+	public Publisher<UpdateResult> replaceOne(ClientSession clientSession, Bson filter, TDocument replacement, UpdateOptions options) {
+		return delegate.replaceOne(clientSession, filter, replacement, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#updateOne(org.bson.conversions.Bson, org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<UpdateResult> updateOne(Bson filter, Bson update) {
+		return delegate.updateOne(session, filter, update);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#updateOne(org.bson.conversions.Bson, org.bson.conversions.Bson, com.mongodb.client.model.UpdateOptions)
+	 */
+	@Override
+	public Publisher<UpdateResult> updateOne(Bson filter, Bson update, UpdateOptions options) {
+		return delegate.updateOne(session, filter, update, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#updateOne(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<UpdateResult> updateOne(ClientSession clientSession, Bson filter, Bson update) {
+		return delegate.updateOne(clientSession, filter, update);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#updateOne(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, org.bson.conversions.Bson, com.mongodb.client.model.UpdateOptions)
+	 */
+	@Override
+	public Publisher<UpdateResult> updateOne(ClientSession clientSession, Bson filter, Bson update, UpdateOptions options) {
+		return delegate.updateOne(clientSession, filter, update, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#updateMany(org.bson.conversions.Bson, org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<UpdateResult> updateMany(Bson filter, Bson update) {
+		return delegate.updateMany(session, filter, update);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#updateMany(org.bson.conversions.Bson, org.bson.conversions.Bson, com.mongodb.client.model.UpdateOptions)
+	 */
+	@Override
+	public Publisher<UpdateResult> updateMany(Bson filter, Bson update, UpdateOptions options) {
+		return delegate.updateMany(session, filter, update, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#updateMany(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<UpdateResult> updateMany(ClientSession clientSession, Bson filter, Bson update) {
+		return delegate.updateMany(clientSession, filter, update);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#updateMany(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, org.bson.conversions.Bson, com.mongodb.client.model.UpdateOptions)
+	 */
+	@Override
+	public Publisher<UpdateResult> updateMany(ClientSession clientSession, Bson filter, Bson update, UpdateOptions options) {
+		return delegate.updateMany(clientSession, filter, update, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#findOneAndDelete(org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<TDocument> findOneAndDelete(Bson filter) {
+		return delegate.findOneAndDelete(session, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#findOneAndDelete(org.bson.conversions.Bson, com.mongodb.client.model.FindOneAndDeleteOptions)
+	 */
+	@Override
+	public Publisher<TDocument> findOneAndDelete(Bson filter, FindOneAndDeleteOptions options) {
+		return delegate.findOneAndDelete(session, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#findOneAndDelete(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<TDocument> findOneAndDelete(ClientSession clientSession, Bson filter) {
+		return delegate.findOneAndDelete(clientSession, filter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#findOneAndDelete(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, com.mongodb.client.model.FindOneAndDeleteOptions)
+	 */
+	@Override
+	public Publisher<TDocument> findOneAndDelete(ClientSession clientSession, Bson filter, FindOneAndDeleteOptions options) {
+		return delegate.findOneAndDelete(clientSession, filter, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#findOneAndReplace(org.bson.conversions.Bson, java.lang.Object)
+	 */
+	@Override
+	public Publisher<TDocument> findOneAndReplace(Bson filter, TDocument replacement) {
+		return delegate.findOneAndReplace(session, filter, replacement);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#findOneAndReplace(org.bson.conversions.Bson, java.lang.Object, com.mongodb.client.model.FindOneAndReplaceOptions)
+	 */
+	@Override
+	public Publisher<TDocument> findOneAndReplace(Bson filter, TDocument replacement, FindOneAndReplaceOptions options) {
+		return delegate.findOneAndReplace(session, filter, replacement, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#findOneAndReplace(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, java.lang.Object)
+	 */
+	@Override
+	public Publisher<TDocument> findOneAndReplace(ClientSession clientSession, Bson filter, TDocument replacement) {
+		return delegate.findOneAndReplace(clientSession, filter, replacement);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#findOneAndReplace(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, java.lang.Object, com.mongodb.client.model.FindOneAndReplaceOptions)
+	 */
+	@Override
+	public Publisher<TDocument> findOneAndReplace(ClientSession clientSession, Bson filter, TDocument replacement, FindOneAndReplaceOptions options) {
+		return delegate.findOneAndReplace(clientSession, filter, replacement, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#findOneAndUpdate(org.bson.conversions.Bson, org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<TDocument> findOneAndUpdate(Bson filter, Bson update) {
+		return delegate.findOneAndUpdate(session, filter, update);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#findOneAndUpdate(org.bson.conversions.Bson, org.bson.conversions.Bson, com.mongodb.client.model.FindOneAndUpdateOptions)
+	 */
+	@Override
+	public Publisher<TDocument> findOneAndUpdate(Bson filter, Bson update, FindOneAndUpdateOptions options) {
+		return delegate.findOneAndUpdate(session, filter, update, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#findOneAndUpdate(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<TDocument> findOneAndUpdate(ClientSession clientSession, Bson filter, Bson update) {
+		return delegate.findOneAndUpdate(clientSession, filter, update);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#findOneAndUpdate(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, org.bson.conversions.Bson, com.mongodb.client.model.FindOneAndUpdateOptions)
+	 */
+	@Override
+	public Publisher<TDocument> findOneAndUpdate(ClientSession clientSession, Bson filter, Bson update, FindOneAndUpdateOptions options) {
+		return delegate.findOneAndUpdate(clientSession, filter, update, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#drop()
+	 */
+	@Override
+	public Publisher<Success> drop() {
+		return delegate.drop(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#drop(com.mongodb.reactivestreams.client.ClientSession)
+	 */
+	@Override
+	public Publisher<Success> drop(ClientSession clientSession) {
+		return delegate.drop(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#createIndex(org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<String> createIndex(Bson keys) {
+		return delegate.createIndex(session, keys);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#createIndex(org.bson.conversions.Bson, com.mongodb.client.model.IndexOptions)
+	 */
+	@Override
+	public Publisher<String> createIndex(Bson keys, IndexOptions options) {
+		return delegate.createIndex(session, keys, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#createIndex(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<String> createIndex(ClientSession clientSession, Bson keys) {
+		return delegate.createIndex(clientSession, keys);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#createIndex(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, com.mongodb.client.model.IndexOptions)
+	 */
+	@Override
+	public Publisher<String> createIndex(ClientSession clientSession, Bson keys, IndexOptions options) {
+		return delegate.createIndex(clientSession, keys, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#createIndexes(java.util.List)
+	 */
+	@Override
+	public Publisher<String> createIndexes(List<IndexModel> indexes) {
+		return delegate.createIndexes(session, indexes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#createIndexes(java.util.List, com.mongodb.client.model.CreateIndexOptions)
+	 */
+	@Override
+	public Publisher<String> createIndexes(List<IndexModel> indexes, CreateIndexOptions options) {
+		return delegate.createIndexes(session, indexes, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#createIndexes(com.mongodb.reactivestreams.client.ClientSession, java.util.List)
+	 */
+	@Override
+	public Publisher<String> createIndexes(ClientSession clientSession, List<IndexModel> indexes) {
+		return delegate.createIndexes(clientSession, indexes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#createIndexes(com.mongodb.reactivestreams.client.ClientSession, java.util.List, com.mongodb.client.model.CreateIndexOptions)
+	 */
+	@Override
+	public Publisher<String> createIndexes(ClientSession clientSession, List<IndexModel> indexes, CreateIndexOptions options) {
+		return delegate.createIndexes(clientSession, indexes, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#listIndexes()
+	 */
+	@Override
+	public ListIndexesPublisher<Document> listIndexes() {
+		return delegate.listIndexes(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#listIndexes(java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ListIndexesPublisher<TResult> listIndexes(Class<TResult> resultClass) {
+		return delegate.listIndexes(session, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#listIndexes(com.mongodb.reactivestreams.client.ClientSession)
+	 */
+	@Override
+	public ListIndexesPublisher<Document> listIndexes(ClientSession clientSession) {
+		return delegate.listIndexes(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#listIndexes(com.mongodb.reactivestreams.client.ClientSession, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ListIndexesPublisher<TResult> listIndexes(ClientSession clientSession, Class<TResult> resultClass) {
+		return delegate.listIndexes(clientSession, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#dropIndex(java.lang.String)
+	 */
+	@Override
+	public Publisher<Success> dropIndex(String indexName) {
+		return delegate.dropIndex(session, indexName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#dropIndex(org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<Success> dropIndex(Bson keys) {
+		return delegate.dropIndex(session, keys);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#dropIndex(java.lang.String, com.mongodb.client.model.DropIndexOptions)
+	 */
+	@Override
+	public Publisher<Success> dropIndex(String indexName, DropIndexOptions options) {
+		return delegate.dropIndex(session, indexName, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#dropIndex(org.bson.conversions.Bson, com.mongodb.client.model.DropIndexOptions)
+	 */
+	@Override
+	public Publisher<Success> dropIndex(Bson keys, DropIndexOptions options) {
+		return delegate.dropIndex(session, keys, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#dropIndex(com.mongodb.reactivestreams.client.ClientSession, java.lang.String)
+	 */
+	@Override
+	public Publisher<Success> dropIndex(ClientSession clientSession, String indexName) {
+		return delegate.dropIndex(clientSession, indexName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#dropIndex(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<Success> dropIndex(ClientSession clientSession, Bson keys) {
+		return delegate.dropIndex(clientSession, keys);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#dropIndex(com.mongodb.reactivestreams.client.ClientSession, java.lang.String, com.mongodb.client.model.DropIndexOptions)
+	 */
+	@Override
+	public Publisher<Success> dropIndex(ClientSession clientSession, String indexName, DropIndexOptions options) {
+		return delegate.dropIndex(clientSession, indexName, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#dropIndex(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, com.mongodb.client.model.DropIndexOptions)
+	 */
+	@Override
+	public Publisher<Success> dropIndex(ClientSession clientSession, Bson keys, DropIndexOptions options) {
+		return delegate.dropIndex(clientSession, keys, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#dropIndexes()
+	 */
+	@Override
+	public Publisher<Success> dropIndexes() {
+		return delegate.dropIndexes(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#dropIndexes(com.mongodb.client.model.DropIndexOptions)
+	 */
+	@Override
+	public Publisher<Success> dropIndexes(DropIndexOptions options) {
+		return delegate.dropIndexes(session, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#dropIndexes(com.mongodb.reactivestreams.client.ClientSession)
+	 */
+	@Override
+	public Publisher<Success> dropIndexes(ClientSession clientSession) {
+		return delegate.dropIndexes(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#dropIndexes(com.mongodb.reactivestreams.client.ClientSession, com.mongodb.client.model.DropIndexOptions)
+	 */
+	@Override
+	public Publisher<Success> dropIndexes(ClientSession clientSession, DropIndexOptions options) {
+		return delegate.dropIndexes(clientSession, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#renameCollection(com.mongodb.MongoNamespace)
+	 */
+	@Override
+	public Publisher<Success> renameCollection(MongoNamespace newCollectionNamespace) {
+		return delegate.renameCollection(session, newCollectionNamespace);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#renameCollection(com.mongodb.MongoNamespace, com.mongodb.client.model.RenameCollectionOptions)
+	 */
+	@Override
+	public Publisher<Success> renameCollection(MongoNamespace newCollectionNamespace, RenameCollectionOptions options) {
+		return delegate.renameCollection(session, newCollectionNamespace, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#renameCollection(com.mongodb.reactivestreams.client.ClientSession, com.mongodb.MongoNamespace)
+	 */
+	@Override
+	public Publisher<Success> renameCollection(ClientSession clientSession, MongoNamespace newCollectionNamespace) {
+		return delegate.renameCollection(clientSession, newCollectionNamespace);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoCollection#renameCollection(com.mongodb.reactivestreams.client.ClientSession, com.mongodb.MongoNamespace, com.mongodb.client.model.RenameCollectionOptions)
+	 */
+	@Override
+	public Publisher<Success> renameCollection(ClientSession clientSession, MongoNamespace newCollectionNamespace, RenameCollectionOptions options) {
+		return delegate.renameCollection(clientSession, newCollectionNamespace, options);
+	}
+}
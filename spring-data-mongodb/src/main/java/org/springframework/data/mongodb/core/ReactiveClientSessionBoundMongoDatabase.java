@@ -0,0 +1,465 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.reactivestreams.Publisher;
+import org.springframework.util.Assert;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.CreateViewOptions;
+import com.mongodb.reactivestreams.client.ChangeStreamPublisher;
+import com.mongodb.reactivestreams.client.ClientSession;
+import com.mongodb.reactivestreams.client.ListCollectionsPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import com.mongodb.reactivestreams.client.Success;
+
+/**
+ * Reactive {@link MongoDatabase} bound to a {@link ClientSession}. Operations are invoked on the
+ * {@link ClientSession} accepting overloads of the actual {@link MongoDatabase}, collections obtained from it are
+ * bound to the same {@link ClientSession}. Operations called with an explicit {@link ClientSession} are passed on as
+ * they are.
+ *
+ * @since 2.2
+ * @see ReactiveClientSessionBoundMongoCollection
+ */
+class ReactiveClientSessionBoundMongoDatabase implements MongoDatabase {
+
+	private final ClientSession session;
+	private final MongoDatabase delegate;
+
+	/**
+	 * @param session must not be {@literal null}.
+	 * @param delegate must not be {@literal null}.
+	 */
+	ReactiveClientSessionBoundMongoDatabase(ClientSession session, MongoDatabase delegate) {
+
+		Assert.notNull(session, "ClientSession must not be null!");
+		Assert.notNull(delegate, "MongoDatabase must not be null!");
+
+		this.session = session;
+		this.delegate = delegate;
+	}
+
+	/**
+	 * @return the {@link ClientSession} all operations are bound to.
+	 */
+	ClientSession getSession() {
+		return session;
+	}
+
+	/**
+	 * @return the actual {@link MongoDatabase}.
+	 */
+	MongoDatabase getDelegate() {
+		return delegate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#getName()
+	 */
+	@Override
+	public String getName() {
+		return delegate.getName();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#getCodecRegistry()
+	 */
+	@Override
+	public CodecRegistry getCodecRegistry() {
+		return delegate.getCodecRegistry();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#getReadPreference()
+	 */
+	@Override
+	public ReadPreference getReadPreference() {
+		return delegate.getReadPreference();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#getWriteConcern()
+	 */
+	@Override
+	public WriteConcern getWriteConcern() {
+		return delegate.getWriteConcern();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#getReadConcern()
+	 */
+	@Override
+	public ReadConcern getReadConcern() {
+		return delegate.getReadConcern();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#withCodecRegistry(org.bson.codecs.configuration.CodecRegistry)
+	 */
+	@Override
+	public MongoDatabase withCodecRegistry(CodecRegistry codecRegistry) {
+		return new ReactiveClientSessionBoundMongoDatabase(session, delegate.withCodecRegistry(codecRegistry));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#withReadPreference(com.mongodb.ReadPreference)
+	 */
+	@Override
+	public MongoDatabase withReadPreference(ReadPreference readPreference) {
+		return new ReactiveClientSessionBoundMongoDatabase(session, delegate.withReadPreference(readPreference));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#withWriteConcern(com.mongodb.WriteConcern)
+	 */
+	@Override
+	public MongoDatabase withWriteConcern(WriteConcern writeConcern) {
+		return new ReactiveClientSessionBoundMongoDatabase(session, delegate.withWriteConcern(writeConcern));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#withReadConcern(com.mongodb.ReadConcern)
+	 */
+	@Override
+	public MongoDatabase withReadConcern(ReadConcern readConcern) {
+		return new ReactiveClientSessionBoundMongoDatabase(session, delegate.withReadConcern(readConcern));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#getCollection(java.lang.String)
+	 */
+	@Override
+	public MongoCollection<Document> getCollection(String collectionName) {
+		return new ReactiveClientSessionBoundMongoCollection<>(session, delegate.getCollection(collectionName));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#getCollection(java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <TDocument extends Object> MongoCollection<TDocument> getCollection(String collectionName, Class<TDocument> documentClass) {
+		return new ReactiveClientSessionBoundMongoCollection<>(session, delegate.getCollection(collectionName, documentClass));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#runCommand(org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<Document> runCommand(Bson command) {
+		return delegate.runCommand(session, command);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#runCommand(org.bson.conversions.Bson, com.mongodb.ReadPreference)
+	 */
+	@Override
+	public Publisher<Document> runCommand(Bson command, ReadPreference readPreference) {
+		return delegate.runCommand(session, command, readPreference);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#runCommand(org.bson.conversions.Bson, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> Publisher<TResult> runCommand(Bson command, Class<TResult> resultClass) {
+		return delegate.runCommand(session, command, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#runCommand(org.bson.conversions.Bson, com.mongodb.ReadPreference, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> Publisher<TResult> runCommand(Bson command, ReadPreference readPreference, Class<TResult> resultClass) {
+		return delegate.runCommand(session, command, readPreference, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#runCommand(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson)
+	 */
+	@Override
+	public Publisher<Document> runCommand(ClientSession clientSession, Bson command) {
+		return delegate.runCommand(clientSession, command);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#runCommand(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, com.mongodb.ReadPreference)
+	 */
+	@Override
+	public Publisher<Document> runCommand(ClientSession clientSession, Bson command, ReadPreference readPreference) {
+		return delegate.runCommand(clientSession, command, readPreference);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#runCommand(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> Publisher<TResult> runCommand(ClientSession clientSession, Bson command, Class<TResult> resultClass) {
+		return delegate.runCommand(clientSession, command, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#runCommand(com.mongodb.reactivestreams.client.ClientSession, org.bson.conversions.Bson, com.mongodb.ReadPreference, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> Publisher<TResult> runCommand(ClientSession clientSession, Bson command, ReadPreference readPreference, Class<TResult> resultClass) {
+		return delegate.runCommand(clientSession, command, readPreference, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#drop()
+	 */
+	@Override
+	public Publisher<Success> drop() {
+		return delegate.drop(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#drop(com.mongodb.reactivestreams.client.ClientSession)
+	 */
+	@Override
+	public Publisher<Success> drop(ClientSession clientSession) {
+		return delegate.drop(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#listCollectionNames()
+	 */
+	@Override
+	public Publisher<String> listCollectionNames() {
+		return delegate.listCollectionNames(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#listCollectionNames(com.mongodb.reactivestreams.client.ClientSession)
+	 */
+	@Override
+	public Publisher<String> listCollectionNames(ClientSession clientSession) {
+		return delegate.listCollectionNames(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#listCollections()
+	 */
+	@Override
+	public ListCollectionsPublisher<Document> listCollections() {
+		return delegate.listCollections(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#listCollections(java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ListCollectionsPublisher<TResult> listCollections(Class<TResult> resultClass) {
+		return delegate.listCollections(session, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#listCollections(com.mongodb.reactivestreams.client.ClientSession)
+	 */
+	@Override
+	public ListCollectionsPublisher<Document> listCollections(ClientSession clientSession) {
+		return delegate.listCollections(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#listCollections(com.mongodb.reactivestreams.client.ClientSession, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ListCollectionsPublisher<TResult> listCollections(ClientSession clientSession, Class<TResult> resultClass) {
+		return delegate.listCollections(clientSession, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#createCollection(java.lang.String)
+	 */
+	@Override
+	public Publisher<Success> createCollection(String collectionName) {
+		return delegate.createCollection(session, collectionName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#createCollection(java.lang.String, com.mongodb.client.model.CreateCollectionOptions)
+	 */
+	@Override
+	public Publisher<Success> createCollection(String collectionName, CreateCollectionOptions options) {
+		return delegate.createCollection(session, collectionName, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#createCollection(com.mongodb.reactivestreams.client.ClientSession, java.lang.String)
+	 */
+	@Override
+	public Publisher<Success> createCollection(ClientSession clientSession, String collectionName) {
+		return delegate.createCollection(clientSession, collectionName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#createCollection(com.mongodb.reactivestreams.client.ClientSession, java.lang.String, com.mongodb.client.model.CreateCollectionOptions)
+	 */
+	@Override
+	public Publisher<Success> createCollection(ClientSession clientSession, String collectionName, CreateCollectionOptions options) {
+		return delegate.createCollection(clientSession, collectionName, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#createView(java.lang.String, java.lang.String, java.util.List)
+	 */
+	@Override
+	public Publisher<Success> createView(String viewName, String viewOn, List<? extends Bson> pipeline) {
+		return delegate.createView(session, viewName, viewOn, pipeline);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#createView(java.lang.String, java.lang.String, java.util.List, com.mongodb.client.model.CreateViewOptions)
+	 */
+	@Override
+	public Publisher<Success> createView(String viewName, String viewOn, List<? extends Bson> pipeline, CreateViewOptions options) {
+		return delegate.createView(session, viewName, viewOn, pipeline, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#createView(com.mongodb.reactivestreams.client.ClientSession, java.lang.String, java.lang.String, java.util.List)
+	 */
+	@Override
+	public Publisher<Success> createView(ClientSession clientSession, String viewName, String viewOn, List<? extends Bson> pipeline) {
+		return delegate.createView(clientSession, viewName, viewOn, pipeline);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#createView(com.mongodb.reactivestreams.client.ClientSession, java.lang.String, java.lang.String, java.util.List, com.mongodb.client.model.CreateViewOptions)
+	 */
+	@Override
+	public Publisher<Success> createView(ClientSession clientSession, String viewName, String viewOn, List<? extends Bson> pipeline, CreateViewOptions options) {
+		return delegate.createView(clientSession, viewName, viewOn, pipeline, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#watch()
+	 */
+	@Override
+	public ChangeStreamPublisher<Document> watch() {
+		return delegate.watch(session);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#watch(java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ChangeStreamPublisher<TResult> watch(Class<TResult> resultClass) {
+		return delegate.watch(session, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#watch(java.util.List)
+	 */
+	@Override
+	public ChangeStreamPublisher<Document> watch(List<? extends Bson> pipeline) {
+		return delegate.watch(session, pipeline);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#watch(java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ChangeStreamPublisher<TResult> watch(List<? extends Bson> pipeline, Class<TResult> resultClass) {
+		return delegate.watch(session, pipeline, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#watch(com.mongodb.reactivestreams.client.ClientSession)
+	 */
+	@Override
+	public ChangeStreamPublisher<Document> watch(ClientSession clientSession) {
+		return delegate.watch(clientSession);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#watch(com.mongodb.reactivestreams.client.ClientSession, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ChangeStreamPublisher<TResult> watch(ClientSession clientSession, Class<TResult> resultClass) {
+		return delegate.watch(clientSession, resultClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#watch(com.mongodb.reactivestreams.client.ClientSession, java.util.List)
+	 */
+	@Override
+	public ChangeStreamPublisher<Document> watch(ClientSession clientSession, List<? extends Bson> pipeline) {
+		return delegate.watch(clientSession, pipeline);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.MongoDatabase#watch(com.mongodb.reactivestreams.client.ClientSession, java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <TResult extends Object> ChangeStreamPublisher<TResult> watch(ClientSession clientSession, List<? extends Bson> pipeline, Class<TResult> resultClass) {
+		return delegate.watch(clientSession, pipeline, resultClass);
+	}
+}
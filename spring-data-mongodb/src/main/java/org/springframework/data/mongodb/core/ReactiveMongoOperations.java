@@ -458,6 +458,89 @@ public interface ReactiveMongoOperations extends ReactiveFluentMongoOperations {
 	 */
 	<T> Flux<T> find(Query query, Class<T> entityClass, String collectionName);
 
+	/**
+	 * Executes the given sorted {@link Query} against each of the given collections concurrently and merges the results
+	 * into a single {@link Flux} in the order of the {@link Query#getSortObject() sort} of the query. Use this to read
+	 * ranges of data split into multiple collections, for example one per month, without sorting the results in memory.
+	 * <p/>
+	 * Each collection is read through its own cursor with a bounded prefetch derived from the
+	 * {@link org.springframework.data.mongodb.core.query.Meta#getCursorBatchSize() cursor batch size}.
+	 * {@link Query#skip(long) Skip} and {@link Query#limit(int) limit} apply to the merged result. Reaching the limit
+	 * cancels all cursors. Documents comparing equal are emitted in the order of the given collections.
+	 * <p/>
+	 * Merging compares the raw documents the way the server does without a collation. Queries using a
+	 * {@link Query#collation(org.springframework.data.mongodb.core.query.Collation) collation} or a projection
+	 * excluding sort keys cannot be merged.
+	 * <p/>
+	 * The default implementation delegates to {@link #find(Query, Class, String)} for a single collection and emits an
+	 * {@link UnsupportedOperationException} for multiple collections.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record, the sort order and also an
+	 *          optional fields specification. Must not be {@literal null} and must be sorted.
+	 * @param entityClass the parametrized type of the returned {@link Flux}.
+	 * @param collectionNames names of the collections to retrieve the objects from. Must not be {@literal null} or
+	 *          empty.
+	 * @return the {@link Flux} of converted objects.
+	 * @since 2.2
+	 */
+	default <T> Flux<T> findMerged(Query query, Class<T> entityClass, Collection<String> collectionNames) {
+
+		Assert.notEmpty(collectionNames, "Collection names must not be empty!");
+
+		if (collectionNames.size() == 1) {
+			return find(query, entityClass, collectionNames.iterator().next());
+		}
+
+		return Flux.error(new UnsupportedOperationException(
+				String.format("%s does not support merging results of multiple collections!", getClass().getName())));
+	}
+
+	/**
+	 * Executes the given {@link Query} on the collection of the specified {@code entityClass} as a parallel scan. See
+	 * {@link #parallelScan(Query, Class, String, ParallelScanOptions)} for details.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification. Must not be {@literal null}.
+	 * @param entityClass the parametrized type of the returned {@link Flux}.
+	 * @param options must not be {@literal null}.
+	 * @return the {@link Flux} of converted objects.
+	 * @since 2.2
+	 */
+	default <T> Flux<T> parallelScan(Query query, Class<T> entityClass, ParallelScanOptions options) {
+		return parallelScan(query, entityClass, getCollectionName(entityClass), options);
+	}
+
+	/**
+	 * Executes the given {@link Query} on the given collection as a parallel scan. The key space of the
+	 * {@link ParallelScanOptions#getSplitKey() split key} is divided into {@link ParallelScanOptions#getPartitions()
+	 * ranges} holding about the same number of matching documents using a {@literal $bucketAuto} aggregation. Each range
+	 * is read through its own cursor bounded by the {@link ParallelScanOptions#getIndexKeys() index}, which therefore has to
+	 * exist.
+	 * <p/>
+	 * All ranges are subscribed to concurrently and their results are merged in no particular order. Scans do not
+	 * support sort, skip and limit.
+	 * <p/>
+	 * The default implementation reads all matching documents through a single {@link #find(Query, Class, String)
+	 * cursor}.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification. Must not be {@literal null}.
+	 * @param entityClass the parametrized type of the returned {@link Flux}.
+	 * @param collectionName name of the collection to retrieve the objects from. Must not be {@literal null} or empty.
+	 * @param options must not be {@literal null}.
+	 * @return the {@link Flux} of converted objects.
+	 * @since 2.2
+	 */
+	default <T> Flux<T> parallelScan(Query query, Class<T> entityClass, String collectionName,
+			ParallelScanOptions options) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.isTrue(!query.isSorted() && query.getSkip() <= 0 && query.getLimit() <= 0,
+				"Parallel scans do not support sort, skip and limit!");
+
+		return find(query, entityClass, collectionName);
+	}
+
 	/**
 	 * Returns a document with the given id mapped onto the given class. The collection the query is ran against will be
 	 * derived from the given target class as well.
@@ -22,10 +22,12 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -65,6 +67,7 @@ import org.springframework.data.mapping.context.MappingContextEvent;
 import org.springframework.data.mongodb.MongoDbFactory;
 import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
 import org.springframework.data.mongodb.core.EntityOperations.AdaptibleEntity;
+import org.springframework.data.mongodb.core.OperationMetricsRecorder.OperationType;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
@@ -72,7 +75,9 @@ import org.springframework.data.mongodb.core.aggregation.PrefixingDelegatingAggr
 import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.convert.*;
+import org.springframework.data.mongodb.core.index.IndexResolver;
 import org.springframework.data.mongodb.core.index.MongoMappingEventPublisher;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
 import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
 import org.springframework.data.mongodb.core.index.ReactiveMongoPersistentEntityIndexCreator;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
@@ -87,6 +92,7 @@ import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeDeleteEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEventDispatcher;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
 import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Meta;
@@ -155,6 +161,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private final MongoConverter mongoConverter;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	private final ReactiveMongoDatabaseFactory mongoDatabaseFactory;
+	private final ReactiveMongoDatabaseFactory explainDatabaseFactory;
 	private final PersistenceExceptionTranslator exceptionTranslator;
 	private final QueryMapper queryMapper;
 	private final UpdateMapper updateMapper;
@@ -169,7 +176,13 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private WriteResultChecking writeResultChecking = WriteResultChecking.NONE;
 	private @Nullable ReadPreference readPreference;
 	private @Nullable ApplicationEventPublisher eventPublisher;
+	private @Nullable MongoMappingEventDispatcher eventDispatcher;
+	private @Nullable Executor asyncEventExecutor;
 	private @Nullable ReactiveMongoPersistentEntityIndexCreator indexCreator;
+	private CursorBatchSizing aggregationBatchSizing = CursorBatchSizing.driverDefault();
+	private DefaultCursorMetrics aggregationMetrics = new DefaultCursorMetrics();
+	private @Nullable OperationMetricsRecorder operationMetricsRecorder;
+	private @Nullable SlowQueryRecorder slowQueryRecorder;
 
 	/**
 	 * Constructor used for a basic template configuration.
@@ -213,10 +226,29 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 */
 	public ReactiveMongoTemplate(ReactiveMongoDatabaseFactory mongoDatabaseFactory,
 			@Nullable MongoConverter mongoConverter, Consumer<Throwable> subscriptionExceptionHandler) {
+		this(mongoDatabaseFactory, mongoConverter, subscriptionExceptionHandler, null);
+	}
+
+	/**
+	 * Constructor used for a template configuration resolving indexes using the given {@link IndexResolver}, e.g. a
+	 * {@link org.springframework.data.mongodb.core.index.PrecomputedIndexResolver}.
+	 *
+	 * @param mongoDatabaseFactory must not be {@literal null}.
+	 * @param mongoConverter can be {@literal null}.
+	 * @param subscriptionExceptionHandler exception handler called by {@link Flux#doOnError(Consumer)} on reactive type
+	 *          materialization via {@link Publisher#subscribe(Subscriber)}. Must not be {@literal null}.
+	 * @param indexResolver the {@link IndexResolver} to resolve indexes with. {@literal null} to resolve indexes from
+	 *          the mapping metadata at runtime.
+	 * @since 2.2
+	 */
+	public ReactiveMongoTemplate(ReactiveMongoDatabaseFactory mongoDatabaseFactory,
+			@Nullable MongoConverter mongoConverter, Consumer<Throwable> subscriptionExceptionHandler,
+			@Nullable IndexResolver indexResolver) {
 
 		Assert.notNull(mongoDatabaseFactory, "ReactiveMongoDatabaseFactory must not be null!");
 
 		this.mongoDatabaseFactory = mongoDatabaseFactory;
+		this.explainDatabaseFactory = mongoDatabaseFactory;
 		this.exceptionTranslator = mongoDatabaseFactory.getExceptionTranslator();
 		this.mongoConverter = mongoConverter == null ? getDefaultMongoConverter() : mongoConverter;
 		this.queryMapper = new QueryMapper(this.mongoConverter);
@@ -234,7 +266,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		if (this.mappingContext instanceof MongoMappingContext) {
 
 			MongoMappingContext mongoMappingContext = (MongoMappingContext) this.mappingContext;
-			this.indexCreator = new ReactiveMongoPersistentEntityIndexCreator(mongoMappingContext, this::indexOps);
+			this.indexCreator = new ReactiveMongoPersistentEntityIndexCreator(mongoMappingContext, this::indexOps,
+					indexResolver != null ? indexResolver : new MongoPersistentEntityIndexResolver(mongoMappingContext));
 			this.eventPublisher = new MongoMappingEventPublisher(this.indexCreatorListener);
 
 			mongoMappingContext.setApplicationEventPublisher(this.eventPublisher);
@@ -246,6 +279,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private ReactiveMongoTemplate(ReactiveMongoDatabaseFactory dbFactory, ReactiveMongoTemplate that) {
 
 		this.mongoDatabaseFactory = dbFactory;
+		// explain is not allowed within a transaction and must not use the session from a different subscription
+		this.explainDatabaseFactory = that.explainDatabaseFactory;
 		this.exceptionTranslator = that.exceptionTranslator;
 		this.mongoConverter = that.mongoConverter;
 		this.queryMapper = that.queryMapper;
@@ -257,6 +292,10 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		this.mappingContext = that.mappingContext;
 		this.operations = that.operations;
 		this.propertyOperations = that.propertyOperations;
+		this.aggregationBatchSizing = that.aggregationBatchSizing;
+		this.aggregationMetrics = that.aggregationMetrics;
+		this.operationMetricsRecorder = that.operationMetricsRecorder;
+		this.slowQueryRecorder = that.slowQueryRecorder;
 	}
 
 	private void onCheckForIndexes(MongoPersistentEntity<?> entity, Consumer<Throwable> subscriptionExceptionHandler) {
@@ -291,6 +330,73 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		this.writeConcern = writeConcern;
 	}
 
+	/**
+	 * Configures the {@link CursorBatchSizing} applied to aggregations that do not define a cursor batch size.
+	 * {@link CursorBatchSizing#demandAware(int, int) Demand aware} sizing derives the batch size from the first request
+	 * of the subscriber so that, for example, {@code aggregate(…).take(10)} does not fetch a default sized batch while
+	 * unbounded subscribers read batches of the maximum size.
+	 *
+	 * @param batchSizing can be {@literal null} to let the driver determine the batch size.
+	 * @since 2.2
+	 */
+	public void setAggregationBatchSizing(@Nullable CursorBatchSizing batchSizing) {
+		this.aggregationBatchSizing = batchSizing == null ? CursorBatchSizing.driverDefault() : batchSizing;
+	}
+
+	/**
+	 * Configures the {@link Executor} to publish {@link AfterSaveEvent}s and {@link AfterDeleteEvent}s on. Listeners of
+	 * those events then no longer run on the thread emitting the result. Setting {@literal null} (the default) publishes
+	 * all events synchronously.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @since 2.2
+	 * @see MongoMappingEventDispatcher#setAsyncExecutor(Executor)
+	 */
+	public void setAsyncEventExecutor(@Nullable Executor executor) {
+
+		this.asyncEventExecutor = executor;
+
+		if (eventDispatcher != null) {
+			eventDispatcher.setAsyncExecutor(executor);
+		}
+	}
+
+	/**
+	 * Configures the {@link OperationMetricsRecorder} to report the latency, conversion time and document count of
+	 * find, count, aggregate and write operations to. Operations are timed from subscription to termination. Setting
+	 * {@literal null} (the default) disables timing entirely.
+	 *
+	 * @param operationMetricsRecorder can be {@literal null}.
+	 * @since 2.2
+	 * @see HistogramOperationMetricsRecorder
+	 */
+	public void setOperationMetricsRecorder(@Nullable OperationMetricsRecorder operationMetricsRecorder) {
+		this.operationMetricsRecorder = operationMetricsRecorder;
+	}
+
+	/**
+	 * Configures the {@link SlowQueryRecorder} to report the duration and mapped filter of {@code find} and
+	 * {@code findOne} queries to. Queries are timed from subscription to termination. Setting {@literal null} (the
+	 * default) disables slow query recording.
+	 *
+	 * @param slowQueryRecorder can be {@literal null}.
+	 * @since 2.2
+	 */
+	public void setSlowQueryRecorder(@Nullable SlowQueryRecorder slowQueryRecorder) {
+		this.slowQueryRecorder = slowQueryRecorder;
+	}
+
+	/**
+	 * Returns the {@link CursorMetrics} of aggregations read with an explicit cursor batch size or a
+	 * {@link #setAggregationBatchSizing(CursorBatchSizing) demand aware batch size}.
+	 *
+	 * @return never {@literal null}.
+	 * @since 2.2
+	 */
+	public CursorMetrics getAggregationMetrics() {
+		return aggregationMetrics;
+	}
+
 	/**
 	 * Configures the {@link WriteConcernResolver} to be used with the template.
 	 *
@@ -319,6 +425,9 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		prepareIndexCreator(applicationContext);
 
 		eventPublisher = applicationContext;
+		eventDispatcher = new MongoMappingEventDispatcher(applicationContext);
+		eventDispatcher.setAsyncExecutor(asyncEventExecutor);
+
 		if (mappingContext instanceof ApplicationEventPublisherAware) {
 			((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(eventPublisher);
 		}
@@ -694,6 +803,14 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		return doGetDatabase();
 	}
 
+	/**
+	 * @return the {@link ReactiveMongoDatabaseFactory} in use. Never {@literal null}.
+	 * @since 2.2
+	 */
+	public ReactiveMongoDatabaseFactory getMongoDatabaseFactory() {
+		return mongoDatabaseFactory;
+	}
+
 	protected MongoDatabase doGetDatabase() {
 		return mongoDatabaseFactory.getMongoDatabase();
 	}
@@ -786,6 +903,107 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 				new QueryFindPublisherPreparer(query, entityClass));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#findMerged(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.util.Collection)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> Flux<T> findMerged(Query query, Class<T> entityClass, Collection<String> collectionNames) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityClass, "Entity class must not be null!");
+		Assert.notEmpty(collectionNames, "Collection names must not be empty!");
+		Assert.isTrue(query.isSorted(), "Query must define a sort to merge results!");
+		Assert.isTrue(!query.getCollation().isPresent(), "Results of a query using a collation cannot be merged!");
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+
+		DocumentSortComparator comparator = new DocumentSortComparator(
+				queryMapper.getMappedSort(query.getSortObject(), entity));
+		Document mappedQuery = queryMapper.getMappedObject(query.getQueryObject(), entity);
+		Document fields = queryMapper.getMappedFields(query.getFieldsObject(), entity);
+		Document mappedFields = comparator.includeSortKeys(fields);
+
+		// every collection has to provide up to skip + limit documents as the merged result is skipped client side
+		int limit = query.getLimit() > 0 ? (int) Math.min(Integer.MAX_VALUE, query.getSkip() + query.getLimit()) : 0;
+		Integer batchSize = query.getMeta().getCursorBatchSize();
+		int prefetch = batchSize != null && batchSize > 0 ? batchSize : Queues.SMALL_BUFFER_SIZE;
+
+		List<Publisher<Tuple2<Document, DocumentCallback<T>>>> sources = new ArrayList<>(collectionNames.size());
+
+		for (String collectionName : collectionNames) {
+
+			DocumentCallback<T> callback = new ReadDocumentCallback<>(mongoConverter, entityClass, collectionName);
+
+			sources.add(createFlux(collectionName,
+					collection -> new QueryFindPublisherPreparer(query, entityClass)
+							.prepare(collection.find(mappedQuery, Document.class).projection(mappedFields)) //
+							.skip(0) //
+							.limit(limit)) //
+									.map(document -> Tuples.of(document, callback)));
+		}
+
+		Flux<Tuple2<Document, DocumentCallback<T>>> merged = Flux.mergeOrdered(prefetch,
+				Comparator.comparing(Tuple2::getT1, comparator), sources.toArray(new Publisher[0]));
+
+		if (query.getSkip() > 0) {
+			merged = merged.skip(query.getSkip());
+		}
+
+		if (query.getLimit() > 0) {
+			merged = merged.take(query.getLimit());
+		}
+
+		return merged.map(it -> it.getT2().doWith(comparator.removeSortKeys(it.getT1(), fields)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#parallelScan(org.springframework.data.mongodb.core.query.Query, java.lang.Class, org.springframework.data.mongodb.core.ParallelScanOptions)
+	 */
+	@Override
+	public <T> Flux<T> parallelScan(Query query, Class<T> entityClass, ParallelScanOptions options) {
+		return parallelScan(query, entityClass, getCollectionName(entityClass), options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#parallelScan(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String, org.springframework.data.mongodb.core.ParallelScanOptions)
+	 */
+	@Override
+	public <T> Flux<T> parallelScan(Query query, Class<T> entityClass, String collectionName,
+			ParallelScanOptions options) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityClass, "Entity class must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+		Assert.notNull(options, "ParallelScanOptions must not be null!");
+		Assert.isTrue(!query.isSorted() && query.getSkip() <= 0 && query.getLimit() <= 0,
+				"Parallel scans do not support sort, skip and limit!");
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+
+		Document mappedQuery = queryMapper.getMappedObject(query.getQueryObject(), entity);
+		Document mappedFields = queryMapper.getMappedFields(query.getFieldsObject(), entity);
+		Document indexKeys = queryMapper.getMappedSort(options.getIndexKeys(), entity);
+		String splitKey = indexKeys.keySet().iterator().next();
+
+		ScanRange.assertNotMultikey(mappingContext, entity, options.getSplitKey());
+
+		List<Document> pipeline = ScanRange.boundaryPipeline(mappedQuery, splitKey, options.getPartitions());
+		ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(mongoConverter, entityClass, collectionName);
+
+		return createFlux(collectionName, collection -> collection.aggregate(pipeline, Document.class).allowDiskUse(true)) //
+				.collectList() //
+				.flatMapIterable(buckets -> ScanRange.of(indexKeys, buckets)) //
+				.flatMap(range -> createFlux(collectionName,
+						collection -> range.apply(new QueryFindPublisherPreparer(query, entityClass)
+								.prepare(collection.find(mappedQuery, Document.class).projection(mappedFields)))),
+						options.getPartitions()) //
+				.map(callback::doWith);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#findById(java.lang.Object, java.lang.Class)
@@ -955,24 +1173,42 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		}
 
 		ReadDocumentCallback<O> readCallback = new ReadDocumentCallback<>(mongoConverter, outputType, collectionName);
-		return execute(collectionName, collection -> aggregateAndMap(collection, pipeline, options, readCallback));
+		return timed(OperationType.AGGREGATE, collectionName,
+				timer -> execute(collectionName, collection -> aggregateAndMap(collection, pipeline, options, readCallback,
+						timer)));
 	}
 
 	private <O> Flux<O> aggregateAndMap(MongoCollection<Document> collection, List<Document> pipeline,
-			AggregationOptions options, ReadDocumentCallback<O> readCallback) {
+			AggregationOptions options, ReadDocumentCallback<O> readCallback, OperationTimer timer) {
+
+		Function<Document, O> converter = readCallback::doWith;
 
 		AggregatePublisher<Document> cursor = collection.aggregate(pipeline, Document.class)
 				.allowDiskUse(options.isAllowDiskUse());
 
-		if (options.getCursorBatchSize() != null) {
-			cursor = cursor.batchSize(options.getCursorBatchSize());
-		}
-
 		if (options.getCollation().isPresent()) {
 			cursor = cursor.collation(options.getCollation().map(Collation::toMongoCollation).get());
 		}
 
-		return Flux.from(cursor).map(readCallback::doWith);
+		Integer batchSize = options.getCursorBatchSize();
+
+		if (batchSize != null && batchSize > 0) {
+
+			int fixedBatchSize = batchSize;
+			return Flux.from(new DemandAwareCursorPublisher<>(cursor::batchSize, demand -> fixedBatchSize,
+					aggregationMetrics)).map(document -> timer.convert(document, converter));
+		}
+
+		if (batchSize == null && aggregationBatchSizing.isDemandAware()) {
+			return Flux.from(new DemandAwareCursorPublisher<>(cursor::batchSize, aggregationBatchSizing::getBatchSize,
+					aggregationMetrics)).map(document -> timer.convert(document, converter));
+		}
+
+		if (batchSize != null) {
+			cursor = cursor.batchSize(batchSize);
+		}
+
+		return Flux.from(cursor).map(document -> timer.convert(document, converter));
 	}
 
 	/*
@@ -1157,7 +1393,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		Assert.notNull(query, "Query must not be null!");
 		Assert.hasText(collectionName, "Collection name must not be null or empty!");
 
-		return createMono(collectionName, collection -> {
+		return timedMono(OperationType.COUNT, collectionName, timer -> createMono(collectionName, collection -> {
 
 			Document filter = query == null ? null
 					: queryMapper.getMappedObject(query.getQueryObject(),
@@ -1176,7 +1412,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			}
 
 			return collection.count(filter, options);
-		});
+		}));
 	}
 
 	/*
@@ -1240,8 +1476,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		return Mono.defer(() -> {
 
-			BeforeConvertEvent<T> event = new BeforeConvertEvent<>(objectToSave, collectionName);
-			T toConvert = maybeEmitEvent(event).getSource();
+			T toConvert = maybeEmitEvent(new BeforeConvertEvent<>(objectToSave, collectionName)).getSource();
 
 			AdaptibleEntity<T> entity = operations.forEntity(toConvert, mongoConverter.getConversionService());
 			entity.assertUpdateableIdIfNotSet();
@@ -1319,8 +1554,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		Mono<List<Tuple2<AdaptibleEntity<T>, Document>>> prepareDocuments = Flux.fromIterable(batchToSave)
 				.map(uninitialized -> {
 
-					BeforeConvertEvent<T> event = new BeforeConvertEvent<>(uninitialized, collectionName);
-					T toConvert = maybeEmitEvent(event).getSource();
+					T toConvert = maybeEmitEvent(new BeforeConvertEvent<>(uninitialized, collectionName)).getSource();
 
 					AdaptibleEntity<T> entity = operations.forEntity(toConvert, mongoConverter.getConversionService());
 					entity.assertUpdateableIdIfNotSet();
@@ -1415,17 +1649,18 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 			source.assertUpdateableIdIfNotSet();
 
-			BeforeConvertEvent<T> event = new BeforeConvertEvent<>(toSave, collectionName);
-			T afterEvent = ReactiveMongoTemplate.this.maybeEmitEvent(event).getSource();
+			T afterEvent = maybeEmitEvent(new BeforeConvertEvent<>(toSave, collectionName)).getSource();
 
 			MappedDocument mapped = operations.forEntity(toSave).toMappedDocument(mongoConverter);
 			Document document = mapped.getDocument();
 
-			ReactiveMongoTemplate.this.maybeEmitEvent(new BeforeSaveEvent<>(afterEvent, document, collectionName));
+			maybeEmitEvent(new BeforeSaveEvent<>(afterEvent, document, collectionName));
 
 			return doUpdate(collectionName, query, mapped.updateWithoutId(), afterEvent.getClass(), false, false)
 					.map(result -> {
-						return maybeEmitEvent(new AfterSaveEvent<T>(afterEvent, document, collectionName)).getSource();
+
+						maybeEmitEvent(new AfterSaveEvent<>(afterEvent, document, collectionName));
+						return afterEvent;
 					});
 		});
 	}
@@ -1436,16 +1671,17 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		return createMono(collectionName, collection -> {
 
-			T toSave = maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName)).getSource();
+			T toSave = maybeEmitEvent(new BeforeConvertEvent<>(objectToSave, collectionName)).getSource();
 
 			AdaptibleEntity<T> entity = operations.forEntity(toSave, mongoConverter.getConversionService());
 			Document dbDoc = entity.toMappedDocument(writer).getDocument();
-			maybeEmitEvent(new BeforeSaveEvent<T>(toSave, dbDoc, collectionName));
+			maybeEmitEvent(new BeforeSaveEvent<>(toSave, dbDoc, collectionName));
 
 			return saveDocument(collectionName, dbDoc, toSave.getClass()).map(id -> {
 
 				T saved = entity.populateIdIfNecessary(id);
-				return maybeEmitEvent(new AfterSaveEvent<>(saved, dbDoc, collectionName)).getSource();
+				maybeEmitEvent(new AfterSaveEvent<>(saved, dbDoc, collectionName));
+				return saved;
 			});
 		});
 	}
@@ -1469,7 +1705,11 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			return collectionToUse.insertOne(document);
 		});
 
-		return Flux.from(execute).last().map(success -> MappedDocument.of(document).getId());
+		return timedMono(OperationType.INSERT, collectionName, timer -> {
+
+			timer.documents(1);
+			return Flux.from(execute).last().map(success -> MappedDocument.of(document).getId());
+		});
 	}
 
 	protected Flux<ObjectId> insertDocumentList(String collectionName, List<Document> dbDocList) {
@@ -1484,7 +1724,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		List<Document> documents = new ArrayList<>();
 
-		return execute(collectionName, collection -> {
+		Flux<Success> execute = execute(collectionName, collection -> {
 
 			MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.INSERT_LIST, collectionName, null,
 					null, null);
@@ -1494,7 +1734,12 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			documents.addAll(toDocuments(dbDocList));
 
 			return collectionToUse.insertMany(documents);
+		});
+
+		return timed(OperationType.INSERT, collectionName, timer -> {
 
+			timer.documents(dbDocList.size());
+			return execute;
 		}).flatMap(s -> {
 
 			return Flux.fromStream(documents.stream() //
@@ -1520,7 +1765,9 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			LOGGER.debug("Saving Document containing fields: " + document.keySet());
 		}
 
-		return createMono(collectionName, collection -> {
+		return timedMono(OperationType.SAVE, collectionName, timer -> createMono(collectionName, collection -> {
+
+			timer.documents(1);
 
 			MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.SAVE, collectionName, entityClass,
 					document, null);
@@ -1536,7 +1783,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 					: collectionToUse.replaceOne(mapped.getIdFilter(), document, new ReplaceOptions().upsert(true));
 
 			return Mono.from(publisher).map(o -> mapped.getId());
-		});
+		}));
 
 	}
 
@@ -1677,7 +1924,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			}
 		});
 
-		return result.next();
+		return timedMono(OperationType.UPDATE, collectionName, timer -> result.next());
 	}
 
 	private void increaseVersionForUpdateIfNecessary(@Nullable MongoPersistentEntity<?> persistentEntity,
@@ -1797,7 +2044,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		Document queryObject = query.getQueryObject();
 		MongoPersistentEntity<?> entity = getPersistentEntity(entityClass);
 
-		return execute(collectionName, collection -> {
+		return timedMono(OperationType.REMOVE, collectionName, timer -> execute(collectionName, collection -> {
 
 			Document removeQuey = queryMapper.getMappedObject(queryObject, entity);
 
@@ -1834,8 +2081,10 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 				return collectionToUse.deleteMany(removeQuey, deleteOptions);
 			}
 
-		}).doOnNext(deleteResult -> maybeEmitEvent(new AfterDeleteEvent<>(queryObject, entityClass, collectionName)))
-				.next();
+		}).doOnNext(deleteResult -> {
+
+			maybeEmitEvent(new AfterDeleteEvent<>(queryObject, entityClass, collectionName));
+		}).next());
 	}
 
 	/*
@@ -2198,8 +2447,9 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 					serializeToJsonSafely(query), mappedFields, entityClass, collectionName));
 		}
 
-		return executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields, collation),
-				new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName), collectionName);
+		return recordIfSlow(collectionName, mappedQuery,
+				executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields, collation),
+						new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName), collectionName));
 	}
 
 	/**
@@ -2249,8 +2499,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 					serializeToJsonSafely(mappedQuery), mappedFields, entityClass, collectionName));
 		}
 
-		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer, objectCallback,
-				collectionName);
+		return recordIfSlow(collectionName, mappedQuery, executeFindMultiInternal(
+				new FindCallback(mappedQuery, mappedFields), preparer, objectCallback, collectionName));
 	}
 
 	/**
@@ -2272,8 +2522,67 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 					serializeToJsonSafely(mappedQuery), mappedFields, sourceClass, collectionName);
 		}
 
-		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer,
-				new ProjectingReadCallback<>(mongoConverter, sourceClass, targetClass, collectionName), collectionName);
+		return recordIfSlow(collectionName, mappedQuery,
+				executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer,
+						new ProjectingReadCallback<>(mongoConverter, sourceClass, targetClass, collectionName), collectionName));
+	}
+
+	/**
+	 * Report the duration of the given query from subscription to termination to the {@link SlowQueryRecorder} if one
+	 * is configured.
+	 *
+	 * @param collectionName the collection queried.
+	 * @param mappedQuery the mapped filter.
+	 * @param query the query.
+	 * @return the potentially timed query.
+	 */
+	private <T> Flux<T> recordIfSlow(String collectionName, Document mappedQuery, Flux<T> query) {
+
+		SlowQueryRecorder recorder = this.slowQueryRecorder;
+
+		if (recorder == null) {
+			return query;
+		}
+
+		return Flux.defer(() -> {
+
+			long start = System.nanoTime();
+			return query.doFinally(signalType -> recordQuery(recorder, collectionName, mappedQuery, start));
+		});
+	}
+
+	/**
+	 * Report the duration of the given query from subscription to termination to the {@link SlowQueryRecorder} if one
+	 * is configured.
+	 *
+	 * @param collectionName the collection queried.
+	 * @param mappedQuery the mapped filter.
+	 * @param query the query.
+	 * @return the potentially timed query.
+	 */
+	private <T> Mono<T> recordIfSlow(String collectionName, Document mappedQuery, Mono<T> query) {
+
+		SlowQueryRecorder recorder = this.slowQueryRecorder;
+
+		if (recorder == null) {
+			return query;
+		}
+
+		return Mono.defer(() -> {
+
+			long start = System.nanoTime();
+			return query.doFinally(signalType -> recordQuery(recorder, collectionName, mappedQuery, start));
+		});
+	}
+
+	private void recordQuery(SlowQueryRecorder recorder, String collectionName, Document mappedQuery, long start) {
+
+		recorder.recordAsync(collectionName, mappedQuery, System.nanoTime() - start, () -> {
+
+			Document command = new Document("explain", new Document("find", collectionName).append("filter", mappedQuery))
+					.append("verbosity", "queryPlanner");
+			return Mono.from(explainDatabaseFactory.getMongoDatabase().runCommand(command, Document.class)).toFuture();
+		});
 	}
 
 	private Document getMappedFieldsObject(Document fields, @Nullable MongoPersistentEntity<?> entity,
@@ -2428,8 +2737,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 	protected <E extends MongoMappingEvent<T>, T> E maybeEmitEvent(E event) {
 
-		if (null != eventPublisher) {
-			eventPublisher.publishEvent(event);
+		if (null != eventDispatcher && eventDispatcher.hasListeners(event)) {
+			eventDispatcher.publishEvent(event);
 		}
 
 		return event;
@@ -2521,8 +2830,9 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private <T> Mono<T> executeFindOneInternal(ReactiveCollectionCallback<Document> collectionCallback,
 			DocumentCallback<T> objectCallback, String collectionName) {
 
-		return createMono(collectionName,
-				collection -> Mono.from(collectionCallback.doInCollection(collection)).map(objectCallback::doWith));
+		return timedMono(OperationType.FIND_ONE, collectionName, timer -> createMono(collectionName,
+				collection -> Mono.from(collectionCallback.doInCollection(collection))
+						.map(document -> timer.convert(document, objectCallback::doWith))));
 	}
 
 	/**
@@ -2546,14 +2856,66 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private <T> Flux<T> executeFindMultiInternal(ReactiveCollectionQueryCallback<Document> collectionCallback,
 			@Nullable FindPublisherPreparer preparer, DocumentCallback<T> objectCallback, String collectionName) {
 
-		return createFlux(collectionName, collection -> {
+		Function<Document, T> converter = objectCallback::doWith;
+
+		return timed(OperationType.FIND, collectionName, timer -> createFlux(collectionName, collection -> {
 
 			FindPublisher<Document> findPublisher = collectionCallback.doInCollection(collection);
 
 			if (preparer != null) {
 				findPublisher = preparer.prepare(findPublisher);
 			}
-			return Flux.from(findPublisher).map(objectCallback::doWith);
+			return Flux.from(findPublisher).map(document -> timer.convert(document, converter));
+		}));
+	}
+
+	/**
+	 * Time the {@link Flux} created by the given function from subscription to termination if an
+	 * {@link OperationMetricsRecorder} is configured.
+	 *
+	 * @param operationType the type of the operation.
+	 * @param collectionName the collection operated on.
+	 * @param operation creates the operation using the given timer.
+	 * @return the potentially timed operation.
+	 */
+	private <T> Flux<T> timed(OperationType operationType, String collectionName,
+			Function<OperationTimer, Flux<T>> operation) {
+
+		OperationMetricsRecorder recorder = this.operationMetricsRecorder;
+
+		if (recorder == null) {
+			return operation.apply(OperationTimer.disabled());
+		}
+
+		return Flux.defer(() -> {
+
+			OperationTimer timer = OperationTimer.start(recorder, operationType, collectionName);
+			return operation.apply(timer).doFinally(signalType -> timer.stop());
+		});
+	}
+
+	/**
+	 * Time the {@link Mono} created by the given function from subscription to termination if an
+	 * {@link OperationMetricsRecorder} is configured.
+	 *
+	 * @param operationType the type of the operation.
+	 * @param collectionName the collection operated on.
+	 * @param operation creates the operation using the given timer.
+	 * @return the potentially timed operation.
+	 */
+	private <T> Mono<T> timedMono(OperationType operationType, String collectionName,
+			Function<OperationTimer, Mono<T>> operation) {
+
+		OperationMetricsRecorder recorder = this.operationMetricsRecorder;
+
+		if (recorder == null) {
+			return operation.apply(OperationTimer.disabled());
+		}
+
+		return Mono.defer(() -> {
+
+			OperationTimer timer = OperationTimer.start(recorder, operationType, collectionName);
+			return operation.apply(timer).doFinally(signalType -> timer.stop());
 		});
 	}
 
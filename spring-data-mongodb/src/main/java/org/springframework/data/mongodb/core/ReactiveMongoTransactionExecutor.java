@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoException;
+import com.mongodb.TransactionOptions;
+import com.mongodb.reactivestreams.client.ClientSession;
+
+/**
+ * Executes {@link ReactiveSessionCallback callbacks} within a MongoDB transaction and retries them according to a
+ * {@link TransactionRetryPolicy}. The whole callback is run again if the transaction fails with a
+ * {@link MongoException#TRANSIENT_TRANSACTION_ERROR_LABEL TransientTransactionError}, only the commit is repeated if it
+ * fails with an {@link MongoException#UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL UnknownTransactionCommitResult}. <br />
+ * As an attempt might be rolled back, the elements emitted by the callback are buffered and only emitted once the
+ * transaction has been committed. Callbacks must therefore be safe to run more than once and should only emit a
+ * reasonable amount of elements.
+ *
+ * <pre class="code">
+ * ReactiveMongoTransactionExecutor executor = new ReactiveMongoTransactionExecutor(template);
+ *
+ * executor.execute(action -&gt; action.insert(order)
+ * 		.then(action.updateFirst(query(where("id").is(order.getItemId())), new Update().inc("stock", -1), Item.class)));
+ * </pre>
+ *
+ * @since 2.2
+ */
+public class ReactiveMongoTransactionExecutor {
+
+	private static final ClientSessionOptions SESSION_OPTIONS = ClientSessionOptions.builder().causallyConsistent(true)
+			.build();
+
+	private final ReactiveMongoTemplate template;
+	private final @Nullable TransactionOptions options;
+	private final TransactionRetryPolicy policy;
+	private final DefaultTransactionRetryMetrics metrics = new DefaultTransactionRetryMetrics();
+
+	/**
+	 * Create a new {@link ReactiveMongoTransactionExecutor} using the {@link TransactionRetryPolicy#defaults() default
+	 * policy}.
+	 *
+	 * @param template must not be {@literal null}.
+	 */
+	public ReactiveMongoTransactionExecutor(ReactiveMongoTemplate template) {
+		this(template, null, TransactionRetryPolicy.defaults());
+	}
+
+	/**
+	 * Create a new {@link ReactiveMongoTransactionExecutor}.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param options can be {@literal null}.
+	 * @param policy must not be {@literal null}.
+	 */
+	public ReactiveMongoTransactionExecutor(ReactiveMongoTemplate template, @Nullable TransactionOptions options,
+			TransactionRetryPolicy policy) {
+
+		Assert.notNull(template, "ReactiveMongoTemplate must not be null!");
+		Assert.notNull(policy, "TransactionRetryPolicy must not be null!");
+
+		this.template = template;
+		this.options = options;
+		this.policy = policy;
+	}
+
+	/**
+	 * Execute the given {@link ReactiveSessionCallback} within a transaction on a new {@link ClientSession}, retrying it
+	 * as defined by the {@link TransactionRetryPolicy}. The session is closed once the returned {@link Flux} terminates.
+	 *
+	 * @param action must not be {@literal null}.
+	 * @return a {@link Flux} emitting the elements of the committed attempt.
+	 */
+	public <T> Flux<T> execute(ReactiveSessionCallback<T> action) {
+
+		Assert.notNull(action, "ReactiveSessionCallback must not be null!");
+
+		ReactiveMongoDatabaseFactory factory = template.getMongoDatabaseFactory();
+
+		return Mono.from(factory.getSession(SESSION_OPTIONS)).flatMap(session -> {
+
+			metrics.onTransaction();
+
+			return attempt(action, session, policy.getDeadline(), 0) //
+					.doFinally(signalType -> session.close());
+		}).flatMapIterable(Function.identity());
+	}
+
+	/**
+	 * @return the {@link TransactionRetryMetrics} of this executor. Never {@literal null}.
+	 */
+	public TransactionRetryMetrics getMetrics() {
+		return metrics;
+	}
+
+	private <T> Mono<List<T>> attempt(ReactiveSessionCallback<T> action, ClientSession session, long deadline,
+			int retry) {
+
+		return Mono.defer(() -> {
+
+			if (options != null) {
+				session.startTransaction(options);
+			} else {
+				session.startTransaction();
+			}
+
+			return Flux.from(action.doInSession(template.withSession(session))) //
+					.subscriberContext(ctx -> ReactiveMongoContext.setSession(ctx, Mono.just(session))) //
+					.collectList() //
+					.onErrorResume(ex -> abort(session).then(Mono.error(ex))) //
+					.flatMap(result -> commit(session, deadline, 0).thenReturn(result));
+		}).onErrorResume(ex -> {
+
+			if (!TransactionRetryPolicy.isTransientTransactionError(ex)) {
+				return Mono.error(ex);
+			}
+
+			return backOff(retry, deadline, ex) //
+					.doOnSuccess(it -> metrics.onTransactionRetry()) //
+					.then(attempt(action, session, deadline, retry + 1));
+		});
+	}
+
+	private Mono<Void> commit(ClientSession session, long deadline, int retry) {
+
+		return Mono.defer(() -> Mono.from(session.commitTransaction())).onErrorResume(ex -> {
+
+			if (!TransactionRetryPolicy.isUnknownTransactionCommitResult(ex)) {
+				return Mono.error(ex);
+			}
+
+			return backOff(retry, deadline, ex) //
+					.doOnSuccess(it -> metrics.onCommitRetry()) //
+					.then(commit(session, deadline, retry + 1));
+		});
+	}
+
+	private static Mono<Void> abort(ClientSession session) {
+
+		if (!session.hasActiveTransaction()) {
+			return Mono.empty();
+		}
+
+		return Mono.from(session.abortTransaction()).onErrorResume(ex -> Mono.empty());
+	}
+
+	/**
+	 * Delay for the backoff before the given retry or emit the given error if the retry would start after the deadline.
+	 */
+	private Mono<Long> backOff(int retry, long deadline, Throwable ex) {
+
+		Duration backoff = policy.getBackoff(retry);
+
+		if (!TransactionRetryPolicy.canRetry(deadline, backoff)) {
+
+			metrics.onRetriesExhausted();
+			return Mono.error(ex);
+		}
+
+		return Mono.delay(backoff);
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.bson.Document;
+import org.bson.types.MaxKey;
+import org.bson.types.MinKey;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.context.InvalidPersistentPropertyPath;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.reactivestreams.client.FindPublisher;
+
+/**
+ * Range of an index used to read a part of a collection in a parallel scan. Ranges are applied through the
+ * {@literal min} (inclusive) and {@literal max} (exclusive) bounds of an index scan which, unlike query operators,
+ * cover values of all types including {@literal null} and missing fields. Range boundaries are discovered using
+ * {@literal $bucketAuto} so that every range holds about the same number of matching documents. Bounds are set on the
+ * leading key of the hinted index, all other keys of the index are bounded by the lowest value in index order.
+ *
+ * @since 2.2
+ */
+final class ScanRange {
+
+	private final Document hint;
+	private final @Nullable Document min;
+	private final @Nullable Document max;
+
+	private ScanRange(Document indexKeys, @Nullable Object min, boolean hasMin, @Nullable Object max, boolean hasMax) {
+
+		this.hint = indexKeys;
+		this.min = hasMin ? bound(indexKeys, min) : null;
+		this.max = hasMax ? bound(indexKeys, max) : null;
+	}
+
+	/**
+	 * Reject split keys pointing to or into collection properties. Ranges of a multikey index overlap for documents
+	 * holding several values of the split key which would then be read more than once.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param entity can be {@literal null}.
+	 * @param property the property path of the split key.
+	 * @throws IllegalArgumentException if the property path contains a collection property.
+	 */
+	static void assertNotMultikey(
+			MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext,
+			@Nullable MongoPersistentEntity<?> entity, String property) {
+
+		if (entity == null) {
+			return;
+		}
+
+		PersistentPropertyPath<MongoPersistentProperty> path;
+
+		try {
+			path = mappingContext.getPersistentPropertyPath(property, entity.getType());
+		} catch (InvalidPersistentPropertyPath e) {
+			return;
+		}
+
+		for (MongoPersistentProperty persistentProperty : path) {
+			Assert.isTrue(!persistentProperty.isCollectionLike(),
+					() -> String.format("Cannot split by %s as multikey indexes on collection properties do not bound ranges!",
+							property));
+		}
+	}
+
+	/**
+	 * Create the aggregation pipeline discovering the bucket boundaries of the documents matching the given query.
+	 *
+	 * @param mappedQuery the mapped query.
+	 * @param key the mapped field name to split by.
+	 * @param partitions number of buckets.
+	 * @return the pipeline.
+	 */
+	static List<Document> boundaryPipeline(Document mappedQuery, String key, int partitions) {
+
+		Document bucketAuto = new Document("$bucketAuto",
+				new Document("groupBy", "$" + key).append("buckets", partitions));
+
+		return mappedQuery.isEmpty() ? Collections.singletonList(bucketAuto)
+				: Arrays.asList(new Document("$match", mappedQuery), bucketAuto);
+	}
+
+	/**
+	 * Create the ranges for the given {@literal $bucketAuto} results. The first range is unbounded below and the last one
+	 * unbounded above so that documents inserted while discovering the boundaries are not missed.
+	 *
+	 * @param indexKeys the mapped key document of the index to hint. Its leading key is the field to split by.
+	 * @param buckets the results of the {@link #boundaryPipeline(Document, String, int) boundary pipeline} in ascending
+	 *          order.
+	 * @return the ranges. Never empty.
+	 */
+	static List<ScanRange> of(Document indexKeys, List<Document> buckets) {
+
+		List<Object> boundaries = new ArrayList<>(buckets.size());
+
+		for (int i = 1; i < buckets.size(); i++) {
+			boundaries.add(buckets.get(i).get("_id", Document.class).get("min"));
+		}
+
+		List<ScanRange> ranges = new ArrayList<>(boundaries.size() + 1);
+
+		for (int i = 0; i <= boundaries.size(); i++) {
+
+			boolean hasMin = i > 0;
+			boolean hasMax = i < boundaries.size();
+
+			ranges.add(new ScanRange(indexKeys, hasMin ? boundaries.get(i - 1) : null, hasMin,
+					hasMax ? boundaries.get(i) : null, hasMax));
+		}
+
+		return ranges;
+	}
+
+	/**
+	 * Restrict the given {@link FindIterable} to this range.
+	 *
+	 * @param iterable must not be {@literal null}.
+	 * @return the restricted {@link FindIterable}.
+	 */
+	FindIterable<Document> apply(FindIterable<Document> iterable) {
+
+		FindIterable<Document> result = iterable.hint(hint);
+
+		result = min != null ? result.min(min) : result;
+		return max != null ? result.max(max) : result;
+	}
+
+	/**
+	 * Restrict the given {@link FindPublisher} to this range.
+	 *
+	 * @param publisher must not be {@literal null}.
+	 * @return the restricted {@link FindPublisher}.
+	 */
+	FindPublisher<Document> apply(FindPublisher<Document> publisher) {
+
+		FindPublisher<Document> result = publisher.hint(hint);
+
+		result = min != null ? result.min(min) : result;
+		return max != null ? result.max(max) : result;
+	}
+
+	private static Document bound(Document indexKeys, @Nullable Object value) {
+
+		Document bound = new Document();
+
+		for (Entry<String, Object> key : indexKeys.entrySet()) {
+
+			if (bound.isEmpty()) {
+				bound.put(key.getKey(), value);
+			} else {
+				bound.put(key.getKey(), ((Number) key.getValue()).intValue() < 0 ? new MaxKey() : new MinKey());
+			}
+		}
+
+		return bound;
+	}
+
+	@Nullable
+	Document getMin() {
+		return min;
+	}
+
+	@Nullable
+	Document getMax() {
+		return max;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("ScanRange [%s, %s)", ObjectUtils.nullSafeToString(min), ObjectUtils.nullSafeToString(max));
+	}
+}
@@ -93,7 +93,7 @@ public class SimpleMongoClientDbFactory extends MongoDbFactorySupport<MongoClien
 	 */
 	@Override
 	public ClientSession getSession(ClientSessionOptions options) {
-		return getMongoClient().startSession(options);
+		return doGetSession(options, getMongoClient()::startSession);
 	}
 
 	/*
@@ -84,7 +84,7 @@ public class SimpleMongoDbFactory extends MongoDbFactorySupport<MongoClient> imp
 	 */
 	@Override
 	public ClientSession getSession(ClientSessionOptions options) {
-		return getMongoClient().startSession(options);
+		return doGetSession(options, getMongoClient()::startSession);
 	}
 
 	/* 
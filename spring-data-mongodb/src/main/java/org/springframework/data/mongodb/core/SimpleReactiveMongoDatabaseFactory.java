@@ -18,12 +18,10 @@ package org.springframework.data.mongodb.core;
 import lombok.Value;
 import reactor.core.publisher.Mono;
 
-import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
-import org.springframework.data.mongodb.SessionAwareMethodInterceptor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -33,7 +31,6 @@ import com.mongodb.WriteConcern;
 import com.mongodb.reactivestreams.client.ClientSession;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
-import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 
 /**
@@ -52,6 +49,7 @@ public class SimpleReactiveMongoDatabaseFactory implements DisposableBean, React
 	private final PersistenceExceptionTranslator exceptionTranslator;
 
 	private @Nullable WriteConcern writeConcern;
+	private volatile @Nullable ClientSessionPool<ClientSession> sessionPool;
 
 	/**
 	 * Creates a new {@link SimpleReactiveMongoDatabaseFactory} instance from the given {@link ConnectionString}.
@@ -95,6 +93,27 @@ public class SimpleReactiveMongoDatabaseFactory implements DisposableBean, React
 		this.writeConcern = writeConcern;
 	}
 
+	/**
+	 * Configures pooling of {@link ClientSession sessions} obtained via {@link #getSession(ClientSessionOptions)}.
+	 * Closing a pooled session returns it to the pool so that it can be leased again instead of starting a new one for
+	 * every unit of work. Idle sessions are ended once they exceed {@link ClientSessionPoolOptions#getMaxIdleTime()} or
+	 * their server session has been closed. Sessions are not pooled by default.
+	 *
+	 * @param sessionPoolOptions the pool options or {@literal null} to disable pooling.
+	 * @since 2.2
+	 */
+	public void setSessionPoolOptions(@Nullable ClientSessionPoolOptions sessionPoolOptions) {
+
+		ClientSessionPool<ClientSession> previous = this.sessionPool;
+
+		this.sessionPool = sessionPoolOptions != null ? new ClientSessionPool<>(sessionPoolOptions,
+				ClientSession::hasActiveTransaction, PooledReactiveClientSession::new) : null;
+
+		if (previous != null) {
+			previous.close();
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.ReactiveMongoDbFactory#getMongoDatabase()
@@ -122,6 +141,12 @@ public class SimpleReactiveMongoDatabaseFactory implements DisposableBean, React
 	 */
 	public void destroy() throws Exception {
 
+		ClientSessionPool<ClientSession> sessionPool = this.sessionPool;
+
+		if (sessionPool != null) {
+			sessionPool.close();
+		}
+
 		if (mongoInstanceCreated) {
 			mongo.close();
 		}
@@ -141,7 +166,15 @@ public class SimpleReactiveMongoDatabaseFactory implements DisposableBean, React
 	 */
 	@Override
 	public Mono<ClientSession> getSession(ClientSessionOptions options) {
-		return Mono.from(mongo.startSession(options));
+
+		ClientSessionPool<ClientSession> sessionPool = this.sessionPool;
+
+		if (sessionPool == null) {
+			return Mono.from(mongo.startSession(options));
+		}
+
+		return Mono.defer(() -> Mono.justOrEmpty(sessionPool.acquire(options))) //
+				.switchIfEmpty(Mono.defer(() -> Mono.from(mongo.startSession(options)).map(sessionPool::decorate)));
 	}
 
 	/*
@@ -154,8 +187,8 @@ public class SimpleReactiveMongoDatabaseFactory implements DisposableBean, React
 	}
 
 	/**
-	 * {@link ClientSession} bound {@link ReactiveMongoDatabaseFactory} decorating the database with a
-	 * {@link SessionAwareMethodInterceptor}.
+	 * {@link ClientSession} bound {@link ReactiveMongoDatabaseFactory} binding the database to the session
+	 * through a {@link ReactiveClientSessionBoundMongoDatabase}.
 	 *
 	 * @author Christoph Strobl
 	 * @since 2.1
@@ -212,28 +245,7 @@ public class SimpleReactiveMongoDatabaseFactory implements DisposableBean, React
 		}
 
 		private MongoDatabase decorateDatabase(MongoDatabase database) {
-			return createProxyInstance(session, database, MongoDatabase.class);
-		}
-
-		private MongoDatabase proxyDatabase(com.mongodb.session.ClientSession session, MongoDatabase database) {
-			return createProxyInstance(session, database, MongoDatabase.class);
-		}
-
-		private MongoCollection proxyCollection(com.mongodb.session.ClientSession session, MongoCollection collection) {
-			return createProxyInstance(session, collection, MongoCollection.class);
-		}
-
-		private <T> T createProxyInstance(com.mongodb.session.ClientSession session, T target, Class<T> targetType) {
-
-			ProxyFactory factory = new ProxyFactory();
-			factory.setTarget(target);
-			factory.setInterfaces(targetType);
-			factory.setOpaque(true);
-
-			factory.addAdvice(new SessionAwareMethodInterceptor<>(session, target, ClientSession.class, MongoDatabase.class,
-					this::proxyDatabase, MongoCollection.class, this::proxyCollection));
-
-			return targetType.cast(factory.getProxy(target.getClass().getClassLoader()));
+			return new ReactiveClientSessionBoundMongoDatabase(session, database);
 		}
 	}
 }
@@ -0,0 +1,374 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Records queries exceeding a configurable latency threshold grouped by collection and query shape. The shape of a
+ * query is its mapped filter with all values replaced by a placeholder so that {@code { "lastname" : "Skywalker" }}
+ * and {@code { "lastname" : "Solo" }} are accounted for as the same query without retaining any of the values. The
+ * number of shapes kept in memory is bounded; once full, recording a new shape evicts the one with the least
+ * accumulated latency.
+ * <p>
+ * If an {@link #setExplainExecutor(Executor) explain executor} is configured, the query plan of each shape is captured
+ * asynchronously via {@code explain} when the shape is first recorded. A failed {@code explain} is retried when the
+ * shape is recorded again.
+ *
+ * @since 2.2
+ * @see MongoTemplate#setSlowQueryRecorder(SlowQueryRecorder)
+ * @see ReactiveMongoTemplate#setSlowQueryRecorder(SlowQueryRecorder)
+ * @see org.springframework.data.mongodb.monitor.SlowQueryMetrics
+ */
+public class SlowQueryRecorder {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SlowQueryRecorder.class);
+	private static final String PLACEHOLDER = "?";
+	private static final int DEFAULT_MAX_SHAPES = 100;
+
+	private final long thresholdNanos;
+	private final int maxShapes;
+	private final Map<String, SlowQueryStatistics> statistics = new ConcurrentHashMap<>();
+
+	private @Nullable Executor explainExecutor;
+
+	/**
+	 * Create a new {@link SlowQueryRecorder} recording queries taking at least the given threshold and keeping up to 100
+	 * query shapes.
+	 *
+	 * @param threshold must not be {@literal null} or negative.
+	 */
+	public SlowQueryRecorder(Duration threshold) {
+		this(threshold, DEFAULT_MAX_SHAPES);
+	}
+
+	/**
+	 * Create a new {@link SlowQueryRecorder} recording queries taking at least the given threshold and keeping up to the
+	 * given number of query shapes.
+	 *
+	 * @param threshold must not be {@literal null} or negative.
+	 * @param maxShapes must be greater than zero.
+	 */
+	public SlowQueryRecorder(Duration threshold, int maxShapes) {
+
+		Assert.notNull(threshold, "Threshold must not be null!");
+		Assert.isTrue(!threshold.isNegative(), "Threshold must not be negative!");
+		Assert.isTrue(maxShapes > 0, "Max shapes must be greater than zero!");
+
+		this.thresholdNanos = threshold.toNanos();
+		this.maxShapes = maxShapes;
+	}
+
+	/**
+	 * Configures the {@link Executor} to capture the query plan of newly recorded query shapes on. Setting
+	 * {@literal null} (the default) disables explain capture.
+	 *
+	 * @param explainExecutor can be {@literal null}.
+	 */
+	public void setExplainExecutor(@Nullable Executor explainExecutor) {
+		this.explainExecutor = explainExecutor;
+	}
+
+	/**
+	 * @return the latency threshold.
+	 */
+	public Duration getThreshold() {
+		return Duration.ofNanos(thresholdNanos);
+	}
+
+	/**
+	 * Record the execution of a query. Queries below the threshold are ignored.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param query the mapped filter. Must not be {@literal null}.
+	 * @param durationNanos the time the query took in nanoseconds.
+	 * @param explain runs {@code explain} for the query. Only invoked on the {@link #setExplainExecutor(Executor) explain
+	 *          executor}. Must not be {@literal null}.
+	 */
+	public void record(String collectionName, Document query, long durationNanos, Supplier<Document> explain) {
+
+		SlowQueryStatistics slowQuery = recordLatency(collectionName, query, durationNanos);
+
+		if (slowQuery != null) {
+			requestExplain(slowQuery, () -> onExplain(slowQuery, doExplain(explain)));
+		}
+	}
+
+	/**
+	 * Record the execution of a query capturing the {@code explain} output without blocking. Queries below the threshold
+	 * are ignored.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param query the mapped filter. Must not be {@literal null}.
+	 * @param durationNanos the time the query took in nanoseconds.
+	 * @param explain issues {@code explain} for the query returning a {@link CompletionStage} that completes with its
+	 *          output. Only invoked on the {@link #setExplainExecutor(Executor) explain executor}. Must not be
+	 *          {@literal null}.
+	 */
+	public void recordAsync(String collectionName, Document query, long durationNanos,
+			Supplier<? extends CompletionStage<Document>> explain) {
+
+		SlowQueryStatistics slowQuery = recordLatency(collectionName, query, durationNanos);
+
+		if (slowQuery != null) {
+			requestExplain(slowQuery, () -> {
+
+				CompletionStage<Document> result = doExplain(explain);
+
+				if (result == null) {
+					onExplain(slowQuery, null);
+				} else {
+					result.whenComplete((document, error) -> onExplain(slowQuery, error == null ? document : null));
+				}
+			});
+		}
+	}
+
+	@Nullable
+	private SlowQueryStatistics recordLatency(String collectionName, Document query, long durationNanos) {
+
+		if (durationNanos < thresholdNanos) {
+			return null;
+		}
+
+		String shape = shapeOf(query).toJson();
+		SlowQueryStatistics slowQuery = getOrCreate(collectionName, shape);
+
+		slowQuery.latency.record(durationNanos);
+
+		return slowQuery;
+	}
+
+	private void requestExplain(SlowQueryStatistics slowQuery, Runnable explain) {
+
+		Executor explainExecutor = this.explainExecutor;
+
+		if (explainExecutor != null && slowQuery.explainRequested.compareAndSet(false, true)) {
+
+			try {
+				explainExecutor.execute(explain);
+			} catch (RejectedExecutionException e) {
+				slowQuery.explainRequested.set(false);
+			}
+		}
+	}
+
+	private static void onExplain(SlowQueryStatistics slowQuery, @Nullable Document explain) {
+
+		if (explain == null) {
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug(String.format("Failed to explain query %s in collection %s", slowQuery.getShape(),
+						slowQuery.getCollectionName()));
+			}
+
+			slowQuery.explainRequested.set(false);
+			return;
+		}
+
+		slowQuery.explain = explain;
+	}
+
+	/**
+	 * Obtain the recorded query shapes ordered by their accumulated latency, largest first.
+	 *
+	 * @param limit the maximum number of shapes to return.
+	 * @return never {@literal null}.
+	 */
+	public List<SlowQueryStatistics> getTopOffenders(int limit) {
+
+		return statistics.values().stream() //
+				.sorted(Comparator.comparingLong(SlowQueryStatistics::getTotalLatency).reversed()) //
+				.limit(limit) //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Obtain the statistics of the given collection and query shape.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param shape the query shape as rendered by {@link SlowQueryStatistics#getShape()}.
+	 * @return the statistics or {@literal null} if no such query has been recorded.
+	 */
+	@Nullable
+	public SlowQueryStatistics getStatistics(String collectionName, String shape) {
+		return statistics.get(keyOf(collectionName, shape));
+	}
+
+	/**
+	 * Discard all recorded queries.
+	 */
+	public void reset() {
+		statistics.clear();
+	}
+
+	/**
+	 * Replace all values of the given query by a placeholder retaining field names, operators and the structure of
+	 * {@code $and}, {@code $or} and {@code $nor}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @return the query shape.
+	 */
+	static Document shapeOf(Document query) {
+
+		Document shape = new Document();
+
+		for (Map.Entry<String, Object> entry : query.entrySet()) {
+			shape.put(entry.getKey(), shapeOf(entry.getKey(), entry.getValue()));
+		}
+
+		return shape;
+	}
+
+	private static Object shapeOf(String key, @Nullable Object value) {
+
+		if (value instanceof Document) {
+			return shapeOf((Document) value);
+		}
+
+		if (value instanceof List && ("$and".equals(key) || "$or".equals(key) || "$nor".equals(key))) {
+
+			List<Object> shapes = new ArrayList<>();
+
+			for (Object element : (List<?>) value) {
+				shapes.add(element instanceof Document ? shapeOf((Document) element) : PLACEHOLDER);
+			}
+
+			return shapes;
+		}
+
+		return PLACEHOLDER;
+	}
+
+	private SlowQueryStatistics getOrCreate(String collectionName, String shape) {
+
+		String key = keyOf(collectionName, shape);
+		SlowQueryStatistics slowQuery = statistics.get(key);
+
+		if (slowQuery != null) {
+			return slowQuery;
+		}
+
+		synchronized (statistics) {
+
+			if (statistics.size() >= maxShapes && !statistics.containsKey(key)) {
+				statistics.values().stream() //
+						.min(Comparator.comparingLong(SlowQueryStatistics::getTotalLatency)) //
+						.ifPresent(it -> statistics.remove(keyOf(it.getCollectionName(), it.getShape())));
+			}
+
+			return statistics.computeIfAbsent(key, it -> new SlowQueryStatistics(collectionName, shape));
+		}
+	}
+
+	@Nullable
+	private static <T> T doExplain(Supplier<? extends T> explain) {
+
+		try {
+			return explain.get();
+		} catch (RuntimeException e) {
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Failed to run explain", e);
+			}
+
+			return null;
+		}
+	}
+
+	private static String keyOf(String collectionName, String shape) {
+		return collectionName + ':' + shape;
+	}
+
+	/**
+	 * Statistics of a single query shape on a collection.
+	 */
+	public static class SlowQueryStatistics {
+
+		private final String collectionName;
+		private final String shape;
+		private final LatencyHistogram latency = new LatencyHistogram();
+		private final AtomicBoolean explainRequested = new AtomicBoolean();
+
+		private volatile @Nullable Document explain;
+
+		SlowQueryStatistics(String collectionName, String shape) {
+
+			this.collectionName = collectionName;
+			this.shape = shape;
+		}
+
+		/**
+		 * @return the collection name.
+		 */
+		public String getCollectionName() {
+			return collectionName;
+		}
+
+		/**
+		 * @return the query shape rendered as JSON.
+		 */
+		public String getShape() {
+			return shape;
+		}
+
+		/**
+		 * @return the number of slow executions.
+		 */
+		public long getCount() {
+			return latency.getCount();
+		}
+
+		/**
+		 * @return the accumulated latency of all slow executions in nanoseconds.
+		 */
+		public long getTotalLatency() {
+			return latency.getTotal();
+		}
+
+		/**
+		 * @return the histogram of slow execution latencies in nanoseconds.
+		 */
+		public LatencyHistogram getLatency() {
+			return latency;
+		}
+
+		/**
+		 * @return the captured {@code explain} output or {@literal null} if not (yet) available.
+		 */
+		@Nullable
+		public Document getExplain() {
+			return explain;
+		}
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+/**
+ * Metrics of transactions run through a {@link MongoTransactionExecutor} or {@link ReactiveMongoTransactionExecutor}.
+ *
+ * @since 2.2
+ */
+public interface TransactionRetryMetrics {
+
+	/**
+	 * @return the number of transactions executed.
+	 */
+	long getTransactionCount();
+
+	/**
+	 * @return the number of times a whole transaction was retried due to a transient transaction error.
+	 */
+	long getTransactionRetryCount();
+
+	/**
+	 * @return the number of times a commit was retried due to an unknown commit result.
+	 */
+	long getCommitRetryCount();
+
+	/**
+	 * @return the number of transactions that failed with a retryable error because the retry time was exhausted.
+	 */
+	long getRetriesExhaustedCount();
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoException;
+
+/**
+ * Value object describing how transactions are retried by {@link MongoTransactionExecutor} and
+ * {@link ReactiveMongoTransactionExecutor}. A transaction failing with a {@literal TransientTransactionError} is
+ * retried as a whole, a commit failing with an {@literal UnknownTransactionCommitResult} is retried on its own. Retries
+ * back off exponentially starting at the {@link #getInitialBackoff() initial backoff} up to the
+ * {@link #getMaxBackoff() maximum backoff}. Each backoff is shortened by a random fraction of up to
+ * {@link #getJitter() jitter} so that contending transactions do not retry in lockstep. No retry is attempted once it
+ * would start after the {@link #getMaxRetryTime() maximum retry time} measured from the start of the transaction.
+ *
+ * @since 2.2
+ */
+public final class TransactionRetryPolicy {
+
+	private static final TransactionRetryPolicy DEFAULT = new TransactionRetryPolicy(Duration.ofMillis(10),
+			Duration.ofSeconds(1), 2D, 0.5D, Duration.ofMinutes(2));
+
+	private static final TransactionRetryPolicy NONE = new TransactionRetryPolicy(Duration.ZERO, Duration.ZERO, 1D, 0D,
+			Duration.ZERO);
+
+	private final Duration initialBackoff;
+	private final Duration maxBackoff;
+	private final double multiplier;
+	private final double jitter;
+	private final Duration maxRetryTime;
+
+	private TransactionRetryPolicy(Duration initialBackoff, Duration maxBackoff, double multiplier, double jitter,
+			Duration maxRetryTime) {
+
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.multiplier = multiplier;
+		this.jitter = jitter;
+		this.maxRetryTime = maxRetryTime;
+	}
+
+	/**
+	 * Default policy backing off from 10ms up to 1s doubling the backoff with each retry and a jitter of 50% within a
+	 * maximum retry time of 2 minutes.
+	 *
+	 * @return the default {@link TransactionRetryPolicy}.
+	 */
+	public static TransactionRetryPolicy defaults() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Policy not retrying at all.
+	 *
+	 * @return a {@link TransactionRetryPolicy} without retries.
+	 */
+	public static TransactionRetryPolicy none() {
+		return NONE;
+	}
+
+	/**
+	 * Create a new {@link TransactionRetryPolicy} using the given backoff bounds.
+	 *
+	 * @param initialBackoff the backoff before the first retry. Must not be {@literal null} or negative.
+	 * @param maxBackoff the upper bound of the backoff. Must not be {@literal null} or less than {@code initialBackoff}.
+	 * @return new instance of {@link TransactionRetryPolicy}.
+	 */
+	public TransactionRetryPolicy backoff(Duration initialBackoff, Duration maxBackoff) {
+
+		Assert.notNull(initialBackoff, "Initial backoff must not be null!");
+		Assert.notNull(maxBackoff, "Max backoff must not be null!");
+		Assert.isTrue(!initialBackoff.isNegative(), "Initial backoff must not be negative!");
+		Assert.isTrue(maxBackoff.compareTo(initialBackoff) >= 0, "Max backoff must not be less than initial backoff!");
+
+		return new TransactionRetryPolicy(initialBackoff, maxBackoff, multiplier, jitter, maxRetryTime);
+	}
+
+	/**
+	 * Create a new {@link TransactionRetryPolicy} using the given backoff multiplier.
+	 *
+	 * @param multiplier factor to grow the backoff by with each retry. Must be greater or equal to {@literal 1}.
+	 * @return new instance of {@link TransactionRetryPolicy}.
+	 */
+	public TransactionRetryPolicy multiplier(double multiplier) {
+
+		Assert.isTrue(multiplier >= 1D, "Multiplier must be greater or equal to 1!");
+
+		return new TransactionRetryPolicy(initialBackoff, maxBackoff, multiplier, jitter, maxRetryTime);
+	}
+
+	/**
+	 * Create a new {@link TransactionRetryPolicy} using the given jitter.
+	 *
+	 * @param jitter the maximum fraction to randomly shorten a backoff by. Must be between {@literal 0} and
+	 *          {@literal 1}.
+	 * @return new instance of {@link TransactionRetryPolicy}.
+	 */
+	public TransactionRetryPolicy jitter(double jitter) {
+
+		Assert.isTrue(jitter >= 0D && jitter <= 1D, "Jitter must be between 0 and 1!");
+
+		return new TransactionRetryPolicy(initialBackoff, maxBackoff, multiplier, jitter, maxRetryTime);
+	}
+
+	/**
+	 * Create a new {@link TransactionRetryPolicy} using the given maximum retry time.
+	 *
+	 * @param maxRetryTime the time after the start of a transaction no further retry is started. Must not be
+	 *          {@literal null} or negative.
+	 * @return new instance of {@link TransactionRetryPolicy}.
+	 */
+	public TransactionRetryPolicy maxRetryTime(Duration maxRetryTime) {
+
+		Assert.notNull(maxRetryTime, "Max retry time must not be null!");
+		Assert.isTrue(!maxRetryTime.isNegative(), "Max retry time must not be negative!");
+
+		return new TransactionRetryPolicy(initialBackoff, maxBackoff, multiplier, jitter, maxRetryTime);
+	}
+
+	/**
+	 * @return the backoff before the first retry.
+	 */
+	public Duration getInitialBackoff() {
+		return initialBackoff;
+	}
+
+	/**
+	 * @return the upper bound of the backoff.
+	 */
+	public Duration getMaxBackoff() {
+		return maxBackoff;
+	}
+
+	/**
+	 * @return the factor the backoff grows by with each retry.
+	 */
+	public double getMultiplier() {
+		return multiplier;
+	}
+
+	/**
+	 * @return the maximum fraction a backoff is randomly shortened by.
+	 */
+	public double getJitter() {
+		return jitter;
+	}
+
+	/**
+	 * @return the time after the start of a transaction no further retry is started.
+	 */
+	public Duration getMaxRetryTime() {
+		return maxRetryTime;
+	}
+
+	/**
+	 * Compute the jittered backoff before the given retry.
+	 *
+	 * @param retry the zero based number of the retry.
+	 * @return the backoff. Never {@literal null}.
+	 */
+	public Duration getBackoff(int retry) {
+
+		double backoff = initialBackoff.toNanos() * Math.pow(multiplier, retry);
+		double bounded = Math.min(backoff, maxBackoff.toNanos());
+		double jittered = bounded * (1D - jitter * ThreadLocalRandom.current().nextDouble());
+
+		return Duration.ofNanos((long) jittered);
+	}
+
+	/**
+	 * Compute the deadline for retries of a transaction started now.
+	 *
+	 * @return the deadline in terms of {@link System#nanoTime()}.
+	 */
+	long getDeadline() {
+		return System.nanoTime() + maxRetryTime.toNanos();
+	}
+
+	/**
+	 * Returns whether a retry after the given backoff would start before the given deadline.
+	 *
+	 * @param deadline the deadline in terms of {@link System#nanoTime()}.
+	 * @param backoff the backoff before the retry.
+	 * @return {@literal true} if the retry may be attempted.
+	 */
+	static boolean canRetry(long deadline, Duration backoff) {
+		return deadline - System.nanoTime() - backoff.toNanos() > 0;
+	}
+
+	/**
+	 * Returns whether the given {@link Throwable} or any of its causes carries the
+	 * {@link MongoException#TRANSIENT_TRANSACTION_ERROR_LABEL}.
+	 *
+	 * @param ex can be {@literal null}.
+	 * @return {@literal true} if the whole transaction may be retried.
+	 */
+	public static boolean isTransientTransactionError(@Nullable Throwable ex) {
+		return hasErrorLabel(ex, MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+	}
+
+	/**
+	 * Returns whether the given {@link Throwable} or any of its causes carries the
+	 * {@link MongoException#UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL}.
+	 *
+	 * @param ex can be {@literal null}.
+	 * @return {@literal true} if the commit may be retried.
+	 */
+	public static boolean isUnknownTransactionCommitResult(@Nullable Throwable ex) {
+		return hasErrorLabel(ex, MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL);
+	}
+
+	private static boolean hasErrorLabel(@Nullable Throwable ex, String label) {
+
+		for (Throwable current = ex; current != null; current = current.getCause()) {
+
+			if (current instanceof MongoException && ((MongoException) current).hasErrorLabel(label)) {
+				return true;
+			}
+
+			if (current.getCause() == current) {
+				break;
+			}
+		}
+
+		return false;
+	}
+}
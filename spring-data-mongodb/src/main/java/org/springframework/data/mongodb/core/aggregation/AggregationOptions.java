@@ -196,7 +196,7 @@ public class AggregationOptions {
 		}
 
 		if (!result.containsKey(CURSOR)) {
-			cursor.ifPresent(val -> result.put(CURSOR, val));
+			cursor.ifPresent(val -> result.put(CURSOR, new Document(val)));
 		}
 
 		if (!result.containsKey(COLLATION)) {
@@ -217,7 +217,7 @@ public class AggregationOptions {
 		document.put(ALLOW_DISK_USE, allowDiskUse);
 		document.put(EXPLAIN, explain);
 
-		cursor.ifPresent(val -> document.put(CURSOR, val));
+		cursor.ifPresent(val -> document.put(CURSOR, new Document(val)));
 		collation.ifPresent(val -> document.append(COLLATION, val.toDocument()));
 
 		return document;
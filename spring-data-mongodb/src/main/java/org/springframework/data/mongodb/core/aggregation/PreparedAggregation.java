@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable {@link Aggregation} rendering its pipeline only once. The rendered pipeline, including field references
+ * resolved against the mapping metadata of a {@link TypedAggregation} input type, is cached and reused by subsequent
+ * {@link #toPipeline(AggregationOperationContext) renderings} in {@code MongoTemplate} and
+ * {@code ReactiveMongoTemplate}. Pipelines and options are copied on the way in and out so that callers cannot
+ * modify the cached state. Use prepared aggregations for pipelines that are defined once and executed many times.
+ *
+ * <pre class="code">
+ * static final Aggregation TOTALS = PreparedAggregation.of(newAggregation(match(where("active").is(true)),
+ * 		group("state").sum("population").as("totalPop")));
+ *
+ * template.aggregate(TOTALS, "zips", Document.class);
+ * </pre>
+ *
+ * @since 2.2
+ * @see PreparedTypedAggregation
+ */
+public class PreparedAggregation extends Aggregation {
+
+	private final RenderedPipelineCache cache;
+
+	private PreparedAggregation(List<AggregationOperation> operations, AggregationOptions options,
+			RenderedPipelineCache cache) {
+
+		super(operations, RenderedPipelineCache.copy(options));
+		this.cache = cache;
+	}
+
+	/**
+	 * Prepare the given {@link Aggregation}. {@link TypedAggregation}s are prepared as {@link PreparedTypedAggregation}.
+	 *
+	 * @param aggregation must not be {@literal null}.
+	 * @return the {@link PreparedAggregation} or {@link PreparedTypedAggregation} for the given {@link Aggregation}.
+	 */
+	public static Aggregation of(Aggregation aggregation) {
+
+		Assert.notNull(aggregation, "Aggregation must not be null!");
+
+		if (aggregation instanceof PreparedAggregation) {
+			return aggregation;
+		}
+
+		if (aggregation instanceof TypedAggregation) {
+			return of((TypedAggregation<?>) aggregation);
+		}
+
+		List<AggregationOperation> operations = copyOf(aggregation.operations);
+		return new PreparedAggregation(operations, aggregation.getOptions(), new RenderedPipelineCache(operations));
+	}
+
+	/**
+	 * Prepare the given {@link TypedAggregation}.
+	 *
+	 * @param aggregation must not be {@literal null}.
+	 * @return the {@link PreparedTypedAggregation} for the given {@link TypedAggregation}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <I> PreparedTypedAggregation<I> of(TypedAggregation<I> aggregation) {
+
+		Assert.notNull(aggregation, "Aggregation must not be null!");
+
+		if (aggregation instanceof PreparedTypedAggregation) {
+			return (PreparedTypedAggregation<I>) aggregation;
+		}
+
+		List<AggregationOperation> operations = copyOf(aggregation.operations);
+		return new PreparedTypedAggregation<>(aggregation.getInputType(), operations, aggregation.getOptions(),
+				new RenderedPipelineCache(operations));
+	}
+
+	/**
+	 * Returns a copy of this {@link PreparedAggregation} with the given {@link AggregationOptions} set. The copy shares
+	 * the rendered pipeline with this instance.
+	 *
+	 * @param options must not be {@literal null}.
+	 * @return
+	 */
+	@Override
+	public PreparedAggregation withOptions(AggregationOptions options) {
+
+		Assert.notNull(options, "AggregationOptions must not be null.");
+		return new PreparedAggregation(operations, options, cache);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.aggregation.Aggregation#toPipeline(org.springframework.data.mongodb.core.aggregation.AggregationOperationContext)
+	 */
+	@Override
+	public List<Document> toPipeline(AggregationOperationContext rootContext) {
+		return cache.render(rootContext);
+	}
+
+	/**
+	 * Render the pipeline against the {@link Aggregation#DEFAULT_CONTEXT} and map each stage using the given
+	 * {@link QueryMapper} the way {@code MongoTemplate} and {@code ReactiveMongoTemplate} map untyped aggregations. The
+	 * mapped pipeline is cached for the last {@link QueryMapper} used.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @return a copy of the mapped pipeline. Never {@literal null}.
+	 */
+	public List<Document> toMappedPipeline(QueryMapper mapper) {
+
+		Assert.notNull(mapper, "QueryMapper must not be null!");
+		return cache.renderMapped(mapper);
+	}
+
+	/**
+	 * Returns a copy of the {@link AggregationOptions} so that the cursor {@link Document} of this instance cannot be
+	 * modified.
+	 *
+	 * @return never {@literal null}.
+	 */
+	@Override
+	public AggregationOptions getOptions() {
+		return RenderedPipelineCache.copy(super.getOptions());
+	}
+
+	static List<AggregationOperation> copyOf(List<AggregationOperation> operations) {
+		return Collections.unmodifiableList(new ArrayList<>(operations));
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable {@link TypedAggregation} rendering its pipeline only once. Field references are resolved against the
+ * mapping metadata of the input type on first rendering and reused afterwards. Create instances via
+ * {@link PreparedAggregation#of(TypedAggregation)}.
+ *
+ * @since 2.2
+ * @see PreparedAggregation
+ */
+public class PreparedTypedAggregation<I> extends TypedAggregation<I> {
+
+	private final RenderedPipelineCache cache;
+
+	PreparedTypedAggregation(Class<I> inputType, List<AggregationOperation> operations, AggregationOptions options,
+			RenderedPipelineCache cache) {
+
+		super(inputType, operations, RenderedPipelineCache.copy(options));
+		this.cache = cache;
+	}
+
+	/**
+	 * Returns a copy of this {@link PreparedTypedAggregation} with the given {@link AggregationOptions} set. The copy
+	 * shares the rendered pipeline with this instance.
+	 *
+	 * @param options must not be {@literal null}.
+	 * @return
+	 */
+	@Override
+	public PreparedTypedAggregation<I> withOptions(AggregationOptions options) {
+
+		Assert.notNull(options, "AggregationOptions must not be null.");
+		return new PreparedTypedAggregation<>(getInputType(), operations, options, cache);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.aggregation.Aggregation#toPipeline(org.springframework.data.mongodb.core.aggregation.AggregationOperationContext)
+	 */
+	@Override
+	public List<Document> toPipeline(AggregationOperationContext rootContext) {
+		return cache.render(rootContext);
+	}
+
+	/**
+	 * Render the pipeline against the {@link Aggregation#DEFAULT_CONTEXT} and map each stage using the given
+	 * {@link QueryMapper} the way {@code MongoTemplate} and {@code ReactiveMongoTemplate} map untyped aggregations. The
+	 * mapped pipeline is cached for the last {@link QueryMapper} used.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @return a copy of the mapped pipeline. Never {@literal null}.
+	 */
+	public List<Document> toMappedPipeline(QueryMapper mapper) {
+
+		Assert.notNull(mapper, "QueryMapper must not be null!");
+		return cache.renderMapped(mapper);
+	}
+
+	/**
+	 * Returns a copy of the {@link AggregationOptions} so that the cursor {@link Document} of this instance cannot be
+	 * modified.
+	 *
+	 * @return never {@literal null}.
+	 */
+	@Override
+	public AggregationOptions getOptions() {
+		return RenderedPipelineCache.copy(super.getOptions());
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.lang.Nullable;
+
+/**
+ * Cache for the pipeline rendered from a fixed {@link List} of {@link AggregationOperation}s. Rendering against the
+ * {@link Aggregation#DEFAULT_CONTEXT} or a {@link TypeBasedAggregationOperationContext} is cached as the result only
+ * depends on the context type and mapping metadata. Other contexts render the pipeline each time. The
+ * {@link #renderMapped(QueryMapper) mapped} rendering against the {@link Aggregation#DEFAULT_CONTEXT} is cached
+ * separately. Cached pipelines are never handed out, callers always obtain a deep copy.
+ *
+ * @since 2.2
+ */
+class RenderedPipelineCache {
+
+	private final List<AggregationOperation> operations;
+	private volatile @Nullable RenderedPipeline rendered;
+	private volatile @Nullable MappedPipeline mapped;
+
+	RenderedPipelineCache(List<AggregationOperation> operations) {
+		this.operations = operations;
+	}
+
+	/**
+	 * Render the pipeline for the given {@link AggregationOperationContext}. Callers obtain a copy of cached pipelines
+	 * and may modify it freely.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	List<Document> render(AggregationOperationContext context) {
+
+		if (!isCacheable(context)) {
+			return AggregationOperationRenderer.toDocument(operations, context);
+		}
+
+		RenderedPipeline current = this.rendered;
+
+		if (current == null || !current.context.equals(context)) {
+
+			current = new RenderedPipeline(context, AggregationOperationRenderer.toDocument(operations, context));
+			this.rendered = current;
+		}
+
+		return copy(current.pipeline);
+	}
+
+	/**
+	 * Render the pipeline for the {@link Aggregation#DEFAULT_CONTEXT} and map each stage using the given
+	 * {@link QueryMapper} without entity metadata. The mapped pipeline is cached for the last {@link QueryMapper} used.
+	 * Callers obtain a copy and may modify it freely.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	List<Document> renderMapped(QueryMapper mapper) {
+
+		MappedPipeline current = this.mapped;
+
+		if (current == null || current.mapper != mapper) {
+
+			List<Document> pipeline = AggregationOperationRenderer.toDocument(operations, Aggregation.DEFAULT_CONTEXT);
+			List<Document> result = new ArrayList<>(pipeline.size());
+
+			for (Document stage : pipeline) {
+				result.add(mapper.getMappedObject(stage, Optional.empty()));
+			}
+
+			current = new MappedPipeline(mapper, result);
+			this.mapped = current;
+		}
+
+		return copy(current.pipeline);
+	}
+
+	/**
+	 * Create a copy of the given {@link AggregationOptions} not sharing its cursor {@link Document}.
+	 *
+	 * @param options must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	static AggregationOptions copy(AggregationOptions options) {
+		return new AggregationOptions(options.isAllowDiskUse(), options.isExplain(),
+				options.getCursor().map(cursor -> (Document) copyValue(cursor)).orElse(null),
+				options.getCollation().orElse(null));
+	}
+
+	private static boolean isCacheable(AggregationOperationContext context) {
+		return context == Aggregation.DEFAULT_CONTEXT || context.getClass() == TypeBasedAggregationOperationContext.class;
+	}
+
+	private static List<Document> copy(List<Document> pipeline) {
+
+		List<Document> result = new ArrayList<>(pipeline.size());
+
+		for (Document stage : pipeline) {
+			result.add((Document) copyValue(stage));
+		}
+
+		return result;
+	}
+
+	@Nullable
+	private static Object copyValue(@Nullable Object value) {
+
+		if (value instanceof Document) {
+
+			Document source = (Document) value;
+			Document target = new Document();
+
+			for (Entry<String, Object> entry : source.entrySet()) {
+				target.put(entry.getKey(), copyValue(entry.getValue()));
+			}
+
+			return target;
+		}
+
+		if (value instanceof Map) {
+
+			Map<?, ?> source = (Map<?, ?>) value;
+			Map<Object, Object> target = new LinkedHashMap<>(source.size());
+
+			for (Entry<?, ?> entry : source.entrySet()) {
+				target.put(entry.getKey(), copyValue(entry.getValue()));
+			}
+
+			return target;
+		}
+
+		if (value instanceof Collection) {
+
+			Collection<?> source = (Collection<?>) value;
+			List<Object> target = new ArrayList<>(source.size());
+
+			for (Object element : source) {
+				target.add(copyValue(element));
+			}
+
+			return target;
+		}
+
+		return value;
+	}
+
+	/**
+	 * A pipeline rendered for a particular {@link AggregationOperationContext}.
+	 */
+	private static class RenderedPipeline {
+
+		private final AggregationOperationContext context;
+		private final List<Document> pipeline;
+
+		RenderedPipeline(AggregationOperationContext context, List<Document> pipeline) {
+
+			this.context = context;
+			this.pipeline = pipeline;
+		}
+	}
+
+	/**
+	 * A pipeline rendered for the {@link Aggregation#DEFAULT_CONTEXT} and mapped by a particular {@link QueryMapper}.
+	 */
+	private static class MappedPipeline {
+
+		private final QueryMapper mapper;
+		private final List<Document> pipeline;
+
+		MappedPipeline(QueryMapper mapper, List<Document> pipeline) {
+
+			this.mapper = mapper;
+			this.pipeline = pipeline;
+		}
+	}
+}
@@ -28,6 +28,7 @@ import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
  * {@link AggregationOperationContext} aware of a particular type and a {@link MappingContext} to potentially translate
@@ -102,4 +103,40 @@ public class TypeBasedAggregationOperationContext implements AggregationOperatio
 
 		return new DirectFieldReference(new ExposedField(mappedField, true));
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || !getClass().equals(obj.getClass())) {
+			return false;
+		}
+
+		TypeBasedAggregationOperationContext that = (TypeBasedAggregationOperationContext) obj;
+
+		return this.type.equals(that.type) && this.mappingContext == that.mappingContext && this.mapper == that.mapper;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+
+		int result = 17;
+
+		result += 31 * type.hashCode();
+		result += 31 * ObjectUtils.nullSafeHashCode(mappingContext);
+		result += 31 * ObjectUtils.nullSafeHashCode(mapper);
+
+		return result;
+	}
 }
@@ -52,6 +52,7 @@ import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
 import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEventDispatcher;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
@@ -91,6 +92,7 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	protected final DefaultDbRefProxyHandler dbRefProxyHandler;
 
 	protected @Nullable ApplicationContext applicationContext;
+	private @Nullable MongoMappingEventDispatcher eventDispatcher;
 	protected MongoTypeMapper typeMapper;
 	protected @Nullable String mapKeyDotReplacement = null;
 
@@ -183,6 +185,7 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 
 		this.applicationContext = applicationContext;
+		this.eventDispatcher = new MongoMappingEventDispatcher(applicationContext);
 		this.spELContext = new SpELContext(this.spELContext, applicationContext);
 	}
 
@@ -1563,12 +1566,16 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			T target = null;
 			if (document != null) {
 
-				maybeEmitEvent(
-						new AfterLoadEvent<>(document, (Class<T>) (rawType != null ? rawType : Object.class), collectionName));
+				Class<T> targetType = (Class<T>) (rawType != null ? rawType : Object.class);
+
+				if (hasListeners(AfterLoadEvent.class, targetType)) {
+					maybeEmitEvent(new AfterLoadEvent<>(document, targetType, collectionName));
+				}
+
 				target = (T) read(type, document, path);
 			}
 
-			if (target != null) {
+			if (target != null && hasListeners(AfterConvertEvent.class, target.getClass())) {
 				maybeEmitEvent(new AfterConvertEvent<>(document, target, collectionName));
 			}
 
@@ -1589,6 +1596,10 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		return this.applicationContext != null;
 	}
 
+	private boolean hasListeners(Class<?> eventType, Class<?> domainType) {
+		return canPublishEvent() && (eventDispatcher == null || eventDispatcher.hasListeners(eventType, domainType));
+	}
+
 	/**
 	 * Performs the fetch operation for the given {@link DBRef}.
 	 *
@@ -1621,6 +1632,7 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 		MappingMongoConverter target = new MappingMongoConverter(new DefaultDbRefResolver(dbFactory), mappingContext);
 		target.applicationContext = applicationContext;
+		target.eventDispatcher = eventDispatcher;
 		target.conversions = conversions;
 		target.spELContext = spELContext;
 		target.setInstantiators(instantiators);
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver.IndexDefinitionHolder;
+
+/**
+ * Difference between the indexes declared for a collection and the ones existing in the database.
+ *
+ * @since 2.2
+ * @see IndexReconciler
+ */
+public final class IndexDiff {
+
+	private final String collection;
+	private final List<IndexDefinitionHolder> missing;
+	private final List<Conflict> conflicting;
+	private final List<IndexInfo> unused;
+
+	IndexDiff(String collection, List<IndexDefinitionHolder> missing, List<Conflict> conflicting,
+			List<IndexInfo> unused) {
+
+		this.collection = collection;
+		this.missing = Collections.unmodifiableList(missing);
+		this.conflicting = Collections.unmodifiableList(conflicting);
+		this.unused = Collections.unmodifiableList(unused);
+	}
+
+	/**
+	 * @return the collection name.
+	 */
+	public String getCollection() {
+		return collection;
+	}
+
+	/**
+	 * @return declared indexes that do not exist.
+	 */
+	public List<IndexDefinitionHolder> getMissing() {
+		return missing;
+	}
+
+	/**
+	 * @return declared indexes clashing with an existing index of the same name or keys.
+	 */
+	public List<Conflict> getConflicting() {
+		return conflicting;
+	}
+
+	/**
+	 * @return existing indexes that are not declared, except the one on {@literal _id}.
+	 */
+	public List<IndexInfo> getUnused() {
+		return unused;
+	}
+
+	/**
+	 * @return {@literal true} if declared and existing indexes match.
+	 */
+	public boolean isEmpty() {
+		return missing.isEmpty() && conflicting.isEmpty() && unused.isEmpty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("IndexDiff for '%s': missing %s, conflicting %s, unused %s", collection,
+				missing.stream().map(IndexDefinitionHolder::getIndexKeys).collect(Collectors.toList()), conflicting, unused);
+	}
+
+	/**
+	 * A declared index and the existing index it clashes with.
+	 */
+	public static final class Conflict {
+
+		private final IndexDefinitionHolder declared;
+		private final IndexInfo existing;
+
+		Conflict(IndexDefinitionHolder declared, IndexInfo existing) {
+
+			this.declared = declared;
+			this.existing = existing;
+		}
+
+		/**
+		 * @return the declared index.
+		 */
+		public IndexDefinitionHolder getDeclared() {
+			return declared;
+		}
+
+		/**
+		 * @return the existing index.
+		 */
+		public IndexInfo getExisting() {
+			return existing;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("keys '%s' and options '%s' for '%s' vs. existing %s", declared.getIndexKeys(),
+					declared.getIndexOptions(), declared.getPath(), existing);
+		}
+	}
+}
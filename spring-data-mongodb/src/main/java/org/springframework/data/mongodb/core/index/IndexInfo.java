@@ -17,6 +17,7 @@ package org.springframework.data.mongodb.core.index;
 
 import static org.springframework.data.domain.Sort.Direction.*;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -50,6 +51,7 @@ public class IndexInfo {
 	private final String language;
 	private @Nullable String partialFilterExpression;
 	private @Nullable Document collation;
+	private @Nullable Duration expireAfter;
 
 	public IndexInfo(List<IndexField> indexFields, String name, boolean unique, boolean sparse, String language) {
 
@@ -114,6 +116,11 @@ public class IndexInfo {
 		IndexInfo info = new IndexInfo(indexFields, name, unique, sparse, language);
 		info.partialFilterExpression = partialFilter;
 		info.collation = sourceDocument.get("collation", Document.class);
+
+		if (sourceDocument.containsKey("expireAfterSeconds")) {
+			info.expireAfter = Duration.ofSeconds(((Number) sourceDocument.get("expireAfterSeconds")).longValue());
+		}
+
 		return info;
 	}
 
@@ -199,11 +206,21 @@ public class IndexInfo {
 		return Optional.ofNullable(collation);
 	}
 
+	/**
+	 * Get the duration after which documents within the index expire.
+	 *
+	 * @return the expiration time if set, {@link Optional#empty()} otherwise.
+	 * @since 2.2
+	 */
+	public Optional<Duration> getExpireAfter() {
+		return Optional.ofNullable(expireAfter);
+	}
+
 	@Override
 	public String toString() {
 		return "IndexInfo [indexFields=" + indexFields + ", name=" + name + ", unique=" + unique + ", sparse=" + sparse
 				+ ", language=" + language + ", partialFilterExpression=" + partialFilterExpression + ", collation=" + collation
-				+ "]";
+				+ ", expireAfter=" + expireAfter + "]";
 	}
 
 	@Override
@@ -217,6 +234,7 @@ public class IndexInfo {
 		result += 31 * ObjectUtils.nullSafeHashCode(language);
 		result += 31 * ObjectUtils.nullSafeHashCode(partialFilterExpression);
 		result += 31 * ObjectUtils.nullSafeHashCode(collation);
+		result += 31 * ObjectUtils.nullSafeHashCode(expireAfter);
 		return result;
 	}
 
@@ -262,6 +280,9 @@ public class IndexInfo {
 		if (!ObjectUtils.nullSafeEquals(collation, collation)) {
 			return false;
 		}
+		if (!ObjectUtils.nullSafeEquals(expireAfter, other.expireAfter)) {
+			return false;
+		}
 		return true;
 	}
 }
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.mongodb.core.index;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,6 +36,26 @@ public interface IndexOperations {
 	 */
 	String ensureIndex(IndexDefinition indexDefinition);
 
+	/**
+	 * Ensure that indexes for all provided {@link IndexDefinition}s exist for the collection. Implementations may create
+	 * them using a single {@literal createIndexes} command. The default implementation calls
+	 * {@link #ensureIndex(IndexDefinition)} for each definition.
+	 *
+	 * @param indexDefinitions must not be {@literal null}.
+	 * @return the names of the indexes.
+	 * @since 2.2
+	 */
+	default List<String> ensureIndexes(List<? extends IndexDefinition> indexDefinitions) {
+
+		List<String> names = new ArrayList<>(indexDefinitions.size());
+
+		for (IndexDefinition indexDefinition : indexDefinitions) {
+			names.add(ensureIndex(indexDefinition));
+		}
+
+		return names;
+	}
+
 	/**
 	 * Drops an index from this collection.
 	 *
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.index.IndexDiff.Conflict;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver.IndexDefinitionHolder;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Reconciles the indexes declared for collections with the existing ones. The existing indexes of a collection are
+ * loaded once and compared with the declared ones by name, keys, {@literal unique}, {@literal sparse},
+ * {@literal partialFilterExpression}, {@literal collation} and {@literal expireAfterSeconds}. Only missing
+ * indexes are created, all in a single {@literal createIndexes} command per collection. Conflicts are reported before
+ * any index is created. Existing indexes that are not declared are reported and optionally dropped.
+ *
+ * <pre class="code">
+ * IndexReconciler reconciler = new IndexReconciler(template, new MongoPersistentEntityIndexResolver(mappingContext));
+ * reconciler.diff(mappingContext.getPersistentEntities()).forEach(diff -&gt; log.info(diff.toString()));
+ * </pre>
+ *
+ * @since 2.2
+ */
+public class IndexReconciler {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(IndexReconciler.class);
+	private static final String ID_INDEX_NAME = "_id_";
+
+	/**
+	 * Internal keys of text indexes as reported by {@literal listIndexes}. The text fields are taken from the weights.
+	 */
+	private static final Set<String> TEXT_INDEX_KEYS = new HashSet<>(Arrays.asList("_fts", "_ftsx"));
+
+	private final IndexOperationsProvider indexOperationsProvider;
+	private final IndexResolver indexResolver;
+
+	/**
+	 * Creates a new {@link IndexReconciler}.
+	 *
+	 * @param indexOperationsProvider must not be {@literal null}.
+	 * @param indexResolver must not be {@literal null}.
+	 */
+	public IndexReconciler(IndexOperationsProvider indexOperationsProvider, IndexResolver indexResolver) {
+
+		Assert.notNull(indexOperationsProvider, "IndexOperationsProvider must not be null!");
+		Assert.notNull(indexResolver, "IndexResolver must not be null!");
+
+		this.indexOperationsProvider = indexOperationsProvider;
+		this.indexResolver = indexResolver;
+	}
+
+	/**
+	 * Compute the {@link IndexDiff} of each collection the given entities are stored in. Entities not annotated with
+	 * {@link org.springframework.data.mongodb.core.mapping.Document} are skipped.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @return one {@link IndexDiff} per collection.
+	 */
+	public List<IndexDiff> diff(Collection<? extends MongoPersistentEntity<?>> entities) {
+
+		List<IndexDiff> diffs = new ArrayList<>();
+		resolveIndexes(entities).forEach((collection, indexes) -> diffs.add(diff(collection, indexes)));
+		return diffs;
+	}
+
+	/**
+	 * Reconcile the indexes of each collection the given entities are stored in.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param dropUnused whether to drop existing indexes that are not declared.
+	 * @return one {@link IndexDiff} per collection describing the differences before reconciliation.
+	 * @throws DataIntegrityViolationException if a declared index conflicts with an existing one.
+	 */
+	public List<IndexDiff> reconcile(Collection<? extends MongoPersistentEntity<?>> entities, boolean dropUnused) {
+
+		List<IndexDiff> diffs = new ArrayList<>();
+		resolveIndexes(entities).forEach((collection, indexes) -> diffs.add(reconcile(collection, indexes, dropUnused)));
+		return diffs;
+	}
+
+	/**
+	 * Compute the {@link IndexDiff} of a single collection.
+	 *
+	 * @param collection must not be {@literal null}.
+	 * @param declared the declared indexes of the collection.
+	 * @return the {@link IndexDiff}.
+	 */
+	public IndexDiff diff(String collection, List<IndexDefinitionHolder> declared) {
+		return diff(collection, declared, indexOperationsProvider.indexOps(collection).getIndexInfo());
+	}
+
+	/**
+	 * Reconcile the indexes of a single collection by creating the missing ones in a single command.
+	 *
+	 * @param collection must not be {@literal null}.
+	 * @param declared the declared indexes of the collection.
+	 * @param dropUnused whether to drop existing indexes that are not declared.
+	 * @return the {@link IndexDiff} describing the differences before reconciliation.
+	 * @throws DataIntegrityViolationException if a declared index conflicts with an existing one.
+	 */
+	public IndexDiff reconcile(String collection, List<IndexDefinitionHolder> declared, boolean dropUnused) {
+
+		IndexOperations indexOperations = indexOperationsProvider.indexOps(collection);
+		IndexDiff diff = diff(collection, declared, indexOperations.getIndexInfo());
+
+		assertNoConflicts(diff);
+
+		if (!diff.getMissing().isEmpty()) {
+			indexOperations.ensureIndexes(diff.getMissing());
+		}
+
+		if (dropUnused) {
+
+			for (IndexInfo unused : diff.getUnused()) {
+
+				LOGGER.info("Dropping unused index '{}' of collection '{}'.", unused.getName(), collection);
+				indexOperations.dropIndex(unused.getName());
+			}
+		} else {
+			reportUnused(diff);
+		}
+
+		return diff;
+	}
+
+	/**
+	 * @param diff must not be {@literal null}.
+	 * @throws DataIntegrityViolationException if the {@link IndexDiff} contains conflicts.
+	 */
+	static void assertNoConflicts(IndexDiff diff) {
+
+		if (!diff.getConflicting().isEmpty()) {
+			throw new DataIntegrityViolationException(String.format(
+					"Cannot create indexes in collection '%s'. Conflicting indexes: %s", diff.getCollection(),
+					diff.getConflicting()));
+		}
+	}
+
+	/**
+	 * Log the unused indexes of the given {@link IndexDiff}.
+	 *
+	 * @param diff must not be {@literal null}.
+	 */
+	static void reportUnused(IndexDiff diff) {
+
+		for (IndexInfo unused : diff.getUnused()) {
+			LOGGER.info("Index '{}' of collection '{}' is not declared by any entity.", unused.getName(),
+					diff.getCollection());
+		}
+	}
+
+	/**
+	 * Compare declared and existing indexes of a collection.
+	 *
+	 * @param collection the collection name.
+	 * @param declared the declared indexes.
+	 * @param existing the existing indexes.
+	 * @return the {@link IndexDiff}.
+	 */
+	static IndexDiff diff(String collection, List<IndexDefinitionHolder> declared, List<IndexInfo> existing) {
+
+		List<IndexDefinitionHolder> missing = new ArrayList<>();
+		List<Conflict> conflicting = new ArrayList<>();
+		List<IndexInfo> unused = new ArrayList<>(existing);
+
+		unused.removeIf(it -> ID_INDEX_NAME.equals(it.getName()));
+
+		for (IndexDefinitionHolder index : declared) {
+
+			Object name = index.getIndexOptions().get("name");
+			List<String> keys = keysOf(index.getIndexKeys());
+
+			IndexInfo match = existing.stream().filter(it -> it.getName().equals(name)).findFirst()
+					.orElseGet(() -> existing.stream().filter(it -> keys.equals(keysOf(it))).findFirst().orElse(null));
+
+			if (match == null) {
+				missing.add(index);
+				continue;
+			}
+
+			unused.remove(match);
+
+			if (!isSatisfiedBy(index, name, keys, match)) {
+				conflicting.add(new Conflict(index, match));
+			}
+		}
+
+		return new IndexDiff(collection, missing, conflicting, unused);
+	}
+
+	private Map<String, List<IndexDefinitionHolder>> resolveIndexes(
+			Collection<? extends MongoPersistentEntity<?>> entities) {
+
+		Map<String, List<IndexDefinitionHolder>> indexesByCollection = new LinkedHashMap<>();
+
+		for (MongoPersistentEntity<?> entity : entities) {
+
+			if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+				continue;
+			}
+
+			for (IndexDefinitionHolder index : indexResolver.resolveIndexFor(entity.getTypeInformation())) {
+				indexesByCollection.computeIfAbsent(index.getCollection(), key -> new ArrayList<>()).add(index);
+			}
+		}
+
+		return indexesByCollection;
+	}
+
+	private static boolean isSatisfiedBy(IndexDefinitionHolder index, @Nullable Object name, List<String> keys,
+			IndexInfo existing) {
+
+		Document options = index.getIndexOptions();
+
+		return (name == null || name.equals(existing.getName())) //
+				&& keys.equals(keysOf(existing)) //
+				&& Boolean.TRUE.equals(options.get("unique")) == existing.isUnique() //
+				&& Boolean.TRUE.equals(options.get("sparse")) == existing.isSparse() //
+				&& hasSamePartialFilter(options, existing) //
+				&& hasSameCollation(options, existing) //
+				&& hasSameExpiration(options, existing);
+	}
+
+	private static boolean hasSamePartialFilter(Document options, IndexInfo existing) {
+
+		Document partialFilter = options.get("partialFilterExpression", Document.class);
+
+		return ObjectUtils.nullSafeEquals(partialFilter != null ? BsonUtils.toJson(partialFilter) : null,
+				existing.getPartialFilterExpression());
+	}
+
+	/**
+	 * The server reports the collation of an index with all defaults filled in, so only the declared collation
+	 * attributes are compared. Indexes declared without collation may inherit the default collation of the collection.
+	 */
+	private static boolean hasSameCollation(Document options, IndexInfo existing) {
+
+		Document collation = options.get("collation", Document.class);
+
+		if (collation == null) {
+			return true;
+		}
+
+		Document existingCollation = existing.getCollation().orElseGet(Document::new);
+
+		for (Map.Entry<String, Object> entry : collation.entrySet()) {
+
+			Object value = entry.getValue();
+			Object existingValue = existingCollation.get(entry.getKey());
+
+			boolean same = value instanceof Number && existingValue instanceof Number
+					? ((Number) value).doubleValue() == ((Number) existingValue).doubleValue()
+					: ObjectUtils.nullSafeEquals(value, existingValue);
+
+			if (!same) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean hasSameExpiration(Document options, IndexInfo existing) {
+
+		Object expireAfterSeconds = options.get("expireAfterSeconds");
+		Long seconds = expireAfterSeconds instanceof Number ? ((Number) expireAfterSeconds).longValue() : null;
+
+		return ObjectUtils.nullSafeEquals(seconds, existing.getExpireAfter().map(Duration::getSeconds).orElse(null));
+	}
+
+	/**
+	 * Normalize declared keys to the representation of {@link #keysOf(IndexInfo)}.
+	 */
+	private static List<String> keysOf(Document keys) {
+
+		List<String> result = new ArrayList<>(keys.size());
+		Set<String> textFields = new TreeSet<>();
+
+		for (Map.Entry<String, Object> entry : keys.entrySet()) {
+
+			Object value = entry.getValue();
+
+			if ("text".equals(value)) {
+
+				if (textFields.isEmpty()) {
+					result.add("$text");
+				}
+
+				textFields.add(entry.getKey());
+			} else if (value instanceof Number) {
+				result.add(entry.getKey() + (((Number) value).doubleValue() < 0 ? ":-1" : ":1"));
+			} else {
+				result.add(entry.getKey() + ":geo");
+			}
+		}
+
+		return withTextFields(result, textFields);
+	}
+
+	private static List<String> keysOf(IndexInfo index) {
+
+		List<String> result = new ArrayList<>(index.getIndexFields().size());
+		Set<String> textFields = new TreeSet<>();
+
+		for (IndexField field : index.getIndexFields()) {
+
+			if (TEXT_INDEX_KEYS.contains(field.getKey())) {
+				continue;
+			}
+
+			if (field.isText()) {
+
+				if (textFields.isEmpty()) {
+					result.add("$text");
+				}
+
+				textFields.add(field.getKey());
+			} else if (field.isGeo()) {
+				result.add(field.getKey() + ":geo");
+			} else {
+				result.add(field.getKey() + (Direction.DESC.equals(field.getDirection()) ? ":-1" : ":1"));
+			}
+		}
+
+		return withTextFields(result, textFields);
+	}
+
+	private static List<String> withTextFields(List<String> keys, Set<String> textFields) {
+
+		if (!textFields.isEmpty()) {
+			keys.set(keys.indexOf("$text"), "$text" + textFields);
+		}
+
+		return keys;
+	}
+}
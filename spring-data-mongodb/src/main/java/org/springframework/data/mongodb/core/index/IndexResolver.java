@@ -25,7 +25,7 @@ import org.springframework.data.util.TypeInformation;
  * @author Thomas Darimont
  * @since 1.5
  */
-interface IndexResolver {
+public interface IndexResolver {
 
 	/**
 	 * Find and create {@link IndexDefinition}s for properties of given {@link TypeInformation}. {@link IndexDefinition}s are created
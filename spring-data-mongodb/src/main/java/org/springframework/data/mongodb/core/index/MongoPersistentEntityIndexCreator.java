@@ -15,9 +15,15 @@
  */
 package org.springframework.data.mongodb.core.index;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +48,13 @@ import com.mongodb.MongoException;
 /**
  * Component that inspects {@link MongoPersistentEntity} instances contained in the given {@link MongoMappingContext}
  * for indexing metadata and ensures the indexes to be available.
+ * <p>
+ * By default indexes are created one by one on the thread publishing the mapping event, blocking until each index is
+ * built. When created with an {@link Executor}, the indexes of all known entities are resolved up front and
+ * {@link IndexReconciler reconciled} per collection: existing indexes are loaded once, conflicts are reported and only
+ * missing indexes are created using a single {@literal createIndexes} command. Collections are processed concurrently
+ * on the {@link Executor}, which should be bounded. {@link #getIndexCreation()} allows to await completion, e.g. to
+ * report readiness once all indexes are available.
  *
  * @author Jon Brisbin
  * @author Oliver Gierke
@@ -59,6 +72,10 @@ public class MongoPersistentEntityIndexCreator implements ApplicationListener<Ma
 	private final IndexOperationsProvider indexOperationsProvider;
 	private final MongoMappingContext mappingContext;
 	private final IndexResolver indexResolver;
+	private final IndexReconciler indexReconciler;
+	private final @Nullable Executor executor;
+
+	private CompletableFuture<Void> indexCreation = CompletableFuture.completedFuture(null);
 
 	/**
 	 * Creates a new {@link MongoPersistentEntityIndexCreator} for the given {@link MongoMappingContext} and
@@ -80,6 +97,21 @@ public class MongoPersistentEntityIndexCreator implements ApplicationListener<Ma
 	 */
 	public MongoPersistentEntityIndexCreator(MongoMappingContext mappingContext, IndexOperationsProvider indexOperationsProvider,
 											 IndexResolver indexResolver) {
+		this(mappingContext, indexOperationsProvider, indexResolver, null);
+	}
+
+	/**
+	 * Creates a new {@link MongoPersistentEntityIndexCreator} creating indexes asynchronously on the given
+	 * {@link Executor}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param indexOperationsProvider must not be {@literal null}.
+	 * @param indexResolver must not be {@literal null}.
+	 * @param executor the {@link Executor} to create indexes on. {@literal null} to create indexes synchronously.
+	 * @since 2.2
+	 */
+	public MongoPersistentEntityIndexCreator(MongoMappingContext mappingContext,
+			IndexOperationsProvider indexOperationsProvider, IndexResolver indexResolver, @Nullable Executor executor) {
 
 		Assert.notNull(mappingContext, "MongoMappingContext must not be null!");
 		Assert.notNull(indexOperationsProvider, "IndexOperationsProvider must not be null!");
@@ -88,10 +120,10 @@ public class MongoPersistentEntityIndexCreator implements ApplicationListener<Ma
 		this.indexOperationsProvider = indexOperationsProvider;
 		this.mappingContext = mappingContext;
 		this.indexResolver = indexResolver;
+		this.indexReconciler = new IndexReconciler(indexOperationsProvider, indexResolver);
+		this.executor = executor;
 
-		for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
-			checkForIndexes(entity);
-		}
+		createIndexes(mappingContext.getPersistentEntities());
 	}
 
 	/*
@@ -108,31 +140,129 @@ public class MongoPersistentEntityIndexCreator implements ApplicationListener<Ma
 
 		// Double check type as Spring infrastructure does not consider nested generics
 		if (entity instanceof MongoPersistentEntity) {
-			checkForIndexes((MongoPersistentEntity<?>) entity);
+			createIndexes(Collections.singletonList((MongoPersistentEntity<?>) entity));
 		}
 	}
 
-	private void checkForIndexes(final MongoPersistentEntity<?> entity) {
+	/**
+	 * Returns a {@link CompletableFuture} completing once the indexes of all entities seen so far are created. Completes
+	 * exceptionally if the creation of an index failed. Completes immediately if indexes are created synchronously.
+	 *
+	 * @return never {@literal null}.
+	 * @since 2.2
+	 */
+	public synchronized CompletableFuture<Void> getIndexCreation() {
+		return indexCreation;
+	}
+
+	/**
+	 * Resolve the indexes of the given entities not seen before and reconcile them collection by collection, either
+	 * synchronously or on the configured {@link Executor}.
+	 *
+	 * @param entities the entities to create indexes for.
+	 */
+	private void createIndexes(Collection<? extends MongoPersistentEntity<?>> entities) {
 
-		Class<?> type = entity.getType();
+		Map<String, List<IndexDefinitionHolder>> indexesByCollection = new LinkedHashMap<>();
 
-		if (!classesSeen.containsKey(type)) {
+		for (MongoPersistentEntity<?> entity : entities) {
 
-			this.classesSeen.put(type, Boolean.TRUE);
+			if (classesSeen.putIfAbsent(entity.getType(), Boolean.TRUE) != null || !entity.isAnnotationPresent(Document.class)) {
+				continue;
+			}
 
 			if (LOGGER.isDebugEnabled()) {
-				LOGGER.debug("Analyzing class " + type + " for index information.");
+				LOGGER.debug("Analyzing class " + entity.getType() + " for index information.");
+			}
+
+			for (IndexDefinitionHolder holder : indexResolver.resolveIndexFor(entity.getTypeInformation())) {
+				indexesByCollection.computeIfAbsent(holder.getCollection(), key -> new ArrayList<>()).add(holder);
 			}
+		}
+
+		if (indexesByCollection.isEmpty()) {
+			return;
+		}
+
+		if (executor == null) {
 
-			checkForAndCreateIndexes(entity);
+			indexesByCollection.forEach(this::reconcileIndexes);
+			return;
+		}
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>(indexesByCollection.size() + 1);
+
+		indexesByCollection.forEach((collection, indexes) -> futures.add(CompletableFuture.runAsync(() -> {
+
+			try {
+				reconcileIndexes(collection, indexes);
+			} catch (RuntimeException ex) {
+
+				LOGGER.error(String.format("Failed to create indexes for collection '%s'.", collection), ex);
+				throw ex;
+			}
+		}, executor)));
+
+		synchronized (this) {
+
+			futures.add(indexCreation);
+			indexCreation = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
 		}
 	}
 
-	private void checkForAndCreateIndexes(MongoPersistentEntity<?> entity) {
+	/**
+	 * Create the given indexes of a single collection unless they exist already. Falls back to creating all of them if
+	 * the existing indexes cannot be loaded.
+	 *
+	 * @param collection the collection name.
+	 * @param indexes the declared indexes of the collection.
+	 */
+	void reconcileIndexes(String collection, List<IndexDefinitionHolder> indexes) {
+
+		IndexDiff diff;
+
+		try {
+			diff = indexReconciler.diff(collection, indexes);
+		} catch (RuntimeException ex) {
+
+			LOGGER.debug(String.format("Failed to load index information for collection '%s'.", collection), ex);
+			createIndexes(collection, indexes);
+			return;
+		}
+
+		IndexReconciler.assertNoConflicts(diff);
+		IndexReconciler.reportUnused(diff);
+
+		if (!diff.getMissing().isEmpty()) {
+			createIndexes(collection, diff.getMissing());
+		}
+	}
 
-		if (entity.isAnnotationPresent(Document.class)) {
-			for (IndexDefinitionHolder indexToCreate : indexResolver.resolveIndexFor(entity.getTypeInformation())) {
-				createIndex(indexToCreate);
+	/**
+	 * Create the given indexes of a single collection using one command. If that fails because of a conflicting index,
+	 * indexes are created one by one to report the offending one.
+	 *
+	 * @param collection the collection name.
+	 * @param indexes the indexes to create.
+	 */
+	void createIndexes(String collection, List<IndexDefinitionHolder> indexes) {
+
+		if (indexes.size() == 1) {
+
+			createIndex(indexes.get(0));
+			return;
+		}
+
+		try {
+			indexOperationsProvider.indexOps(collection).ensureIndexes(indexes);
+		} catch (UncategorizedMongoDbException ex) {
+
+			if (!isDataIntegrityViolation(ex)) {
+				throw ex;
+			}
+
+			for (IndexDefinitionHolder index : indexes) {
+				createIndex(index);
 			}
 		}
 	}
@@ -146,8 +276,7 @@ public class MongoPersistentEntityIndexCreator implements ApplicationListener<Ma
 
 		} catch (UncategorizedMongoDbException ex) {
 
-			if (ex.getCause() instanceof MongoException &&
-					MongoDbErrorCodes.isDataIntegrityViolationCode(((MongoException) ex.getCause()).getCode())) {
+			if (isDataIntegrityViolation(ex)) {
 
 				IndexInfo existingIndex = fetchIndexInformation(indexDefinition);
 				String message = "Cannot create index for '%s' in collection '%s' with keys '%s' and options '%s'.";
@@ -176,6 +305,11 @@ public class MongoPersistentEntityIndexCreator implements ApplicationListener<Ma
 		return this.mappingContext.equals(context);
 	}
 
+	private static boolean isDataIntegrityViolation(UncategorizedMongoDbException ex) {
+		return ex.getCause() instanceof MongoException
+				&& MongoDbErrorCodes.isDataIntegrityViolationCode(((MongoException) ex.getCause()).getCode());
+	}
+
 	@Nullable
 	private IndexInfo fetchIndexInformation(@Nullable IndexDefinitionHolder indexDefinition) {
 
@@ -0,0 +1,469 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver.IndexDefinitionHolder;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StreamUtils;
+
+/**
+ * {@link IndexResolver} using index definitions resolved at build time instead of walking the type graph of each
+ * entity on startup. The definitions are read from a resource written by {@link #write(MongoMappingContext, Iterable,
+ * OutputStream)} or {@link #main(String[])}, e.g. using the {@code exec-maven-plugin} during {@code process-classes}:
+ *
+ * <pre class="code">
+ * java org.springframework.data.mongodb.core.index.PrecomputedIndexResolver \
+ *     target/classes/META-INF/spring-data-mongodb/indexes.json com.acme.domain
+ * </pre>
+ *
+ * Every entry carries a checksum of the class files of the entity, its super classes, its interfaces and its nested
+ * types, loaded through the class loader of the entity, along with a checksum of the mapped field names of the type
+ * graph. The latter reflects mapping configuration such as the
+ * {@link org.springframework.data.mapping.model.FieldNamingStrategy} or custom simple types. Entries whose checksums do
+ * not match at runtime, as well as types without an entry, are resolved using the fallback {@link IndexResolver}.
+ * Results are cached per type. Entities with a SpEL expression as collection name are not precomputed.
+ * <p>
+ * Precomputed indexes are opt-in. Configure {@link org.springframework.data.mongodb.core.MongoTemplate},
+ * {@link org.springframework.data.mongodb.core.ReactiveMongoTemplate} or an index creator with a
+ * {@link PrecomputedIndexResolver} to use them.
+ *
+ * @since 2.2
+ */
+public class PrecomputedIndexResolver implements IndexResolver {
+
+	/**
+	 * Default location of the precomputed index definitions on the class path.
+	 */
+	public static final String DEFAULT_LOCATION = "META-INF/spring-data-mongodb/indexes.json";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PrecomputedIndexResolver.class);
+	private static final int VERSION = 2;
+
+	private final IndexResolver fallback;
+	private final MongoMappingContext mappingContext;
+	private final Map<String, Document> entries;
+	private final BiFunction<ClassLoader, String, Long> checksums;
+	private final Map<Class<?>, List<IndexDefinitionHolder>> resolved = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link PrecomputedIndexResolver} reading the definitions from {@link #DEFAULT_LOCATION} and falling
+	 * back to a {@link MongoPersistentEntityIndexResolver}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 */
+	public PrecomputedIndexResolver(MongoMappingContext mappingContext) {
+		this(mappingContext, new ClassPathResource(DEFAULT_LOCATION));
+	}
+
+	/**
+	 * Creates a new {@link PrecomputedIndexResolver} reading the definitions from the given {@link Resource} and falling
+	 * back to a {@link MongoPersistentEntityIndexResolver}. A missing or unreadable resource results in runtime
+	 * resolution of all types.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param resource must not be {@literal null}.
+	 */
+	public PrecomputedIndexResolver(MongoMappingContext mappingContext, Resource resource) {
+		this(new MongoPersistentEntityIndexResolver(mappingContext), mappingContext, read(resource),
+				new ClassFileChecksums());
+	}
+
+	PrecomputedIndexResolver(IndexResolver fallback, MongoMappingContext mappingContext, Map<String, Document> entries,
+			BiFunction<ClassLoader, String, Long> checksums) {
+
+		Assert.notNull(fallback, "Fallback IndexResolver must not be null!");
+		Assert.notNull(mappingContext, "MongoMappingContext must not be null!");
+
+		this.fallback = fallback;
+		this.mappingContext = mappingContext;
+		this.entries = entries;
+		this.checksums = checksums;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.index.IndexResolver#resolveIndexFor(org.springframework.data.util.TypeInformation)
+	 */
+	@Override
+	public Iterable<? extends IndexDefinitionHolder> resolveIndexFor(TypeInformation<?> typeInformation) {
+		return resolved.computeIfAbsent(typeInformation.getType(), type -> {
+
+			Document entry = entries.get(type.getName());
+
+			if (entry != null && isCurrent(type, entry)) {
+				return toHolders(entry);
+			}
+
+			if (entry != null && LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Precomputed indexes of {} are stale, resolving them at runtime.", type.getName());
+			}
+
+			List<IndexDefinitionHolder> holders = new ArrayList<>();
+			fallback.resolveIndexFor(typeInformation).forEach(holders::add);
+			return Collections.unmodifiableList(holders);
+		});
+	}
+
+	/**
+	 * Resolve the indexes of the given entity types and write them along with their checksums.
+	 *
+	 * @param mappingContext the {@link MongoMappingContext} to resolve indexes with. Must not be {@literal null}.
+	 * @param types the entity types. Must not be {@literal null}.
+	 * @param outputStream the stream to write to. Not closed by this method.
+	 * @throws IOException if writing fails.
+	 */
+	public static void write(MongoMappingContext mappingContext, Iterable<Class<?>> types, OutputStream outputStream)
+			throws IOException {
+
+		Assert.notNull(mappingContext, "MongoMappingContext must not be null!");
+		Assert.notNull(types, "Types must not be null!");
+
+		MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+		ClassFileChecksums checksums = new ClassFileChecksums();
+		List<Document> entities = new ArrayList<>();
+
+		for (Class<?> type : types) {
+
+			MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(type);
+			org.springframework.data.mongodb.core.mapping.Document annotation = entity
+					.findAnnotation(org.springframework.data.mongodb.core.mapping.Document.class);
+
+			if (annotation == null || annotation.collection().contains("#{")) {
+				continue;
+			}
+
+			ClassLoader classLoader = type.getClassLoader();
+			Set<String> typeNames = new TreeSet<>();
+			Set<String> mapping = new TreeSet<>();
+			collectTypes(mappingContext, entity, typeNames, mapping);
+
+			List<Document> indexes = new ArrayList<>();
+
+			for (IndexDefinitionHolder holder : resolver.resolveIndexFor(entity.getTypeInformation())) {
+				indexes.add(new Document("path", holder.getPath()) //
+						.append("collection", holder.getCollection()) //
+						.append("keys", holder.getIndexKeys()) //
+						.append("options", holder.getIndexOptions()));
+			}
+
+			entities.add(new Document("type", type.getName()) //
+					.append("types", new ArrayList<>(typeNames)) //
+					.append("checksum", checksum(typeNames, typeName -> checksums.apply(classLoader, typeName))) //
+					.append("mapping", checksum(mapping)) //
+					.append("indexes", indexes));
+		}
+
+		String json = new Document("version", VERSION).append("entities", entities)
+				.toJson(JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build());
+
+		outputStream.write(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Write precomputed index definitions of all types annotated with
+	 * {@link org.springframework.data.mongodb.core.mapping.Document} in the given packages using a default
+	 * {@link MongoMappingContext}.
+	 *
+	 * @param args the output file followed by one or more base packages.
+	 * @throws IOException if writing fails.
+	 * @throws ClassNotFoundException if a scanned type cannot be loaded.
+	 */
+	public static void main(String[] args) throws IOException, ClassNotFoundException {
+
+		Assert.isTrue(args.length > 1, "Usage: PrecomputedIndexResolver <output file> <base package>...");
+
+		ClassPathScanningCandidateComponentProvider componentProvider = new ClassPathScanningCandidateComponentProvider(
+				false);
+		componentProvider
+				.addIncludeFilter(new AnnotationTypeFilter(org.springframework.data.mongodb.core.mapping.Document.class));
+
+		Set<Class<?>> types = new LinkedHashSet<>();
+
+		ClassLoader classLoader = componentProvider.getResourceLoader().getClassLoader();
+
+		for (int i = 1; i < args.length; i++) {
+			for (BeanDefinition candidate : componentProvider.findCandidateComponents(args[i])) {
+				types.add(ClassUtils.forName(candidate.getBeanClassName(), classLoader));
+			}
+		}
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setInitialEntitySet(types);
+		mappingContext.initialize();
+
+		File output = new File(args[0]);
+
+		if (output.getParentFile() != null) {
+			output.getParentFile().mkdirs();
+		}
+
+		try (OutputStream outputStream = Files.newOutputStream(output.toPath())) {
+			write(mappingContext, types, outputStream);
+		}
+	}
+
+	static Map<String, Document> read(Resource resource) {
+
+		if (!resource.exists()) {
+			return Collections.emptyMap();
+		}
+
+		try (InputStream inputStream = resource.getInputStream()) {
+			return parse(StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+		} catch (IOException | RuntimeException ex) {
+
+			LOGGER.warn(String.format("Failed to read precomputed indexes from %s.", resource), ex);
+			return Collections.emptyMap();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	static Map<String, Document> parse(String json) {
+
+		Document document = Document.parse(json);
+
+		if (!Integer.valueOf(VERSION).equals(document.get("version"))) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, Document> entries = new HashMap<>();
+
+		for (Document entity : (List<Document>) document.get("entities", List.class)) {
+			entries.put(entity.getString("type"), entity);
+		}
+
+		return entries;
+	}
+
+	@SuppressWarnings("unchecked")
+	private boolean isCurrent(Class<?> type, Document entry) {
+
+		ClassLoader classLoader = type.getClassLoader();
+		Long checksum = checksum((Collection<String>) entry.get("types", Collection.class),
+				typeName -> checksums.apply(classLoader, typeName));
+
+		if (checksum == null || !checksum.equals(entry.get("checksum"))) {
+			return false;
+		}
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+
+		if (entity == null) {
+			return false;
+		}
+
+		Set<String> mapping = new TreeSet<>();
+		collectTypes(mappingContext, entity, new TreeSet<>(), mapping);
+
+		return Long.valueOf(checksum(mapping)).equals(entry.get("mapping"));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<IndexDefinitionHolder> toHolders(Document entry) {
+
+		List<IndexDefinitionHolder> holders = new ArrayList<>();
+
+		for (Document index : (List<Document>) entry.get("indexes", List.class)) {
+
+			IndexDefinition definition = new PrecomputedIndexDefinition(index.get("keys", Document.class),
+					index.get("options", Document.class));
+			holders.add(new IndexDefinitionHolder(index.getString("path"), definition, index.getString("collection")));
+		}
+
+		return Collections.unmodifiableList(holders);
+	}
+
+	/**
+	 * Collect the names of the given entity, its super classes, its interfaces and its nested entities as well as a
+	 * description of how their properties are mapped.
+	 */
+	private static void collectTypes(MongoMappingContext mappingContext, @Nullable MongoPersistentEntity<?> entity,
+			Set<String> typeNames, Set<String> mapping) {
+
+		if (entity == null || !typeNames.add(entity.getType().getName())) {
+			return;
+		}
+
+		for (Class<?> superType = entity.getType().getSuperclass(); superType != null
+				&& superType != Object.class; superType = superType.getSuperclass()) {
+			typeNames.add(superType.getName());
+		}
+
+		for (Class<?> ifc : ClassUtils.getAllInterfacesForClassAsSet(entity.getType())) {
+			typeNames.add(ifc.getName());
+		}
+
+		entity.doWithProperties((PropertyHandler<MongoPersistentProperty>) property -> {
+
+			mapping.add(entity.getType().getName() + "#" + property.getName() + "->" + property.getFieldName()
+					+ (property.isEntity() ? ":" + property.getActualType().getName() : ""));
+
+			if (property.isEntity()) {
+				collectTypes(mappingContext, mappingContext.getPersistentEntity(property.getActualType()), typeNames,
+						mapping);
+			}
+		});
+	}
+
+	private static long checksum(Collection<String> values) {
+
+		CRC32 crc = new CRC32();
+
+		for (String value : values) {
+			crc.update(value.getBytes(StandardCharsets.UTF_8));
+			crc.update('\n');
+		}
+
+		return crc.getValue();
+	}
+
+	/**
+	 * @return the combined checksum or {@literal null} if the class file of a type cannot be read.
+	 */
+	@Nullable
+	private static Long checksum(Collection<String> typeNames, Function<String, Long> checksums) {
+
+		CRC32 crc = new CRC32();
+
+		for (String typeName : new TreeSet<>(typeNames)) {
+
+			Long checksum = checksums.apply(typeName);
+
+			if (checksum == null) {
+				return null;
+			}
+
+			crc.update(typeName.getBytes(StandardCharsets.UTF_8));
+			crc.update(Long.toString(checksum).getBytes(StandardCharsets.UTF_8));
+		}
+
+		return crc.getValue();
+	}
+
+	/**
+	 * {@link IndexDefinition} restored from its keys and options.
+	 */
+	private static class PrecomputedIndexDefinition implements IndexDefinition {
+
+		private final Document keys;
+		private final Document options;
+
+		PrecomputedIndexDefinition(Document keys, Document options) {
+
+			this.keys = keys;
+			this.options = options;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.index.IndexDefinition#getIndexKeys()
+		 */
+		@Override
+		public Document getIndexKeys() {
+			return keys;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.index.IndexDefinition#getIndexOptions()
+		 */
+		@Override
+		public Document getIndexOptions() {
+			return options;
+		}
+	}
+
+	/**
+	 * Cached CRC32 checksums of class files per {@link ClassLoader}.
+	 */
+	private static class ClassFileChecksums implements BiFunction<ClassLoader, String, Long> {
+
+		private final Map<ClassLoader, Map<String, Long>> checksums = new ConcurrentReferenceHashMap<>();
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.function.BiFunction#apply(java.lang.Object, java.lang.Object)
+		 */
+		@Nullable
+		@Override
+		public Long apply(@Nullable ClassLoader classLoader, String typeName) {
+			return checksums.computeIfAbsent(classLoader, key -> new ConcurrentHashMap<>()).computeIfAbsent(typeName,
+					key -> compute(classLoader, key));
+		}
+
+		@Nullable
+		private static Long compute(@Nullable ClassLoader classLoader, String typeName) {
+
+			String resourceName = ClassUtils.convertClassNameToResourcePath(typeName) + ClassUtils.CLASS_FILE_SUFFIX;
+
+			try (InputStream inputStream = classLoader != null ? classLoader.getResourceAsStream(resourceName)
+					: ClassLoader.getSystemResourceAsStream(resourceName)) {
+
+				if (inputStream == null) {
+					return null;
+				}
+
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				StreamUtils.copy(inputStream, bytes);
+
+				CRC32 crc = new CRC32();
+				crc.update(bytes.toByteArray());
+				return crc.getValue();
+			} catch (IOException ex) {
+				return null;
+			}
+		}
+	}
+}
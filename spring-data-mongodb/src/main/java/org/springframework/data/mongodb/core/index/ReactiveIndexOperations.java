@@ -18,6 +18,8 @@ package org.springframework.data.mongodb.core.index;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Index operations on a collection.
  *
@@ -35,6 +37,19 @@ public interface ReactiveIndexOperations {
 	 */
 	Mono<String> ensureIndex(IndexDefinition indexDefinition);
 
+	/**
+	 * Ensure that indexes for all provided {@link IndexDefinition}s exist for the collection. Implementations may create
+	 * them using a single {@literal createIndexes} command. The default implementation calls
+	 * {@link #ensureIndex(IndexDefinition)} for each definition.
+	 *
+	 * @param indexDefinitions must not be {@literal null}.
+	 * @return the names of the indexes.
+	 * @since 2.2
+	 */
+	default Flux<String> ensureIndexes(List<? extends IndexDefinition> indexDefinitions) {
+		return Flux.fromIterable(indexDefinitions).concatMap(this::ensureIndex);
+	}
+
 	/**
 	 * Drops an index from this collection.
 	 *
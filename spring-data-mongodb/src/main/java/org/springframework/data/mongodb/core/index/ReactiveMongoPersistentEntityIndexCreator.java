@@ -19,6 +19,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -40,7 +41,8 @@ import com.mongodb.MongoException;
 
 /**
  * Component that inspects {@link MongoPersistentEntity} instances contained in the given {@link MongoMappingContext}
- * for indexing metadata and ensures the indexes to be available using reactive infrastructure.
+ * for indexing metadata and ensures the indexes to be available using reactive infrastructure. The indexes of each
+ * collection are created using a single {@literal createIndexes} command, collections are processed concurrently.
  *
  * @author Mark Paluch
  * @since 2.1
@@ -122,15 +124,41 @@ public class ReactiveMongoPersistentEntityIndexCreator {
 
 	private Mono<Void> checkForAndCreateIndexes(MongoPersistentEntity<?> entity) {
 
-		List<Mono<?>> publishers = new ArrayList<>();
+		Map<String, List<IndexDefinitionHolder>> indexesByCollection = new LinkedHashMap<>();
 
 		if (entity.isAnnotationPresent(Document.class)) {
 			for (IndexDefinitionHolder indexToCreate : indexResolver.resolveIndexFor(entity.getTypeInformation())) {
-				publishers.add(createIndex(indexToCreate));
+				indexesByCollection.computeIfAbsent(indexToCreate.getCollection(), key -> new ArrayList<>()).add(indexToCreate);
 			}
 		}
 
-		return publishers.isEmpty() ? Mono.empty() : Flux.merge(publishers).then();
+		if (indexesByCollection.isEmpty()) {
+			return Mono.empty();
+		}
+
+		List<Flux<String>> publishers = new ArrayList<>(indexesByCollection.size());
+		indexesByCollection.forEach((collection, indexes) -> publishers.add(createIndexes(collection, indexes)));
+
+		return Flux.merge(publishers).then();
+	}
+
+	/**
+	 * Create the given indexes of a single collection using one command. If that fails because of a conflicting index,
+	 * indexes are created one by one to report the offending one.
+	 *
+	 * @param collection the collection name.
+	 * @param indexes the indexes to create.
+	 * @return the names of the created indexes.
+	 */
+	Flux<String> createIndexes(String collection, List<IndexDefinitionHolder> indexes) {
+
+		if (indexes.size() == 1) {
+			return createIndex(indexes.get(0)).flux();
+		}
+
+		return operationsProvider.indexOps(collection).ensureIndexes(indexes) //
+				.onErrorResume(ReactiveMongoPersistentEntityIndexCreator::isDataIntegrityViolation,
+						e -> Flux.fromIterable(indexes).concatMap(this::createIndex));
 	}
 
 	Mono<String> createIndex(IndexDefinitionHolder indexDefinition) {
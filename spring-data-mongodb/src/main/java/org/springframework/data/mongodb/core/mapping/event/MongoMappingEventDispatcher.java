@@ -0,0 +1,413 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping.event;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Publishes {@link MongoMappingEvent}s through an {@link ApplicationEventPublisher} and tells whether any listener is
+ * interested in a given event and domain type, so that callers can skip creating the event altogether. Listeners are
+ * looked up in the {@link ApplicationContext} hierarchy including listener beans that have not been instantiated yet.
+ * {@link AbstractMongoEventListener}s are only considered interested in the events of the callbacks they override for
+ * their domain type. Any other {@link ApplicationListener} is considered interested in all events of a type it
+ * supports. The lookup is cached until a {@link ContextRefreshedEvent} is published within the
+ * {@link ApplicationContext} hierarchy. Listeners registered programmatically after the refresh require a call to
+ * {@link #invalidate()}. Publishers other than an {@link AbstractApplicationContext} are assumed to have listeners for
+ * all events.
+ * <p>
+ * {@link AfterSaveEvent}s and {@link AfterDeleteEvent}s may be published asynchronously by configuring an
+ * {@link Executor}. {@link AfterLoadEvent}s and {@link AfterConvertEvent}s are always published synchronously as
+ * listeners may modify the {@link org.bson.Document} or object handed out to the caller.
+ *
+ * @since 2.2
+ */
+public class MongoMappingEventDispatcher {
+
+	private static final Map<Class<?>, String> CALLBACKS;
+	private static final Map<ApplicationContext, InvalidatingListener> INVALIDATING_LISTENERS = new WeakHashMap<>();
+
+	static {
+
+		Map<Class<?>, String> callbacks = new LinkedHashMap<>();
+		callbacks.put(BeforeConvertEvent.class, "onBeforeConvert");
+		callbacks.put(BeforeSaveEvent.class, "onBeforeSave");
+		callbacks.put(AfterSaveEvent.class, "onAfterSave");
+		callbacks.put(AfterLoadEvent.class, "onAfterLoad");
+		callbacks.put(AfterConvertEvent.class, "onAfterConvert");
+		callbacks.put(BeforeDeleteEvent.class, "onBeforeDelete");
+		callbacks.put(AfterDeleteEvent.class, "onAfterDelete");
+
+		CALLBACKS = Collections.unmodifiableMap(callbacks);
+	}
+
+	private final ApplicationEventPublisher publisher;
+
+	private @Nullable Executor asyncExecutor;
+	private volatile @Nullable ListenerIndex index;
+	private int generation;
+
+	/**
+	 * Creates a new {@link MongoMappingEventDispatcher} for the given {@link ApplicationEventPublisher}.
+	 *
+	 * @param publisher must not be {@literal null}.
+	 */
+	public MongoMappingEventDispatcher(ApplicationEventPublisher publisher) {
+
+		Assert.notNull(publisher, "ApplicationEventPublisher must not be null!");
+
+		this.publisher = publisher;
+
+		if (publisher instanceof AbstractApplicationContext) {
+
+			for (ApplicationContext current = (ApplicationContext) publisher; current != null; current = current
+					.getParent()) {
+
+				if (current instanceof ConfigurableApplicationContext) {
+					InvalidatingListener.register((ConfigurableApplicationContext) current, this);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Configure the {@link Executor} to publish {@link AfterSaveEvent}s and {@link AfterDeleteEvent}s on. Listeners of
+	 * those events no longer run on the calling thread nor within its transaction.
+	 *
+	 * @param asyncExecutor can be {@literal null} to publish all events synchronously.
+	 */
+	public void setAsyncExecutor(@Nullable Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	/**
+	 * Returns whether any listener is interested in events of the given type for the given domain type.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType the type the event refers to. Can be {@literal null} if unknown.
+	 * @return {@literal true} if an event of the given type has to be published.
+	 */
+	public boolean hasListeners(Class<?> eventType, @Nullable Class<?> domainType) {
+
+		if (!(publisher instanceof AbstractApplicationContext)) {
+			return true;
+		}
+
+		ListenerIndex current = index;
+
+		if (current != null) {
+			return current.hasListeners(eventType, domainType);
+		}
+
+		try {
+
+			int generation;
+
+			synchronized (this) {
+				generation = this.generation;
+			}
+
+			current = new ListenerIndex(lookupListeners((AbstractApplicationContext) publisher));
+
+			synchronized (this) {
+
+				// discard the lookup if invalidated meanwhile as it might have missed listeners
+				if (generation == this.generation) {
+					index = current;
+				}
+			}
+
+			return current.hasListeners(eventType, domainType);
+		} catch (IllegalStateException | ConcurrentModificationException o_O) {
+
+			// context not (yet) active or listeners being registered concurrently
+			return true;
+		}
+	}
+
+	/**
+	 * Returns whether any listener is interested in the given {@link MongoMappingEvent}. The domain type is derived from
+	 * the type of {@link AfterLoadEvent}s and {@link AbstractDeleteEvent}s and from the source of any other event.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @return {@literal true} if the event has to be published.
+	 */
+	public boolean hasListeners(MongoMappingEvent<?> event) {
+
+		Assert.notNull(event, "Event must not be null!");
+
+		Class<?> domainType;
+
+		if (event instanceof AfterLoadEvent) {
+			domainType = ((AfterLoadEvent<?>) event).getType();
+		} else if (event instanceof AbstractDeleteEvent) {
+			domainType = ((AbstractDeleteEvent<?>) event).getType();
+		} else {
+			domainType = event.getSource().getClass();
+		}
+
+		return hasListeners(event.getClass(), domainType);
+	}
+
+	/**
+	 * Discard the cached listener lookup, e.g. after registering an {@link ApplicationListener} with an already
+	 * refreshed {@link ApplicationContext}.
+	 */
+	public void invalidate() {
+
+		synchronized (this) {
+
+			generation++;
+			index = null;
+		}
+	}
+
+	/**
+	 * Publish the given {@link MongoMappingEvent}.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	public void publishEvent(MongoMappingEvent<?> event) {
+
+		Executor executor = asyncExecutor;
+
+		if (executor != null && (event instanceof AfterSaveEvent || event instanceof AfterDeleteEvent)) {
+			executor.execute(() -> publisher.publishEvent(event));
+		} else {
+			publisher.publishEvent(event);
+		}
+	}
+
+	private static List<ListenerInterest> lookupListeners(AbstractApplicationContext context) {
+
+		List<ListenerInterest> interests = new ArrayList<>();
+
+		for (ApplicationContext current = context; current != null; current = current.getParent()) {
+
+			if (!(current instanceof AbstractApplicationContext)) {
+				return Collections.singletonList(ListenerInterest.ALL);
+			}
+
+			for (ApplicationListener<?> listener : new ArrayList<>(
+					((AbstractApplicationContext) current).getApplicationListeners())) {
+				interests.add(listener instanceof AbstractMongoEventListener ? ListenerInterest.of(listener.getClass())
+						: ListenerInterest.of(listener));
+			}
+
+			for (String beanName : current.getBeanNamesForType(ApplicationListener.class, true, false)) {
+				interests.add(ListenerInterest.of(current.getType(beanName)));
+			}
+		}
+
+		return interests;
+	}
+
+	/**
+	 * The event and domain types a single listener is interested in.
+	 */
+	private interface ListenerInterest {
+
+		ListenerInterest ALL = (eventType, domainType) -> true;
+
+		boolean isInterestedIn(Class<?> eventType, @Nullable Class<?> domainType);
+
+		static ListenerInterest of(ApplicationListener<?> listener) {
+
+			GenericApplicationListener adapter = listener instanceof GenericApplicationListener
+					? (GenericApplicationListener) listener
+					: new GenericApplicationListenerAdapter(listener);
+
+			return (eventType, domainType) -> adapter.supportsEventType(ResolvableType.forClass(eventType));
+		}
+
+		static ListenerInterest of(@Nullable Class<?> listenerType) {
+
+			if (listenerType == null || SmartApplicationListener.class.isAssignableFrom(listenerType)
+					|| GenericApplicationListener.class.isAssignableFrom(listenerType)) {
+				return ALL;
+			}
+
+			if (AbstractMongoEventListener.class.isAssignableFrom(listenerType)) {
+				return ofMongoEventListener(listenerType);
+			}
+
+			Class<?> supported = ResolvableType.forClass(listenerType).as(ApplicationListener.class).getGeneric().resolve();
+
+			return supported == null ? ALL : (eventType, domainType) -> supported.isAssignableFrom(eventType);
+		}
+
+		static ListenerInterest ofMongoEventListener(Class<?> listenerType) {
+
+			if (isOverridden(listenerType, "onApplicationEvent", MongoMappingEvent.class)) {
+				return ALL;
+			}
+
+			Class<?> typeArgument = GenericTypeResolver.resolveTypeArgument(listenerType, AbstractMongoEventListener.class);
+			Class<?> domainClass = typeArgument == null ? Object.class : typeArgument;
+
+			List<Class<?>> events = new ArrayList<>();
+
+			for (Entry<Class<?>, String> callback : CALLBACKS.entrySet()) {
+				if (isOverridden(listenerType, callback.getValue(), callback.getKey())) {
+					events.add(callback.getKey());
+				}
+			}
+
+			return (eventType, domainType) -> {
+
+				if (domainType != null && !domainClass.isAssignableFrom(domainType)) {
+					return false;
+				}
+
+				for (Class<?> event : events) {
+					if (event.isAssignableFrom(eventType)) {
+						return true;
+					}
+				}
+
+				return false;
+			};
+		}
+
+		static boolean isOverridden(Class<?> listenerType, String name, Class<?> parameterType) {
+
+			Method method = ReflectionUtils.findMethod(listenerType, name, parameterType);
+			return method == null || !AbstractMongoEventListener.class.equals(method.getDeclaringClass());
+		}
+	}
+
+	/**
+	 * {@link ApplicationListener} invalidating the lookup of all {@link MongoMappingEventDispatcher}s using an
+	 * {@link ApplicationContext} once it got refreshed. A single instance is registered per context, holding on to the
+	 * dispatchers weakly so that neither the context nor the listener keeps discarded dispatchers alive.
+	 */
+	private static class InvalidatingListener implements ApplicationListener<ContextRefreshedEvent> {
+
+		private final Set<MongoMappingEventDispatcher> dispatchers = Collections.newSetFromMap(new WeakHashMap<>());
+
+		/**
+		 * Register the given {@link MongoMappingEventDispatcher} with the {@link InvalidatingListener} of the given
+		 * {@link ConfigurableApplicationContext}, adding the listener to the context on first use.
+		 *
+		 * @param context must not be {@literal null}.
+		 * @param dispatcher must not be {@literal null}.
+		 */
+		static void register(ConfigurableApplicationContext context, MongoMappingEventDispatcher dispatcher) {
+
+			InvalidatingListener listener;
+
+			synchronized (INVALIDATING_LISTENERS) {
+
+				listener = INVALIDATING_LISTENERS.get(context);
+
+				if (listener == null) {
+
+					listener = new InvalidatingListener();
+					INVALIDATING_LISTENERS.put(context, listener);
+					context.addApplicationListener(listener);
+				}
+			}
+
+			synchronized (listener.dispatchers) {
+				listener.dispatchers.add(dispatcher);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+		 */
+		@Override
+		public void onApplicationEvent(ContextRefreshedEvent event) {
+
+			List<MongoMappingEventDispatcher> toInvalidate;
+
+			synchronized (dispatchers) {
+				toInvalidate = new ArrayList<>(dispatchers);
+			}
+
+			toInvalidate.forEach(MongoMappingEventDispatcher::invalidate);
+		}
+	}
+
+	/**
+	 * The {@link ListenerInterest}s of an {@link ApplicationContext} in a given state along with the answers computed
+	 * so far.
+	 */
+	private static class ListenerIndex {
+
+		private final List<ListenerInterest> interests;
+		private final Map<TypePair, Boolean> cache = new ConcurrentHashMap<>();
+
+		ListenerIndex(List<ListenerInterest> interests) {
+			this.interests = interests;
+		}
+
+		boolean hasListeners(Class<?> eventType, @Nullable Class<?> domainType) {
+			return cache.computeIfAbsent(new TypePair(eventType, domainType), this::lookup);
+		}
+
+		private boolean lookup(TypePair key) {
+
+			for (ListenerInterest interest : interests) {
+				if (interest.isInterestedIn(key.eventType, key.domainType)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+	}
+
+	/**
+	 * Cache key of an event type and a domain type.
+	 */
+	@EqualsAndHashCode
+	@RequiredArgsConstructor
+	private static class TypePair {
+
+		private final Class<?> eventType;
+		private final @Nullable Class<?> domainType;
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.messaging;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.bson.BsonValue;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Default {@link SubscriptionMetrics} implementation recording {@link Message} deliveries. The message rate is
+ * calculated over windows of one second.
+ *
+ * @since 2.2
+ */
+class DefaultSubscriptionMetrics implements SubscriptionMetrics {
+
+	private static final Duration WINDOW = Duration.ofSeconds(1);
+
+	private final Clock clock;
+
+	private long messageCount;
+	private @Nullable Instant windowStart;
+	private long windowCount;
+	private double rate;
+
+	private @Nullable Instant lastMessageTime;
+	private @Nullable Duration lag;
+	private @Nullable BsonValue lastResumeToken;
+
+	DefaultSubscriptionMetrics() {
+		this(Clock.systemUTC());
+	}
+
+	DefaultSubscriptionMetrics(Clock clock) {
+
+		Assert.notNull(clock, "Clock must not be null!");
+
+		this.clock = clock;
+	}
+
+	/**
+	 * Record the delivery of a {@link Message}.
+	 *
+	 * @param eventTime the time the event was created. Can be {@literal null} if unknown.
+	 * @param resumeToken the resume token of the event. Can be {@literal null}.
+	 */
+	synchronized void onMessage(@Nullable Instant eventTime, @Nullable BsonValue resumeToken) {
+
+		Instant now = clock.instant();
+
+		if (windowStart == null) {
+			windowStart = now;
+		} else {
+
+			Duration elapsed = Duration.between(windowStart, now);
+
+			if (elapsed.compareTo(WINDOW) >= 0) {
+
+				rate = rate(windowCount, elapsed);
+				windowStart = now;
+				windowCount = 0;
+			}
+		}
+
+		messageCount++;
+		windowCount++;
+
+		lastMessageTime = now;
+		lag = eventTime != null ? max(Duration.between(eventTime, now), Duration.ZERO) : null;
+
+		if (resumeToken != null) {
+			lastResumeToken = resumeToken;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.messaging.SubscriptionMetrics#getMessageCount()
+	 */
+	@Override
+	public synchronized long getMessageCount() {
+		return messageCount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.messaging.SubscriptionMetrics#getMessagesPerSecond()
+	 */
+	@Override
+	public synchronized double getMessagesPerSecond() {
+
+		if (windowStart == null) {
+			return 0;
+		}
+
+		Duration elapsed = Duration.between(windowStart, clock.instant());
+
+		// the current window is complete, so its rate reflects the recent throughput, decaying while idle
+		return elapsed.compareTo(WINDOW) >= 0 ? rate(windowCount, elapsed) : rate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.messaging.SubscriptionMetrics#getLastMessageTime()
+	 */
+	@Override
+	public synchronized Optional<Instant> getLastMessageTime() {
+		return Optional.ofNullable(lastMessageTime);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.messaging.SubscriptionMetrics#getLag()
+	 */
+	@Override
+	public synchronized Optional<Duration> getLag() {
+		return Optional.ofNullable(lag);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.messaging.SubscriptionMetrics#getLastResumeToken()
+	 */
+	@Override
+	public synchronized Optional<BsonValue> getLastResumeToken() {
+		return Optional.ofNullable(lastResumeToken);
+	}
+
+	private static double rate(long count, Duration elapsed) {
+		return count / (elapsed.toNanos() / 1_000_000_000d);
+	}
+
+	private static Duration max(Duration left, Duration right) {
+		return left.compareTo(right) >= 0 ? left : right;
+	}
+}
@@ -19,6 +19,7 @@ import java.util.Optional;
 
 import org.springframework.context.SmartLifecycle;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.messaging.SubscriptionRequest.RequestOptions;
 import org.springframework.util.ErrorHandler;
 
@@ -41,6 +42,18 @@ public interface MessageListenerContainer extends SmartLifecycle {
 		return new DefaultMessageListenerContainer(template);
 	}
 
+	/**
+	 * Create a new {@link MessageListenerContainer} given {@link ReactiveMongoTemplate}. Subscriptions do not block a
+	 * thread while waiting for {@link Message messages}.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @return a new {@link ReactiveMessageListenerContainer} using {@link ReactiveMongoTemplate}.
+	 * @since 2.2
+	 */
+	static MessageListenerContainer create(ReactiveMongoTemplate template) {
+		return new ReactiveMessageListenerContainer(template);
+	}
+
 	/**
 	 * Register a new {@link SubscriptionRequest} in the container. If the {@link MessageListenerContainer#isRunning() is
 	 * already running} the {@link Subscription} will be added and run immediately, otherwise it'll be scheduled and
@@ -0,0 +1,591 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.messaging;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest.ChangeStreamRequestOptions;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamTask.ChangeStreamEventMessage;
+import org.springframework.data.mongodb.core.messaging.Message.MessageProperties;
+import org.springframework.data.mongodb.core.messaging.SubscriptionRequest.RequestOptions;
+import org.springframework.data.mongodb.core.messaging.TailableCursorRequest.TailableCursorRequestOptions;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link MessageListenerContainer} implementation backed by {@link ReactiveMongoTemplate#tail(Query, Class, String)
+ * tailable cursors} and {@link ReactiveMongoTemplate#changeStream(String, String, org.springframework.data.mongodb.core.ChangeStreamOptions, Class)
+ * change streams} of the reactive driver.
+ * <p />
+ * Unlike {@link DefaultMessageListenerContainer}, subscriptions do not occupy a thread while waiting for the next
+ * {@link Message}. Messages are delivered to the {@link MessageListener} on a {@link Scheduler} that defaults to a fixed
+ * number of threads, one per available processor, so that thousands of subscriptions can be served within a single
+ * JVM. Messages of a single subscription are delivered in order. Listeners are expected to return quickly as a blocking
+ * listener holds up all subscriptions sharing its thread. Provide an {@link Executor} spawning virtual threads or a
+ * dedicated {@link Scheduler} for listeners that block.
+ * <p />
+ * Each {@link Subscription} records {@link SubscriptionMetrics} that can be obtained via
+ * {@link #getMetrics(Subscription)}.
+ * <p />
+ * Tailable cursors that complete, e.g. because the capped collection was empty, are reopened after a short delay until
+ * the {@link Subscription} is cancelled. A reopened cursor only reads documents with an {@literal _id} greater than the
+ * one of the last document read, which requires identifiers that increase in insertion order such as
+ * {@link ObjectId}s generated by a single client. {@link Subscription#await(Duration) Awaiting} a tailable cursor subscription
+ * blocks until its first {@link Message} arrives. The reactive driver does not signal when a change stream is
+ * established, so change stream subscriptions are considered started once subscribed.
+ *
+ * @since 2.2
+ */
+public class ReactiveMessageListenerContainer implements MessageListenerContainer, DisposableBean {
+
+	private static final Duration TAIL_RESUBSCRIBE_DELAY = Duration.ofMillis(100);
+
+	private final ReactiveMongoTemplate template;
+	private final Scheduler scheduler;
+	private final boolean disposeScheduler;
+	private final Optional<ErrorHandler> errorHandler;
+	private final QueryMapper queryMapper;
+
+	private final Object lifecycleMonitor = new Object();
+	private final Map<SubscriptionRequest, ReactiveSubscription> subscriptions = new LinkedHashMap<>();
+
+	private boolean running = false;
+
+	/**
+	 * Create a new {@link ReactiveMessageListenerContainer} delivering {@link Message messages} on a fixed number of
+	 * threads.
+	 *
+	 * @param template must not be {@literal null}.
+	 */
+	public ReactiveMessageListenerContainer(ReactiveMongoTemplate template) {
+		this(template, Schedulers.newParallel("message-listener-container", Runtime.getRuntime().availableProcessors(),
+				true), true, null);
+	}
+
+	/**
+	 * Create a new {@link ReactiveMessageListenerContainer} delivering {@link Message messages} via the given
+	 * {@literal executor}, such as one creating a virtual thread per task.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 */
+	public ReactiveMessageListenerContainer(ReactiveMongoTemplate template, Executor executor) {
+		this(template, Schedulers.fromExecutor(executor), null);
+	}
+
+	/**
+	 * Create a new {@link ReactiveMessageListenerContainer} delivering {@link Message messages} on the given
+	 * {@link Scheduler} delegating {@link Exception errors} to the given {@link ErrorHandler}.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param scheduler must not be {@literal null}.
+	 * @param errorHandler the default {@link ErrorHandler} to be used by subscriptions inside the container. Can be
+	 *          {@literal null}.
+	 */
+	public ReactiveMessageListenerContainer(ReactiveMongoTemplate template, Scheduler scheduler,
+			@Nullable ErrorHandler errorHandler) {
+		this(template, scheduler, false, errorHandler);
+	}
+
+	private ReactiveMessageListenerContainer(ReactiveMongoTemplate template, Scheduler scheduler,
+			boolean disposeScheduler, @Nullable ErrorHandler errorHandler) {
+
+		Assert.notNull(template, "Template must not be null!");
+		Assert.notNull(scheduler, "Scheduler must not be null!");
+
+		this.template = template;
+		this.scheduler = scheduler;
+		this.disposeScheduler = disposeScheduler;
+		this.errorHandler = Optional.ofNullable(errorHandler);
+		this.queryMapper = new QueryMapper(template.getConverter());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.SmartLifecycle#isAutoStartup()
+	 */
+	@Override
+	public boolean isAutoStartup() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.SmartLifecycle#stop(java.lang.Runnable)
+	 */
+	@Override
+	public void stop(Runnable callback) {
+
+		stop();
+		callback.run();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Lifecycle#start()
+	 */
+	@Override
+	public void start() {
+
+		synchronized (lifecycleMonitor) {
+
+			if (this.running) {
+				return;
+			}
+
+			subscriptions.values().stream() //
+					.filter(it -> !it.isActive()) //
+					.forEach(ReactiveSubscription::start);
+
+			running = true;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Lifecycle#stop()
+	 */
+	@Override
+	public void stop() {
+
+		synchronized (lifecycleMonitor) {
+
+			if (this.running) {
+
+				subscriptions.values().forEach(Cancelable::cancel);
+
+				running = false;
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Lifecycle#isRunning()
+	 */
+	@Override
+	public boolean isRunning() {
+
+		synchronized (this.lifecycleMonitor) {
+			return running;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Phased#getPhase()
+	 */
+	@Override
+	public int getPhase() {
+		return Integer.MAX_VALUE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		stop();
+
+		if (disposeScheduler) {
+			scheduler.dispose();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.messaging.MessageListenerContainer#register(org.springframework.data.mongodb.core.messaging.SubscriptionRequest, java.lang.Class)
+	 */
+	@Override
+	public <S, T> Subscription register(SubscriptionRequest<S, ? super T, ? extends RequestOptions> request,
+			Class<T> bodyType) {
+
+		return register(request, bodyType, errorHandler.orElseGet(
+				() -> new LoggingErrorHandler((exception) -> lookup(request).ifPresent(Subscription::cancel))));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.messaging.MessageListenerContainer#register(org.springframework.data.mongodb.core.messaging.SubscriptionRequest, java.lang.Class, org.springframework.util.ErrorHandler)
+	 */
+	@Override
+	public <S, T> Subscription register(SubscriptionRequest<S, ? super T, ? extends RequestOptions> request,
+			Class<T> bodyType, ErrorHandler errorHandler) {
+
+		Assert.notNull(request, "Request must not be null!");
+		Assert.notNull(bodyType, "BodyType must not be null!");
+		Assert.notNull(errorHandler, "ErrorHandler must not be null!");
+
+		ReactiveSubscription subscription = new ReactiveSubscription(createMessages(request, bodyType),
+				request.getMessageListener(), errorHandler, scheduler, request instanceof TailableCursorRequest);
+
+		synchronized (lifecycleMonitor) {
+
+			if (subscriptions.containsKey(request)) {
+				return subscriptions.get(request);
+			}
+
+			this.subscriptions.put(request, subscription);
+
+			if (this.running) {
+				subscription.start();
+			}
+		}
+
+		return subscription;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.messaging.MessageListenerContainer#lookup(org.springframework.data.mongodb.core.messaging.SubscriptionRequest)
+	 */
+	@Override
+	public Optional<Subscription> lookup(SubscriptionRequest<?, ?, ?> request) {
+
+		synchronized (lifecycleMonitor) {
+			return Optional.ofNullable(subscriptions.get(request));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.messaging.MessageListenerContainer#remove(org.springframework.data.mongodb.core.messaging.Subscription)
+	 */
+	@Override
+	public void remove(Subscription subscription) {
+
+		synchronized (lifecycleMonitor) {
+
+			if (subscriptions.containsValue(subscription)) {
+
+				if (subscription.isActive()) {
+					subscription.cancel();
+				}
+
+				subscriptions.values().remove(subscription);
+			}
+		}
+	}
+
+	/**
+	 * Obtain the {@link SubscriptionMetrics} of a {@link Subscription} created by this container.
+	 *
+	 * @param subscription must not be {@literal null}.
+	 * @return {@link Optional#empty()} if the {@link Subscription} was not created by this container.
+	 */
+	public Optional<SubscriptionMetrics> getMetrics(Subscription subscription) {
+
+		Assert.notNull(subscription, "Subscription must not be null!");
+
+		synchronized (lifecycleMonitor) {
+			return subscriptions.containsValue(subscription)
+					? Optional.of(((ReactiveSubscription) subscription).getMetrics()) : Optional.empty();
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Flux<Message<?, ?>> createMessages(SubscriptionRequest<?, ?, ?> request, Class<?> targetType) {
+
+		if (request instanceof ChangeStreamRequest) {
+			return changeStream((ChangeStreamRequest) request, targetType);
+		} else if (request instanceof TailableCursorRequest) {
+			return tail((TailableCursorRequest) request, targetType);
+		}
+
+		throw new IllegalArgumentException(
+				String.format("SubscriptionRequest of type %s is not supported!", request.getClass().getName()));
+	}
+
+	private Flux<Message<?, ?>> changeStream(ChangeStreamRequest<?> request, Class<?> targetType) {
+
+		ChangeStreamRequestOptions options = request.getRequestOptions();
+
+		return Flux.defer(() -> template.changeStream(options.getDatabaseName(), options.getCollectionName(),
+				options.getChangeStreamOptions(), targetType)).map(event -> createMessage(event, options));
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Flux<Message<?, ?>> tail(TailableCursorRequest<?> request, Class<?> targetType) {
+
+		TailableCursorRequestOptions options = request.getRequestOptions();
+
+		return Flux.defer(() -> {
+
+			AtomicReference<Object> lastId = new AtomicReference<>();
+
+			Flux<Message<?, ?>> messages = Flux.defer(() -> {
+
+				Query query = getTailQuery(options, targetType, lastId.get());
+				MessageProperties properties = MessageProperties.builder()
+						.databaseName(template.getMongoDatabase().getName()).collectionName(options.getCollectionName()).build();
+
+				return template.tail(query, Document.class, options.getCollectionName()) //
+						.doOnNext(document -> {
+
+							Object id = document.get("_id");
+
+							if (id != null) {
+								lastId.set(id);
+							}
+						}) //
+						.map(document -> new LazyMappingDelegatingMessage(new SimpleMessage<>(document, document, properties),
+								targetType, template.getConverter()));
+			});
+
+			return messages.repeatWhen(completions -> completions.delayElements(TAIL_RESUBSCRIBE_DELAY));
+		});
+	}
+
+	/**
+	 * Create the query for a tailable cursor, resuming after the document with the given {@literal _id} if present.
+	 */
+	@Nullable
+	private Query getTailQuery(TailableCursorRequestOptions options, Class<?> targetType, @Nullable Object lastId) {
+
+		Query query = options.getQuery().map(it -> getMappedQuery(it, targetType)).orElse(null);
+
+		if (lastId == null) {
+			return query;
+		}
+
+		Document resume = new Document("_id", new Document("$gt", lastId));
+
+		if (query == null) {
+			return new BasicQuery(resume);
+		}
+
+		Query resumeQuery = new BasicQuery(query.getQueryObject().isEmpty() ? resume
+				: new Document("$and", Arrays.asList(query.getQueryObject(), resume)));
+		query.getCollation().ifPresent(resumeQuery::collation);
+
+		return resumeQuery;
+	}
+
+	private Query getMappedQuery(Query query, Class<?> targetType) {
+
+		Document filter = queryMapper.getMappedObject(query.getQueryObject(), template.getConverter().getMappingContext()
+				.getPersistentEntity(targetType.equals(Document.class) ? Object.class : targetType));
+
+		Query mappedQuery = new BasicQuery(filter);
+		query.getCollation().ifPresent(mappedQuery::collation);
+
+		return mappedQuery;
+	}
+
+	private static Message<?, ?> createMessage(ChangeStreamEvent<?> event, RequestOptions options) {
+
+		String databaseName = event.getDatabaseName() != null ? event.getDatabaseName() : options.getDatabaseName();
+		String collectionName = event.getCollectionName() != null ? event.getCollectionName()
+				: options.getCollectionName();
+
+		return new ChangeStreamEventMessage<>(event,
+				MessageProperties.builder().databaseName(StringUtils.hasText(databaseName) ? databaseName : "unknown")
+						.collectionName(StringUtils.hasText(collectionName) ? collectionName : "unknown").build());
+	}
+
+	/**
+	 * {@link Subscription} consuming a {@link Flux} of {@link Message messages} and publishing them to a
+	 * {@link MessageListener} on a {@link Scheduler}.
+	 *
+	 * @since 2.2
+	 */
+	static class ReactiveSubscription implements Subscription {
+
+		private final Flux<Message<?, ?>> messages;
+		private final MessageListener<?, ?> listener;
+		private final ErrorHandler errorHandler;
+		private final Scheduler scheduler;
+		private final boolean startOnFirstMessage;
+		private final DefaultSubscriptionMetrics metrics = new DefaultSubscriptionMetrics();
+
+		private final Object monitor = new Object();
+		private final CountDownLatch awaitStart = new CountDownLatch(1);
+
+		private @Nullable Disposable disposable;
+		private volatile boolean active;
+
+		ReactiveSubscription(Flux<Message<?, ?>> messages, MessageListener<?, ?> listener, ErrorHandler errorHandler,
+				Scheduler scheduler, boolean startOnFirstMessage) {
+
+			this.messages = messages;
+			this.listener = listener;
+			this.errorHandler = errorHandler;
+			this.scheduler = scheduler;
+			this.startOnFirstMessage = startOnFirstMessage;
+		}
+
+		/**
+		 * Subscribe to the {@link Message} source unless already active.
+		 */
+		void start() {
+
+			synchronized (monitor) {
+
+				if (active) {
+					return;
+				}
+
+				Flux<Message<?, ?>> source = messages.doOnSubscribe(it -> {
+
+					active = true;
+
+					if (!startOnFirstMessage) {
+						awaitStart.countDown();
+					}
+				});
+
+				if (startOnFirstMessage) {
+					source = source.doOnNext(it -> awaitStart.countDown());
+				}
+
+				disposable = source.publishOn(scheduler).subscribe(this::emit, this::onError, () -> active = false);
+			}
+		}
+
+		DefaultSubscriptionMetrics getMetrics() {
+			return metrics;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.messaging.Subscription#isActive()
+		 */
+		@Override
+		public boolean isActive() {
+			return active;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.messaging.Subscription#await(java.time.Duration)
+		 */
+		@Override
+		public boolean await(Duration timeout) throws InterruptedException {
+
+			Assert.notNull(timeout, "Timeout must not be null!");
+			Assert.isTrue(!timeout.isNegative(), "Timeout must not be negative!");
+
+			return awaitStart.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.messaging.Cancelable#cancel()
+		 */
+		@Override
+		public void cancel() throws DataAccessResourceFailureException {
+
+			synchronized (monitor) {
+
+				active = false;
+
+				if (disposable != null) {
+					disposable.dispose();
+					disposable = null;
+				}
+			}
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private void emit(Message<?, ?> message) {
+
+			recordMetrics(message);
+
+			try {
+				((MessageListener) listener).onMessage(message);
+			} catch (Exception e) {
+				errorHandler.handleError(e);
+			}
+		}
+
+		private void onError(Throwable throwable) {
+
+			active = false;
+			errorHandler.handleError(throwable);
+		}
+
+		private void recordMetrics(Message<?, ?> message) {
+
+			if (message instanceof ChangeStreamEventMessage) {
+
+				ChangeStreamEventMessage<?> event = (ChangeStreamEventMessage<?>) message;
+				metrics.onMessage(event.getTimestamp(), event.getResumeToken());
+				return;
+			}
+
+			Object raw = message.getRaw();
+			Object id = raw instanceof Document ? ((Document) raw).get("_id") : null;
+			Instant eventTime = id instanceof ObjectId ? ((ObjectId) id).getDate().toInstant() : null;
+
+			metrics.onMessage(eventTime, null);
+		}
+	}
+
+	/**
+	 * {@link ErrorHandler} logging errors before delegating.
+	 *
+	 * @since 2.2
+	 */
+	private static class LoggingErrorHandler implements ErrorHandler {
+
+		private static final Log LOGGER = LogFactory.getLog(LoggingErrorHandler.class);
+
+		private final ErrorHandler delegate;
+
+		LoggingErrorHandler(ErrorHandler delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void handleError(Throwable t) {
+
+			if (LOGGER.isErrorEnabled()) {
+				LOGGER.error("Unexpected error occurred while listening to MongoDB.", t);
+			}
+
+			delegate.handleError(t);
+		}
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.messaging;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.bson.BsonValue;
+
+/**
+ * Runtime metrics of a single {@link Subscription}.
+ *
+ * @since 2.2
+ * @see ReactiveMessageListenerContainer#getMetrics(Subscription)
+ */
+public interface SubscriptionMetrics {
+
+	/**
+	 * @return the total number of {@link Message messages} delivered to the {@link MessageListener}.
+	 */
+	long getMessageCount();
+
+	/**
+	 * @return the number of {@link Message messages} per second delivered within the last completed one second window.
+	 *         Zero if no message was received recently.
+	 */
+	double getMessagesPerSecond();
+
+	/**
+	 * @return the point in time the last {@link Message} was delivered. {@link Optional#empty()} if no message was
+	 *         delivered yet.
+	 */
+	Optional<Instant> getLastMessageTime();
+
+	/**
+	 * Get the difference between the time the last {@link Message} was delivered and the time the underlying event was
+	 * created. Change stream events use the cluster time of the event. Documents read from a tailable cursor use the
+	 * generation time of their {@link org.bson.types.ObjectId} identifier, if present. Both have a resolution of one
+	 * second.
+	 *
+	 * @return {@link Optional#empty()} if no message was delivered yet or the event time is unknown.
+	 */
+	Optional<Duration> getLag();
+
+	/**
+	 * @return the resume token of the last delivered change stream event. {@link Optional#empty()} for tailable cursors
+	 *         or if no event was delivered yet.
+	 */
+	Optional<BsonValue> getLastResumeToken();
+}
@@ -61,13 +61,14 @@ class AntPath {
 	}
 
 	/**
-	 * Returns the regular expression equivalent of this Ant path.
+	 * Returns the regular expression equivalent of this Ant path. The expression is anchored at both ends so that it
+	 * matches entire file names only and lets MongoDB use an index on the literal prefix of the path.
 	 *
 	 * @return
 	 */
 	public String toRegex() {
 
-		StringBuilder patternBuilder = new StringBuilder();
+		StringBuilder patternBuilder = new StringBuilder("^");
 		Matcher m = WILDCARD_PATTERN.matcher(path);
 		int end = 0;
 
@@ -88,7 +89,7 @@ class AntPath {
 		}
 
 		patternBuilder.append(quote(path, end, path.length()));
-		return patternBuilder.toString();
+		return patternBuilder.append('$').toString();
 	}
 
 	private static String quote(String s, int start, int end) {
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.nio.ByteBuffer;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.lang.Nullable;
+
+import com.mongodb.reactivestreams.client.Success;
+import com.mongodb.reactivestreams.client.gridfs.AsyncInputStream;
+
+/**
+ * Adapter accepting a binary stream {@link Publisher} and emitting its content through {@link AsyncInputStream}.
+ * <p>
+ * This adapter subscribes to the binary {@link Publisher} as soon as the first chunk gets {@link #read(ByteBuffer)
+ * requested}. Requests are queued and binary chunks are requested from the {@link Publisher} one at a time, so the
+ * upstream is never asked for more data than the GridFS upload is able to consume. Partially consumed
+ * {@link DataBuffer}s are retained until they are fully read and released afterwards.
+ * <p>
+ * Closing the {@link AsyncInputStream} cancels the upstream subscription and releases any retained buffer.
+ *
+ * @since 2.2
+ */
+class AsyncInputStreamAdapter implements AsyncInputStream {
+
+	private final Publisher<? extends DataBuffer> content;
+	private final Object lock = new Object();
+
+	private @Nullable DataBufferSubscriber subscriber;
+	private @Nullable DataBuffer current;
+	private @Nullable MonoSink<Integer> pendingSink;
+	private @Nullable ByteBuffer pendingTarget;
+	private @Nullable Throwable error;
+	private boolean completed;
+	private boolean closed;
+
+	AsyncInputStreamAdapter(Publisher<? extends DataBuffer> content) {
+		this.content = content;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.gridfs.AsyncInputStream#read(java.nio.ByteBuffer)
+	 */
+	@Override
+	public Publisher<Integer> read(ByteBuffer dst) {
+
+		return Mono.create(sink -> {
+
+			boolean subscribe = false;
+			DataBufferSubscriber toRequest = null;
+
+			synchronized (lock) {
+
+				if (closed) {
+					sink.error(new IllegalStateException("AsyncInputStream is already closed"));
+					return;
+				}
+
+				if (pendingSink != null) {
+					sink.error(new IllegalStateException("Concurrent read operations are not supported"));
+					return;
+				}
+
+				if (current != null) {
+					sink.success(transfer(current, dst));
+					return;
+				}
+
+				if (error != null) {
+					sink.error(error);
+					return;
+				}
+
+				if (completed) {
+					sink.success(-1);
+					return;
+				}
+
+				pendingSink = sink;
+				pendingTarget = dst;
+
+				if (subscriber == null) {
+					subscriber = new DataBufferSubscriber();
+					subscribe = true;
+				} else {
+					toRequest = subscriber;
+				}
+			}
+
+			if (subscribe) {
+				content.subscribe(subscriber);
+			} else {
+				toRequest.request(1);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.reactivestreams.client.gridfs.AsyncInputStream#close()
+	 */
+	@Override
+	public Publisher<Success> close() {
+
+		return Mono.fromSupplier(() -> {
+
+			DataBufferSubscriber toCancel;
+			MonoSink<Integer> toTerminate;
+
+			synchronized (lock) {
+
+				closed = true;
+				toCancel = subscriber;
+				toTerminate = pendingSink;
+				pendingSink = null;
+				pendingTarget = null;
+
+				if (current != null) {
+					DataBufferUtils.release(current);
+					current = null;
+				}
+			}
+
+			if (toCancel != null) {
+				toCancel.cancel();
+			}
+
+			if (toTerminate != null) {
+				toTerminate.success(-1);
+			}
+
+			return Success.SUCCESS;
+		});
+	}
+
+	/**
+	 * Transfer as many bytes as possible from {@code source} into {@code target} and release {@code source} once it is
+	 * fully consumed. Must be called while holding {@link #lock}.
+	 *
+	 * @return the number of transferred bytes.
+	 */
+	private int transfer(DataBuffer source, ByteBuffer target) {
+
+		int length = Math.min(source.readableByteCount(), target.remaining());
+		byte[] bytes = new byte[length];
+
+		source.read(bytes);
+		target.put(bytes);
+
+		if (source.readableByteCount() == 0) {
+			DataBufferUtils.release(source);
+			current = null;
+		}
+
+		return length;
+	}
+
+	private class DataBufferSubscriber extends BaseSubscriber<DataBuffer> {
+
+		@Override
+		protected void hookOnSubscribe(Subscription subscription) {
+			subscription.request(1);
+		}
+
+		@Override
+		protected void hookOnNext(DataBuffer buffer) {
+
+			MonoSink<Integer> sink = null;
+			int transferred = 0;
+			boolean requestMore = false;
+
+			synchronized (lock) {
+
+				if (closed || buffer.readableByteCount() == 0) {
+
+					DataBufferUtils.release(buffer);
+					requestMore = !closed && pendingSink != null;
+				} else if (pendingSink == null) {
+					current = buffer;
+				} else {
+
+					current = buffer;
+					sink = pendingSink;
+					transferred = transfer(buffer, pendingTarget);
+					pendingSink = null;
+					pendingTarget = null;
+				}
+			}
+
+			if (sink != null) {
+				sink.success(transferred);
+			} else if (requestMore) {
+				request(1);
+			}
+		}
+
+		@Override
+		protected void hookOnComplete() {
+			terminate(null);
+		}
+
+		@Override
+		protected void hookOnError(Throwable throwable) {
+			terminate(throwable);
+		}
+
+		private void terminate(@Nullable Throwable throwable) {
+
+			MonoSink<Integer> sink;
+
+			synchronized (lock) {
+
+				completed = true;
+				error = throwable;
+				sink = pendingSink;
+				pendingSink = null;
+				pendingTarget = null;
+			}
+
+			if (sink == null) {
+				return;
+			}
+
+			if (throwable != null) {
+				sink.error(throwable);
+			} else {
+				sink.success(-1);
+			}
+		}
+	}
+}
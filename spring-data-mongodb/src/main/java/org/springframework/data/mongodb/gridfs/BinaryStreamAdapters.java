@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.util.Assert;
+
+import com.mongodb.reactivestreams.client.gridfs.AsyncInputStream;
+
+/**
+ * Utility methods to create adapters between {@link Publisher} of {@link DataBuffer} and {@link AsyncInputStream}.
+ *
+ * @since 2.2
+ */
+class BinaryStreamAdapters {
+
+	/**
+	 * Create a {@link Flux} emitting {@link DataBuffer} by reading binary chunks from {@link AsyncInputStream}.
+	 * {@link AsyncInputStream#read(ByteBuffer) Reads} are issued on subscriber demand only, one chunk per requested
+	 * {@link DataBuffer}. Cancellation and completion {@link AsyncInputStream#close() close} the input stream.
+	 *
+	 * @param inputStream must not be {@literal null}.
+	 * @param dataBufferFactory must not be {@literal null}.
+	 * @param bufferSize size of the individual {@link DataBuffer}s. Must be greater than zero.
+	 * @return {@link Flux} emitting {@link DataBuffer}s.
+	 * @see DataBufferFactory#allocateBuffer()
+	 */
+	static Flux<DataBuffer> toPublisher(AsyncInputStream inputStream, DataBufferFactory dataBufferFactory,
+			int bufferSize) {
+
+		Assert.notNull(inputStream, "AsyncInputStream must not be null!");
+		Assert.notNull(dataBufferFactory, "DataBufferFactory must not be null!");
+		Assert.isTrue(bufferSize > 0, "Buffer size must be greater than zero!");
+
+		return Flux.using(() -> inputStream, //
+				it -> readChunk(it, bufferSize).repeat().takeWhile(Chunk::hasData) //
+						.filter(Chunk::isNotEmpty) //
+						.map(chunk -> chunk.toDataBuffer(dataBufferFactory)), //
+				it -> Mono.from(it.close()).subscribe());
+	}
+
+	/**
+	 * Create a {@link AsyncInputStream} consuming the given {@link Publisher} of {@link DataBuffer}s. The
+	 * {@link Publisher} is subscribed lazily on the first {@link AsyncInputStream#read(ByteBuffer) read} and
+	 * {@link DataBuffer}s are requested one at a time.
+	 *
+	 * @param dataBuffers must not be {@literal null}.
+	 * @return the {@link AsyncInputStream} reading from the given {@link Publisher}.
+	 */
+	static AsyncInputStream toAsyncInputStream(Publisher<? extends DataBuffer> dataBuffers) {
+
+		Assert.notNull(dataBuffers, "DataBuffer Publisher must not be null!");
+
+		return new AsyncInputStreamAdapter(dataBuffers);
+	}
+
+	private static Mono<Chunk> readChunk(AsyncInputStream inputStream, int bufferSize) {
+
+		return Mono.defer(() -> {
+
+			ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+			return Mono.from(inputStream.read(buffer)).map(bytesRead -> new Chunk(buffer, bytesRead));
+		});
+	}
+
+	/**
+	 * Result of a single {@link AsyncInputStream#read(ByteBuffer)} call.
+	 */
+	private static class Chunk {
+
+		private final ByteBuffer buffer;
+		private final int bytesRead;
+
+		Chunk(ByteBuffer buffer, int bytesRead) {
+
+			this.buffer = buffer;
+			this.bytesRead = bytesRead;
+		}
+
+		boolean hasData() {
+			return bytesRead != -1;
+		}
+
+		boolean isNotEmpty() {
+			return bytesRead > 0;
+		}
+
+		DataBuffer toDataBuffer(DataBufferFactory factory) {
+
+			buffer.flip();
+			return factory.wrap(buffer);
+		}
+	}
+}
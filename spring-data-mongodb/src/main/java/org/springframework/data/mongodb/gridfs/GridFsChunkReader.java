@@ -0,0 +1,375 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * Reads GridFS file content directly from the {@code chunks} collection. Unlike
+ * {@link com.mongodb.client.gridfs.GridFSDownloadStream}, the reader fetches only the chunks covering a requested byte
+ * range by querying {@code files_id} and {@code n}, and is able to prefetch a configurable number of upcoming chunks
+ * concurrently into a bounded buffer.
+ *
+ * @since 2.2
+ */
+class GridFsChunkReader {
+
+	private static final String FILES_ID_FIELD = "files_id";
+	private static final String CHUNK_INDEX_FIELD = "n";
+	private static final String DATA_FIELD = "data";
+
+	private final MongoCollection<Document> chunks;
+	private final int prefetchChunks;
+	private final @Nullable Executor executor;
+
+	/**
+	 * Creates a new {@link GridFsChunkReader} reading chunks sequentially through a single cursor.
+	 *
+	 * @param chunks must not be {@literal null}.
+	 */
+	GridFsChunkReader(MongoCollection<Document> chunks) {
+		this(chunks, 0, null);
+	}
+
+	/**
+	 * Creates a new {@link GridFsChunkReader}. Chunks are fetched concurrently using the given {@link Executor} if
+	 * {@code prefetchChunks} is greater than one.
+	 *
+	 * @param chunks must not be {@literal null}.
+	 * @param prefetchChunks number of chunks to fetch ahead of the consumer.
+	 * @param executor must not be {@literal null} if {@code prefetchChunks} is greater than one.
+	 */
+	GridFsChunkReader(MongoCollection<Document> chunks, int prefetchChunks, @Nullable Executor executor) {
+
+		Assert.notNull(chunks, "Chunks collection must not be null!");
+		Assert.isTrue(prefetchChunks <= 1 || executor != null, "Executor must not be null when prefetching chunks!");
+
+		this.chunks = chunks;
+		this.prefetchChunks = prefetchChunks;
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns whether this reader fetches chunks concurrently.
+	 *
+	 * @return
+	 */
+	boolean isPrefetching() {
+		return prefetchChunks > 1;
+	}
+
+	/**
+	 * Open an {@link InputStream} reading {@code length} bytes of the given file starting at {@code offset}. Chunks are
+	 * fetched lazily on the first read.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param offset zero-based offset of the first byte to read.
+	 * @param length number of bytes to read. Truncated to the file length.
+	 * @return the {@link InputStream} for the requested range.
+	 */
+	InputStream read(GridFSFile file, long offset, long length) {
+
+		Assert.notNull(file, "GridFSFile must not be null!");
+		Assert.isTrue(offset >= 0, "Offset must not be negative!");
+		Assert.isTrue(length >= 0, "Length must not be negative!");
+
+		long end = Math.min(file.getLength(), offset + length);
+
+		if (offset >= end) {
+			return new ChunkInputStream(null, 0, 0);
+		}
+
+		int chunkSize = file.getChunkSize();
+		int firstChunk = Math.toIntExact(offset / chunkSize);
+		int lastChunk = Math.toIntExact((end - 1) / chunkSize);
+
+		ChunkSource source = isPrefetching() ? new PrefetchingChunkSource(file, firstChunk, lastChunk)
+				: new CursorChunkSource(file, firstChunk, lastChunk);
+
+		return new ChunkInputStream(source, (int) (offset % chunkSize), end - offset);
+	}
+
+	private byte[] getData(GridFSFile file, @Nullable Document chunk, int index) {
+
+		if (chunk == null || chunk.getInteger(CHUNK_INDEX_FIELD, -1) != index) {
+			throw new MongoGridFSException(String.format("Could not find file chunk for file_id: %s at chunk index %s.",
+					file.getId(), index));
+		}
+
+		Object data = chunk.get(DATA_FIELD);
+		byte[] bytes = data instanceof Binary ? ((Binary) data).getData() : (byte[]) data;
+
+		long expectedLength = Math.min(file.getChunkSize(), file.getLength() - ((long) index * file.getChunkSize()));
+
+		if (bytes == null || bytes.length != expectedLength) {
+			throw new MongoGridFSException(
+					String.format("Chunk size data length is not the expected size. The size was %s for file_id: %s chunk index %s "
+							+ "it should be %s bytes.", bytes == null ? 0 : bytes.length, file.getId(), index, expectedLength));
+		}
+
+		return bytes;
+	}
+
+	private static Document chunkQuery(BsonValue fileId, Object index) {
+		return new Document(FILES_ID_FIELD, fileId).append(CHUNK_INDEX_FIELD, index);
+	}
+
+	/**
+	 * Strategy to obtain chunk data in ascending chunk order.
+	 */
+	private interface ChunkSource {
+
+		/**
+		 * @return the next chunk or {@literal null} if all chunks were consumed.
+		 * @throws IOException
+		 */
+		@Nullable
+		byte[] next() throws IOException;
+
+		void close();
+	}
+
+	/**
+	 * {@link ChunkSource} reading all chunks in the requested range through a single cursor.
+	 */
+	private class CursorChunkSource implements ChunkSource {
+
+		private final GridFSFile file;
+		private final int lastChunk;
+		private int nextChunk;
+		private @Nullable MongoCursor<Document> cursor;
+
+		CursorChunkSource(GridFSFile file, int firstChunk, int lastChunk) {
+
+			this.file = file;
+			this.nextChunk = firstChunk;
+			this.lastChunk = lastChunk;
+		}
+
+		@Nullable
+		@Override
+		public byte[] next() {
+
+			if (nextChunk > lastChunk) {
+				return null;
+			}
+
+			if (cursor == null) {
+
+				Document range = new Document("$gte", nextChunk).append("$lte", lastChunk);
+				cursor = chunks.find(chunkQuery(file.getId(), range)).sort(new Document(CHUNK_INDEX_FIELD, 1)).iterator();
+			}
+
+			return getData(file, cursor.hasNext() ? cursor.next() : null, nextChunk++);
+		}
+
+		@Override
+		public void close() {
+
+			if (cursor != null) {
+				cursor.close();
+			}
+		}
+	}
+
+	/**
+	 * {@link ChunkSource} keeping up to {@link #prefetchChunks} individual chunk queries in flight.
+	 */
+	private class PrefetchingChunkSource implements ChunkSource {
+
+		private final GridFSFile file;
+		private final int lastChunk;
+		private final Deque<CompletableFuture<byte[]>> inFlight = new ArrayDeque<>(prefetchChunks);
+		private int nextChunk;
+
+		PrefetchingChunkSource(GridFSFile file, int firstChunk, int lastChunk) {
+
+			this.file = file;
+			this.nextChunk = firstChunk;
+			this.lastChunk = lastChunk;
+		}
+
+		@Nullable
+		@Override
+		public byte[] next() throws IOException {
+
+			while (inFlight.size() < prefetchChunks && nextChunk <= lastChunk) {
+
+				int index = nextChunk++;
+				inFlight.add(CompletableFuture.supplyAsync(
+						() -> getData(file, chunks.find(chunkQuery(file.getId(), index)).first(), index), executor));
+			}
+
+			CompletableFuture<byte[]> head = inFlight.poll();
+
+			if (head == null) {
+				return null;
+			}
+
+			try {
+				return head.get();
+			} catch (InterruptedException e) {
+
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for GridFS chunk");
+			} catch (ExecutionException e) {
+
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+
+				throw new IOException(e.getCause());
+			}
+		}
+
+		@Override
+		public void close() {
+
+			for (CompletableFuture<byte[]> future : inFlight) {
+				future.cancel(false);
+			}
+
+			inFlight.clear();
+			nextChunk = lastChunk + 1;
+		}
+	}
+
+	/**
+	 * {@link InputStream} serving a byte range from a {@link ChunkSource}.
+	 */
+	private static class ChunkInputStream extends InputStream {
+
+		private final @Nullable ChunkSource source;
+		private int skip;
+		private long remaining;
+
+		private @Nullable byte[] buffer;
+		private int position;
+		private boolean closed;
+
+		ChunkInputStream(@Nullable ChunkSource source, int skip, long remaining) {
+
+			this.source = source;
+			this.skip = skip;
+			this.remaining = remaining;
+		}
+
+		@Override
+		public int read() throws IOException {
+
+			byte[] single = new byte[1];
+			return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+
+			Assert.notNull(b, "Buffer must not be null!");
+
+			if (closed) {
+				throw new IOException("Stream is closed");
+			}
+
+			if (len == 0) {
+				return 0;
+			}
+
+			if (!ensureBuffer()) {
+				return -1;
+			}
+
+			int count = (int) Math.min(Math.min(len, buffer.length - position), remaining);
+			System.arraycopy(buffer, position, b, off, count);
+
+			position += count;
+			remaining -= count;
+
+			return count;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+
+			long skipped = 0;
+
+			while (skipped < n && ensureBuffer()) {
+
+				int count = (int) Math.min(Math.min(n - skipped, buffer.length - position), remaining);
+
+				position += count;
+				remaining -= count;
+				skipped += count;
+			}
+
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			return buffer == null ? 0 : (int) Math.min(buffer.length - position, remaining);
+		}
+
+		@Override
+		public void close() {
+
+			if (!closed && source != null) {
+				source.close();
+			}
+
+			closed = true;
+		}
+
+		private boolean ensureBuffer() throws IOException {
+
+			if (remaining <= 0 || source == null) {
+				return false;
+			}
+
+			if (buffer != null && position < buffer.length) {
+				return true;
+			}
+
+			buffer = source.next();
+
+			if (buffer == null) {
+				return false;
+			}
+
+			position = skip;
+			skip = 0;
+
+			return true;
+		}
+	}
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexOptions;
+
+/**
+ * Writes GridFS content by inserting chunks in batches through {@code insertMany}, keeping a configurable number of
+ * batches in flight. The files document is written last so that the file becomes visible only after all of its chunks
+ * were stored. Chunks written by a failed upload are removed.
+ *
+ * @since 2.2
+ * @see GridFsStoreOptions
+ */
+class GridFsChunkWriter {
+
+	private static final int READ_BUFFER_SIZE = 1024 * 1024;
+
+	private final MongoCollection<Document> files;
+	private final MongoCollection<Document> chunks;
+	private final Executor executor;
+
+	/**
+	 * Creates a new {@link GridFsChunkWriter}.
+	 *
+	 * @param files must not be {@literal null}.
+	 * @param chunks must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 */
+	GridFsChunkWriter(MongoCollection<Document> files, MongoCollection<Document> chunks, Executor executor) {
+
+		Assert.notNull(files, "Files collection must not be null!");
+		Assert.notNull(chunks, "Chunks collection must not be null!");
+		Assert.notNull(executor, "Executor must not be null!");
+
+		this.files = files;
+		this.chunks = chunks;
+		this.executor = executor;
+	}
+
+	/**
+	 * Write the content of the given {@link InputStream}.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param filename can be {@literal null}.
+	 * @param metadata must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the {@link ObjectId} of the files document.
+	 */
+	ObjectId write(InputStream content, @Nullable String filename, Document metadata, GridFsStoreOptions options) {
+
+		Assert.notNull(content, "InputStream must not be null!");
+
+		return write(target -> {
+
+			int read = 0;
+
+			while (read < target.length) {
+
+				int count = content.read(target, read, target.length - read);
+
+				if (count == -1) {
+					break;
+				}
+
+				read += count;
+			}
+
+			return read;
+		}, filename, metadata, options);
+	}
+
+	/**
+	 * Write the content of the given {@link FileChannel} from its current position, reading it in blocks of up to
+	 * {@value #READ_BUFFER_SIZE} bytes.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param filename can be {@literal null}.
+	 * @param metadata must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the {@link ObjectId} of the files document.
+	 */
+	ObjectId write(FileChannel content, @Nullable String filename, Document metadata, GridFsStoreOptions options) {
+
+		Assert.notNull(content, "FileChannel must not be null!");
+
+		return write(new ChannelChunkSource(content), filename, metadata, options);
+	}
+
+	private ObjectId write(ChunkSource source, @Nullable String filename, Document metadata,
+			GridFsStoreOptions options) {
+
+		Assert.notNull(metadata, "Metadata must not be null!");
+		Assert.notNull(options, "GridFsStoreOptions must not be null!");
+
+		MongoCollection<Document> filesToUse = options.getWriteConcern().map(files::withWriteConcern).orElse(files);
+		MongoCollection<Document> chunksToUse = options.getWriteConcern().map(chunks::withWriteConcern).orElse(chunks);
+
+		ObjectId id = new ObjectId();
+		MessageDigest md5 = createMd5Digest();
+		Deque<CompletableFuture<Void>> inFlight = new ArrayDeque<>(options.getMaxBatchesInFlight());
+
+		long length = 0;
+		int n = 0;
+
+		try {
+
+			List<Document> batch = new ArrayList<>(options.getBatchSize());
+
+			while (true) {
+
+				byte[] data = new byte[options.getChunkSize()];
+				int read = source.read(data);
+
+				if (read <= 0) {
+					break;
+				}
+
+				if (read < data.length) {
+
+					byte[] remainder = new byte[read];
+					System.arraycopy(data, 0, remainder, 0, read);
+					data = remainder;
+				}
+
+				md5.update(data);
+				length += read;
+
+				batch.add(new Document("files_id", id).append("n", n++).append("data", new Binary(data)));
+
+				if (batch.size() == options.getBatchSize()) {
+
+					submit(chunksToUse, batch, inFlight, options.getMaxBatchesInFlight());
+					batch = new ArrayList<>(options.getBatchSize());
+				}
+
+				if (read < options.getChunkSize()) {
+					break;
+				}
+			}
+
+			if (!batch.isEmpty()) {
+				submit(chunksToUse, batch, inFlight, options.getMaxBatchesInFlight());
+			}
+
+			while (!inFlight.isEmpty()) {
+				await(inFlight.poll());
+			}
+
+			Document file = new Document("_id", id) //
+					.append("length", length) //
+					.append("chunkSize", options.getChunkSize()) //
+					.append("uploadDate", new Date()) //
+					.append("md5", String.format("%032x", new BigInteger(1, md5.digest()))) //
+					.append("filename", filename) //
+					.append("metadata", metadata);
+
+			filesToUse.insertOne(file);
+
+			return id;
+
+		} catch (IOException e) {
+
+			abort(id, inFlight);
+			throw new MongoGridFSException("IOException when reading from the source", e);
+		} catch (RuntimeException e) {
+
+			abort(id, inFlight);
+			throw e;
+		}
+	}
+
+	private void submit(MongoCollection<Document> chunks, List<Document> batch, Deque<CompletableFuture<Void>> inFlight,
+			int maxBatchesInFlight) {
+
+		if (maxBatchesInFlight <= 1) {
+
+			chunks.insertMany(batch);
+			return;
+		}
+
+		while (inFlight.size() >= maxBatchesInFlight) {
+			await(inFlight.poll());
+		}
+
+		inFlight.add(CompletableFuture.runAsync(() -> chunks.insertMany(batch), executor));
+	}
+
+	private void abort(ObjectId id, Deque<CompletableFuture<Void>> inFlight) {
+
+		for (CompletableFuture<Void> future : inFlight) {
+			try {
+				future.join();
+			} catch (RuntimeException o_O) {
+				// the original failure is propagated, just make sure no insert is pending before cleaning up
+			}
+		}
+
+		chunks.deleteMany(new Document("files_id", id));
+	}
+
+	/**
+	 * Create the indexes required by the GridFS specification. Index creation is idempotent.
+	 */
+	void createIndexes() {
+
+		files.createIndex(new Document("filename", 1).append("uploadDate", 1));
+		chunks.createIndex(new Document("files_id", 1).append("n", 1), new IndexOptions().unique(true));
+	}
+
+	private static void await(CompletableFuture<Void> future) {
+
+		try {
+			future.join();
+		} catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw e;
+		}
+	}
+
+	private static MessageDigest createMd5Digest() {
+
+		try {
+			return MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException e) {
+			throw new MongoGridFSException("No MessageDigest: MD5", e);
+		}
+	}
+
+	/**
+	 * Source of chunk content.
+	 */
+	private interface ChunkSource {
+
+		/**
+		 * Fill the given target array.
+		 *
+		 * @return the number of bytes read. Less than the target length only if the end of the content was reached.
+		 * @throws IOException
+		 */
+		int read(byte[] target) throws IOException;
+	}
+
+	/**
+	 * {@link ChunkSource} reading a {@link FileChannel} into a reused {@link ByteBuffer} to avoid a system call per chunk
+	 * for chunk sizes below the buffer size.
+	 */
+	private static class ChannelChunkSource implements ChunkSource {
+
+		private final FileChannel channel;
+		private final ByteBuffer buffer;
+
+		ChannelChunkSource(FileChannel channel) {
+
+			this.channel = channel;
+			this.buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+			this.buffer.flip();
+		}
+
+		@Override
+		public int read(byte[] target) throws IOException {
+
+			int read = 0;
+
+			while (read < target.length) {
+
+				if (!buffer.hasRemaining()) {
+
+					buffer.clear();
+					int count = channel.read(buffer);
+					buffer.flip();
+
+					if (count == -1) {
+						break;
+					}
+				}
+
+				int count = Math.min(target.length - read, buffer.remaining());
+				buffer.get(target, read, count);
+				read += count;
+			}
+
+			return read;
+		}
+	}
+}
@@ -15,7 +15,11 @@
  */
 package org.springframework.data.mongodb.gridfs;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
 
 import org.bson.Document;
 import org.bson.types.ObjectId;
@@ -23,7 +27,9 @@ import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
+import com.mongodb.MongoGridFSException;
 import com.mongodb.client.gridfs.GridFSFindIterable;
 
 /**
@@ -121,6 +127,58 @@ public interface GridFsOperations extends ResourcePatternResolver {
 	ObjectId store(InputStream content, @Nullable String filename, @Nullable String contentType,
 			@Nullable Document metadata);
 
+	/**
+	 * Stores the given content into a file with the given name and content type using the given metadata and
+	 * {@link GridFsStoreOptions}. Chunks are written in batches and the files document is written after all chunks
+	 * were stored. The metadata object will be marshalled before writing.
+	 * <p>
+	 * The default implementation throws {@link UnsupportedOperationException} as {@link GridFsStoreOptions} such as the
+	 * chunk size cannot be applied through the other {@code store} methods.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param filename can be {@literal null} or empty.
+	 * @param contentType can be {@literal null}.
+	 * @param metadata can be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the {@link ObjectId} of the {@link com.mongodb.client.gridfs.model.GridFSFile} just created.
+	 * @throws UnsupportedOperationException if the implementation does not support {@link GridFsStoreOptions}.
+	 * @since 2.2
+	 */
+	default ObjectId store(InputStream content, @Nullable String filename, @Nullable String contentType,
+			@Nullable Object metadata, GridFsStoreOptions options) {
+		throw new UnsupportedOperationException(
+				String.format("%s does not support storing files with GridFsStoreOptions!", getClass().getName()));
+	}
+
+	/**
+	 * Stores the content of the given local file using the given metadata and {@link GridFsStoreOptions}. The file is
+	 * read through a {@link java.nio.channels.FileChannel} in blocks spanning multiple chunks. Chunks are written in
+	 * batches and the files document is written after all chunks were stored. The metadata object will be marshalled
+	 * before writing.
+	 * <p>
+	 * The default implementation opens an {@link InputStream} for the file and delegates to
+	 * {@link #store(InputStream, String, String, Object, GridFsStoreOptions)}.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param filename can be {@literal null} or empty.
+	 * @param contentType can be {@literal null}.
+	 * @param metadata can be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the {@link ObjectId} of the {@link com.mongodb.client.gridfs.model.GridFSFile} just created.
+	 * @since 2.2
+	 */
+	default ObjectId store(Path content, @Nullable String filename, @Nullable String contentType,
+			@Nullable Object metadata, GridFsStoreOptions options) {
+
+		Assert.notNull(content, "Path must not be null!");
+
+		try (InputStream stream = Files.newInputStream(content)) {
+			return store(stream, filename, contentType, metadata, options);
+		} catch (IOException e) {
+			throw new MongoGridFSException(String.format("Cannot read file %s", content), e);
+		}
+	}
+
 	/**
 	 * Returns all files matching the given query. Note, that currently {@link Sort} criterias defined at the
 	 * {@link Query} will not be regarded as MongoDB does not support ordering for GridFS file access.
@@ -176,4 +234,20 @@ public interface GridFsOperations extends ResourcePatternResolver {
 	 * @see ResourcePatternResolver#getResources(String)
 	 */
 	GridFsResource[] getResources(String filenamePattern);
+
+	/**
+	 * Returns a {@link Stream} of all {@link GridFsResource}s matching the given file name pattern. The pattern is
+	 * evaluated by the database and resources are created lazily while the underlying cursor is consumed. The
+	 * {@link Stream} must be {@link Stream#close() closed} after use to release the cursor.
+	 * <p>
+	 * The default implementation streams the resources obtained eagerly through {@link #getResources(String)}.
+	 *
+	 * @param filenamePattern must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 2.2
+	 * @see #getResources(String)
+	 */
+	default Stream<GridFsResource> streamResources(String filenamePattern) {
+		return Stream.of(getResources(filenamePattern));
+	}
 }
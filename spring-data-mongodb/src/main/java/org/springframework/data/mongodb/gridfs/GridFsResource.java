@@ -45,6 +45,7 @@ public class GridFsResource extends InputStreamResource {
 
 	private final @Nullable GridFSFile file;
 	private final String filename;
+	private final @Nullable GridFsChunkReader chunkReader;
 
 	/**
 	 * Creates a new, absent {@link GridFsResource}.
@@ -58,6 +59,7 @@ public class GridFsResource extends InputStreamResource {
 
 		this.file = null;
 		this.filename = filename;
+		this.chunkReader = null;
 	}
 
 	/**
@@ -76,11 +78,25 @@ public class GridFsResource extends InputStreamResource {
 	 * @param inputStream must not be {@literal null}.
 	 */
 	public GridFsResource(GridFSFile file, InputStream inputStream) {
+		this(file, inputStream, null);
+	}
+
+	/**
+	 * Creates a new {@link GridFsResource} from the given {@link GridFSFile} and {@link InputStream} that is able to read
+	 * byte ranges through the given {@link GridFsChunkReader}.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param inputStream must not be {@literal null}.
+	 * @param chunkReader can be {@literal null}.
+	 * @since 2.2
+	 */
+	GridFsResource(GridFSFile file, InputStream inputStream, @Nullable GridFsChunkReader chunkReader) {
 
 		super(inputStream, String.format("GridFs resource [%s]", file.getFilename()));
 
 		this.file = file;
 		this.filename = file.getFilename();
+		this.chunkReader = chunkReader;
 	}
 
 	/**
@@ -108,6 +124,29 @@ public class GridFsResource extends InputStreamResource {
 		return super.getInputStream();
 	}
 
+	/**
+	 * Returns an {@link InputStream} reading {@code length} bytes of the file content starting at {@code offset}. Only
+	 * the chunks covering the requested range are fetched from the database, which makes this method suitable to serve
+	 * HTTP range requests. Ranges exceeding the file length are truncated. In contrast to {@link #getInputStream()},
+	 * this method can be called multiple times.
+	 *
+	 * @param offset zero-based offset of the first byte to read, must not be negative.
+	 * @param length number of bytes to read, must not be negative.
+	 * @return the {@link InputStream} for the requested range. Never {@literal null}.
+	 * @throws FileNotFoundException if the file does not {@link #exists()}.
+	 * @throws IllegalStateException if the resource was not obtained through {@link GridFsTemplate}.
+	 * @since 2.2
+	 */
+	public InputStream readRange(long offset, long length) throws IOException {
+
+		verifyExists();
+
+		Assert.state(chunkReader != null,
+				() -> String.format("%s does not support range reads. Obtain it from GridFsTemplate.", getDescription()));
+
+		return chunkReader.read(file, offset, length);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.core.io.AbstractResource#contentLength()
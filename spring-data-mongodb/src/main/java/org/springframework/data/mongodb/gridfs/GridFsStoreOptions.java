@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.util.Optional;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.WriteConcern;
+
+/**
+ * Options to customize how content is written to GridFS through
+ * {@link GridFsOperations#store(java.io.InputStream, String, String, Object, GridFsStoreOptions)}. Chunks are written
+ * in batches using {@code insertMany}, keeping up to {@link #getMaxBatchesInFlight()} batches in flight at a time.
+ * The files document is written after all chunks were stored successfully.
+ *
+ * @since 2.2
+ */
+public class GridFsStoreOptions {
+
+	/**
+	 * Default chunk size of 255 kB as used by the MongoDB drivers.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 255 * 1024;
+
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+	private int batchSize = 16;
+	private int maxBatchesInFlight = 1;
+	private @Nullable WriteConcern writeConcern;
+
+	/**
+	 * Static factory method to create a {@link GridFsStoreOptions} instance.
+	 *
+	 * @return new instance of {@link GridFsStoreOptions}.
+	 */
+	public static GridFsStoreOptions options() {
+		return new GridFsStoreOptions();
+	}
+
+	/**
+	 * Define the size of each chunk in bytes.
+	 *
+	 * @param chunkSize must be greater than zero.
+	 * @return this.
+	 */
+	public GridFsStoreOptions chunkSize(int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero!");
+
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	/**
+	 * Define the number of chunks written with a single {@code insertMany} call.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @return this.
+	 */
+	public GridFsStoreOptions batchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Define the number of batches written concurrently. Values greater than one require batches to be written on the
+	 * {@link GridFsTemplate#setUploadExecutor(java.util.concurrent.Executor) upload executor}.
+	 *
+	 * @param maxBatchesInFlight must be greater than zero.
+	 * @return this.
+	 */
+	public GridFsStoreOptions maxBatchesInFlight(int maxBatchesInFlight) {
+
+		Assert.isTrue(maxBatchesInFlight > 0, "Max batches in flight must be greater than zero!");
+
+		this.maxBatchesInFlight = maxBatchesInFlight;
+		return this;
+	}
+
+	/**
+	 * Define the {@link WriteConcern} to apply when writing chunks and the files document.
+	 *
+	 * @param writeConcern can be {@literal null} to use the collection default.
+	 * @return this.
+	 */
+	public GridFsStoreOptions writeConcern(@Nullable WriteConcern writeConcern) {
+
+		this.writeConcern = writeConcern;
+		return this;
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public int getMaxBatchesInFlight() {
+		return maxBatchesInFlight;
+	}
+
+	/**
+	 * @return the {@link WriteConcern} to apply. {@link Optional#empty()} to use the collection default.
+	 */
+	public Optional<WriteConcern> getWriteConcern() {
+		return Optional.ofNullable(writeConcern);
+	}
+}
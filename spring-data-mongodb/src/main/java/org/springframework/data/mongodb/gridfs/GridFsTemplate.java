@@ -18,15 +18,28 @@ package org.springframework.data.mongodb.gridfs;
 import static org.springframework.data.mongodb.core.query.Query.*;
 import static org.springframework.data.mongodb.gridfs.GridFsCriteria.*;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import org.bson.BsonObjectId;
 import org.bson.Document;
 import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.data.mongodb.MongoDbFactory;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
@@ -35,6 +48,9 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.gridfs.GridFSBucket;
 import com.mongodb.client.gridfs.GridFSBuckets;
@@ -54,7 +70,7 @@ import com.mongodb.client.gridfs.model.GridFSUploadOptions;
  * @author Hartmut Lang
  * @author Niklas Helge Hanft
  */
-public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver {
+public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver, DisposableBean {
 
 	private final MongoDbFactory dbFactory;
 
@@ -62,6 +78,16 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 	private final MongoConverter converter;
 	private final QueryMapper queryMapper;
 
+	private static final int DELETE_BATCH_SIZE = 1000;
+	private static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+	private static final int DEFAULT_QUEUE_CAPACITY = DEFAULT_POOL_SIZE * 16;
+
+	private int prefetchChunks = 0;
+	private @Nullable Executor prefetchExecutor;
+	private volatile @Nullable ThreadPoolExecutor defaultExecutor;
+	private @Nullable Executor uploadExecutor;
+	private volatile boolean gridFsIndexesCreated;
+
 	/**
 	 * Creates a new {@link GridFsTemplate} using the given {@link MongoDbFactory} and {@link MongoConverter}.
 	 *
@@ -91,6 +117,50 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 		this.queryMapper = new QueryMapper(converter);
 	}
 
+	/**
+	 * Configures the number of chunks to fetch concurrently ahead of the consumer when reading {@link GridFsResource}
+	 * content. Values greater than one switch {@link GridFsResource#getInputStream()} from the sequential
+	 * {@link com.mongodb.client.gridfs.GridFSDownloadStream} to individual chunk queries executed on the
+	 * {@link #setPrefetchExecutor(Executor) prefetch executor}, buffering at most the given number of chunks per stream.
+	 * Defaults to {@literal 0} (no prefetching).
+	 *
+	 * @param prefetchChunks number of chunks to keep in flight.
+	 * @since 2.2
+	 */
+	public void setPrefetchChunks(int prefetchChunks) {
+		this.prefetchChunks = prefetchChunks;
+	}
+
+	/**
+	 * Configures the {@link Executor} used to fetch chunks concurrently. Defaults to a pool of daemon threads shared by
+	 * this template, sized to the number of available processors and created on first use. Its queue is bounded, tasks
+	 * exceeding it run on the calling thread. The pool is shut down on {@link #destroy()}.
+	 *
+	 * @param prefetchExecutor must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public void setPrefetchExecutor(Executor prefetchExecutor) {
+
+		Assert.notNull(prefetchExecutor, "Executor must not be null!");
+
+		this.prefetchExecutor = prefetchExecutor;
+	}
+
+	/**
+	 * Configures the {@link Executor} used to write chunk batches concurrently when storing content with
+	 * {@link GridFsStoreOptions#maxBatchesInFlight(int) multiple batches in flight}. Defaults to the bounded pool shared
+	 * with {@link #setPrefetchExecutor(Executor) chunk prefetching}.
+	 *
+	 * @param uploadExecutor must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public void setUploadExecutor(Executor uploadExecutor) {
+
+		Assert.notNull(uploadExecutor, "Executor must not be null!");
+
+		this.uploadExecutor = uploadExecutor;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#store(java.io.InputStream, java.lang.String)
@@ -182,6 +252,33 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 		return getGridFs().uploadFromStream(filename, content, options);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#store(java.io.InputStream, java.lang.String, java.lang.String, java.lang.Object, org.springframework.data.mongodb.gridfs.GridFsStoreOptions)
+	 */
+	@Override
+	public ObjectId store(InputStream content, @Nullable String filename, @Nullable String contentType,
+			@Nullable Object metadata, GridFsStoreOptions options) {
+		return getChunkWriter().write(content, filename, toMetadata(contentType, metadata), options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#store(java.nio.file.Path, java.lang.String, java.lang.String, java.lang.Object, org.springframework.data.mongodb.gridfs.GridFsStoreOptions)
+	 */
+	@Override
+	public ObjectId store(Path content, @Nullable String filename, @Nullable String contentType,
+			@Nullable Object metadata, GridFsStoreOptions options) {
+
+		Assert.notNull(content, "Path must not be null!");
+
+		try (FileChannel channel = FileChannel.open(content, StandardOpenOption.READ)) {
+			return getChunkWriter().write(channel, filename, toMetadata(contentType, metadata), options);
+		} catch (IOException e) {
+			throw new MongoGridFSException(String.format("Cannot read file %s", content), e);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#find(com.mongodb.Document)
@@ -210,8 +307,30 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 	 */
 	public void delete(Query query) {
 
-		for (GridFSFile x : find(query)) {
-			getGridFs().delete(((BsonObjectId) x.getId()).getValue());
+		Assert.notNull(query, "Query must not be null!");
+
+		MongoCollection<Document> files = getCollection("files");
+		MongoCollection<Document> chunks = getCollection("chunks");
+
+		List<Object> ids = new ArrayList<>(DELETE_BATCH_SIZE);
+
+		try (MongoCursor<Document> cursor = files.find(getMappedQuery(query.getQueryObject()))
+				.projection(new Document("_id", 1)).batchSize(DELETE_BATCH_SIZE).iterator()) {
+
+			while (cursor.hasNext()) {
+
+				ids.add(cursor.next().get("_id"));
+
+				if (ids.size() == DELETE_BATCH_SIZE) {
+
+					deleteFiles(files, chunks, ids);
+					ids.clear();
+				}
+			}
+		}
+
+		if (!ids.isEmpty()) {
+			deleteFiles(files, chunks, ids);
 		}
 	}
 
@@ -242,7 +361,13 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 
 		Assert.notNull(file, "GridFSFile must not be null!");
 
-		return new GridFsResource(file, getGridFs().openDownloadStream(file.getObjectId()));
+		GridFsChunkReader chunkReader = new GridFsChunkReader(getChunksCollection(), prefetchChunks,
+				prefetchChunks > 1 ? getPrefetchExecutor() : null);
+
+		InputStream content = chunkReader.isPrefetching() ? chunkReader.read(file, 0, file.getLength())
+				: getGridFs().openDownloadStream(file.getObjectId());
+
+		return new GridFsResource(file, content, chunkReader);
 	}
 
 	/*
@@ -259,23 +384,143 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 
 		if (path.isPattern()) {
 
-			GridFSFindIterable files = find(query(whereFilename().regex(path.toRegex())));
-			List<GridFsResource> resources = new ArrayList<>();
-
-			for (GridFSFile file : files) {
-				resources.add(getResource(file));
+			try (Stream<GridFsResource> resources = streamResources(locationPattern)) {
+				return resources.toArray(GridFsResource[]::new);
 			}
-
-			return resources.toArray(new GridFsResource[0]);
 		}
 
 		return new GridFsResource[] { getResource(locationPattern) };
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#streamResources(java.lang.String)
+	 */
+	@Override
+	public Stream<GridFsResource> streamResources(String locationPattern) {
+
+		if (!StringUtils.hasText(locationPattern)) {
+			return Stream.empty();
+		}
+
+		AntPath path = new AntPath(locationPattern);
+
+		if (!path.isPattern()) {
+			return Stream.of(getResource(locationPattern));
+		}
+
+		MongoCursor<GridFSFile> cursor = find(query(whereFilename().regex(path.toRegex()))).iterator();
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false) //
+				.onClose(cursor::close) //
+				.map(this::getResource);
+	}
+
+	private static void deleteFiles(MongoCollection<Document> files, MongoCollection<Document> chunks,
+			List<Object> ids) {
+
+		files.deleteMany(new Document("_id", new Document("$in", ids)));
+		chunks.deleteMany(new Document("files_id", new Document("$in", ids)));
+	}
+
+	private Document toMetadata(@Nullable String contentType, @Nullable Object metadata) {
+
+		Document mData = new Document();
+
+		if (StringUtils.hasText(contentType)) {
+			mData.put(GridFsResource.CONTENT_TYPE_FIELD, contentType);
+		}
+
+		if (metadata instanceof Document) {
+			mData.putAll((Document) metadata);
+		} else if (metadata != null) {
+			converter.write(metadata, mData);
+		}
+
+		return mData;
+	}
+
+	private GridFsChunkWriter getChunkWriter() {
+
+		GridFsChunkWriter writer = new GridFsChunkWriter(getCollection("files"), getCollection("chunks"),
+				this::executeUpload);
+
+		if (!gridFsIndexesCreated) {
+
+			writer.createIndexes();
+			gridFsIndexesCreated = true;
+		}
+
+		return writer;
+	}
+
+	private Executor getPrefetchExecutor() {
+		return prefetchExecutor != null ? prefetchExecutor : getDefaultExecutor();
+	}
+
+	private void executeUpload(Runnable task) {
+		(uploadExecutor != null ? uploadExecutor : getDefaultExecutor()).execute(task);
+	}
+
+	/**
+	 * Shuts down the default {@link Executor} used for chunk prefetching and parallel uploads if it was created. Tasks
+	 * submitted afterwards run on the calling thread.
+	 *
+	 * @since 2.2
+	 */
+	@Override
+	public void destroy() {
+
+		ThreadPoolExecutor executor = defaultExecutor;
+
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	private Executor getDefaultExecutor() {
+
+		ThreadPoolExecutor executor = defaultExecutor;
+
+		if (executor == null) {
+
+			synchronized (this) {
+
+				executor = defaultExecutor;
+
+				if (executor == null) {
+					executor = defaultExecutor = createDefaultExecutor();
+				}
+			}
+		}
+
+		return executor;
+	}
+
+	private static ThreadPoolExecutor createDefaultExecutor() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("gridfs-");
+		threadFactory.setDaemon(true);
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_POOL_SIZE, DEFAULT_POOL_SIZE, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(DEFAULT_QUEUE_CAPACITY), threadFactory, (task, pool) -> task.run());
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
 	private Document getMappedQuery(Document query) {
 		return queryMapper.getMappedObject(query, Optional.empty());
 	}
 
+	private MongoCollection<Document> getChunksCollection() {
+		return getCollection("chunks");
+	}
+
+	private MongoCollection<Document> getCollection(String suffix) {
+		return dbFactory.getDb().getCollection((bucket == null ? "fs" : bucket) + "." + suffix);
+	}
+
 	private GridFSBucket getGridFs() {
 
 		MongoDatabase db = dbFactory.getDb();
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import reactor.core.publisher.Flux;
+
+import java.io.FileNotFoundException;
+import java.util.Optional;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.util.Optionals;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * Reactive {@link GridFSFile} based resource exposing its content as {@link Flux} of {@link DataBuffer}. The content
+ * is streamed lazily and chunks are read from the database on demand.
+ *
+ * @since 2.2
+ */
+public class ReactiveGridFsResource {
+
+	private final @Nullable GridFSFile file;
+	private final String filename;
+	private final Flux<DataBuffer> content;
+
+	/**
+	 * Creates a new, absent {@link ReactiveGridFsResource}.
+	 *
+	 * @param filename filename of the absent resource.
+	 * @param content
+	 */
+	private ReactiveGridFsResource(String filename, Publisher<DataBuffer> content) {
+
+		this.file = null;
+		this.filename = filename;
+		this.content = Flux.from(content);
+	}
+
+	/**
+	 * Creates a new {@link ReactiveGridFsResource} from the given {@link GridFSFile}.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param content must not be {@literal null}.
+	 */
+	public ReactiveGridFsResource(GridFSFile file, Publisher<DataBuffer> content) {
+
+		Assert.notNull(file, "GridFSFile must not be null!");
+		Assert.notNull(content, "Content must not be null!");
+
+		this.file = file;
+		this.filename = file.getFilename();
+		this.content = Flux.from(content);
+	}
+
+	/**
+	 * Obtain an absent {@link ReactiveGridFsResource}.
+	 *
+	 * @param filename filename of the absent resource, must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	public static ReactiveGridFsResource absent(String filename) {
+
+		Assert.notNull(filename, "Filename must not be null");
+
+		return new ReactiveGridFsResource(filename, Flux.empty());
+	}
+
+	/**
+	 * Retrieve the content of the file as a stream of {@link DataBuffer}s. Chunks are requested from the database
+	 * according to the subscriber demand. The stream errors with {@link FileNotFoundException} if the resource does not
+	 * {@link #exists() exist}.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public Flux<DataBuffer> getDownloadStream() {
+
+		if (!exists()) {
+			return Flux.error(new FileNotFoundException(String.format("%s does not exist.", getDescription())));
+		}
+
+		return content;
+	}
+
+	/**
+	 * @return the underlying {@link GridFSFile}. Can be {@literal null} if the resource does not {@link #exists()
+	 *         exist}.
+	 */
+	@Nullable
+	public GridFSFile getGridFSFile() {
+		return file;
+	}
+
+	/**
+	 * @return the file name.
+	 */
+	public String getFilename() {
+		return filename;
+	}
+
+	/**
+	 * @return {@literal true} if the resource is backed by an actual {@link GridFSFile}.
+	 */
+	public boolean exists() {
+		return file != null;
+	}
+
+	/**
+	 * @return the file length in bytes.
+	 * @throws IllegalStateException if the file does not {@link #exists()}.
+	 */
+	public long contentLength() {
+
+		verifyExists();
+		return file.getLength();
+	}
+
+	/**
+	 * @return the upload timestamp in milliseconds since epoch.
+	 * @throws IllegalStateException if the file does not {@link #exists()}.
+	 */
+	public long lastModified() {
+
+		verifyExists();
+		return file.getUploadDate().getTime();
+	}
+
+	/**
+	 * @return a description of this resource.
+	 */
+	public String getDescription() {
+		return String.format("GridFs resource [%s]", this.getFilename());
+	}
+
+	/**
+	 * Returns the {@link ReactiveGridFsResource}'s id.
+	 *
+	 * @return never {@literal null}.
+	 * @throws IllegalStateException if the file does not {@link #exists()}.
+	 */
+	public Object getId() {
+
+		verifyExists();
+		return file.getId();
+	}
+
+	/**
+	 * Returns the {@link ReactiveGridFsResource}'s content type.
+	 *
+	 * @return never {@literal null}.
+	 * @throws com.mongodb.MongoGridFSException in case no content type declared on {@link GridFSFile#getMetadata()} nor
+	 *           provided via {@link GridFSFile#getContentType()}.
+	 * @throws IllegalStateException if the file does not {@link #exists()}.
+	 */
+	@SuppressWarnings("deprecation")
+	public String getContentType() {
+
+		verifyExists();
+
+		return Optionals
+				.firstNonEmpty(
+						() -> Optional.ofNullable(file.getMetadata())
+								.map(it -> it.get(GridFsResource.CONTENT_TYPE_FIELD, String.class)),
+						() -> Optional.ofNullable(file.getContentType()))
+				.orElseThrow(() -> new MongoGridFSException("No contentType data for this GridFS file"));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return getDescription();
+	}
+
+	private void verifyExists() {
+		Assert.state(exists(), () -> String.format("%s does not exist.", getDescription()));
+	}
+}
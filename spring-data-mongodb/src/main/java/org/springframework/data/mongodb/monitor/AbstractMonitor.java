@@ -16,6 +16,7 @@
 package org.springframework.data.mongodb.monitor;
 
 import org.bson.Document;
+import org.springframework.util.Assert;
 
 import com.mongodb.MongoClient;
 import com.mongodb.client.MongoDatabase;
@@ -30,13 +31,34 @@ import com.mongodb.client.MongoDatabase;
 public abstract class AbstractMonitor {
 
 	private final MongoClient mongoClient;
+	private final ServerStatusCache serverStatusCache;
 
 	protected AbstractMonitor(MongoClient mongoClient) {
+		this(mongoClient, new ServerStatusCache(mongoClient));
+	}
+
+	/**
+	 * Create a new monitor reading the {@code serverStatus} from the given, potentially shared, cache.
+	 *
+	 * @param mongoClient must not be {@literal null}.
+	 * @param serverStatusCache must not be {@literal null}.
+	 * @since 2.2
+	 */
+	protected AbstractMonitor(MongoClient mongoClient, ServerStatusCache serverStatusCache) {
+
+		Assert.notNull(serverStatusCache, "ServerStatusCache must not be null!");
+
 		this.mongoClient = mongoClient;
+		this.serverStatusCache = serverStatusCache;
 	}
 
+	/**
+	 * Obtain the {@code serverStatus} snapshot of the {@link ServerStatusCache}.
+	 *
+	 * @return the {@code serverStatus} command result.
+	 */
 	public Document getServerStatus() {
-		return getDb("admin").runCommand(new Document("serverStatus", 1).append("rangeDeleter", 1).append("repl", 1));
+		return serverStatusCache.getServerStatus();
 	}
 
 	public MongoDatabase getDb(String databaseName) {
@@ -46,4 +68,12 @@ public abstract class AbstractMonitor {
 	protected MongoClient getMongoClient() {
 		return mongoClient;
 	}
+
+	/**
+	 * @return the {@link ServerStatusCache} used to obtain the {@code serverStatus}.
+	 * @since 2.2
+	 */
+	protected ServerStatusCache getServerStatusCache() {
+		return serverStatusCache;
+	}
 }
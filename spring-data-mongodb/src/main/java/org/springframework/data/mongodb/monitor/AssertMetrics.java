@@ -36,6 +36,15 @@ public class AssertMetrics extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * @param mongoClient must not be {@literal null}.
+	 * @param serverStatusCache must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public AssertMetrics(MongoClient mongoClient, ServerStatusCache serverStatusCache) {
+		super(mongoClient, serverStatusCache);
+	}
+
 	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Regular")
 	public int getRegular() {
 		return getBtree("regular");
@@ -36,6 +36,15 @@ public class BackgroundFlushingMetrics extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * @param mongoClient must not be {@literal null}.
+	 * @param serverStatusCache must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public BackgroundFlushingMetrics(MongoClient mongoClient, ServerStatusCache serverStatusCache) {
+		super(mongoClient, serverStatusCache);
+	}
+
 	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Flushes")
 	public int getFlushes() {
 		return getFlushingData("flushes", java.lang.Integer.class);
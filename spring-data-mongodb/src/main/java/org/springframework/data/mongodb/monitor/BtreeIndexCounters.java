@@ -34,6 +34,15 @@ public class BtreeIndexCounters extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * @param mongoClient must not be {@literal null}.
+	 * @param serverStatusCache must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public BtreeIndexCounters(MongoClient mongoClient, ServerStatusCache serverStatusCache) {
+		super(mongoClient, serverStatusCache);
+	}
+
 	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Accesses")
 	public int getAccesses() {
 		return getBtree("accesses");
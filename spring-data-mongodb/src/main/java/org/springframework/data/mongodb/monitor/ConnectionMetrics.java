@@ -34,6 +34,15 @@ public class ConnectionMetrics extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * @param mongoClient must not be {@literal null}.
+	 * @param serverStatusCache must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public ConnectionMetrics(MongoClient mongoClient, ServerStatusCache serverStatusCache) {
+		super(mongoClient, serverStatusCache);
+	}
+
 	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Current Connections")
 	public int getCurrent() {
 		return getConnectionData("current", java.lang.Integer.class);
@@ -35,6 +35,15 @@ public class GlobalLockMetrics extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * @param mongoClient must not be {@literal null}.
+	 * @param serverStatusCache must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public GlobalLockMetrics(MongoClient mongoClient, ServerStatusCache serverStatusCache) {
+		super(mongoClient, serverStatusCache);
+	}
+
 	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Total time")
 	public double getTotalTime() {
 		return getGlobalLockData("totalTime", java.lang.Double.class);
@@ -34,6 +34,15 @@ public class MemoryMetrics extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * @param mongoClient must not be {@literal null}.
+	 * @param serverStatusCache must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public MemoryMetrics(MongoClient mongoClient, ServerStatusCache serverStatusCache) {
+		super(mongoClient, serverStatusCache);
+	}
+
 	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Memory address size")
 	public int getBits() {
 		return getMemData("bits", java.lang.Integer.class);
@@ -23,7 +23,8 @@ import org.springframework.jmx.support.MetricType;
 import com.mongodb.MongoClient;
 
 /**
- * JMX Metrics for Operation counters
+ * JMX Metrics for Operation counters along with the rate at which they change per second between the two most recent
+ * {@link ServerStatusCache} snapshots.
  *
  * @author Mark Pollack
  */
@@ -34,6 +35,15 @@ public class OperationCounters extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * @param mongoClient must not be {@literal null}.
+	 * @param serverStatusCache must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public OperationCounters(MongoClient mongoClient, ServerStatusCache serverStatusCache) {
+		super(mongoClient, serverStatusCache);
+	}
+
 	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Insert operation count")
 	public int getInsertCount() {
 		return getOpCounter("insert");
@@ -64,8 +74,42 @@ public class OperationCounters extends AbstractMonitor {
 		return getOpCounter("command");
 	}
 
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Insert operations per second", unit = "ops/s")
+	public double getInsertRate() {
+		return getOpRate("insert");
+	}
+
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Query operations per second", unit = "ops/s")
+	public double getQueryRate() {
+		return getOpRate("query");
+	}
+
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Update operations per second", unit = "ops/s")
+	public double getUpdateRate() {
+		return getOpRate("update");
+	}
+
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Delete operations per second", unit = "ops/s")
+	public double getDeleteRate() {
+		return getOpRate("delete");
+	}
+
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "GetMore operations per second", unit = "ops/s")
+	public double getGetMoreRate() {
+		return getOpRate("getmore");
+	}
+
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Command operations per second", unit = "ops/s")
+	public double getCommandRate() {
+		return getOpRate("command");
+	}
+
 	private int getOpCounter(String key) {
 		Document opCounters = (Document) getServerStatus().get("opcounters");
 		return (Integer) opCounters.get(key);
 	}
+
+	private double getOpRate(String key) {
+		return getServerStatusCache().getRate("opcounters", key);
+	}
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.springframework.data.mongodb.core.HistogramOperationMetricsRecorder;
+import org.springframework.data.mongodb.core.HistogramOperationMetricsRecorder.OperationStatistics;
+import org.springframework.data.mongodb.core.LatencyHistogram;
+import org.springframework.data.mongodb.core.OperationMetricsRecorder.OperationType;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedMetric;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedOperationParameter;
+import org.springframework.jmx.export.annotation.ManagedOperationParameters;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.jmx.support.MetricType;
+import org.springframework.util.Assert;
+
+/**
+ * JMX Metrics for the operation latencies recorded by a {@link HistogramOperationMetricsRecorder}. Unlike the other
+ * monitors this one does not issue any commands against the server but exposes what has been measured client side by
+ * {@link org.springframework.data.mongodb.core.MongoTemplate} and
+ * {@link org.springframework.data.mongodb.core.ReactiveMongoTemplate}. Operations are identified by their lower case
+ * {@link OperationType} name, collections by their name or {@link HistogramOperationMetricsRecorder#ALL_COLLECTIONS}
+ * for the aggregate across all collections.
+ *
+ * @since 2.2
+ */
+@ManagedResource(description = "Operation Latency Metrics")
+public class OperationLatencyMetrics {
+
+	private final HistogramOperationMetricsRecorder recorder;
+
+	/**
+	 * Create new {@link OperationLatencyMetrics} exposing the statistics of the given recorder.
+	 *
+	 * @param recorder must not be {@literal null}.
+	 */
+	public OperationLatencyMetrics(HistogramOperationMetricsRecorder recorder) {
+
+		Assert.notNull(recorder, "HistogramOperationMetricsRecorder must not be null!");
+
+		this.recorder = recorder;
+	}
+
+	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Operation count")
+	public long getOperationCount() {
+		return sumAcrossCollections(OperationStatistics::getOperationCount);
+	}
+
+	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Document count")
+	public long getDocumentCount() {
+		return sumAcrossCollections(OperationStatistics::getDocumentCount);
+	}
+
+	@ManagedAttribute(description = "Recorded operations in the format operation:collection")
+	public String[] getOperations() {
+
+		return recorder.getStatistics().stream() //
+				.map(it -> toName(it.getOperationType()) + ":" + it.getCollectionName()) //
+				.sorted() //
+				.toArray(String[]::new);
+	}
+
+	@ManagedOperation(description = "Number of recorded operations of the given type on the given collection")
+	@ManagedOperationParameters({ @ManagedOperationParameter(name = "operation", description = "e.g. find"),
+			@ManagedOperationParameter(name = "collection", description = "The collection name or *") })
+	public long operationCount(String operation, String collection) {
+
+		OperationStatistics statistics = recorder.getStatistics(toOperationType(operation), collection);
+		return statistics != null ? statistics.getOperationCount() : 0;
+	}
+
+	@ManagedOperation(description = "I/O latency in milliseconds at the given percentile")
+	@ManagedOperationParameters({ @ManagedOperationParameter(name = "operation", description = "e.g. find"),
+			@ManagedOperationParameter(name = "collection", description = "The collection name or *"),
+			@ManagedOperationParameter(name = "percentile", description = "e.g. 99.9") })
+	public double ioLatency(String operation, String collection, double percentile) {
+		return latency(operation, collection, percentile, OperationStatistics::getIoLatency);
+	}
+
+	@ManagedOperation(description = "Document conversion latency in milliseconds at the given percentile")
+	@ManagedOperationParameters({ @ManagedOperationParameter(name = "operation", description = "e.g. find"),
+			@ManagedOperationParameter(name = "collection", description = "The collection name or *"),
+			@ManagedOperationParameter(name = "percentile", description = "e.g. 99.9") })
+	public double conversionLatency(String operation, String collection, double percentile) {
+		return latency(operation, collection, percentile, OperationStatistics::getConversionLatency);
+	}
+
+	@ManagedOperation(description = "Discard all recorded statistics")
+	public void reset() {
+		recorder.reset();
+	}
+
+	private double latency(String operation, String collection, double percentile,
+			Function<OperationStatistics, LatencyHistogram> histogram) {
+
+		OperationStatistics statistics = recorder.getStatistics(toOperationType(operation), collection);
+		return statistics != null ? histogram.apply(statistics).getValueAtPercentile(percentile, TimeUnit.MILLISECONDS)
+				: 0;
+	}
+
+	private long sumAcrossCollections(ToLongFunction<OperationStatistics> function) {
+
+		long sum = 0;
+
+		for (OperationType operationType : OperationType.values()) {
+
+			OperationStatistics statistics = recorder.getStatistics(operationType,
+					HistogramOperationMetricsRecorder.ALL_COLLECTIONS);
+
+			if (statistics != null) {
+				sum += function.applyAsLong(statistics);
+			}
+		}
+
+		return sum;
+	}
+
+	private static OperationType toOperationType(String operation) {
+		return OperationType.valueOf(operation.trim().toUpperCase(Locale.ROOT));
+	}
+
+	private static String toName(OperationType operationType) {
+		return operationType.name().toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoClient;
+
+/**
+ * Shared snapshot of the {@code serverStatus} command result. The first read runs the command, subsequent reads are
+ * served from the snapshot. Reading a snapshot older than the refresh interval returns it nevertheless and refreshes
+ * it in the background, with at most one refresh in flight at a time. Unless configured otherwise, refreshes run on a
+ * dedicated daemon thread that is shut down on {@link #destroy()}. A failed refresh keeps the previous snapshot. It is
+ * retried on a read after a delay that starts at the refresh interval and doubles with every consecutive failure, up to
+ * one minute or the refresh interval if that is longer.
+ * <p>
+ * Retaining the previous snapshot allows to compute {@link #getRate(String...) rates} of counters such as
+ * {@code opcounters.insert} between the two most recent snapshots.
+ *
+ * @since 2.2
+ * @see AbstractMonitor
+ */
+public class ServerStatusCache implements DisposableBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ServerStatusCache.class);
+	private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(5);
+	private static final long MIN_RETRY_DELAY_NANOS = TimeUnit.SECONDS.toNanos(1);
+	private static final long MAX_RETRY_DELAY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	private final Supplier<Document> serverStatus;
+	private final long refreshIntervalNanos;
+	private final LongSupplier nanoTime;
+	private final AtomicBoolean refreshing = new AtomicBoolean();
+	private final Object initialLoadMonitor = new Object();
+
+	private @Nullable Executor refreshExecutor;
+	private volatile @Nullable ThreadPoolExecutor defaultExecutor;
+
+	private volatile @Nullable Snapshot current;
+	private volatile int failedRefreshes;
+	private volatile long retryAfterNanos;
+
+	/**
+	 * Create a new {@link ServerStatusCache} refreshing the {@code serverStatus} snapshot every 5 seconds.
+	 *
+	 * @param mongoClient must not be {@literal null}.
+	 */
+	public ServerStatusCache(MongoClient mongoClient) {
+		this(mongoClient, DEFAULT_REFRESH_INTERVAL);
+	}
+
+	/**
+	 * Create a new {@link ServerStatusCache} refreshing the {@code serverStatus} snapshot at the given interval.
+	 *
+	 * @param mongoClient must not be {@literal null}.
+	 * @param refreshInterval must not be {@literal null} or negative.
+	 */
+	public ServerStatusCache(MongoClient mongoClient, Duration refreshInterval) {
+		this(serverStatus(mongoClient), refreshInterval, System::nanoTime);
+	}
+
+	ServerStatusCache(Supplier<Document> serverStatus, Duration refreshInterval, LongSupplier nanoTime) {
+
+		Assert.notNull(serverStatus, "ServerStatus must not be null!");
+		Assert.notNull(refreshInterval, "Refresh interval must not be null!");
+		Assert.isTrue(!refreshInterval.isNegative(), "Refresh interval must not be negative!");
+
+		this.serverStatus = serverStatus;
+		this.refreshIntervalNanos = refreshInterval.toNanos();
+		this.nanoTime = nanoTime;
+	}
+
+	/**
+	 * Configures the {@link Executor} to refresh stale snapshots on. Defaults to a single daemon thread owned by this
+	 * cache.
+	 *
+	 * @param refreshExecutor must not be {@literal null}.
+	 */
+	public void setRefreshExecutor(Executor refreshExecutor) {
+
+		Assert.notNull(refreshExecutor, "Refresh executor must not be null!");
+
+		this.refreshExecutor = refreshExecutor;
+	}
+
+	/**
+	 * Obtain the current {@code serverStatus} snapshot, running the command if none has been obtained yet and triggering
+	 * a background refresh if the snapshot is stale.
+	 *
+	 * @return the {@code serverStatus} command result.
+	 */
+	public Document getServerStatus() {
+
+		Snapshot snapshot = current;
+
+		if (snapshot == null) {
+			return initialLoad().status;
+		}
+
+		long now = nanoTime.getAsLong();
+
+		if (now - snapshot.timestamp >= refreshIntervalNanos && (failedRefreshes == 0 || now - retryAfterNanos >= 0)) {
+			refreshAsync();
+		}
+
+		return snapshot.status;
+	}
+
+	/**
+	 * Compute the rate per second at which the numeric value at the given path changed between the two most recent
+	 * snapshots.
+	 *
+	 * @param path the path to the value, e.g. {@code "opcounters", "insert"}.
+	 * @return the rate per second or zero if fewer than two snapshots have been obtained yet.
+	 */
+	public double getRate(String... path) {
+
+		getServerStatus();
+
+		Snapshot snapshot = this.current;
+
+		if (snapshot == null || snapshot.previousStatus == null || snapshot.timestamp == snapshot.previousTimestamp) {
+			return 0;
+		}
+
+		Number currentValue = getValue(snapshot.status, path);
+		Number previousValue = getValue(snapshot.previousStatus, path);
+
+		if (currentValue == null || previousValue == null) {
+			return 0;
+		}
+
+		double seconds = (double) (snapshot.timestamp - snapshot.previousTimestamp) / TimeUnit.SECONDS.toNanos(1);
+		return (currentValue.doubleValue() - previousValue.doubleValue()) / seconds;
+	}
+
+	private Snapshot initialLoad() {
+
+		synchronized (initialLoadMonitor) {
+
+			Snapshot snapshot = current;
+			return snapshot != null ? snapshot : refresh();
+		}
+	}
+
+	private void refreshAsync() {
+
+		if (!refreshing.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			(refreshExecutor != null ? refreshExecutor : getDefaultExecutor()).execute(() -> {
+
+				try {
+					refresh();
+					onRefreshed();
+				} catch (RuntimeException e) {
+					onRefreshFailed(e);
+				} finally {
+					refreshing.set(false);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			refreshing.set(false);
+		}
+	}
+
+	private void onRefreshed() {
+
+		int failures = failedRefreshes;
+
+		if (failures > 0) {
+
+			LOGGER.info("Refreshed serverStatus after {} failed attempt(s).", failures);
+			failedRefreshes = 0;
+		}
+	}
+
+	private void onRefreshFailed(RuntimeException e) {
+
+		// refreshes do not overlap so there is no concurrent update
+		int failures = failedRefreshes + 1;
+		long delay = getRetryDelayNanos(failures);
+
+		retryAfterNanos = nanoTime.getAsLong() + delay;
+		failedRefreshes = failures;
+
+		if (failures == 1) {
+			LOGGER.warn("Failed to refresh serverStatus, keeping previous snapshot and retrying in {} ms: {}",
+					TimeUnit.NANOSECONDS.toMillis(delay), e.getMessage());
+		}
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(String.format("Failed to refresh serverStatus %d time(s) in a row.", failures), e);
+		}
+	}
+
+	private long getRetryDelayNanos(int failures) {
+
+		long delay = Math.max(refreshIntervalNanos, MIN_RETRY_DELAY_NANOS);
+		long maxDelay = Math.max(delay, MAX_RETRY_DELAY_NANOS);
+
+		for (int i = 1; i < failures && delay < maxDelay; i++) {
+			delay *= 2;
+		}
+
+		return Math.min(delay, maxDelay);
+	}
+
+	/**
+	 * Shuts down the thread refreshing snapshots if it was created. Stale snapshots are not refreshed afterwards.
+	 */
+	@Override
+	public void destroy() {
+
+		ThreadPoolExecutor executor = defaultExecutor;
+
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	private Executor getDefaultExecutor() {
+
+		ThreadPoolExecutor executor = defaultExecutor;
+
+		if (executor == null) {
+
+			synchronized (this) {
+
+				executor = defaultExecutor;
+
+				if (executor == null) {
+					executor = defaultExecutor = createDefaultExecutor();
+				}
+			}
+		}
+
+		return executor;
+	}
+
+	private static ThreadPoolExecutor createDefaultExecutor() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("mongo-server-status-");
+		threadFactory.setDaemon(true);
+
+		// at most one refresh is in flight so the queue does not grow
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
+	private Snapshot refresh() {
+
+		Document status = serverStatus.get();
+		Snapshot snapshot = new Snapshot(status, nanoTime.getAsLong(), this.current);
+
+		this.current = snapshot;
+
+		return snapshot;
+	}
+
+	@Nullable
+	private static Number getValue(Document document, String... path) {
+
+		Object value = document;
+
+		for (String key : path) {
+
+			if (!(value instanceof Document)) {
+				return null;
+			}
+
+			value = ((Document) value).get(key);
+		}
+
+		return value instanceof Number ? (Number) value : null;
+	}
+
+	private static Supplier<Document> serverStatus(MongoClient mongoClient) {
+
+		Assert.notNull(mongoClient, "MongoClient must not be null!");
+
+		return () -> mongoClient.getDatabase("admin")
+				.runCommand(new Document("serverStatus", 1).append("rangeDeleter", 1).append("repl", 1));
+	}
+
+	/**
+	 * A {@code serverStatus} result along with the one obtained before.
+	 */
+	private static class Snapshot {
+
+		private final Document status;
+		private final long timestamp;
+		private final @Nullable Document previousStatus;
+		private final long previousTimestamp;
+
+		Snapshot(Document status, long timestamp, @Nullable Snapshot previous) {
+
+			this.status = status;
+			this.timestamp = timestamp;
+			this.previousStatus = previous != null ? previous.status : null;
+			this.previousTimestamp = previous != null ? previous.timestamp : timestamp;
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.SlowQueryRecorder;
+import org.springframework.data.mongodb.core.SlowQueryRecorder.SlowQueryStatistics;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedOperationParameter;
+import org.springframework.jmx.export.annotation.ManagedOperationParameters;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.util.Assert;
+
+/**
+ * JMX Metrics for the slow queries recorded by a {@link SlowQueryRecorder}. Like {@link OperationLatencyMetrics} this
+ * one exposes client side measurements and does not issue any commands against the server.
+ *
+ * @since 2.2
+ */
+@ManagedResource(description = "Slow Queries")
+public class SlowQueryMetrics {
+
+	private static final int DEFAULT_LIMIT = 10;
+
+	private final SlowQueryRecorder recorder;
+
+	/**
+	 * Create new {@link SlowQueryMetrics} exposing the slow queries of the given recorder.
+	 *
+	 * @param recorder must not be {@literal null}.
+	 */
+	public SlowQueryMetrics(SlowQueryRecorder recorder) {
+
+		Assert.notNull(recorder, "SlowQueryRecorder must not be null!");
+
+		this.recorder = recorder;
+	}
+
+	@ManagedAttribute(description = "Latency threshold in milliseconds")
+	public long getThreshold() {
+		return recorder.getThreshold().toMillis();
+	}
+
+	@ManagedAttribute(description = "Top 10 slow queries by accumulated latency")
+	public String[] getTopOffenders() {
+		return topOffenders(DEFAULT_LIMIT);
+	}
+
+	@ManagedOperation(description = "Top slow queries by accumulated latency")
+	@ManagedOperationParameters({ @ManagedOperationParameter(name = "limit", description = "Number of queries") })
+	public String[] topOffenders(int limit) {
+
+		return recorder.getTopOffenders(limit).stream() //
+				.map(SlowQueryMetrics::toString) //
+				.toArray(String[]::new);
+	}
+
+	@ManagedOperation(description = "Captured explain output of a slow query")
+	@ManagedOperationParameters({ @ManagedOperationParameter(name = "collection", description = "The collection name"),
+			@ManagedOperationParameter(name = "shape", description = "The query shape") })
+	public String explain(String collection, String shape) {
+
+		SlowQueryStatistics statistics = recorder.getStatistics(collection, shape);
+		Document explain = statistics != null ? statistics.getExplain() : null;
+
+		return explain != null ? explain.toJson() : null;
+	}
+
+	@ManagedOperation(description = "Discard all recorded slow queries")
+	public void reset() {
+		recorder.reset();
+	}
+
+	private static String toString(SlowQueryStatistics statistics) {
+
+		return String.format("%s %s count=%d p99=%.3fms max=%.3fms", statistics.getCollectionName(),
+				statistics.getShape(), statistics.getCount(),
+				statistics.getLatency().getValueAtPercentile(99, TimeUnit.MILLISECONDS),
+				(double) statistics.getLatency().getMax() / TimeUnit.MILLISECONDS.toNanos(1));
+	}
+}
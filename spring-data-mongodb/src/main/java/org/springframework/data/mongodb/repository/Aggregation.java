@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.data.annotation.QueryAnnotation;
+
+/**
+ * Annotation to declare aggregation pipelines directly on repository methods. Pipeline stages allow using a
+ * placeholder notation of {@code ?0}, {@code ?1} and so on as well as SpEL expressions via {@code ?#{...}}.
+ * <p />
+ * The pipeline runs against the collection of the repository domain type. Results are read into the method return
+ * type. Simple return types such as {@link Long} or {@link String} are extracted from result documents containing a
+ * single field, ignoring {@literal _id}. {@link org.springframework.data.domain.Sort} and
+ * {@link org.springframework.data.domain.Pageable} arguments append {@literal $sort}, {@literal $skip} and
+ * {@literal $limit} stages to the pipeline. The cursor batch size can be set via {@link Meta#cursorBatchSize()}.
+ *
+ * <pre class="code">
+ * public interface PersonRepository extends Repository&lt;Person, String&gt; {
+ *
+ *   &#64;Aggregation("{ '$group' : { '_id' : null, 'total' : { '$sum' : '$age' } } }")
+ *   Long sumAge();
+ *
+ *   &#64;Aggregation(pipeline = { "{ '$match' : { 'lastname' : ?0 } }", "{ '$project' : { 'firstname' : 1 } }" },
+ *       allowDiskUse = true)
+ *   Stream&lt;PersonProjection&gt; findByLastname(String lastname);
+ * }
+ * </pre>
+ *
+ * @since 2.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+@QueryAnnotation
+public @interface Aggregation {
+
+	/**
+	 * Alias for {@link #pipeline()}. Defines the aggregation pipeline to apply.
+	 *
+	 * @return an empty array by default.
+	 * @see #pipeline()
+	 */
+	@AliasFor("pipeline")
+	String[] value() default {};
+
+	/**
+	 * Defines the aggregation pipeline to apply. Each element is a MongoDB JSON string representing a single stage.
+	 *
+	 * @return an empty array by default.
+	 */
+	@AliasFor("value")
+	String[] pipeline() default {};
+
+	/**
+	 * Enables writing to temporary files for aggregation stages exceeding the memory limit.
+	 *
+	 * @return {@literal false} by default.
+	 */
+	boolean allowDiskUse() default false;
+}
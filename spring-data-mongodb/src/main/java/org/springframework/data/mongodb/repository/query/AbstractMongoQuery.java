@@ -29,6 +29,7 @@ import org.springframework.data.mongodb.repository.query.MongoQueryExecution.Sli
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -82,21 +83,39 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 
 		ConvertingParameterAccessor accessor = new ConvertingParameterAccessor(operations.getConverter(),
 				new MongoParametersParameterAccessor(method, parameters));
+
+		ResultProcessor processor = method.getResultProcessor().withDynamicProjection(accessor);
+		Class<?> typeToRead = processor.getReturnedType().getTypeToRead();
+
+		return processor.processResult(doExecute(method, processor, accessor, typeToRead));
+	}
+
+	/**
+	 * Execute the query for the given invocation returning the unprocessed result.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param processor must not be {@literal null}.
+	 * @param accessor must not be {@literal null}.
+	 * @param typeToRead the type to read. Can be {@literal null} to read the domain type.
+	 * @return the result to be processed by the {@link ResultProcessor}. Can be {@literal null}.
+	 * @since 2.2
+	 */
+	@Nullable
+	protected Object doExecute(MongoQueryMethod method, ResultProcessor processor, ConvertingParameterAccessor accessor,
+			@Nullable Class<?> typeToRead) {
+
 		Query query = createQuery(accessor);
 
 		applyQueryMetaAttributesWhenPresent(query);
 		query = applyAnnotatedDefaultSortIfPresent(query);
 
-		ResultProcessor processor = method.getResultProcessor().withDynamicProjection(accessor);
-		Class<?> typeToRead = processor.getReturnedType().getTypeToRead();
-
 		FindWithQuery<?> find = typeToRead == null //
 				? executableFind //
 				: executableFind.as(typeToRead);
 
 		MongoQueryExecution execution = getExecution(accessor, find);
 
-		return processor.processResult(execution.execute(query));
+		return execution.execute(query);
 	}
 
 	private MongoQueryExecution getExecution(ConvertingParameterAccessor accessor, FindWithQuery<?> operation) {
@@ -35,6 +35,7 @@ import org.springframework.data.mongodb.repository.query.ReactiveMongoQueryExecu
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -105,21 +106,40 @@ public abstract class AbstractReactiveMongoQuery implements RepositoryQuery {
 
 	private Object execute(MongoParameterAccessor parameterAccessor) {
 
-		Query query = createQuery(new ConvertingParameterAccessor(operations.getConverter(), parameterAccessor));
-
-		applyQueryMetaAttributesWhenPresent(query);
-		query = applyAnnotatedDefaultSortIfPresent(query);
+		ConvertingParameterAccessor accessor = new ConvertingParameterAccessor(operations.getConverter(),
+				parameterAccessor);
 
 		ResultProcessor processor = method.getResultProcessor().withDynamicProjection(parameterAccessor);
 		Class<?> typeToRead = processor.getReturnedType().getTypeToRead();
 
+		return doExecute(method, processor, accessor, typeToRead);
+	}
+
+	/**
+	 * Execute the query for the given invocation returning the reactive result.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param processor must not be {@literal null}.
+	 * @param accessor must not be {@literal null}.
+	 * @param typeToRead the type to read. Can be {@literal null} to read the domain type.
+	 * @return the {@link Flux} or {@link Mono} emitting the processed results.
+	 * @since 2.2
+	 */
+	protected Object doExecute(ReactiveMongoQueryMethod method, ResultProcessor processor,
+			ConvertingParameterAccessor accessor, @Nullable Class<?> typeToRead) {
+
+		Query query = createQuery(accessor);
+
+		applyQueryMetaAttributesWhenPresent(query);
+		query = applyAnnotatedDefaultSortIfPresent(query);
+
 		FindWithQuery<?> find = typeToRead == null //
 				? findOperationWithProjection //
 				: findOperationWithProjection.as(typeToRead);
 
 		String collection = method.getEntityInformation().getCollectionName();
 
-		ReactiveMongoQueryExecution execution = getExecution(parameterAccessor,
+		ReactiveMongoQueryExecution execution = getExecution(accessor,
 				new ResultProcessingConverter(processor, operations, instantiators), find);
 
 		return execution.execute(query, processor.getReturnedType().getDomainType(), collection);
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.bson.Document;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoSimpleTypes;
+import org.springframework.data.mongodb.core.query.Meta;
+import org.springframework.data.mongodb.repository.query.ExpressionEvaluatingParameterBinder.BindingContext;
+import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery.ParameterBinding;
+import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery.ParameterBindingParser;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Aggregation pipeline declared via {@link org.springframework.data.mongodb.repository.Aggregation} on a repository
+ * query method. Pipeline stages are parsed once into {@link ParameterBindingDocumentTemplate}s so that creating the
+ * {@link TypedAggregation} for an invocation only binds the parameter values. Stages that cannot be pre-parsed are
+ * bound as string through {@link ExpressionEvaluatingParameterBinder}.
+ *
+ * @since 2.2
+ */
+class AnnotatedAggregationPipeline {
+
+	private final MongoQueryMethod method;
+	private final List<PipelineStage> stages;
+	private final ExpressionEvaluatingParameterBinder parameterBinder;
+	private final AggregationOptions options;
+
+	/**
+	 * Creates a new {@link AnnotatedAggregationPipeline} for the given {@link MongoQueryMethod}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param expressionParser must not be {@literal null}.
+	 * @param evaluationContextProvider must not be {@literal null}.
+	 */
+	AnnotatedAggregationPipeline(MongoQueryMethod method, SpelExpressionParser expressionParser,
+			QueryMethodEvaluationContextProvider evaluationContextProvider) {
+
+		Assert.notNull(method, "MongoQueryMethod must not be null!");
+
+		this.method = method;
+		this.parameterBinder = new ExpressionEvaluatingParameterBinder(expressionParser, evaluationContextProvider);
+		this.stages = new ArrayList<>();
+
+		for (String stage : method.getAnnotatedAggregation()) {
+			this.stages.add(new PipelineStage(stage));
+		}
+
+		this.options = createOptions(method);
+	}
+
+	/**
+	 * Create the {@link TypedAggregation} for the given invocation. {@link Sort} and {@link Pageable} arguments are
+	 * appended as {@literal $sort}, {@literal $skip} and {@literal $limit} stages. Sliced queries read one additional
+	 * element to determine whether a next slice is available.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	TypedAggregation<?> createAggregation(ConvertingParameterAccessor accessor) {
+
+		List<AggregationOperation> pipeline = new ArrayList<>(stages.size() + 3);
+
+		for (PipelineStage stage : stages) {
+
+			Document document = stage.bind(accessor);
+			pipeline.add(context -> context.getMappedObject(document));
+		}
+
+		Sort sort = accessor.getSort();
+
+		if (sort.isSorted()) {
+
+			Document sortObject = new Document();
+
+			for (Order order : sort) {
+				sortObject.append(order.getProperty(), order.isAscending() ? 1 : -1);
+			}
+
+			pipeline.add(context -> context.getMappedObject(new Document("$sort", sortObject)));
+		}
+
+		Pageable pageable = accessor.getPageable();
+
+		if (pageable.isPaged()) {
+
+			if (pageable.getOffset() > 0) {
+				pipeline.add(context -> new Document("$skip", pageable.getOffset()));
+			}
+
+			int limit = method.isSliceQuery() ? pageable.getPageSize() + 1 : pageable.getPageSize();
+			pipeline.add(context -> new Document("$limit", limit));
+		}
+
+		return new TypedAggregation<>(method.getEntityInformation().getJavaType(), pipeline, options);
+	}
+
+	/**
+	 * @return the name of the collection to run the aggregation against.
+	 */
+	String getCollectionName() {
+		return method.getEntityInformation().getCollectionName();
+	}
+
+	/**
+	 * Returns whether results for the given type to read are extracted from the result {@link Document}.
+	 *
+	 * @param typeToRead can be {@literal null}.
+	 * @return {@literal true} if the type is a simple type other than {@link Document}.
+	 */
+	static boolean isSimpleReturnType(@Nullable Class<?> typeToRead) {
+
+		return typeToRead != null && !ClassUtils.isAssignable(Document.class, typeToRead)
+				&& MongoSimpleTypes.HOLDER.isSimpleType(typeToRead);
+	}
+
+	/**
+	 * Extract the single value of the given aggregation result {@link Document} ignoring the {@literal _id} field.
+	 *
+	 * @param source can be {@literal null}.
+	 * @param targetType must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @return the converted value. Can be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Document} does not contain a single value.
+	 */
+	@Nullable
+	static <T> T extractSimpleTypeResult(@Nullable Document source, Class<T> targetType, MongoConverter converter) {
+
+		if (source == null || source.isEmpty()) {
+			return null;
+		}
+
+		Object value = null;
+		int candidates = 0;
+
+		for (Entry<String, Object> entry : source.entrySet()) {
+
+			if (source.size() > 1 && "_id".equals(entry.getKey())) {
+				continue;
+			}
+
+			value = entry.getValue();
+			candidates++;
+		}
+
+		if (candidates != 1) {
+			throw new IllegalArgumentException(
+					String.format("Aggregation result %s does not contain a unique value for return type %s!", source,
+							targetType.getName()));
+		}
+
+		return converter.getConversionService().convert(value, targetType);
+	}
+
+	private static AggregationOptions createOptions(MongoQueryMethod method) {
+
+		AggregationOptions.Builder builder = AggregationOptions.builder() //
+				.allowDiskUse(method.isAggregationAllowDiskUse());
+
+		Meta meta = method.getQueryMetaAttributes();
+
+		if (meta.getCursorBatchSize() != null) {
+			builder.cursorBatchSize(meta.getCursorBatchSize());
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * A single pipeline stage with its {@link ParameterBinding}s.
+	 */
+	private class PipelineStage {
+
+		private final String source;
+		private final List<ParameterBinding> bindings;
+		private final @Nullable ParameterBindingDocumentTemplate template;
+
+		PipelineStage(String stage) {
+
+			this.bindings = new ArrayList<>();
+			this.source = ParameterBindingParser.INSTANCE.parseAndCollectParameterBindingsFromQueryIntoBindings(stage,
+					this.bindings);
+			this.template = ParameterBindingDocumentTemplate.compile(source, bindings);
+		}
+
+		Document bind(ConvertingParameterAccessor accessor) {
+
+			Document document = template != null ? template.bind(accessor) : null;
+
+			if (document != null) {
+				return document;
+			}
+
+			return Document.parse(
+					parameterBinder.bind(source, accessor, new BindingContext(method.getParameters(), bindings)));
+		}
+	}
+}
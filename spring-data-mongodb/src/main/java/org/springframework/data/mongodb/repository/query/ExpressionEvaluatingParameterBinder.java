@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
@@ -41,6 +42,7 @@ import org.bson.types.Binary;
 import org.springframework.data.mongodb.CodecRegistryProvider;
 import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery.ParameterBinding;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.util.Lazy;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
@@ -69,6 +71,7 @@ class ExpressionEvaluatingParameterBinder {
 	private final SpelExpressionParser expressionParser;
 	private final QueryMethodEvaluationContextProvider evaluationContextProvider;
 	private final CodecRegistryProvider codecRegistryProvider;
+	private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates new {@link ExpressionEvaluatingParameterBinder}
@@ -119,9 +122,12 @@ class ExpressionEvaluatingParameterBinder {
 			return input;
 		}
 
+		// created at most once per binding run and shared by all expressions
+		Lazy<EvaluationContext> evaluationContext = Lazy.of(() -> evaluationContextProvider
+				.getEvaluationContext(bindingContext.getParameters(), accessor.getValues()));
+
 		if (input.matches("^\\?\\d+$")) {
-			return getParameterValueForBinding(accessor, bindingContext.getParameters(),
-					bindingContext.getBindings().iterator().next());
+			return getParameterValueForBinding(accessor, evaluationContext, bindingContext.getBindings().iterator().next());
 		}
 
 		Matcher matcher = createReplacementPattern(bindingContext.getBindings()).matcher(input);
@@ -132,7 +138,7 @@ class ExpressionEvaluatingParameterBinder {
 
 			Placeholder placeholder = extractPlaceholder(parameterIndex++, matcher);
 			ParameterBinding binding = bindingContext.getBindingFor(placeholder);
-			String valueForBinding = getParameterValueForBinding(accessor, bindingContext.getParameters(), binding);
+			String valueForBinding = getParameterValueForBinding(accessor, evaluationContext, binding);
 
 			// appendReplacement does not like unescaped $ sign and others, so we need to quote that stuff first
 			matcher.appendReplacement(buffer, Matcher.quoteReplacement(valueForBinding));
@@ -203,16 +209,14 @@ class ExpressionEvaluatingParameterBinder {
 	 * Returns the serialized value to be used for the given {@link ParameterBinding}.
 	 *
 	 * @param accessor must not be {@literal null}.
-	 * @param parameters
+	 * @param evaluationContext must not be {@literal null}.
 	 * @param binding must not be {@literal null}.
 	 * @return
 	 */
-	@SuppressWarnings("unchecked")
-	private String getParameterValueForBinding(MongoParameterAccessor accessor, MongoParameters parameters,
-			ParameterBinding binding) {
+	private String getParameterValueForBinding(MongoParameterAccessor accessor,
+			Lazy<EvaluationContext> evaluationContext, ParameterBinding binding) {
 
-		Object value = binding.isExpression()
-				? evaluateExpression(binding.getExpression(), parameters, accessor.getValues())
+		Object value = binding.isExpression() ? evaluateExpression(binding.getExpression(), evaluationContext.get())
 				: accessor.getBindableValue(binding.getParameterIndex());
 
 		if (value instanceof String && binding.isQuoted()) {
@@ -228,18 +232,18 @@ class ExpressionEvaluatingParameterBinder {
 	}
 
 	/**
-	 * Evaluates the given {@code expressionString}.
+	 * Evaluates the given {@code expressionString}. Parsed {@link Expression}s are cached so that each expression of a
+	 * query method is parsed only once and compiled {@link Expression}s, depending on the configuration of the
+	 * {@link SpelExpressionParser}, are retained across invocations.
 	 *
 	 * @param expressionString must not be {@literal null} or empty.
-	 * @param parameters must not be {@literal null}.
-	 * @param parameterValues must not be {@literal null}.
+	 * @param evaluationContext must not be {@literal null}.
 	 * @return
 	 */
 	@Nullable
-	private Object evaluateExpression(String expressionString, MongoParameters parameters, Object[] parameterValues) {
+	private Object evaluateExpression(String expressionString, EvaluationContext evaluationContext) {
 
-		EvaluationContext evaluationContext = evaluationContextProvider.getEvaluationContext(parameters, parameterValues);
-		Expression expression = expressionParser.parseExpression(expressionString);
+		Expression expression = expressionCache.computeIfAbsent(expressionString, expressionParser::parseExpression);
 
 		return expression.getValue(evaluationContext, Object.class);
 	}
@@ -68,20 +68,20 @@ class MongoQueryCreator extends AbstractQueryCreator<Query, Criteria> {
 	private final boolean isGeoNearQuery;
 
 	/**
-	 * Creates a new {@link MongoQueryCreator} from the given {@link PartTree}, {@link ConvertingParameterAccessor} and
+	 * Creates a new {@link MongoQueryCreator} from the given {@link PartTree}, {@link MongoParameterAccessor} and
 	 * {@link MappingContext}.
 	 *
 	 * @param tree
 	 * @param accessor
 	 * @param context
 	 */
-	public MongoQueryCreator(PartTree tree, ConvertingParameterAccessor accessor,
+	public MongoQueryCreator(PartTree tree, MongoParameterAccessor accessor,
 			MappingContext<?, MongoPersistentProperty> context) {
 		this(tree, accessor, context, false);
 	}
 
 	/**
-	 * Creates a new {@link MongoQueryCreator} from the given {@link PartTree}, {@link ConvertingParameterAccessor} and
+	 * Creates a new {@link MongoQueryCreator} from the given {@link PartTree}, {@link MongoParameterAccessor} and
 	 * {@link MappingContext}.
 	 *
 	 * @param tree
@@ -89,7 +89,7 @@ class MongoQueryCreator extends AbstractQueryCreator<Query, Criteria> {
 	 * @param context
 	 * @param isGeoNearQuery
 	 */
-	public MongoQueryCreator(PartTree tree, ConvertingParameterAccessor accessor,
+	public MongoQueryCreator(PartTree tree, MongoParameterAccessor accessor,
 			MappingContext<?, MongoPersistentProperty> context, boolean isGeoNearQuery) {
 
 		super(tree, accessor);
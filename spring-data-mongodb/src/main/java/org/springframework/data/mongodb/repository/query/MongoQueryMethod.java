@@ -30,6 +30,7 @@ import org.springframework.data.geo.GeoResults;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.Tailable;
@@ -319,6 +320,51 @@ public class MongoQueryMethod extends QueryMethod {
 				"Expected to find @Query annotation but did not. Make sure to check hasAnnotatedSort() before."));
 	}
 
+	/**
+	 * Returns whether the method has an annotated aggregation pipeline.
+	 *
+	 * @return true if the method is annotated with {@link Aggregation} declaring at least one pipeline stage.
+	 * @since 2.2
+	 */
+	public boolean hasAnnotatedAggregation() {
+		return findAnnotatedAggregation().isPresent();
+	}
+
+	/**
+	 * Returns the aggregation pipeline stages declared in a {@link Aggregation} annotation.
+	 *
+	 * @return the aggregation pipeline stages.
+	 * @throws IllegalStateException if method not annotated with {@link Aggregation}. Make sure to check
+	 *           {@link #hasAnnotatedAggregation()} first.
+	 * @since 2.2
+	 */
+	public String[] getAnnotatedAggregation() {
+
+		return findAnnotatedAggregation().orElseThrow(() -> new IllegalStateException(
+				"Expected to find @Aggregation annotation but did not. Make sure to check hasAnnotatedAggregation() before."));
+	}
+
+	/**
+	 * Returns whether the annotated aggregation may write to temporary files.
+	 *
+	 * @return the {@link Aggregation#allowDiskUse()} value or {@literal false} if not annotated.
+	 * @since 2.2
+	 */
+	public boolean isAggregationAllowDiskUse() {
+		return lookupAggregationAnnotation().map(Aggregation::allowDiskUse).orElse(false);
+	}
+
+	private Optional<String[]> findAnnotatedAggregation() {
+
+		return lookupAggregationAnnotation() //
+				.map(Aggregation::pipeline) //
+				.filter(it -> !ObjectUtils.isEmpty(it));
+	}
+
+	Optional<Aggregation> lookupAggregationAnnotation() {
+		return doFindAnnotation(Aggregation.class);
+	}
+
 	@SuppressWarnings("unchecked")
 	private <A extends Annotation> Optional<A> doFindAnnotation(Class<A> annotationType) {
 
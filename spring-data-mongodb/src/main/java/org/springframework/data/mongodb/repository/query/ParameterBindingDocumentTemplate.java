@@ -0,0 +1,300 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery.ParameterBinding;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * Pre-parsed {@link Document} representation of a string based query or field specification. Placeholders such as
+ * {@code ?0} used as plain values are parsed once into parameter references that are replaced with the actual parameter
+ * values on {@link #bind(MongoParameterAccessor) binding}, avoiding to render and parse the JSON source for each
+ * invocation.
+ * <p />
+ * Templates are only {@link #compile(String, List) compiled} for sources whose bindings can be substituted as values.
+ * Sources using SpEL expressions or placeholders within keys, quoted strings or regular expressions require string
+ * based binding through {@link ExpressionEvaluatingParameterBinder}. The same applies to parameter values that would
+ * render to a different value type when encoded as JSON, in which case {@link #bind(MongoParameterAccessor)} returns
+ * {@literal null}.
+ *
+ * @since 2.2
+ */
+class ParameterBindingDocumentTemplate {
+
+	private static final ParameterBindingDocumentTemplate EMPTY = new ParameterBindingDocumentTemplate(new Document());
+
+	private static final Pattern PARAMETER_BINDING_PATTERN = Pattern.compile("\\?(\\d+)");
+	private static final String MARKER_PREFIX = "__Spring_Data_MongoDB_Parameter_";
+	private static final Pattern MARKER_PATTERN = Pattern.compile(MARKER_PREFIX + "(\\d+)__");
+
+	private final Document template;
+
+	private ParameterBindingDocumentTemplate(Document template) {
+		this.template = template;
+	}
+
+	/**
+	 * Compile the given {@code source} into a {@link ParameterBindingDocumentTemplate}.
+	 *
+	 * @param source the JSON source with placeholders. {@literal null} represents an empty {@link Document}.
+	 * @param bindings the {@link ParameterBinding}s collected from the {@code source}. Must not be {@literal null}.
+	 * @return {@literal null} if the {@code source} requires string based parameter binding.
+	 */
+	@Nullable
+	static ParameterBindingDocumentTemplate compile(@Nullable String source, List<ParameterBinding> bindings) {
+
+		if (source == null) {
+			return EMPTY;
+		}
+
+		if (!StringUtils.hasText(source) || bindings.stream().anyMatch(ParameterBinding::isExpression)) {
+			return null;
+		}
+
+		Matcher matcher = PARAMETER_BINDING_PATTERN.matcher(source);
+		String parseable = matcher.replaceAll("\"" + MARKER_PREFIX + "$1__\"");
+
+		Document document;
+
+		try {
+			document = Document.parse(parseable);
+		} catch (RuntimeException e) {
+
+			// not parseable with markers in place, e.g. placeholders within extended JSON like {'$oid': ?0}
+			return null;
+		}
+
+		return compileDocument(document) ? new ParameterBindingDocumentTemplate(document) : null;
+	}
+
+	/**
+	 * Create a new {@link Document} replacing all parameter references with the values obtained from the given
+	 * {@link MongoParameterAccessor}.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return {@literal null} if any of the parameter values requires string based binding.
+	 */
+	@Nullable
+	Document bind(MongoParameterAccessor accessor) {
+
+		try {
+			return (Document) copy(template, accessor);
+		} catch (NotDirectlyBindableException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Replace placeholder markers within the given {@link Document} with {@link ParameterReference}s.
+	 *
+	 * @return {@literal false} if any marker is used in a position that does not allow value substitution.
+	 */
+	private static boolean compileDocument(Document document) {
+
+		for (Entry<String, Object> entry : document.entrySet()) {
+
+			if (entry.getKey().contains(MARKER_PREFIX)) {
+				return false;
+			}
+
+			Object value = compileValue(entry.getValue());
+
+			if (value == null && entry.getValue() != null) {
+				return false;
+			}
+
+			entry.setValue(value);
+		}
+
+		return true;
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static Object compileValue(@Nullable Object value) {
+
+		if (value instanceof Document) {
+			return compileDocument((Document) value) ? value : null;
+		}
+
+		if (value instanceof List) {
+
+			List<Object> list = (List<Object>) value;
+
+			for (int i = 0; i < list.size(); i++) {
+
+				Object element = compileValue(list.get(i));
+
+				if (element == null && list.get(i) != null) {
+					return null;
+				}
+
+				list.set(i, element);
+			}
+
+			return list;
+		}
+
+		if (value instanceof String) {
+
+			Matcher matcher = MARKER_PATTERN.matcher((String) value);
+
+			if (matcher.matches()) {
+				return new ParameterReference(Integer.parseInt(matcher.group(1)));
+			}
+		}
+
+		return value == null || !value.toString().contains(MARKER_PREFIX) ? value : null;
+	}
+
+	@Nullable
+	private static Object copy(@Nullable Object value, MongoParameterAccessor accessor) {
+
+		if (value instanceof ParameterReference) {
+			return toBindableValue(accessor.getBindableValue(((ParameterReference) value).index));
+		}
+
+		if (value instanceof Document) {
+
+			Document source = (Document) value;
+			Document target = new Document();
+
+			for (Entry<String, Object> entry : source.entrySet()) {
+				target.put(entry.getKey(), copy(entry.getValue(), accessor));
+			}
+
+			return target;
+		}
+
+		if (value instanceof List) {
+
+			List<?> source = (List<?>) value;
+			List<Object> target = new ArrayList<>(source.size());
+
+			for (Object element : source) {
+				target.add(copy(element, accessor));
+			}
+
+			return target;
+		}
+
+		if (value instanceof Date) {
+			return new Date(((Date) value).getTime());
+		}
+
+		return value;
+	}
+
+	/**
+	 * Convert the given parameter value into the value the JSON rendering of {@link ExpressionEvaluatingParameterBinder}
+	 * would have produced after parsing.
+	 *
+	 * @throws NotDirectlyBindableException if the value does not retain its type when rendered to JSON.
+	 */
+	@Nullable
+	private static Object toBindableValue(@Nullable Object value) {
+
+		if (value == null || value instanceof String || value instanceof Boolean || value instanceof Integer
+				|| value instanceof ObjectId) {
+			return value;
+		}
+
+		if (value instanceof Long) {
+
+			long longValue = (Long) value;
+
+			// numbers are rendered without type information and parsed back into the smallest fitting type
+			return longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE ? (Object) (int) longValue : value;
+		}
+
+		if (value instanceof Double && !((Double) value).isNaN() && !((Double) value).isInfinite()) {
+			return value;
+		}
+
+		if (value instanceof Date) {
+			return new Date(((Date) value).getTime());
+		}
+
+		if (value instanceof Map) {
+
+			Document document = new Document();
+
+			for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+
+				if (!(entry.getKey() instanceof String)) {
+					throw NotDirectlyBindableException.INSTANCE;
+				}
+
+				document.put((String) entry.getKey(), toBindableValue(entry.getValue()));
+			}
+
+			return document;
+		}
+
+		if (value instanceof Collection) {
+
+			Collection<?> collection = (Collection<?>) value;
+			List<Object> list = new ArrayList<>(collection.size());
+
+			for (Object element : collection) {
+				list.add(toBindableValue(element));
+			}
+
+			return list;
+		}
+
+		throw NotDirectlyBindableException.INSTANCE;
+	}
+
+	/**
+	 * Reference to a parameter by its index.
+	 */
+	private static class ParameterReference {
+
+		private final int index;
+
+		ParameterReference(int index) {
+			this.index = index;
+		}
+	}
+
+	/**
+	 * Signals a parameter value that cannot be substituted directly. Thrown without stack trace as it just aborts the
+	 * binding.
+	 */
+	private static class NotDirectlyBindableException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		static final NotDirectlyBindableException INSTANCE = new NotDirectlyBindableException();
+
+		private NotDirectlyBindableException() {
+			super(null, null, false, false);
+		}
+	}
+}
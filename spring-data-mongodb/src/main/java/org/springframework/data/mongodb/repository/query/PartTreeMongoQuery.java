@@ -29,6 +29,7 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 import com.mongodb.BasicDBObject;
@@ -49,6 +50,7 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 	private final boolean isGeoNearQuery;
 	private final MappingContext<?, MongoPersistentProperty> context;
 	private final ResultProcessor processor;
+	private final @Nullable PartTreeQueryTemplate queryTemplate;
 
 	/**
 	 * Creates a new {@link PartTreeMongoQuery} from the given {@link QueryMethod} and {@link MongoTemplate}.
@@ -64,6 +66,7 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 		this.tree = new PartTree(method.getName(), processor.getReturnedType().getDomainType());
 		this.isGeoNearQuery = method.isGeoNearQuery();
 		this.context = mongoOperations.getConverter().getMappingContext();
+		this.queryTemplate = PartTreeQueryTemplate.compile(tree, context);
 	}
 
 	/**
@@ -82,8 +85,7 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 	@Override
 	protected Query createQuery(ConvertingParameterAccessor accessor) {
 
-		MongoQueryCreator creator = new MongoQueryCreator(tree, accessor, context, isGeoNearQuery);
-		Query query = creator.createQuery();
+		Query query = doCreateQuery(accessor, isGeoNearQuery);
 
 		if (tree.isLimiting()) {
 			query.limit(tree.getMaxResults());
@@ -131,7 +133,13 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 	 */
 	@Override
 	protected Query createCountQuery(ConvertingParameterAccessor accessor) {
-		return new MongoQueryCreator(tree, accessor, context, false).createQuery();
+		return doCreateQuery(accessor, false);
+	}
+
+	private Query doCreateQuery(ConvertingParameterAccessor accessor, boolean isGeoNearQuery) {
+
+		return queryTemplate != null ? queryTemplate.createQuery(accessor)
+				: new MongoQueryCreator(tree, accessor, context, isGeoNearQuery).createQuery();
 	}
 
 	/*
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+
+import org.bson.Document;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.InvalidMongoDbApiUsageException;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.Part.IgnoreCaseType;
+import org.springframework.data.repository.query.parser.Part.Type;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+
+import com.mongodb.BasicDBList;
+
+/**
+ * Precompiled query for a {@link PartTree}. The {@link PartTree} is run once through {@link MongoQueryCreator} using
+ * parameter slots instead of actual values, resolving property paths and building the criteria structure only once.
+ * {@link #createQuery(MongoParameterAccessor) Creating a query} copies the resulting {@link Document} and fills the
+ * slots with the values of the current invocation.
+ * <p />
+ * Templates are only {@link #compile(PartTree, MappingContext) compiled} if the criteria structure does not depend on
+ * the actual parameter values. Parts using regular expressions, geospatial operators, {@literal ignoreCase} or
+ * {@literal $exists} require creating the query through {@link MongoQueryCreator} for each invocation.
+ *
+ * @since 2.2
+ */
+class PartTreeQueryTemplate {
+
+	private static final Set<Type> SUPPORTED_TYPES = EnumSet.of(Type.SIMPLE_PROPERTY, Type.NEGATING_SIMPLE_PROPERTY,
+			Type.GREATER_THAN, Type.GREATER_THAN_EQUAL, Type.LESS_THAN, Type.LESS_THAN_EQUAL, Type.AFTER, Type.BEFORE,
+			Type.BETWEEN, Type.IS_NULL, Type.IS_NOT_NULL, Type.TRUE, Type.FALSE, Type.IN, Type.NOT_IN);
+
+	private final Document template;
+	private final Sort sort;
+	private final int parameterCount;
+
+	private PartTreeQueryTemplate(Document template, Sort sort, int parameterCount) {
+
+		this.template = template;
+		this.sort = sort;
+		this.parameterCount = parameterCount;
+	}
+
+	/**
+	 * Compile the given {@link PartTree} into a {@link PartTreeQueryTemplate}.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @return {@literal null} if the query needs to be created through {@link MongoQueryCreator} for each invocation.
+	 */
+	@Nullable
+	static PartTreeQueryTemplate compile(PartTree tree, MappingContext<?, MongoPersistentProperty> context) {
+
+		for (Part part : tree.getParts()) {
+			if (!SUPPORTED_TYPES.contains(part.getType()) || part.shouldIgnoreCase() != IgnoreCaseType.NEVER) {
+				return null;
+			}
+		}
+
+		SlotParameterAccessor accessor = new SlotParameterAccessor();
+		Document document;
+
+		try {
+			document = new MongoQueryCreator(tree, accessor, context).createQuery().getQueryObject();
+		} catch (RuntimeException e) {
+
+			// invalid criteria, e.g. duplicate keys, are reported when creating the actual query
+			return null;
+		}
+
+		List<Integer> slots = new ArrayList<>();
+
+		if (!compileDocument(document, slots)) {
+			return null;
+		}
+
+		// each slot must be used exactly once
+		slots.sort(null);
+
+		for (int i = 0; i < slots.size(); i++) {
+			if (slots.get(i) != i) {
+				return null;
+			}
+		}
+
+		return slots.size() == accessor.slots ? new PartTreeQueryTemplate(document, tree.getSort(), slots.size()) : null;
+	}
+
+	/**
+	 * Create a new {@link Query} for the parameter values obtained from the given {@link MongoParameterAccessor}. The
+	 * {@link Query} is equivalent to the one created by {@link MongoQueryCreator#createQuery()}.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	Query createQuery(MongoParameterAccessor accessor) {
+
+		Object[] values = new Object[parameterCount];
+		Iterator<Object> iterator = accessor.iterator();
+
+		for (int i = 0; i < parameterCount; i++) {
+			values[i] = iterator.next();
+		}
+
+		return new BasicQuery((Document) copy(template, values)).with(sort.and(accessor.getSort()));
+	}
+
+	private static boolean compileDocument(Document document, List<Integer> slots) {
+
+		for (Entry<String, Object> entry : document.entrySet()) {
+
+			Object value = compileValue(entry.getValue(), slots);
+
+			if (value == null && entry.getValue() != null) {
+				return false;
+			}
+
+			entry.setValue(value);
+		}
+
+		return true;
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static Object compileValue(@Nullable Object value, List<Integer> slots) {
+
+		if (value instanceof ValueSlot) {
+
+			slots.add(((ValueSlot) value).index);
+			return value;
+		}
+
+		if (value instanceof Document) {
+			return compileDocument((Document) value, slots) ? value : null;
+		}
+
+		if (value instanceof List) {
+
+			List<Object> list = (List<Object>) value;
+
+			// single parameter expanded into an array by MongoQueryCreator, e.g. for $in
+			if (list.size() == 1 && list.get(0) instanceof ValueSlot) {
+
+				int index = ((ValueSlot) list.get(0)).index;
+				slots.add(index);
+
+				return new ArraySlot(index);
+			}
+
+			for (int i = 0; i < list.size(); i++) {
+
+				Object element = compileValue(list.get(i), slots);
+
+				if (element == null && list.get(i) != null) {
+					return null;
+				}
+
+				list.set(i, element);
+			}
+		}
+
+		return value;
+	}
+
+	@Nullable
+	private static Object copy(@Nullable Object value, Object[] values) {
+
+		if (value instanceof ValueSlot) {
+			return values[((ValueSlot) value).index];
+		}
+
+		if (value instanceof ArraySlot) {
+			return toList(values[((ArraySlot) value).index]);
+		}
+
+		if (value instanceof Document) {
+
+			Document source = (Document) value;
+			Document target = new Document();
+
+			for (Entry<String, Object> entry : source.entrySet()) {
+				target.put(entry.getKey(), copy(entry.getValue(), values));
+			}
+
+			return target;
+		}
+
+		if (value instanceof List) {
+
+			List<?> source = (List<?>) value;
+			List<Object> target = source instanceof BasicDBList ? new BasicDBList() : new ArrayList<>(source.size());
+
+			for (Object element : source) {
+				target.add(copy(element, values));
+			}
+
+			return target;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Expand the given parameter value the same way {@link MongoQueryCreator} does for {@literal $in} and
+	 * {@literal $nin}.
+	 */
+	private static List<Object> toList(@Nullable Object value) {
+
+		Object[] array;
+
+		if (value instanceof Collection) {
+			array = ((Collection<?>) value).toArray();
+		} else if (value != null && value.getClass().isArray()) {
+			array = (Object[]) value;
+		} else {
+			array = new Object[] { value };
+		}
+
+		if (array.length > 1 && array[1] instanceof Collection) {
+			throw new InvalidMongoDbApiUsageException(
+					"You can only pass in one argument of type " + array[1].getClass().getName());
+		}
+
+		return Arrays.asList(array);
+	}
+
+	/**
+	 * Slot for a single parameter value.
+	 */
+	private static class ValueSlot {
+
+		private final int index;
+
+		ValueSlot(int index) {
+			this.index = index;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "?" + index;
+		}
+	}
+
+	/**
+	 * Slot for a parameter value expanded into a list of values.
+	 */
+	private static class ArraySlot {
+
+		private final int index;
+
+		ArraySlot(int index) {
+			this.index = index;
+		}
+	}
+
+	/**
+	 * {@link MongoParameterAccessor} providing {@link ValueSlot}s as parameter values. For the part types a template is
+	 * compiled for, {@link MongoQueryCreator} consumes values through {@link #iterator()} only. The remaining accessors
+	 * return neutral values.
+	 */
+	private static class SlotParameterAccessor implements MongoParameterAccessor {
+
+		private int slots;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.query.ParameterAccessor#iterator()
+		 */
+		@Override
+		public Iterator<Object> iterator() {
+
+			return new Iterator<Object>() {
+
+				@Override
+				public boolean hasNext() {
+					return true;
+				}
+
+				@Override
+				public Object next() {
+					return new ValueSlot(slots++);
+				}
+			};
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.query.ParameterAccessor#getPageable()
+		 */
+		@Override
+		public Pageable getPageable() {
+			return Pageable.unpaged();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.query.ParameterAccessor#getSort()
+		 */
+		@Override
+		public Sort getSort() {
+			return Sort.unsorted();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.query.ParameterAccessor#getDynamicProjection()
+		 */
+		@Override
+		public Optional<Class<?>> getDynamicProjection() {
+			return Optional.empty();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.query.ParameterAccessor#getBindableValue(int)
+		 */
+		@Nullable
+		@Override
+		public Object getBindableValue(int index) {
+			return null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.query.ParameterAccessor#hasBindableNullValue()
+		 */
+		@Override
+		public boolean hasBindableNullValue() {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.repository.query.MongoParameterAccessor#getDistanceRange()
+		 */
+		@Override
+		public Range<Distance> getDistanceRange() {
+			return Range.unbounded();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.repository.query.MongoParameterAccessor#getGeoNearLocation()
+		 */
+		@Nullable
+		@Override
+		public Point getGeoNearLocation() {
+			return null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.repository.query.MongoParameterAccessor#getFullText()
+		 */
+		@Nullable
+		@Override
+		public TextCriteria getFullText() {
+			return null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.repository.query.MongoParameterAccessor#getValues()
+		 */
+		@Override
+		public Object[] getValues() {
+			return new Object[0];
+		}
+	}
+}
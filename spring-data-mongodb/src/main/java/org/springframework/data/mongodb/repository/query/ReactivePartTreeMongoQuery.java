@@ -28,6 +28,7 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 import com.mongodb.util.JSONParseException;
@@ -45,6 +46,7 @@ public class ReactivePartTreeMongoQuery extends AbstractReactiveMongoQuery {
 	private final boolean isGeoNearQuery;
 	private final MappingContext<?, MongoPersistentProperty> context;
 	private final ResultProcessor processor;
+	private final @Nullable PartTreeQueryTemplate queryTemplate;
 
 	/**
 	 * Creates a new {@link ReactivePartTreeMongoQuery} from the given {@link QueryMethod} and {@link MongoTemplate}.
@@ -60,6 +62,7 @@ public class ReactivePartTreeMongoQuery extends AbstractReactiveMongoQuery {
 		this.tree = new PartTree(method.getName(), processor.getReturnedType().getDomainType());
 		this.isGeoNearQuery = method.isGeoNearQuery();
 		this.context = mongoOperations.getConverter().getMappingContext();
+		this.queryTemplate = PartTreeQueryTemplate.compile(tree, context);
 	}
 
 	/**
@@ -78,8 +81,7 @@ public class ReactivePartTreeMongoQuery extends AbstractReactiveMongoQuery {
 	@Override
 	protected Query createQuery(ConvertingParameterAccessor accessor) {
 
-		MongoQueryCreator creator = new MongoQueryCreator(tree, accessor, context, isGeoNearQuery);
-		Query query = creator.createQuery();
+		Query query = doCreateQuery(accessor, isGeoNearQuery);
 
 		if (tree.isLimiting()) {
 			query.limit(tree.getMaxResults());
@@ -122,7 +124,13 @@ public class ReactivePartTreeMongoQuery extends AbstractReactiveMongoQuery {
 	 */
 	@Override
 	protected Query createCountQuery(ConvertingParameterAccessor accessor) {
-		return new MongoQueryCreator(tree, accessor, context, false).createQuery();
+		return doCreateQuery(accessor, false);
+	}
+
+	private Query doCreateQuery(ConvertingParameterAccessor accessor, boolean isGeoNearQuery) {
+
+		return queryTemplate != null ? queryTemplate.createQuery(accessor)
+				: new MongoQueryCreator(tree, accessor, context, isGeoNearQuery).createQuery();
 	}
 
 	/*
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import reactor.core.publisher.Flux;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link AbstractReactiveMongoQuery} running the aggregation pipeline declared via
+ * {@link org.springframework.data.mongodb.repository.Aggregation}.
+ *
+ * @since 2.2
+ */
+public class ReactiveStringBasedAggregation extends AbstractReactiveMongoQuery {
+
+	private final ReactiveMongoOperations reactiveMongoOperations;
+	private final MongoConverter mongoConverter;
+	private final AnnotatedAggregationPipeline pipeline;
+
+	/**
+	 * Creates a new {@link ReactiveStringBasedAggregation} from the given {@link ReactiveMongoQueryMethod} and
+	 * {@link ReactiveMongoOperations}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param reactiveMongoOperations must not be {@literal null}.
+	 * @param expressionParser must not be {@literal null}.
+	 * @param evaluationContextProvider must not be {@literal null}.
+	 */
+	public ReactiveStringBasedAggregation(ReactiveMongoQueryMethod method,
+			ReactiveMongoOperations reactiveMongoOperations, SpelExpressionParser expressionParser,
+			QueryMethodEvaluationContextProvider evaluationContextProvider) {
+
+		super(method, reactiveMongoOperations);
+
+		this.reactiveMongoOperations = reactiveMongoOperations;
+		this.mongoConverter = reactiveMongoOperations.getConverter();
+		this.pipeline = new AnnotatedAggregationPipeline(method, expressionParser, evaluationContextProvider);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.AbstractReactiveMongoQuery#doExecute(org.springframework.data.mongodb.repository.query.ReactiveMongoQueryMethod, org.springframework.data.repository.query.ResultProcessor, org.springframework.data.mongodb.repository.query.ConvertingParameterAccessor, java.lang.Class)
+	 */
+	@Override
+	protected Object doExecute(ReactiveMongoQueryMethod method, ResultProcessor processor,
+			ConvertingParameterAccessor accessor, @Nullable Class<?> typeToRead) {
+
+		Class<?> returnedType = method.getReturnedObjectType();
+		boolean isSimpleReturnType = AnnotatedAggregationPipeline.isSimpleReturnType(returnedType);
+
+		Class<?> targetType;
+
+		if (isSimpleReturnType || Document.class.equals(returnedType)) {
+			targetType = Document.class;
+		} else {
+			targetType = typeToRead != null ? typeToRead : processor.getReturnedType().getDomainType();
+		}
+
+		TypedAggregation<?> aggregation = pipeline.createAggregation(accessor);
+		Flux<?> results = reactiveMongoOperations.aggregate(aggregation, pipeline.getCollectionName(), targetType);
+
+		Flux<?> mapped = isSimpleReturnType //
+				? results.handle((it, sink) -> {
+
+					Object result = AnnotatedAggregationPipeline.extractSimpleTypeResult((Document) it, returnedType,
+							mongoConverter);
+
+					if (result != null) {
+						sink.next(result);
+					}
+				}) //
+				: results.map(processor::processResult);
+
+		return method.isCollectionQuery() ? mapped : mapped.next();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.AbstractReactiveMongoQuery#createQuery(org.springframework.data.mongodb.repository.query.ConvertingParameterAccessor)
+	 */
+	@Override
+	protected Query createQuery(ConvertingParameterAccessor accessor) {
+		throw new UnsupportedOperationException("No query support for aggregation");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.AbstractReactiveMongoQuery#isCountQuery()
+	 */
+	@Override
+	protected boolean isCountQuery() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.AbstractReactiveMongoQuery#isExistsQuery()
+	 */
+	@Override
+	protected boolean isExistsQuery() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.AbstractReactiveMongoQuery#isDeleteQuery()
+	 */
+	@Override
+	protected boolean isDeleteQuery() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.AbstractReactiveMongoQuery#isLimiting()
+	 */
+	@Override
+	protected boolean isLimiting() {
+		return false;
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.mongodb.repository.query;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.mongodb.core.MongoOperations;
@@ -29,6 +30,7 @@ import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery.P
 import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery.ParameterBindingParser;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -52,6 +54,8 @@ public class ReactiveStringBasedMongoQuery extends AbstractReactiveMongoQuery {
 	private final List<ParameterBinding> queryParameterBindings;
 	private final List<ParameterBinding> fieldSpecParameterBindings;
 	private final ExpressionEvaluatingParameterBinder parameterBinder;
+	private final @Nullable ParameterBindingDocumentTemplate queryTemplate;
+	private final @Nullable ParameterBindingDocumentTemplate fieldSpecTemplate;
 
 	/**
 	 * Creates a new {@link ReactiveStringBasedMongoQuery} for the given {@link MongoQueryMethod} and
@@ -113,6 +117,9 @@ public class ReactiveStringBasedMongoQuery extends AbstractReactiveMongoQuery {
 		}
 
 		this.parameterBinder = new ExpressionEvaluatingParameterBinder(expressionParser, evaluationContextProvider);
+		this.queryTemplate = ParameterBindingDocumentTemplate.compile(this.query, this.queryParameterBindings);
+		this.fieldSpecTemplate = ParameterBindingDocumentTemplate.compile(this.fieldSpec,
+				this.fieldSpecParameterBindings);
 	}
 
 	/*
@@ -122,12 +129,11 @@ public class ReactiveStringBasedMongoQuery extends AbstractReactiveMongoQuery {
 	@Override
 	protected Query createQuery(ConvertingParameterAccessor accessor) {
 
-		String queryString = parameterBinder.bind(this.query, accessor,
-				new BindingContext(getQueryMethod().getParameters(), queryParameterBindings));
-		String fieldsString = parameterBinder.bind(this.fieldSpec, accessor,
-				new BindingContext(getQueryMethod().getParameters(), fieldSpecParameterBindings));
+		Document queryObject = queryTemplate != null ? queryTemplate.bind(accessor) : null;
+		Document fieldsObject = fieldSpecTemplate != null ? fieldSpecTemplate.bind(accessor) : null;
 
-		Query query = new BasicQuery(queryString, fieldsString).with(accessor.getSort());
+		Query query = (queryObject != null && fieldsObject != null ? new BasicQuery(queryObject, fieldsObject)
+				: createQueryFromString(accessor)).with(accessor.getSort());
 
 		if (LOG.isDebugEnabled()) {
 			LOG.debug(String.format("Created query %s for %s fields.", query.getQueryObject(), query.getFieldsObject()));
@@ -136,6 +142,23 @@ public class ReactiveStringBasedMongoQuery extends AbstractReactiveMongoQuery {
 		return query;
 	}
 
+	/**
+	 * Create the {@link Query} by binding parameters into the query string and parsing the result. Used when parameters
+	 * cannot be substituted into the pre-parsed {@link ParameterBindingDocumentTemplate}.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	private Query createQueryFromString(ConvertingParameterAccessor accessor) {
+
+		String queryString = parameterBinder.bind(this.query, accessor,
+				new BindingContext(getQueryMethod().getParameters(), queryParameterBindings));
+		String fieldsString = parameterBinder.bind(this.fieldSpec, accessor,
+				new BindingContext(getQueryMethod().getParameters(), fieldSpecParameterBindings));
+
+		return new BasicQuery(queryString, fieldsString);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.repository.query.AbstractReactiveMongoQuery#isCountQuery()
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.mongodb.InvalidMongoDbApiUsageException;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.util.StreamUtils;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link AbstractMongoQuery} running the aggregation pipeline declared via
+ * {@link org.springframework.data.mongodb.repository.Aggregation}.
+ *
+ * @since 2.2
+ */
+public class StringBasedAggregation extends AbstractMongoQuery {
+
+	private final MongoOperations mongoOperations;
+	private final MongoConverter mongoConverter;
+	private final AnnotatedAggregationPipeline pipeline;
+
+	/**
+	 * Creates a new {@link StringBasedAggregation} from the given {@link MongoQueryMethod} and {@link MongoOperations}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param mongoOperations must not be {@literal null}.
+	 * @param expressionParser must not be {@literal null}.
+	 * @param evaluationContextProvider must not be {@literal null}.
+	 */
+	public StringBasedAggregation(MongoQueryMethod method, MongoOperations mongoOperations,
+			SpelExpressionParser expressionParser, QueryMethodEvaluationContextProvider evaluationContextProvider) {
+
+		super(method, mongoOperations);
+
+		if (method.isPageQuery()) {
+			throw new InvalidMongoDbApiUsageException(String.format(
+					"Repository aggregation method '%s' does not support Page return types. Please use Slice instead.",
+					method.getName()));
+		}
+
+		this.mongoOperations = mongoOperations;
+		this.mongoConverter = mongoOperations.getConverter();
+		this.pipeline = new AnnotatedAggregationPipeline(method, expressionParser, evaluationContextProvider);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery#doExecute(org.springframework.data.mongodb.repository.query.MongoQueryMethod, org.springframework.data.repository.query.ResultProcessor, org.springframework.data.mongodb.repository.query.ConvertingParameterAccessor, java.lang.Class)
+	 */
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	protected Object doExecute(MongoQueryMethod method, ResultProcessor processor, ConvertingParameterAccessor accessor,
+			@Nullable Class<?> typeToRead) {
+
+		Class<?> returnedType = method.getReturnedObjectType();
+		boolean isSimpleReturnType = AnnotatedAggregationPipeline.isSimpleReturnType(returnedType);
+
+		Class<?> targetType;
+
+		if (isSimpleReturnType || Document.class.equals(returnedType)) {
+			targetType = Document.class;
+		} else {
+			targetType = typeToRead != null ? typeToRead : processor.getReturnedType().getDomainType();
+		}
+
+		TypedAggregation<?> aggregation = pipeline.createAggregation(accessor);
+		String collectionName = pipeline.getCollectionName();
+
+		if (method.isStreamQuery()) {
+
+			Stream<?> stream = StreamUtils
+					.createStreamFromIterator(mongoOperations.aggregateStream(aggregation, collectionName, targetType));
+
+			return isSimpleReturnType ? stream.map(it -> extractSimpleTypeResult(it, returnedType)) : stream;
+		}
+
+		AggregationResults<?> results = mongoOperations.aggregate(aggregation, collectionName, targetType);
+		List<Object> mappedResults = (List<Object>) results.getMappedResults();
+
+		if (isSimpleReturnType) {
+			mappedResults = mappedResults.stream() //
+					.map(it -> extractSimpleTypeResult(it, returnedType)) //
+					.collect(Collectors.toList());
+		}
+
+		if (method.isSliceQuery()) {
+
+			Pageable pageable = accessor.getPageable();
+
+			if (pageable.isUnpaged()) {
+				return new SliceImpl<>(mappedResults, pageable, false);
+			}
+
+			int pageSize = pageable.getPageSize();
+			boolean hasNext = mappedResults.size() > pageSize;
+
+			return new SliceImpl<>(hasNext ? mappedResults.subList(0, pageSize) : mappedResults, pageable, hasNext);
+		}
+
+		if (method.isCollectionQuery()) {
+			return mappedResults;
+		}
+
+		if (mappedResults.size() > 1) {
+			throw new InvalidMongoDbApiUsageException(
+					String.format("Expected unique result for %s but got %s results!", method, mappedResults.size()));
+		}
+
+		return mappedResults.isEmpty() ? null : mappedResults.get(0);
+	}
+
+	@Nullable
+	private Object extractSimpleTypeResult(Object source, Class<?> typeToRead) {
+		return AnnotatedAggregationPipeline.extractSimpleTypeResult((Document) source, typeToRead, mongoConverter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery#createQuery(org.springframework.data.mongodb.repository.query.ConvertingParameterAccessor)
+	 */
+	@Override
+	protected Query createQuery(ConvertingParameterAccessor accessor) {
+		throw new UnsupportedOperationException("No query support for aggregation");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery#isCountQuery()
+	 */
+	@Override
+	protected boolean isCountQuery() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery#isExistsQuery()
+	 */
+	@Override
+	protected boolean isExistsQuery() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery#isDeleteQuery()
+	 */
+	@Override
+	protected boolean isDeleteQuery() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery#isLimiting()
+	 */
+	@Override
+	protected boolean isLimiting() {
+		return false;
+	}
+}
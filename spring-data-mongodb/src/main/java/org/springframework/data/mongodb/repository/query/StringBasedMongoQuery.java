@@ -63,6 +63,8 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
 	private final List<ParameterBinding> queryParameterBindings;
 	private final List<ParameterBinding> fieldSpecParameterBindings;
 	private final ExpressionEvaluatingParameterBinder parameterBinder;
+	private final @Nullable ParameterBindingDocumentTemplate queryTemplate;
+	private final @Nullable ParameterBindingDocumentTemplate fieldSpecTemplate;
 
 	/**
 	 * Creates a new {@link StringBasedMongoQuery} for the given {@link MongoQueryMethod}, {@link MongoOperations},
@@ -104,6 +106,9 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
 				method.getFieldSpecification(), this.fieldSpecParameterBindings);
 
 		this.parameterBinder = new ExpressionEvaluatingParameterBinder(expressionParser, evaluationContextProvider);
+		this.queryTemplate = ParameterBindingDocumentTemplate.compile(this.query, this.queryParameterBindings);
+		this.fieldSpecTemplate = ParameterBindingDocumentTemplate.compile(this.fieldSpec,
+				this.fieldSpecParameterBindings);
 
 		if (method.hasAnnotatedQuery()) {
 
@@ -132,12 +137,11 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
 	@Override
 	protected Query createQuery(ConvertingParameterAccessor accessor) {
 
-		String queryString = parameterBinder.bind(this.query, accessor,
-				new BindingContext(getQueryMethod().getParameters(), queryParameterBindings));
-		String fieldsString = parameterBinder.bind(this.fieldSpec, accessor,
-				new BindingContext(getQueryMethod().getParameters(), fieldSpecParameterBindings));
+		Document queryObject = queryTemplate != null ? queryTemplate.bind(accessor) : null;
+		Document fieldsObject = fieldSpecTemplate != null ? fieldSpecTemplate.bind(accessor) : null;
 
-		Query query = new BasicQuery(queryString, fieldsString).with(accessor.getSort());
+		Query query = (queryObject != null && fieldsObject != null ? new BasicQuery(queryObject, fieldsObject)
+				: createQueryFromString(accessor)).with(accessor.getSort());
 
 		if (LOG.isDebugEnabled()) {
 			LOG.debug(String.format("Created query %s for %s fields.", query.getQueryObject(), query.getFieldsObject()));
@@ -146,6 +150,23 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
 		return query;
 	}
 
+	/**
+	 * Create the {@link Query} by binding parameters into the query string and parsing the result. Used when parameters
+	 * cannot be substituted into the pre-parsed {@link ParameterBindingDocumentTemplate}.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	private Query createQueryFromString(ConvertingParameterAccessor accessor) {
+
+		String queryString = parameterBinder.bind(this.query, accessor,
+				new BindingContext(getQueryMethod().getParameters(), queryParameterBindings));
+		String fieldsString = parameterBinder.bind(this.fieldSpec, accessor,
+				new BindingContext(getQueryMethod().getParameters(), fieldSpecParameterBindings));
+
+		return new BasicQuery(queryString, fieldsString);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery#isCountQuery()
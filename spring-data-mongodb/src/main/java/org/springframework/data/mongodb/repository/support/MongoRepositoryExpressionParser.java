@@ -0,0 +1,37 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.support;
+
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * {@link SpelExpressionParser} shared by {@link MongoRepositoryFactory} and {@link ReactiveMongoRepositoryFactory} to
+ * parse SpEL expressions of string based queries and aggregations. Frequently evaluated expressions are compiled using
+ * {@link SpelCompilerMode#MIXED} which falls back to interpretation if compilation is not possible, e.g. because the
+ * operand types of an expression vary between invocations. Compiled expressions are loaded through the class loader of
+ * this module.
+ *
+ * @since 2.2
+ */
+final class MongoRepositoryExpressionParser {
+
+	static final SpelExpressionParser INSTANCE = new SpelExpressionParser(
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, MongoRepositoryExpressionParser.class.getClassLoader()));
+
+	private MongoRepositoryExpressionParser() {}
+}
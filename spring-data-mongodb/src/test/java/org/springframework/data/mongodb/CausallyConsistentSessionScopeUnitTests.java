@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoDatabase;
+
+/**
+ * Unit tests for {@link CausallyConsistentSessionScope}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CausallyConsistentSessionScopeUnitTests {
+
+	@Mock MongoDbFactory dbFactory;
+	@Mock MongoDbFactory sessionBoundDbFactory;
+	@Mock ClientSession session;
+	@Mock MongoDatabase db;
+
+	@Before
+	public void setUp() {
+		when(dbFactory.getSession(any())).thenReturn(session);
+	}
+
+	@Test
+	public void bindsCausallyConsistentSessionToCurrentThread() {
+
+		try (CausallyConsistentSessionScope scope = CausallyConsistentSessionScope.open(dbFactory)) {
+
+			assertThat(scope.getSession()).isSameAs(session);
+			assertThat(CausallyConsistentSessionScope.getCurrentSession(dbFactory)).isSameAs(session);
+		}
+
+		assertThat(CausallyConsistentSessionScope.getCurrentSession(dbFactory)).isNull();
+		verify(dbFactory).getSession(ClientSessionOptions.builder().causallyConsistent(true).build());
+		verify(session).close();
+	}
+
+	@Test
+	public void nestedScopeJoinsOuterScope() {
+
+		try (CausallyConsistentSessionScope outer = CausallyConsistentSessionScope.open(dbFactory)) {
+
+			try (CausallyConsistentSessionScope inner = CausallyConsistentSessionScope.open(dbFactory)) {
+				assertThat(inner).isSameAs(outer);
+			}
+
+			verify(session, never()).close();
+			assertThat(CausallyConsistentSessionScope.getCurrentSession(dbFactory)).isSameAs(session);
+		}
+
+		verify(dbFactory, times(1)).getSession(any());
+		verify(session).close();
+	}
+
+	@Test
+	public void databaseUtilsUseSessionOfScope() {
+
+		when(dbFactory.withSession(session)).thenReturn(sessionBoundDbFactory);
+		when(sessionBoundDbFactory.getDb()).thenReturn(db);
+
+		try (CausallyConsistentSessionScope scope = CausallyConsistentSessionScope.open(dbFactory)) {
+			assertThat(MongoDatabaseUtils.getDatabase(dbFactory)).isSameAs(db);
+		}
+	}
+
+	@Test
+	public void doesNotExposeSessionToOtherThreads() throws InterruptedException {
+
+		try (CausallyConsistentSessionScope scope = CausallyConsistentSessionScope.open(dbFactory)) {
+
+			ClientSession[] observed = new ClientSession[] { session };
+			Thread thread = new Thread(() -> observed[0] = CausallyConsistentSessionScope.getCurrentSession(dbFactory));
+			thread.start();
+			thread.join();
+
+			assertThat(observed[0]).isNull();
+		}
+	}
+}
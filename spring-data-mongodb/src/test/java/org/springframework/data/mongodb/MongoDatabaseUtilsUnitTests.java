@@ -120,6 +120,36 @@ public class MongoDatabaseUtilsUnitTests {
 		verify(dbFactory, never()).withSession(any(ClientSession.class));
 	}
 
+	@Test
+	public void shouldNotUseSessionOfCausallyConsistentScopeWhenSessionSynchronizationIsNever() {
+
+		try (CausallyConsistentSessionScope scope = CausallyConsistentSessionScope.open(dbFactory)) {
+			MongoDatabaseUtils.getDatabase(dbFactory, SessionSynchronization.NEVER);
+		}
+
+		verify(dbFactory, never()).withSession(any(ClientSession.class));
+	}
+
+	@Test
+	public void shouldNotParticipateInOngoingMongoTransactionWhenSessionSynchronizationIsNever() {
+
+		MongoTransactionManager txManager = new MongoTransactionManager(dbFactory);
+		TransactionTemplate txTemplate = new TransactionTemplate(txManager);
+
+		txTemplate.execute(new TransactionCallbackWithoutResult() {
+
+			@Override
+			protected void doInTransactionWithoutResult(TransactionStatus transactionStatus) {
+
+				assertThat(MongoDatabaseUtils.getDatabase(dbFactory, SessionSynchronization.NEVER)).isSameAs(db);
+
+				transactionStatus.setRollbackOnly();
+			}
+		});
+
+		verify(dbFactory, never()).withSession(any(ClientSession.class));
+	}
+
 	@Test // DATAMONGO-1920
 	public void shouldParticipateInOngoingJtaTransactionWithCommitWhenSessionSychronizationIsAny() throws Exception {
 
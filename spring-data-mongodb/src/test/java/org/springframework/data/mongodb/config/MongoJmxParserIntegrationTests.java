@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.config;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.support.BeanDefinitionReader;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.mongodb.monitor.ServerStatusCache;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mongodb.MongoClient;
+
+/**
+ * Integration tests for {@link MongoJmxParser}.
+ */
+public class MongoJmxParserIntegrationTests {
+
+	DefaultListableBeanFactory factory;
+	BeanDefinitionReader reader;
+
+	@Before
+	public void setUp() {
+
+		factory = new DefaultListableBeanFactory();
+		factory.registerSingleton(BeanNames.MONGO_BEAN_NAME, mock(MongoClient.class));
+		reader = new XmlBeanDefinitionReader(factory);
+	}
+
+	@Test
+	public void configuresRefreshIntervalOfServerStatusCache() {
+
+		reader.loadBeanDefinitions(new ClassPathResource("namespace/jmx-refresh-interval.xml"));
+
+		ServerStatusCache cache = factory.getBean(ServerStatusCache.class);
+
+		assertThat(ReflectionTestUtils.getField(cache, "refreshIntervalNanos"), is((Object) TimeUnit.SECONDS.toNanos(1)));
+	}
+}
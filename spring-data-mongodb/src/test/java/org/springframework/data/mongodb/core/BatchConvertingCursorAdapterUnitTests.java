@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.bson.Document;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback;
+
+import com.mongodb.client.MongoCursor;
+
+/**
+ * Unit tests for {@link BatchConvertingCursorAdapter}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class BatchConvertingCursorAdapterUnitTests {
+
+	@Mock MongoCursor<Document> cursor;
+	@Mock PersistenceExceptionTranslator exceptionTranslator;
+
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+	DefaultCursorMetrics metrics = new DefaultCursorMetrics();
+	DocumentCallback<Integer> callback = document -> document.getInteger("value");
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void retainsCursorOrder() {
+
+		cursorOf(25);
+
+		BatchConvertingCursorAdapter<Integer> adapter = new BatchConvertingCursorAdapter<>(cursor, 10, 3, executor,
+				callback, exceptionTranslator, metrics);
+
+		List<Integer> result = new ArrayList<>();
+		adapter.forEachRemaining(result::add);
+		adapter.close();
+
+		assertThat(result).containsExactlyElementsOf(IntStream.range(0, 25).boxed().collect(Collectors.toList()));
+		verify(cursor).close();
+	}
+
+	@Test
+	public void recordsRoundTripsForBatches() {
+
+		cursorOf(25);
+
+		BatchConvertingCursorAdapter<Integer> adapter = new BatchConvertingCursorAdapter<>(cursor, 10, 2, executor,
+				callback, exceptionTranslator, metrics);
+
+		adapter.forEachRemaining(it -> {});
+
+		assertThat(metrics.getCursorCount()).isOne();
+		assertThat(metrics.getDocumentCount()).isEqualTo(25);
+		assertThat(metrics.getRoundTripCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void stopsAtExactBatchBoundary() {
+
+		cursorOf(20);
+
+		BatchConvertingCursorAdapter<Integer> adapter = new BatchConvertingCursorAdapter<>(cursor, 10, 2, executor,
+				callback, exceptionTranslator, metrics);
+
+		List<Integer> result = new ArrayList<>();
+		adapter.forEachRemaining(result::add);
+
+		assertThat(result).hasSize(20);
+		assertThat(adapter.hasNext()).isFalse();
+	}
+
+	@Test
+	public void translatesExceptionsOfPrefetchedBatches() {
+
+		Iterator<Document> documents = documents(10);
+		when(cursor.hasNext()).thenAnswer(invocation -> documents.hasNext() ? true : throwFailure());
+		when(cursor.next()).thenAnswer(invocation -> documents.next());
+		when(exceptionTranslator.translateExceptionIfPossible(any()))
+				.thenReturn(new DataAccessResourceFailureException("translated"));
+
+		BatchConvertingCursorAdapter<Integer> adapter = new BatchConvertingCursorAdapter<>(cursor, 10, 2, executor,
+				callback, exceptionTranslator, metrics);
+
+		for (int i = 0; i < 10; i++) {
+			adapter.next();
+		}
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class).isThrownBy(adapter::hasNext);
+	}
+
+	@Test
+	public void closeDoesNotReadFurther() {
+
+		cursorOf(25);
+
+		BatchConvertingCursorAdapter<Integer> adapter = new BatchConvertingCursorAdapter<>(cursor, 10, 2, executor,
+				callback, exceptionTranslator, metrics);
+
+		adapter.next();
+		adapter.close();
+
+		assertThat(adapter.hasNext()).isFalse();
+		verify(cursor).close();
+	}
+
+	private void cursorOf(int count) {
+
+		Iterator<Document> documents = documents(count);
+		when(cursor.hasNext()).thenAnswer(invocation -> documents.hasNext());
+		when(cursor.next()).thenAnswer(invocation -> documents.next());
+	}
+
+	private static Iterator<Document> documents(int count) {
+		return IntStream.range(0, count).mapToObj(it -> new Document("value", it)).iterator();
+	}
+
+	private static boolean throwFailure() {
+		throw new IllegalStateException("connection lost");
+	}
+}
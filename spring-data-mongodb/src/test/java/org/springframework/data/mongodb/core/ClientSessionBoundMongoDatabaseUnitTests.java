@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+
+/**
+ * Unit tests for {@link ClientSessionBoundMongoDatabase} and {@link ClientSessionBoundMongoCollection}.
+ *
+ * @since 2.2
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ClientSessionBoundMongoDatabaseUnitTests {
+
+	@Mock ClientSession session;
+	@Mock MongoDatabase targetDatabase;
+	@Mock MongoCollection<Document> targetCollection;
+
+	MongoDatabase database;
+	MongoCollection<Document> collection;
+
+	@Before
+	public void setUp() {
+
+		database = new ClientSessionBoundMongoDatabase(session, targetDatabase);
+		collection = new ClientSessionBoundMongoCollection<>(session, targetCollection);
+	}
+
+	@Test
+	public void databaseInvokesMethodWithSession() {
+
+		Document command = new Document("ping", 1);
+		database.runCommand(command, ReadPreference.primary());
+
+		verify(targetDatabase).runCommand(eq(session), eq(command), eq(ReadPreference.primary()));
+	}
+
+	@Test
+	public void databaseBindsCollectionToSession() {
+
+		when(targetDatabase.getCollection("test")).thenReturn(targetCollection);
+
+		MongoCollection<Document> boundCollection = database.getCollection("test");
+		boundCollection.countDocuments();
+
+		assertThat(boundCollection).isInstanceOf(ClientSessionBoundMongoCollection.class);
+		verify(targetCollection).countDocuments(eq(session));
+	}
+
+	@Test
+	public void databaseInvokesMethodWithoutSessionOverloadDirectly() {
+
+		when(targetDatabase.getName()).thenReturn("db");
+
+		assertThat(database.getName()).isEqualTo("db");
+	}
+
+	@Test
+	public void collectionInvokesMethodWithSession() {
+
+		Document filter = new Document("name", "foo");
+		collection.find(filter, Document.class);
+
+		verify(targetCollection).find(eq(session), eq(filter), eq(Document.class));
+	}
+
+	@Test
+	public void collectionPassesOnExplicitSession() {
+
+		ClientSession yetAnotherSession = mock(ClientSession.class);
+		collection.find(yetAnotherSession);
+
+		verify(targetCollection).find(eq(yetAnotherSession));
+	}
+
+	@Test
+	public void collectionBindsDerivedCollectionToSession() {
+
+		MongoCollection<Document> otherCollection = mock(MongoCollection.class);
+		when(targetCollection.withWriteConcern(WriteConcern.MAJORITY)).thenReturn(otherCollection);
+
+		collection.withWriteConcern(WriteConcern.MAJORITY).drop();
+
+		verify(otherCollection).drop(eq(session));
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+import com.mongodb.session.ServerSession;
+
+/**
+ * Unit tests for {@link ClientSessionPool}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ClientSessionPoolUnitTests {
+
+	static final ClientSessionOptions OPTIONS = ClientSessionOptions.builder().causallyConsistent(true).build();
+
+	@Mock ClientSession session;
+	@Mock ClientSession otherSession;
+	@Mock ServerSession serverSession;
+
+	ClientSessionPool<ClientSession> pool;
+
+	@Before
+	public void setUp() {
+
+		when(session.getOptions()).thenReturn(OPTIONS);
+		when(session.getServerSession()).thenReturn(serverSession);
+
+		pool = new ClientSessionPool<>(ClientSessionPoolOptions.defaults(), ClientSession::hasActiveTransaction,
+				PooledClientSession::new);
+	}
+
+	@Test
+	public void closingLeasedSessionReturnsItToPool() {
+
+		pool.decorate(session).close();
+
+		assertThat(pool.getIdleSessionCount()).isOne();
+
+		ClientSession leased = pool.acquire(OPTIONS);
+
+		assertThat(leased).isInstanceOf(PooledClientSession.class);
+		assertThat(leased.getServerSession()).isSameAs(serverSession);
+		assertThat(pool.getIdleSessionCount()).isZero();
+		verify(session, never()).close();
+	}
+
+	@Test
+	public void doesNotLeaseSessionCreatedWithOtherOptions() {
+
+		pool.decorate(session).close();
+
+		assertThat(pool.acquire(ClientSessionOptions.builder().causallyConsistent(false).build())).isNull();
+		assertThat(pool.getIdleSessionCount()).isOne();
+	}
+
+	@Test
+	public void endsSessionWithActiveTransactionOnRelease() {
+
+		when(session.hasActiveTransaction()).thenReturn(true);
+
+		pool.decorate(session).close();
+
+		assertThat(pool.getIdleSessionCount()).isZero();
+		verify(session).close();
+	}
+
+	@Test
+	public void endsSessionWithClosedServerSessionOnAcquire() {
+
+		pool.decorate(session).close();
+
+		when(serverSession.isClosed()).thenReturn(true);
+
+		assertThat(pool.acquire(OPTIONS)).isNull();
+		verify(session).close();
+	}
+
+	@Test
+	public void evictsSessionsIdleLongerThanMaxIdleTime() throws InterruptedException {
+
+		pool = new ClientSessionPool<>(ClientSessionPoolOptions.defaults().maxIdleTime(Duration.ofNanos(1)),
+				ClientSession::hasActiveTransaction, PooledClientSession::new);
+
+		pool.decorate(session).close();
+		Thread.sleep(1);
+
+		assertThat(pool.acquire(OPTIONS)).isNull();
+		verify(session).close();
+	}
+
+	@Test
+	public void endsSessionsExceedingMaxIdleSessions() {
+
+		when(otherSession.getOptions()).thenReturn(OPTIONS);
+		when(otherSession.getServerSession()).thenReturn(serverSession);
+
+		pool = new ClientSessionPool<>(ClientSessionPoolOptions.defaults().maxIdleSessions(1),
+				ClientSession::hasActiveTransaction, PooledClientSession::new);
+
+		pool.decorate(session).close();
+		pool.decorate(otherSession).close();
+
+		assertThat(pool.getIdleSessionCount()).isOne();
+		verify(otherSession).close();
+	}
+
+	@Test
+	public void rejectsUsageOfReturnedSession() {
+
+		ClientSession leased = pool.decorate(session);
+		leased.close();
+		leased.close();
+
+		assertThatIllegalStateException().isThrownBy(leased::startTransaction);
+		assertThat(pool.getIdleSessionCount()).isOne();
+	}
+
+	@Test
+	public void closeEndsIdleAndLaterReleasedSessions() {
+
+		ClientSession leased = pool.decorate(otherSession);
+		pool.decorate(session).close();
+
+		pool.close();
+
+		verify(session).close();
+
+		leased.close();
+
+		verify(otherSession).close();
+		assertThat(pool.getIdleSessionCount()).isZero();
+	}
+}
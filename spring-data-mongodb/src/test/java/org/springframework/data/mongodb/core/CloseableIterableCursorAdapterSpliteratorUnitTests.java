@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate.CloseableIterableCursorAdapter;
+import org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback;
+
+import com.mongodb.client.MongoCursor;
+
+/**
+ * Unit tests for the {@link Spliterator} of {@link CloseableIterableCursorAdapter}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CloseableIterableCursorAdapterSpliteratorUnitTests {
+
+	@Mock MongoCursor<Document> cursor;
+	@Mock PersistenceExceptionTranslator exceptionTranslator;
+
+	DocumentCallback<Integer> callback = document -> document.getInteger("value");
+
+	@Test
+	public void splitsOffBatchesOfRawDocuments() {
+
+		cursorOf(250);
+
+		Spliterator<Integer> spliterator = new CloseableIterableCursorAdapter<>(cursor, exceptionTranslator, callback, 100)
+				.spliterator();
+
+		Spliterator<Integer> batch = spliterator.trySplit();
+
+		assertThat(batch.hasCharacteristics(Spliterator.SIZED)).isTrue();
+		assertThat(batch.estimateSize()).isEqualTo(100);
+		assertThat(spliterator.trySplit().estimateSize()).isEqualTo(100);
+		assertThat(spliterator.trySplit().estimateSize()).isEqualTo(50);
+		assertThat(spliterator.trySplit()).isNull();
+	}
+
+	@Test
+	public void parallelStreamRetainsCursorOrder() {
+
+		cursorOf(1000);
+
+		CloseableIterableCursorAdapter<Integer> adapter = new CloseableIterableCursorAdapter<>(cursor, exceptionTranslator,
+				callback, 64);
+
+		List<Integer> result;
+
+		try (Stream<Integer> stream = adapter.stream().parallel()) {
+			result = stream.collect(Collectors.toList());
+		}
+
+		assertThat(result).containsExactlyElementsOf(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+		verify(cursor).close();
+	}
+
+	@Test
+	public void translatesConversionExceptionsOfBatches() {
+
+		cursorOf(10);
+		when(exceptionTranslator.translateExceptionIfPossible(any()))
+				.thenReturn(new DataAccessResourceFailureException("translated"));
+
+		Spliterator<Integer> spliterator = new CloseableIterableCursorAdapter<Integer>(cursor, exceptionTranslator,
+				document -> {
+					throw new IllegalStateException("conversion failed");
+				}, 5).spliterator();
+
+		Spliterator<Integer> batch = spliterator.trySplit();
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class).isThrownBy(() -> batch.tryAdvance(it -> {}));
+	}
+
+	@Test
+	public void translatesCursorExceptionsWhenSplitting() {
+
+		when(cursor.hasNext()).thenThrow(new IllegalStateException("connection lost"));
+		when(exceptionTranslator.translateExceptionIfPossible(any()))
+				.thenReturn(new DataAccessResourceFailureException("translated"));
+
+		Spliterator<Integer> spliterator = new CloseableIterableCursorAdapter<>(cursor, exceptionTranslator, callback, 5)
+				.spliterator();
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class).isThrownBy(spliterator::trySplit);
+	}
+
+	private void cursorOf(int count) {
+
+		Iterator<Document> documents = IntStream.range(0, count).mapToObj(it -> new Document("value", it)).iterator();
+
+		when(cursor.hasNext()).thenAnswer(invocation -> documents.hasNext());
+		when(cursor.next()).thenAnswer(invocation -> documents.next());
+	}
+}
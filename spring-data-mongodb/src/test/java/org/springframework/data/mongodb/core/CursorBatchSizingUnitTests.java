@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CursorBatchSizing}.
+ */
+public class CursorBatchSizingUnitTests {
+
+	@Test
+	public void driverDefaultIsNotDemandAware() {
+
+		assertThat(CursorBatchSizing.driverDefault().isDemandAware()).isFalse();
+		assertThatIllegalStateException().isThrownBy(() -> CursorBatchSizing.driverDefault().getBatchSize(10));
+	}
+
+	@Test
+	public void boundsDemandBySizingLimits() {
+
+		CursorBatchSizing sizing = CursorBatchSizing.demandAware(10, 500);
+
+		assertThat(sizing.getBatchSize(1)).isEqualTo(10);
+		assertThat(sizing.getBatchSize(42)).isEqualTo(42);
+		assertThat(sizing.getBatchSize(1000)).isEqualTo(500);
+		assertThat(sizing.getBatchSize(Long.MAX_VALUE)).isEqualTo(500);
+	}
+
+	@Test
+	public void rejectsInvalidLimits() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> CursorBatchSizing.demandAware(0, 10));
+		assertThatIllegalArgumentException().isThrownBy(() -> CursorBatchSizing.demandAware(10, 5));
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link DemandAwareCursorPublisher}.
+ */
+public class DemandAwareCursorPublisherUnitTests {
+
+	DefaultCursorMetrics metrics = new DefaultCursorMetrics();
+	AtomicInteger batchSize = new AtomicInteger();
+
+	@Test
+	public void derivesBatchSizeFromFirstRequest() {
+
+		DemandAwareCursorPublisher<Integer> publisher = new DemandAwareCursorPublisher<>(this::cursor,
+				CursorBatchSizing.demandAware(2, 100)::getBatchSize, metrics);
+
+		StepVerifier.create(publisher, 5) //
+				.expectNext(1, 2, 3, 4, 5) //
+				.thenRequest(5) //
+				.expectNext(6, 7, 8, 9, 10) //
+				.verifyComplete();
+
+		assertThat(batchSize.get()).isEqualTo(5);
+	}
+
+	@Test
+	public void usesMaximumBatchSizeForUnboundedDemand() {
+
+		DemandAwareCursorPublisher<Integer> publisher = new DemandAwareCursorPublisher<>(this::cursor,
+				CursorBatchSizing.demandAware(2, 4)::getBatchSize, metrics);
+
+		StepVerifier.create(publisher).expectNextCount(10).verifyComplete();
+
+		assertThat(batchSize.get()).isEqualTo(4);
+	}
+
+	@Test
+	public void doesNotOpenCursorWithoutDemand() {
+
+		DemandAwareCursorPublisher<Integer> publisher = new DemandAwareCursorPublisher<>(this::cursor, demand -> 10,
+				metrics);
+
+		StepVerifier.create(publisher, 0).thenCancel().verify();
+
+		assertThat(batchSize.get()).isZero();
+		assertThat(metrics.getCursorCount()).isZero();
+	}
+
+	@Test
+	public void recordsRoundTripsForBatches() {
+
+		DemandAwareCursorPublisher<Integer> publisher = new DemandAwareCursorPublisher<>(this::cursor, demand -> 4,
+				metrics);
+
+		StepVerifier.create(publisher).expectNextCount(10).verifyComplete();
+
+		assertThat(metrics.getCursorCount()).isOne();
+		assertThat(metrics.getDocumentCount()).isEqualTo(10);
+		assertThat(metrics.getRoundTripCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void relaysErrors() {
+
+		DemandAwareCursorPublisher<Integer> publisher = new DemandAwareCursorPublisher<>(
+				size -> Flux.error(new IllegalStateException("boom")), demand -> 10, metrics);
+
+		StepVerifier.create(publisher).verifyError(IllegalStateException.class);
+	}
+
+	private Flux<Integer> cursor(int batchSize) {
+
+		this.batchSize.set(batchSize);
+		return Flux.range(1, 10);
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.bson.types.MaxKey;
+import org.bson.types.MinKey;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link DocumentSortComparator}.
+ */
+public class DocumentSortComparatorUnitTests {
+
+	@Test
+	public void ordersValuesOfDifferentTypesByBsonOrder() {
+
+		List<Object> values = Arrays.asList(new MaxKey(), new Date(1), true, new ObjectId(), "a", 1, null, new MinKey(),
+				new Document("a", 1));
+
+		List<Object> sorted = sortBy(new Document("v", 1), values);
+
+		assertThat(sorted).extracting(it -> it == null ? null : it.getClass().getSimpleName()).containsExactly("MinKey",
+				null, "Integer", "String", "Document", "ObjectId", "Boolean", "Date", "MaxKey");
+	}
+
+	@Test
+	public void comparesNumbersAcrossTypes() {
+
+		List<Object> sorted = sortBy(new Document("v", 1),
+				Arrays.asList(3L, 2.5D, Decimal128.parse("2.25"), 1, Double.NaN, Long.MAX_VALUE, Long.MAX_VALUE - 1));
+
+		assertThat(sorted).containsExactly(Double.NaN, 1, Decimal128.parse("2.25"), 2.5D, 3L, Long.MAX_VALUE - 1,
+				Long.MAX_VALUE);
+	}
+
+	@Test
+	public void comparesStringsByCodePoint() {
+
+		List<Object> sorted = sortBy(new Document("v", 1), Arrays.asList("b", "\uD83D\uDE00", "\uFF5E", "B", "a"));
+
+		assertThat(sorted).containsExactly("B", "a", "b", "\uFF5E", "\uD83D\uDE00");
+	}
+
+	@Test
+	public void appliesDirectionPerKey() {
+
+		DocumentSortComparator comparator = new DocumentSortComparator(new Document("a", 1).append("b", -1));
+
+		Document first = new Document("a", 1).append("b", 2);
+		Document second = new Document("a", 1).append("b", 1);
+		Document third = new Document("a", 2).append("b", 3);
+
+		assertThat(Stream.of(third, second, first).sorted(comparator)).containsExactly(first, second, third);
+	}
+
+	@Test
+	public void treatsMissingFieldsAsNull() {
+
+		DocumentSortComparator comparator = new DocumentSortComparator(new Document("a", 1));
+
+		assertThat(comparator.compare(new Document(), new Document("a", null))).isZero();
+		assertThat(comparator.compare(new Document(), new Document("a", 0))).isNegative();
+	}
+
+	@Test
+	public void resolvesNestedPathsThroughArrays() {
+
+		DocumentSortComparator ascending = new DocumentSortComparator(new Document("items.price", 1));
+		DocumentSortComparator descending = new DocumentSortComparator(new Document("items.price", -1));
+
+		Document left = new Document("items", Arrays.asList(new Document("price", 5), new Document("price", 1)));
+		Document right = new Document("items", Collections.singletonList(new Document("price", 3)));
+
+		assertThat(ascending.compare(left, right)).isNegative();
+		assertThat(descending.compare(left, right)).isNegative();
+	}
+
+	@Test
+	public void usesSmallestArrayElementAscendingAndLargestDescending() {
+
+		Document left = new Document("v", Arrays.asList(1, 10));
+		Document right = new Document("v", 5);
+
+		assertThat(new DocumentSortComparator(new Document("v", 1)).compare(left, right)).isNegative();
+		assertThat(new DocumentSortComparator(new Document("v", -1)).compare(left, right)).isNegative();
+	}
+
+	@Test
+	public void rejectsMetaSort() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new DocumentSortComparator(new Document("score", new Document("$meta", "textScore"))));
+	}
+
+	@Test
+	public void addsSortKeysToInclusionProjection() {
+
+		DocumentSortComparator comparator = new DocumentSortComparator(new Document("date", 1).append("nested.value", 1));
+
+		assertThat(comparator.includeSortKeys(new Document("name", 1).append("nested.value.x", 1)))
+				.isEqualTo(new Document("name", 1).append("date", 1).append("nested.value", 1));
+		assertThat(comparator.includeSortKeys(new Document("nested", 1)))
+				.isEqualTo(new Document("nested", 1).append("date", 1));
+	}
+
+	@Test
+	public void removesAddedSortKeys() {
+
+		DocumentSortComparator comparator = new DocumentSortComparator(new Document("date", 1).append("nested.value", 1));
+		Document fields = new Document("name", 1);
+
+		Document document = new Document("_id", 1).append("name", "n").append("date", 2).append("nested",
+				new Document("value", 3));
+
+		assertThat(comparator.removeSortKeys(document, fields)).isEqualTo(new Document("_id", 1).append("name", "n"));
+	}
+
+	@Test
+	public void removesAddedSortKeysNextToRequestedFields() {
+
+		DocumentSortComparator comparator = new DocumentSortComparator(new Document("nested.value", 1));
+		Document fields = new Document("nested.other", 1);
+
+		Document document = new Document("_id", 1).append("nested",
+				Arrays.asList(new Document("value", 1).append("other", 2), new Document("value", 3)));
+
+		assertThat(comparator.removeSortKeys(document, fields)).isEqualTo(
+				new Document("_id", 1).append("nested", Arrays.asList(new Document("other", 2), new Document())));
+	}
+
+	@Test
+	public void restoresRequestedPartsOfSortKey() {
+
+		DocumentSortComparator comparator = new DocumentSortComparator(new Document("nested", 1));
+		Document fields = new Document("nested.value", 1);
+
+		Document document = new Document("_id", 1).append("nested", new Document("value", 1).append("other", 2));
+
+		assertThat(comparator.removeSortKeys(document, fields))
+				.isEqualTo(new Document("_id", 1).append("nested", new Document("value", 1)));
+	}
+
+	@Test
+	public void keepsIdentifierIncludedByDefault() {
+
+		DocumentSortComparator comparator = new DocumentSortComparator(new Document("_id", 1));
+		Document document = new Document("_id", 1).append("name", "n");
+
+		assertThat(comparator.includeSortKeys(new Document("name", 1))).isEqualTo(new Document("name", 1));
+		assertThat(comparator.removeSortKeys(document, new Document("name", 1)))
+				.isEqualTo(new Document("_id", 1).append("name", "n"));
+	}
+
+	@Test
+	public void keepsEmptyProjection() {
+
+		DocumentSortComparator comparator = new DocumentSortComparator(new Document("date", 1));
+
+		assertThat(comparator.includeSortKeys(new Document())).isEmpty();
+		assertThat(comparator.includeSortKeys(new Document("name", 0))).isEqualTo(new Document("name", 0));
+	}
+
+	@Test
+	public void rejectsProjectionExcludingSortKey() {
+
+		DocumentSortComparator comparator = new DocumentSortComparator(new Document("_id", 1));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> comparator.includeSortKeys(new Document("_id", 0)));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> comparator.includeSortKeys(new Document("name", 1).append("_id", 0)));
+	}
+
+	private static List<Object> sortBy(Document sort, List<Object> values) {
+
+		DocumentSortComparator comparator = new DocumentSortComparator(sort);
+
+		return values.stream() //
+				.map(it -> new Document("v", it)) //
+				.sorted(comparator) //
+				.map(it -> it.get("v")) //
+				.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.mongodb.core.HistogramOperationMetricsRecorder.*;
+
+import org.bson.Document;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.OperationMetricsRecorder.OperationType;
+
+/**
+ * Unit tests for {@link HistogramOperationMetricsRecorder} and {@link OperationTimer}.
+ */
+public class HistogramOperationMetricsRecorderUnitTests {
+
+	HistogramOperationMetricsRecorder recorder = new HistogramOperationMetricsRecorder(1);
+
+	@Test
+	public void recordsPerCollectionAndAcrossCollections() {
+
+		recorder.record(OperationType.FIND, "people", 100, 10, 2);
+		recorder.record(OperationType.FIND, "people", 200, 20, 3);
+
+		OperationStatistics people = recorder.getStatistics(OperationType.FIND, "people");
+
+		assertThat(people.getOperationCount()).isEqualTo(2);
+		assertThat(people.getDocumentCount()).isEqualTo(5);
+		assertThat(people.getIoLatency().getMax()).isEqualTo(200);
+		assertThat(people.getConversionLatency().getTotal()).isEqualTo(30);
+		assertThat(recorder.getStatistics(OperationType.FIND, ALL_COLLECTIONS).getOperationCount()).isEqualTo(2);
+		assertThat(recorder.getStatistics(OperationType.INSERT, "people")).isNull();
+	}
+
+	@Test
+	public void limitsNumberOfTrackedCollections() {
+
+		recorder.record(OperationType.FIND, "people", 1, 0, 0);
+		recorder.record(OperationType.FIND, "another-collection", 1, 0, 0);
+		recorder.record(OperationType.INSERT, "another-collection", 1, 0, 0);
+		recorder.record(OperationType.INSERT, "people", 1, 0, 0);
+
+		assertThat(recorder.getStatistics(OperationType.FIND, "another-collection")).isNull();
+		assertThat(recorder.getStatistics(OperationType.INSERT, "another-collection")).isNull();
+		assertThat(recorder.getStatistics(OperationType.INSERT, "people").getOperationCount()).isEqualTo(1);
+		assertThat(recorder.getStatistics(OperationType.FIND, ALL_COLLECTIONS).getOperationCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void timerSeparatesConversionFromIo() {
+
+		OperationTimer timer = OperationTimer.start(recorder, OperationType.FIND, "people");
+
+		assertThat(timer.<Object> convert(new Document("_id", 1), it -> it.get("_id"))).isEqualTo(1);
+		assertThat(timer.<Object> convert(null, it -> it)).isNull();
+
+		timer.stop();
+		timer.stop();
+
+		OperationStatistics statistics = recorder.getStatistics(OperationType.FIND, "people");
+
+		assertThat(statistics.getOperationCount()).isOne();
+		assertThat(statistics.getDocumentCount()).isOne();
+		assertThat(statistics.getConversionLatency().getCount()).isOne();
+	}
+
+	@Test
+	public void disabledTimerDoesNotRecord() {
+
+		OperationTimer timer = OperationTimer.start(null, OperationType.FIND, "people");
+
+		assertThat(timer).isSameAs(OperationTimer.disabled());
+		assertThat(timer.<Object> convert(new Document("_id", 1), it -> it.get("_id"))).isEqualTo(1);
+
+		timer.stop();
+	}
+
+	@Test
+	public void resetDiscardsStatistics() {
+
+		recorder.record(OperationType.FIND, "people", 100, 10, 2);
+		recorder.reset();
+
+		assertThat(recorder.getStatistics()).isEmpty();
+	}
+}
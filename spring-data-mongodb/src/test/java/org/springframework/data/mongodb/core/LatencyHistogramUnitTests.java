@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramUnitTests {
+
+	@Test
+	public void bucketBoundsContainTheirValues() {
+
+		for (long value : new long[] { 0, 1, 15, 16, 17, 31, 32, 1000, 123_456_789, Long.MAX_VALUE }) {
+
+			int index = LatencyHistogram.indexOf(value);
+
+			assertThat(LatencyHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(value);
+			assertThat(index == 0 ? -1 : LatencyHistogram.upperBoundOf(index - 1)).isLessThan(value);
+		}
+	}
+
+	@Test
+	public void percentilesStayWithinRelativeErrorBound() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		for (long i = 1; i <= 1000; i++) {
+			histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+		}
+
+		assertThat(histogram.getCount()).isEqualTo(1000);
+		assertThat(histogram.getMax()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1));
+		assertThat(histogram.getValueAtPercentile(50)).isBetween(500_000L, 500_000L + 500_000L / 16);
+		assertThat(histogram.getValueAtPercentile(99)).isBetween(990_000L, 990_000L + 990_000L / 16);
+		assertThat(histogram.getValueAtPercentile(100)).isEqualTo(histogram.getMax());
+		assertThat(histogram.getValueAtPercentile(100, TimeUnit.MILLISECONDS)).isEqualTo(1.0);
+	}
+
+	@Test
+	public void emptyHistogramReportsZero() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		assertThat(histogram.getValueAtPercentile(99)).isZero();
+		assertThat(histogram.getMean()).isZero();
+	}
+
+	@Test
+	public void recordsNegativeValuesAsZero() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-5);
+
+		assertThat(histogram.getCount()).isOne();
+		assertThat(histogram.getMax()).isZero();
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback;
+
+import com.mongodb.client.MongoCursor;
+
+/**
+ * Unit tests for {@link MergingCursorAdapter}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MergingCursorAdapterUnitTests {
+
+	@Mock PersistenceExceptionTranslator exceptionTranslator;
+
+	DocumentSortComparator comparator = new DocumentSortComparator(new Document("value", 1));
+	List<MongoCursor<Document>> cursors = new ArrayList<>();
+
+	@Test
+	public void mergesSortedCursors() {
+
+		MergingCursorAdapter<String> adapter = adapter(0, 0, cursor("a", 1, 4, 7), cursor("b", 2, 5), cursor("c", 3, 6, 8));
+
+		assertThat(drain(adapter)).containsExactly("a1", "b2", "c3", "a4", "b5", "c6", "a7", "c8");
+	}
+
+	@Test
+	public void returnsEqualDocumentsInCursorOrder() {
+
+		MergingCursorAdapter<String> adapter = adapter(0, 0, cursor("a", 1, 2), cursor("b", 1, 2));
+
+		assertThat(drain(adapter)).containsExactly("a1", "b1", "a2", "b2");
+	}
+
+	@Test
+	public void appliesSkipAndLimitToMergedResult() {
+
+		MergingCursorAdapter<String> adapter = adapter(2, 3, cursor("a", 1, 4, 7), cursor("b", 2, 5, 8));
+
+		assertThat(drain(adapter)).containsExactly("a4", "b5", "a7");
+	}
+
+	@Test
+	public void closesCursorsWhenReachingLimit() {
+
+		MergingCursorAdapter<String> adapter = adapter(0, 2, cursor("a", 1, 3, 5), cursor("b", 2, 4));
+
+		assertThat(drain(adapter)).containsExactly("a1", "b2");
+		cursors.forEach(it -> verify(it).close());
+	}
+
+	@Test
+	public void handlesEmptyCursors() {
+
+		MergingCursorAdapter<String> adapter = adapter(0, 0, cursor("a"), cursor("b", 1));
+
+		assertThat(drain(adapter)).containsExactly("b1");
+		assertThat(adapter.hasNext()).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void translatesCursorExceptions() {
+
+		MongoCursor<Document> cursor = mock(MongoCursor.class);
+		when(cursor.hasNext()).thenThrow(new IllegalStateException("connection lost"));
+		when(exceptionTranslator.translateExceptionIfPossible(any()))
+				.thenReturn(new DataAccessResourceFailureException("translated"));
+
+		MergingCursorAdapter<String> adapter = adapter(0, 0, cursor);
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class).isThrownBy(adapter::hasNext);
+	}
+
+	@SafeVarargs
+	private final MergingCursorAdapter<String> adapter(long skip, int limit, MongoCursor<Document>... cursors) {
+
+		List<DocumentCallback<String>> callbacks = new ArrayList<>();
+
+		for (MongoCursor<Document> cursor : cursors) {
+			callbacks.add(document -> document.getString("source") + document.getInteger("value"));
+		}
+
+		return new MergingCursorAdapter<>(Arrays.asList(cursors), callbacks, comparator, skip, limit, exceptionTranslator);
+	}
+
+	@SuppressWarnings("unchecked")
+	private MongoCursor<Document> cursor(String source, Integer... values) {
+
+		Iterator<Document> documents = Arrays.stream(values) //
+				.map(it -> new Document("source", source).append("value", it)) //
+				.iterator();
+
+		MongoCursor<Document> cursor = mock(MongoCursor.class);
+		when(cursor.hasNext()).thenAnswer(invocation -> documents.hasNext());
+		when(cursor.next()).thenAnswer(invocation -> documents.next());
+
+		cursors.add(cursor);
+		return cursor;
+	}
+
+	private static List<String> drain(MergingCursorAdapter<String> adapter) {
+
+		List<String> result = new ArrayList<>();
+		adapter.forEachRemaining(result::add);
+		return result;
+	}
+}
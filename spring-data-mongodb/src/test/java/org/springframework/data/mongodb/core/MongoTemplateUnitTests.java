@@ -25,15 +25,21 @@ import static org.springframework.data.mongodb.test.util.IsBsonObject.*;
 import lombok.Data;
 
 import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import org.bson.types.MaxKey;
 import org.bson.types.ObjectId;
 import org.hamcrest.collection.IsIterableContainingInOrder;
 import org.hamcrest.core.Is;
@@ -58,6 +64,7 @@ import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.geo.Point;
 import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
@@ -67,7 +74,10 @@ import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCre
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
 import org.springframework.data.mongodb.core.mapreduce.GroupBy;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
 import org.springframework.data.mongodb.core.query.BasicQuery;
@@ -76,6 +86,7 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.mongodb.DB;
@@ -85,6 +96,7 @@ import com.mongodb.MongoNamespace;
 import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.ClientSession;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MapReduceIterable;
 import com.mongodb.client.MongoCollection;
@@ -978,6 +990,320 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		verify(findIterable).projection(eq(new Document()));
 	}
 
+	@Test
+	public void streamMergedQueriesEachCollectionForSkipPlusLimit() {
+
+		when(findIterable.skip(anyInt())).thenReturn(findIterable);
+
+		Query query = new Query().with(Sort.by("firstname")).skip(2).limit(3);
+
+		template.streamMerged(query, Person.class, Arrays.asList("people-2020-01", "people-2020-02")).close();
+
+		verify(db).getCollection("people-2020-01", Document.class);
+		verify(db).getCollection("people-2020-02", Document.class);
+		verify(findIterable, times(2)).sort(new Document("firstname", 1));
+		verify(findIterable, times(2)).skip(0);
+		verify(findIterable, times(2)).limit(5);
+		verify(cursor, times(2)).close();
+	}
+
+	@Test
+	public void streamMergedAddsSortKeysToProjection() {
+
+		when(findIterable.skip(anyInt())).thenReturn(findIterable);
+
+		Query query = new Query().with(Sort.by("firstname"));
+		query.fields().include("id");
+
+		template.streamMerged(query, Person.class, Collections.singletonList("people")).close();
+
+		verify(findIterable).projection(new Document("_id", 1).append("firstname", 1));
+	}
+
+	@Test
+	public void streamMergedRemovesAddedSortKeysFromResults() {
+
+		when(findIterable.skip(anyInt())).thenReturn(findIterable);
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "id-1").append("firstname", "Dave"));
+
+		Query query = new Query().with(Sort.by("firstname"));
+		query.fields().include("id");
+
+		try (CloseableIterator<Person> result = template.streamMerged(query, Person.class,
+				Collections.singletonList("people"))) {
+
+			Person person = result.next();
+
+			assertThat(person.id, is("id-1"));
+			assertThat(person.firstname, is(nullValue()));
+		}
+	}
+
+	@Test
+	public void sessionBoundStreamMergedOpensCursorsOnCallingThread() {
+
+		ClientSession session = mock(ClientSession.class);
+		Executor executor = mock(Executor.class);
+
+		when(factory.withSession(session)).thenReturn(factory);
+		when(findIterable.skip(anyInt())).thenReturn(findIterable);
+
+		template.setMergeExecutor(executor);
+		template.withSession(session)
+				.streamMerged(new Query().with(Sort.by("firstname")), Person.class, Arrays.asList("people-1", "people-2"))
+				.close();
+
+		verifyZeroInteractions(executor);
+		verify(cursor, times(2)).close();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void streamMergedRejectsUnsortedQuery() {
+		template.streamMerged(new Query(), Person.class, Collections.singletonList("people"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void streamMergedRejectsQueryWithCollation() {
+
+		template.streamMerged(new Query().with(Sort.by("firstname")).collation(Collation.of("fr")), Person.class,
+				Collections.singletonList("people"));
+	}
+
+	@Test
+	public void parallelScanReadsBucketRangesUsingIndexBounds() {
+
+		when(aggregateIterable.into(any())).thenReturn(new ArrayList<>(Arrays.asList(
+				new Document("_id", new Document("min", "a").append("max", "m")),
+				new Document("_id", new Document("min", "m").append("max", "z")))));
+		when(findIterable.hint(any())).thenReturn(findIterable);
+		when(findIterable.min(any())).thenReturn(findIterable);
+		when(findIterable.max(any())).thenReturn(findIterable);
+
+		Query query = new Query(Criteria.where("firstname").is("luke"));
+
+		try (Stream<Person> stream = template.parallelScan(query, Person.class,
+				ParallelScanOptions.options().splitBy("id", new Document("id", 1)).partitions(2))) {
+			assertThat(stream.count(), is(0L));
+		}
+
+		verify(collection).aggregate(eq(Arrays.asList(new Document("$match", new Document("firstname", "luke")),
+				new Document("$bucketAuto", new Document("groupBy", "$_id").append("buckets", 2)))), eq(Document.class));
+		verify(findIterable, times(2)).hint(new Document("_id", 1));
+		verify(findIterable).max(new Document("_id", "m"));
+		verify(findIterable).min(new Document("_id", "m"));
+	}
+
+	@Test
+	public void parallelScanHintsGivenIndexWithMappedKeys() {
+
+		when(aggregateIterable.into(any())).thenReturn(new ArrayList<>(Arrays.asList(
+				new Document("_id", new Document("min", "a").append("max", "m")),
+				new Document("_id", new Document("min", "m").append("max", "z")))));
+		when(findIterable.hint(any())).thenReturn(findIterable);
+		when(findIterable.min(any())).thenReturn(findIterable);
+		when(findIterable.max(any())).thenReturn(findIterable);
+
+		try (Stream<Jedi> stream = template.parallelScan(new Query(), Jedi.class,
+				ParallelScanOptions.options().splitBy("name", new Document("name", 1).append("_id", -1)).partitions(2))) {
+			assertThat(stream.count(), is(0L));
+		}
+
+		verify(findIterable, times(2)).hint(new Document("firstname", 1).append("_id", -1));
+		verify(findIterable).max(new Document("firstname", "m").append("_id", new MaxKey()));
+		verify(findIterable).min(new Document("firstname", "m").append("_id", new MaxKey()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parallelScanRejectsCollectionSplitKey() {
+		template.parallelScan(new Query(), Padawan.class,
+				ParallelScanOptions.options().splitBy("skills", new Document("skills", 1)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parallelScanRejectsSortedQuery() {
+		template.parallelScan(new Query().with(Sort.by("firstname")), Person.class, ParallelScanOptions.options());
+	}
+
+	@Test
+	public void findAnswersRepeatedQueryFromQueryResultCache() {
+
+		template.setQueryResultCache(new QueryResultCache().cache("star-wars", Duration.ofMinutes(1), 10));
+
+		Query query = new Query(Criteria.where("firstname").is("luke"));
+		template.find(query, Person.class, "star-wars");
+		template.find(query, Person.class, "star-wars");
+		template.findOne(query, Person.class, "star-wars");
+		template.findOne(query, Person.class, "star-wars");
+
+		verify(collection, times(2)).find(any(org.bson.Document.class), any(Class.class));
+	}
+
+	@Test
+	public void writeInvalidatesQueryResultCache() {
+
+		template.setQueryResultCache(new QueryResultCache().cache("star-wars", Duration.ofMinutes(1), 10));
+
+		Query query = new Query(Criteria.where("firstname").is("luke"));
+		template.find(query, Person.class, "star-wars");
+		template.dropCollection("star-wars");
+		template.find(query, Person.class, "star-wars");
+
+		verify(collection, times(2)).find(any(org.bson.Document.class), any(Class.class));
+	}
+
+	@Test
+	public void bulkWriteInvalidatesQueryResultCache() {
+
+		template.setQueryResultCache(new QueryResultCache().cache("star-wars", Duration.ofMinutes(1), 10));
+
+		Query query = new Query(Criteria.where("firstname").is("luke"));
+		template.find(query, Person.class, "star-wars");
+		template.bulkOps(BulkMode.ORDERED, Person.class, "star-wars").insert(new Person()).execute();
+		template.find(query, Person.class, "star-wars");
+
+		verify(collection, times(2)).find(any(org.bson.Document.class), any(Class.class));
+	}
+
+	@Test
+	public void aggregationWithOutStageInvalidatesQueryResultCacheOfTargetCollection() {
+
+		template.setQueryResultCache(new QueryResultCache().cache("star-wars", Duration.ofMinutes(1), 10));
+
+		Query query = new Query(Criteria.where("firstname").is("luke"));
+		template.find(query, Person.class, "star-wars");
+		template.aggregate(newAggregation(match(Criteria.where("firstname").is("luke")), out("star-wars")), "people",
+				Person.class);
+		template.find(query, Person.class, "star-wars");
+
+		verify(collection, times(2)).find(any(org.bson.Document.class), any(Class.class));
+	}
+
+	@Test
+	public void mapReduceIntoCollectionInvalidatesQueryResultCacheOfOutputCollection() {
+
+		template.setQueryResultCache(new QueryResultCache().cache("star-wars", Duration.ofMinutes(1), 10));
+
+		Query query = new Query(Criteria.where("firstname").is("luke"));
+		template.find(query, Person.class, "star-wars");
+		template.mapReduce("people", "function() {}", "function(key, values) {}",
+				new MapReduceOptions().outputCollection("star-wars"), Person.class);
+		template.find(query, Person.class, "star-wars");
+
+		verify(collection, times(2)).find(any(org.bson.Document.class), any(Class.class));
+	}
+
+	@Test
+	public void afterLoadListenerDoesNotModifyCachedQueryResults() {
+
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "id-1").append("firstname", "luke"));
+
+		List<Object> loaded = new ArrayList<>();
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.refresh();
+		context.addApplicationListener(new AbstractMongoEventListener<Person>() {
+
+			@Override
+			public void onAfterLoad(AfterLoadEvent<Person> event) {
+
+				loaded.add(event.getDocument().get("firstname"));
+				event.getDocument().put("firstname", "vader");
+			}
+		});
+
+		template.setApplicationContext(context);
+		template.setQueryResultCache(new QueryResultCache().cache("star-wars", Duration.ofMinutes(1), 10));
+
+		Query query = new Query(Criteria.where("firstname").is("luke"));
+		template.find(query, Person.class, "star-wars");
+		template.find(query, Person.class, "star-wars");
+		template.find(query, Person.class, "star-wars");
+
+		verify(collection, times(1)).find(any(org.bson.Document.class), any(Class.class));
+		assertThat(loaded, contains("luke", "luke", "luke"));
+	}
+
+	@Test
+	public void callsOverriddenMaybeEmitEventWithoutListeners() {
+
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "id-1").append("firstname", "luke"));
+
+		List<Object> emitted = new ArrayList<>();
+
+		MongoTemplate template = new MongoTemplate(factory, converter) {
+
+			@Override
+			protected <E extends MongoMappingEvent<T>, T> E maybeEmitEvent(E event) {
+
+				emitted.add(event.getClass());
+				return super.maybeEmitEvent(event);
+			}
+		};
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.refresh();
+		template.setApplicationContext(context);
+
+		template.find(new Query(), Person.class, "star-wars");
+
+		assertThat(emitted, contains(AfterLoadEvent.class, AfterConvertEvent.class));
+	}
+
+	@Test
+	public void findReportsOperationMetricsToRecorder() {
+
+		when(cursor.hasNext()).thenReturn(true, true, false);
+		when(cursor.next()).thenReturn(new Document("_id", 1), new Document("_id", 2));
+
+		HistogramOperationMetricsRecorder recorder = new HistogramOperationMetricsRecorder();
+		template.setOperationMetricsRecorder(recorder);
+
+		template.find(new Query(), Document.class, "star-wars");
+
+		HistogramOperationMetricsRecorder.OperationStatistics statistics = recorder
+				.getStatistics(OperationMetricsRecorder.OperationType.FIND, "star-wars");
+
+		assertThat(statistics.getOperationCount(), is(1L));
+		assertThat(statistics.getDocumentCount(), is(2L));
+		assertThat(statistics.getConversionLatency().getCount(), is(1L));
+	}
+
+	@Test
+	public void queryResultCacheHitsReportOperationMetricsToRecorder() {
+
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new Document("_id", 1));
+
+		HistogramOperationMetricsRecorder recorder = new HistogramOperationMetricsRecorder();
+		template.setOperationMetricsRecorder(recorder);
+		template.setQueryResultCache(new QueryResultCache().cache("star-wars", Duration.ofMinutes(1), 10));
+
+		template.find(new Query(), Document.class, "star-wars");
+		template.find(new Query(), Document.class, "star-wars");
+		template.findOne(new Query(), Document.class, "star-wars");
+		template.findOne(new Query(), Document.class, "star-wars");
+
+		assertThat(recorder.getStatistics(OperationMetricsRecorder.OperationType.FIND, "star-wars").getOperationCount(),
+				is(2L));
+		assertThat(
+				recorder.getStatistics(OperationMetricsRecorder.OperationType.FIND_ONE, "star-wars").getOperationCount(),
+				is(2L));
+	}
+
+	@Test
+	public void findReportsSlowQueryShapeToRecorder() {
+
+		SlowQueryRecorder recorder = new SlowQueryRecorder(Duration.ZERO);
+		template.setSlowQueryRecorder(recorder);
+
+		template.find(new Query(Criteria.where("firstname").is("luke")), Person.class, "star-wars");
+
+		assertThat(recorder.getStatistics("star-wars", "{ \"firstname\" : \"?\" }").getCount(), is(1L));
+	}
+
 	@Test // DATAMONGO-2155
 	public void saveVersionedEntityShouldCallUpdateCorrectly() {
 
@@ -1062,6 +1388,13 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		@Field("firstname") String name;
 	}
 
+	@Data
+	static class Padawan {
+
+		@Id String id;
+		List<String> skills;
+	}
+
 	class Wrapper {
 
 		AutogenerateableId foo;
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.ClientSession;
+import com.mongodb.session.ServerSession;
+
+/**
+ * Unit tests for {@link MongoTransactionExecutor}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MongoTransactionExecutorUnitTests {
+
+	static final TransactionRetryPolicy POLICY = TransactionRetryPolicy.defaults().backoff(Duration.ZERO,
+			Duration.ZERO);
+
+	@Mock MongoDbFactory dbFactory;
+	@Mock ClientSession session;
+	@Mock ServerSession serverSession;
+
+	MongoTransactionExecutor executor;
+
+	@Before
+	public void setUp() {
+
+		when(dbFactory.getSession(any())).thenReturn(session);
+		when(session.getServerSession()).thenReturn(serverSession);
+
+		executor = new MongoTransactionExecutor(dbFactory, null, POLICY);
+	}
+
+	@After
+	public void verifyTransactionSynchronizationManager() {
+
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+		assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isFalse();
+	}
+
+	@Test
+	public void commitsTransaction() {
+
+		String result = executor.execute(status -> "result");
+
+		assertThat(result).isEqualTo("result");
+
+		verify(session).startTransaction();
+		verify(session).commitTransaction();
+		verify(session).close();
+
+		assertThat(executor.getMetrics().getTransactionCount()).isOne();
+		assertThat(executor.getMetrics().getTransactionRetryCount()).isZero();
+	}
+
+	@Test
+	public void retriesCallbackOnTransientTransactionError() {
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		String result = executor.execute(status -> {
+
+			if (attempts.incrementAndGet() < 3) {
+				throw labeled(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+			}
+
+			return "result";
+		});
+
+		assertThat(result).isEqualTo("result");
+		assertThat(attempts).hasValue(3);
+
+		verify(session, times(3)).startTransaction();
+		verify(session, times(2)).abortTransaction();
+		verify(session).commitTransaction();
+
+		assertThat(executor.getMetrics().getTransactionCount()).isOne();
+		assertThat(executor.getMetrics().getTransactionRetryCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void retriesOnlyCommitOnUnknownTransactionCommitResult() {
+
+		doThrow(labeled(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL)).doNothing().when(session)
+				.commitTransaction();
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		executor.execute(status -> attempts.incrementAndGet());
+
+		assertThat(attempts).hasValue(1);
+
+		verify(session).startTransaction();
+		verify(session, times(2)).commitTransaction();
+
+		assertThat(executor.getMetrics().getCommitRetryCount()).isOne();
+		assertThat(executor.getMetrics().getTransactionRetryCount()).isZero();
+	}
+
+	@Test
+	public void doesNotRetryNonTransientErrors() {
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatExceptionOfType(MongoException.class).isThrownBy(() -> executor.execute(status -> {
+
+			attempts.incrementAndGet();
+			throw new MongoException("o_O");
+		}));
+
+		assertThat(attempts).hasValue(1);
+		assertThat(executor.getMetrics().getTransactionRetryCount()).isZero();
+		assertThat(executor.getMetrics().getRetriesExhaustedCount()).isZero();
+	}
+
+	@Test
+	public void givesUpOnceMaxRetryTimeIsExceeded() {
+
+		executor = new MongoTransactionExecutor(dbFactory, null, POLICY.maxRetryTime(Duration.ZERO));
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatExceptionOfType(MongoException.class).isThrownBy(() -> executor.execute(status -> {
+
+			attempts.incrementAndGet();
+			throw labeled(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+		}));
+
+		assertThat(attempts).hasValue(1);
+		assertThat(executor.getMetrics().getRetriesExhaustedCount()).isOne();
+	}
+
+	@Test
+	public void givesUpCommitOnceMaxRetryTimeIsExceeded() {
+
+		executor = new MongoTransactionExecutor(dbFactory, null, POLICY.maxRetryTime(Duration.ZERO));
+
+		doThrow(labeled(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL)).when(session).commitTransaction();
+
+		assertThatExceptionOfType(TransactionSystemException.class).isThrownBy(() -> executor.execute(status -> "result"))
+				.withCauseInstanceOf(MongoException.class);
+
+		verify(session).commitTransaction();
+		assertThat(executor.getMetrics().getRetriesExhaustedCount()).isOne();
+	}
+
+	static MongoException labeled(String label) {
+
+		MongoException ex = new MongoException(label);
+		ex.addLabel(label);
+		return ex;
+	}
+}
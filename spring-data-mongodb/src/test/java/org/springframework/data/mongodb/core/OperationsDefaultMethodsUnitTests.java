@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+
+/**
+ * Unit tests for default methods of {@link MongoOperations} and {@link ReactiveMongoOperations}.
+ */
+public class OperationsDefaultMethodsUnitTests {
+
+	Query query = new Query().with(Sort.by("name"));
+
+	MongoOperations operations;
+	ReactiveMongoOperations reactiveOperations;
+
+	@Before
+	public void setUp() {
+
+		operations = mock(MongoOperations.class, CALLS_REAL_METHODS);
+		reactiveOperations = mock(ReactiveMongoOperations.class, CALLS_REAL_METHODS);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void streamMergedDelegatesToStreamForSingleCollection() {
+
+		CloseableIterator<Object> iterator = mock(CloseableIterator.class);
+		doReturn(iterator).when(operations).stream(query, Object.class, "people");
+
+		assertThat(operations.streamMerged(query, Object.class, Collections.singletonList("people"))).isSameAs(iterator);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void streamMergedRejectsMultipleCollections() {
+		operations.streamMerged(query, Object.class, Arrays.asList("people", "others"));
+	}
+
+	@Test
+	public void findMergedDelegatesToFindForSingleCollection() {
+
+		doReturn(Flux.just("luke")).when(reactiveOperations).find(query, Object.class, "people");
+
+		reactiveOperations.findMerged(query, Object.class, Collections.singletonList("people")) //
+				.as(StepVerifier::create) //
+				.expectNext("luke") //
+				.verifyComplete();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void parallelScanStreamsQueryResultsOfCollectionOfEntity() {
+
+		Query unsorted = new Query(Criteria.where("name").is("luke"));
+		Iterator<Object> results = Arrays.<Object> asList("luke", "leia").iterator();
+		CloseableIterator<Object> iterator = mock(CloseableIterator.class);
+
+		when(iterator.hasNext()).then(invocation -> results.hasNext());
+		when(iterator.next()).then(invocation -> results.next());
+		doReturn("people").when(operations).getCollectionName(Object.class);
+		doReturn(iterator).when(operations).stream(unsorted, Object.class, "people");
+
+		try (Stream<Object> stream = operations.parallelScan(unsorted, Object.class, ParallelScanOptions.options())) {
+
+			assertThat(stream.isParallel()).isTrue();
+			assertThat(stream).containsExactlyInAnyOrder("luke", "leia");
+		}
+
+		verify(iterator).close();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parallelScanRejectsSortedQuery() {
+		operations.parallelScan(query, Object.class, "people", ParallelScanOptions.options());
+	}
+
+	@Test
+	public void reactiveParallelScanFindsQueryResultsOfCollectionOfEntity() {
+
+		Query unsorted = new Query(Criteria.where("name").is("luke"));
+
+		doReturn("people").when(reactiveOperations).getCollectionName(Object.class);
+		doReturn(Flux.just("luke")).when(reactiveOperations).find(unsorted, Object.class, "people");
+
+		reactiveOperations.parallelScan(unsorted, Object.class, ParallelScanOptions.options()) //
+				.as(StepVerifier::create) //
+				.expectNext("luke") //
+				.verifyComplete();
+	}
+
+	@Test
+	public void findMergedRejectsMultipleCollections() {
+
+		reactiveOperations.findMerged(query, Object.class, Arrays.asList("people", "others")) //
+				.as(StepVerifier::create) //
+				.verifyError(UnsupportedOperationException.class);
+	}
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.bson.Document;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * Unit tests for {@link QueryResultCache}.
+ */
+public class QueryResultCacheUnitTests {
+
+	MutableClock clock = new MutableClock();
+	QueryResultCache cache = new QueryResultCache(clock).cache("people", Duration.ofSeconds(10), 2);
+	AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	public void returnsCachedDocumentsForSameQuery() {
+
+		List<Document> first = cache.getOrLoad(key("people", "luke"), this::load);
+		List<Document> second = cache.getOrLoad(key("people", "luke"), this::load);
+
+		assertThat(second).isEqualTo(first);
+		assertThat(loads).hasValue(1);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getHitRatio()).isEqualTo(0.5);
+	}
+
+	@Test
+	public void returnsCopiesOfCachedDocuments() {
+
+		cache.getOrLoad(key("people", "luke"), this::load).get(0).put("_id", "modified");
+		cache.getOrLoad(key("people", "luke"), this::load).get(0).put("_id", "modified");
+
+		assertThat(cache.getOrLoad(key("people", "luke"), this::load)).containsExactly(new Document("_id", 1));
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	public void distinguishesQueriesBySortAndSkip() {
+
+		cache.getOrLoad(key("people", "luke"), this::load);
+		cache.getOrLoad(QueryResultCache.key("people", "find", new Document("name", "luke"), new Document(),
+				new Query().with(Sort.by("name")), null, null), this::load);
+		cache.getOrLoad(QueryResultCache.key("people", "find", new Document("name", "luke"), new Document(),
+				new Query().skip(1), null, null), this::load);
+
+		assertThat(loads).hasValue(3);
+	}
+
+	@Test
+	public void answersRegexQueriesFromCache() {
+
+		cache.getOrLoad(key("people", new Document("name", Pattern.compile("^lu", Pattern.CASE_INSENSITIVE))), this::load);
+		cache.getOrLoad(key("people", new Document("name", Pattern.compile("^lu", Pattern.CASE_INSENSITIVE))), this::load);
+		cache.getOrLoad(key("people", new Document("name", Pattern.compile("^lu"))), this::load);
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	public void distinguishesQueriesByValueType() {
+
+		cache.getOrLoad(key("people", new Document("age", 1)), this::load);
+		cache.getOrLoad(key("people", new Document("age", 1L)), this::load);
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	public void doesNotCacheQueriesWithValuesThatCannotBeEncoded() {
+
+		cache.getOrLoad(key("people", new Document("name", new Object())), this::load);
+		cache.getOrLoad(key("people", new Document("name", new Object())), this::load);
+
+		assertThat(loads).hasValue(2);
+		assertThat(cache.getMissCount()).isZero();
+	}
+
+	@Test
+	public void loadsQueriesOnUncachedCollectionsEveryTime() {
+
+		cache.getOrLoad(key("planets", "tatooine"), this::load);
+		cache.getOrLoad(key("planets", "tatooine"), this::load);
+
+		assertThat(loads).hasValue(2);
+		assertThat(cache.getMissCount()).isZero();
+		assertThat(cache.isCached("planets")).isFalse();
+	}
+
+	@Test
+	public void expiresEntriesAfterTimeToLive() {
+
+		cache.getOrLoad(key("people", "luke"), this::load);
+		clock.advance(Duration.ofSeconds(10));
+		cache.getOrLoad(key("people", "luke"), this::load);
+
+		assertThat(loads).hasValue(2);
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedEntryBeyondMaximumSize() {
+
+		cache.getOrLoad(key("people", "luke"), this::load);
+		cache.getOrLoad(key("people", "leia"), this::load);
+		cache.getOrLoad(key("people", "luke"), this::load);
+		cache.getOrLoad(key("people", "han"), this::load);
+
+		assertThat(loads).hasValue(3);
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+		cache.getOrLoad(key("people", "luke"), this::load);
+		cache.getOrLoad(key("people", "leia"), this::load);
+
+		assertThat(loads).hasValue(4);
+	}
+
+	@Test
+	public void invalidateRemovesEntriesOfCollection() {
+
+		cache.getOrLoad(key("people", "luke"), this::load);
+		cache.invalidate("people");
+		cache.getOrLoad(key("people", "luke"), this::load);
+
+		assertThat(loads).hasValue(2);
+		assertThat(cache.getInvalidationCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void doesNotCacheResultLoadedWhileInvalidated() {
+
+		cache.getOrLoad(key("people", "luke"), () -> {
+
+			cache.invalidate("people");
+			return load();
+		});
+		cache.getOrLoad(key("people", "luke"), this::load);
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void invalidatesOnChangeEvents() {
+
+		MessageListenerContainer container = mock(MessageListenerContainer.class);
+		ArgumentCaptor<ChangeStreamRequest<Document>> request = ArgumentCaptor.forClass(ChangeStreamRequest.class);
+
+		assertThat(cache.invalidateOnChange(container)).hasSize(1);
+		verify(container).register(request.capture(), eq(Document.class), any(ErrorHandler.class));
+		assertThat(request.getValue().getRequestOptions().getCollectionName()).isEqualTo("people");
+
+		cache.getOrLoad(key("people", "luke"), this::load);
+		request.getValue().getMessageListener().onMessage(mock(Message.class));
+		cache.getOrLoad(key("people", "luke"), this::load);
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	public void stopsCachingCollectionWhenChangeStreamFails() {
+
+		MessageListenerContainer container = mock(MessageListenerContainer.class);
+		ArgumentCaptor<ErrorHandler> errorHandler = ArgumentCaptor.forClass(ErrorHandler.class);
+
+		cache.invalidateOnChange(container);
+		verify(container).register(any(), eq(Document.class), errorHandler.capture());
+
+		cache.getOrLoad(key("people", "luke"), this::load);
+		errorHandler.getValue().handleError(new IllegalStateException("cursor killed"));
+		cache.getOrLoad(key("people", "luke"), this::load);
+		cache.getOrLoad(key("people", "luke"), this::load);
+
+		assertThat(cache.isCached("people")).isFalse();
+		assertThat(loads).hasValue(3);
+	}
+
+	@Test
+	public void rejectsInvalidConfiguration() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> cache.cache("people", Duration.ZERO, 1));
+		assertThatIllegalArgumentException().isThrownBy(() -> cache.cache("people", Duration.ofSeconds(1), 0));
+	}
+
+	private List<Document> load() {
+
+		loads.incrementAndGet();
+		return Collections.singletonList(new Document("_id", loads.get()));
+	}
+
+	private static QueryResultCache.Key key(String collectionName, String name) {
+		return key(collectionName, new Document("name", name));
+	}
+
+	private static QueryResultCache.Key key(String collectionName, Document query) {
+		return QueryResultCache.key(collectionName, "find", query, new Document(), null, null, null);
+	}
+
+	static class MutableClock extends Clock {
+
+		private Instant instant = Instant.EPOCH;
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.bson.Document;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback;
+
+import com.mongodb.client.MongoCursor;
+
+/**
+ * Unit tests for {@link RangeScanSpliterator}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RangeScanSpliteratorUnitTests {
+
+	@Mock PersistenceExceptionTranslator exceptionTranslator;
+
+	DocumentCallback<Integer> callback = document -> document.getInteger("value");
+	Map<ScanRange, MongoCursor<Document>> cursors = new ConcurrentHashMap<>();
+
+	@Test
+	public void readsAllRangesInParallel() {
+
+		List<ScanRange> ranges = ranges(8);
+		RangeScanSpliterator<Integer> spliterator = new RangeScanSpliterator<>(ranges, range -> cursor(range, 100),
+				callback, exceptionTranslator);
+
+		try (Stream<Integer> stream = StreamSupport.stream(spliterator, true).onClose(spliterator::close)) {
+			assertThat(stream.collect(Collectors.toList())).hasSize(800);
+		}
+
+		assertThat(cursors).hasSize(8);
+		cursors.values().forEach(it -> verify(it).close());
+	}
+
+	@Test
+	public void splitsUnopenedRanges() {
+
+		RangeScanSpliterator<Integer> spliterator = new RangeScanSpliterator<>(ranges(4), range -> cursor(range, 1),
+				callback, exceptionTranslator);
+
+		assertThat(spliterator.trySplit()).isNotNull();
+		assertThat(spliterator.trySplit()).isNotNull();
+		assertThat(spliterator.trySplit()).isNull();
+	}
+
+	@Test
+	public void handsOverRemainingRangesWhileReading() {
+
+		RangeScanSpliterator<Integer> spliterator = new RangeScanSpliterator<>(ranges(2), range -> cursor(range, 2),
+				callback, exceptionTranslator);
+
+		assertThat(spliterator.tryAdvance(it -> {})).isTrue();
+		assertThat(spliterator.trySplit()).isNotNull();
+		assertThat(spliterator.trySplit()).isNull();
+	}
+
+	@Test
+	public void closeClosesOpenCursorsAndStopsReading() {
+
+		RangeScanSpliterator<Integer> spliterator = new RangeScanSpliterator<>(ranges(2), range -> cursor(range, 5),
+				callback, exceptionTranslator);
+
+		spliterator.tryAdvance(it -> {});
+		spliterator.close();
+
+		assertThat(spliterator.tryAdvance(it -> {})).isFalse();
+		assertThat(cursors).hasSize(1);
+		cursors.values().forEach(it -> verify(it).close());
+	}
+
+	@Test
+	public void translatesExceptions() {
+
+		when(exceptionTranslator.translateExceptionIfPossible(any()))
+				.thenReturn(new DataAccessResourceFailureException("translated"));
+
+		RangeScanSpliterator<Integer> spliterator = new RangeScanSpliterator<>(ranges(1), range -> {
+			throw new IllegalStateException("no such index");
+		}, callback, exceptionTranslator);
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class)
+				.isThrownBy(() -> spliterator.tryAdvance(it -> {}));
+	}
+
+	private static List<ScanRange> ranges(int count) {
+
+		List<Document> buckets = new ArrayList<>();
+
+		for (int i = 0; i < count; i++) {
+			buckets.add(new Document("_id", new Document("min", i).append("max", i + 1)));
+		}
+
+		Document indexKeys = new Document("_id", 1);
+		return count == 1 ? ScanRange.of(indexKeys, Collections.emptyList()) : ScanRange.of(indexKeys, buckets);
+	}
+
+	@SuppressWarnings("unchecked")
+	private MongoCursor<Document> cursor(ScanRange range, int count) {
+
+		Iterator<Document> documents = IntStream.range(0, count).mapToObj(it -> new Document("value", it)).iterator();
+
+		MongoCursor<Document> cursor = mock(MongoCursor.class);
+		when(cursor.hasNext()).thenAnswer(invocation -> documents.hasNext());
+		when(cursor.next()).thenAnswer(invocation -> documents.next());
+
+		cursors.put(range, cursor);
+		return cursor;
+	}
+}
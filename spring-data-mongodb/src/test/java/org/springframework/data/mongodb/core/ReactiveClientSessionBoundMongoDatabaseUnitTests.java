@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.reactivestreams.client.ClientSession;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+/**
+ * Unit tests for {@link ReactiveClientSessionBoundMongoDatabase} and
+ * {@link ReactiveClientSessionBoundMongoCollection}.
+ *
+ * @since 2.2
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveClientSessionBoundMongoDatabaseUnitTests {
+
+	@Mock ClientSession session;
+	@Mock MongoDatabase targetDatabase;
+	@Mock MongoCollection<Document> targetCollection;
+
+	MongoDatabase database;
+	MongoCollection<Document> collection;
+
+	@Before
+	public void setUp() {
+
+		database = new ReactiveClientSessionBoundMongoDatabase(session, targetDatabase);
+		collection = new ReactiveClientSessionBoundMongoCollection<>(session, targetCollection);
+	}
+
+	@Test
+	public void databaseInvokesMethodWithSession() {
+
+		database.createCollection("test");
+
+		verify(targetDatabase).createCollection(eq(session), eq("test"));
+	}
+
+	@Test
+	public void databaseBindsCollectionToSession() {
+
+		when(targetDatabase.getCollection("test", Document.class)).thenReturn(targetCollection);
+
+		MongoCollection<Document> boundCollection = database.getCollection("test", Document.class);
+		boundCollection.find();
+
+		assertThat(boundCollection).isInstanceOf(ReactiveClientSessionBoundMongoCollection.class);
+		verify(targetCollection).find(eq(session));
+	}
+
+	@Test
+	public void collectionInvokesMethodWithSession() {
+
+		Document document = new Document("name", "foo");
+		collection.insertOne(document);
+
+		verify(targetCollection).insertOne(eq(session), eq(document));
+	}
+
+	@Test
+	public void collectionBindsDerivedCollectionToSession() {
+
+		MongoCollection<Document> otherCollection = mock(MongoCollection.class);
+		when(targetCollection.withReadConcern(ReadConcern.MAJORITY)).thenReturn(otherCollection);
+
+		collection.withReadConcern(ReadConcern.MAJORITY).countDocuments();
+
+		verify(otherCollection).countDocuments(eq(session));
+	}
+}
@@ -21,9 +21,13 @@ import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.any;
 
 import lombok.Data;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -38,9 +42,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplateUnitTests.AutogenerateableId;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
@@ -155,6 +161,67 @@ public class ReactiveMongoTemplateUnitTests {
 		verify(findPublisher).batchSize(1234);
 	}
 
+	@Test
+	public void findReportsOperationMetricsOnCompletion() {
+
+		doAnswer(invocation -> {
+
+			Flux.just(new Document("_id", 1), new Document("_id", 2)).subscribe(invocation.<Subscriber> getArgument(0));
+			return null;
+		}).when(findPublisher).subscribe(any());
+
+		HistogramOperationMetricsRecorder recorder = new HistogramOperationMetricsRecorder();
+		template.setOperationMetricsRecorder(recorder);
+
+		template.find(new Query(), Document.class, "star-wars").as(StepVerifier::create).expectNextCount(2)
+				.verifyComplete();
+
+		HistogramOperationMetricsRecorder.OperationStatistics statistics = recorder
+				.getStatistics(OperationMetricsRecorder.OperationType.FIND, "star-wars");
+
+		assertThat(statistics.getOperationCount(), is(1L));
+		assertThat(statistics.getDocumentCount(), is(2L));
+	}
+
+	@Test
+	public void explainsSlowQueriesWithoutBlocking() {
+
+		doAnswer(invocation -> {
+
+			Flux.just(new Document("_id", 1)).subscribe(invocation.<Subscriber> getArgument(0));
+			return null;
+		}).when(findPublisher).subscribe(any());
+
+		SlowQueryRecorder recorder = new SlowQueryRecorder(Duration.ZERO);
+		recorder.setExplainExecutor(Runnable::run);
+		template.setSlowQueryRecorder(recorder);
+
+		template.find(new Query(), Document.class, "star-wars").as(StepVerifier::create).expectNextCount(1)
+				.expectComplete().verify(Duration.ofSeconds(5));
+
+		verify(db).runCommand(any(Document.class), eq(Document.class));
+		verify(runCommandPublisher).subscribe(any());
+	}
+
+	@Test
+	public void findMergedQueriesEachCollectionForSkipPlusLimit() {
+
+		when(findPublisher.sort(any())).thenReturn(findPublisher);
+		when(findPublisher.skip(anyInt())).thenReturn(findPublisher);
+
+		Query query = new Query().with(Sort.by("firstname")).skip(2).limit(3);
+		template.findMerged(query, Person.class, Arrays.asList("people-2020-01", "people-2020-02")).subscribe();
+
+		verify(collection, times(2)).find(any(Document.class), eq(Document.class));
+		verify(findPublisher, times(2)).skip(0);
+		verify(findPublisher, times(2)).limit(5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void findMergedRejectsUnsortedQuery() {
+		template.findMerged(new Query(), Person.class, Collections.singletonList("people"));
+	}
+
 	@Test // DATAMONGO-1518
 	public void findShouldUseCollationWhenPresent() {
 
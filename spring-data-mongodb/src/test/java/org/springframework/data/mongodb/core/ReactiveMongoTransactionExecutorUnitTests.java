@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+
+import com.mongodb.MongoException;
+import com.mongodb.reactivestreams.client.ClientSession;
+
+/**
+ * Unit tests for {@link ReactiveMongoTransactionExecutor}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveMongoTransactionExecutorUnitTests {
+
+	static final TransactionRetryPolicy POLICY = TransactionRetryPolicy.defaults().backoff(Duration.ZERO,
+			Duration.ZERO);
+
+	@Mock ReactiveMongoTemplate template;
+	@Mock ReactiveMongoOperations operations;
+	@Mock ReactiveMongoDatabaseFactory factory;
+	@Mock ClientSession session;
+
+	ReactiveMongoTransactionExecutor executor;
+
+	@Before
+	public void setUp() {
+
+		when(template.getMongoDatabaseFactory()).thenReturn(factory);
+		when(template.withSession(session)).thenReturn(operations);
+		when(factory.getSession(any())).thenReturn(Mono.just(session));
+
+		executor = new ReactiveMongoTransactionExecutor(template, null, POLICY);
+	}
+
+	@Test
+	public void emitsResultAfterCommit() {
+
+		when(session.commitTransaction()).thenReturn(Mono.empty());
+
+		executor.execute(action -> Mono.just("result")) //
+				.as(StepVerifier::create) //
+				.expectNext("result") //
+				.verifyComplete();
+
+		verify(session).startTransaction();
+		verify(session).commitTransaction();
+		verify(session).close();
+
+		assertThat(executor.getMetrics().getTransactionCount()).isOne();
+	}
+
+	@Test
+	public void retriesCallbackOnTransientTransactionError() {
+
+		when(session.commitTransaction()).thenReturn(Mono.empty());
+		when(session.hasActiveTransaction()).thenReturn(true);
+		when(session.abortTransaction()).thenReturn(Mono.empty());
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		executor.execute(action -> Mono.fromCallable(() -> {
+
+			if (attempts.incrementAndGet() < 3) {
+				throw MongoTransactionExecutorUnitTests.labeled(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+			}
+
+			return "result";
+		})).as(StepVerifier::create) //
+				.expectNext("result") //
+				.verifyComplete();
+
+		verify(session, times(3)).startTransaction();
+		verify(session, times(2)).abortTransaction();
+		verify(session).commitTransaction();
+		verify(session).close();
+
+		assertThat(executor.getMetrics().getTransactionRetryCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void retriesOnlyCommitOnUnknownTransactionCommitResult() {
+
+		when(session.commitTransaction()).thenReturn(
+				Mono.error(MongoTransactionExecutorUnitTests.labeled(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL)),
+				Mono.empty());
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		executor.execute(action -> Mono.fromCallable(attempts::incrementAndGet)) //
+				.as(StepVerifier::create) //
+				.expectNext(1) //
+				.verifyComplete();
+
+		verify(session).startTransaction();
+		verify(session, times(2)).commitTransaction();
+
+		assertThat(executor.getMetrics().getCommitRetryCount()).isOne();
+		assertThat(executor.getMetrics().getTransactionRetryCount()).isZero();
+	}
+
+	@Test
+	public void givesUpOnceMaxRetryTimeIsExceeded() {
+
+		when(session.hasActiveTransaction()).thenReturn(true);
+		when(session.abortTransaction()).thenReturn(Mono.empty());
+
+		executor = new ReactiveMongoTransactionExecutor(template, null, POLICY.maxRetryTime(Duration.ZERO));
+
+		executor.execute(
+				action -> Mono.error(MongoTransactionExecutorUnitTests.labeled(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL)))
+				.as(StepVerifier::create) //
+				.verifyError(MongoException.class);
+
+		verify(session).startTransaction();
+		verify(session).close();
+
+		assertThat(executor.getMetrics().getRetriesExhaustedCount()).isOne();
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.MaxKey;
+import org.bson.types.MinKey;
+import org.junit.Test;
+
+import com.mongodb.client.FindIterable;
+
+/**
+ * Unit tests for {@link ScanRange}.
+ */
+public class ScanRangeUnitTests {
+
+	@Test
+	public void createsBoundaryPipeline() {
+
+		assertThat(ScanRange.boundaryPipeline(new Document(), "_id", 4)).containsExactly(
+				new Document("$bucketAuto", new Document("groupBy", "$_id").append("buckets", 4)));
+
+		assertThat(ScanRange.boundaryPipeline(new Document("status", "A"), "_id", 4)).containsExactly(
+				new Document("$match", new Document("status", "A")),
+				new Document("$bucketAuto", new Document("groupBy", "$_id").append("buckets", 4)));
+	}
+
+	@Test
+	public void createsOpenEndedRangesFromBucketBoundaries() {
+
+		List<ScanRange> ranges = ScanRange.of(new Document("_id", 1),
+				Arrays.asList(bucket(1, 10), bucket(10, 20), bucket(20, 30)));
+
+		assertThat(ranges).hasSize(3);
+		assertThat(ranges.get(0).getMin()).isNull();
+		assertThat(ranges.get(0).getMax()).isEqualTo(new Document("_id", 10));
+		assertThat(ranges.get(1).getMin()).isEqualTo(new Document("_id", 10));
+		assertThat(ranges.get(1).getMax()).isEqualTo(new Document("_id", 20));
+		assertThat(ranges.get(2).getMin()).isEqualTo(new Document("_id", 20));
+		assertThat(ranges.get(2).getMax()).isNull();
+	}
+
+	@Test
+	public void createsSingleUnboundedRangeWithoutBuckets() {
+
+		List<ScanRange> ranges = ScanRange.of(new Document("_id", 1), Collections.emptyList());
+
+		assertThat(ranges).hasSize(1);
+		assertThat(ranges.get(0).getMin()).isNull();
+		assertThat(ranges.get(0).getMax()).isNull();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void appliesIndexBoundsAndHint() {
+
+		FindIterable<Document> iterable = mock(FindIterable.class);
+		when(iterable.hint(any())).thenReturn(iterable);
+		when(iterable.min(any())).thenReturn(iterable);
+
+		ScanRange.of(new Document("ts", 1), Arrays.asList(bucket(1, 10), bucket(10, 20))).get(1).apply(iterable);
+
+		verify(iterable).hint(new Document("ts", 1));
+		verify(iterable).min(new Document("ts", 10));
+		verify(iterable, never()).max(any());
+	}
+
+	@Test
+	public void boundsTrailingKeysOfCompoundIndexByLowestValueInIndexOrder() {
+
+		Document indexKeys = new Document("ts", 1).append("status", 1).append("priority", -1);
+
+		ScanRange range = ScanRange.of(indexKeys, Arrays.asList(bucket(1, 10), bucket(10, 20), bucket(20, 30))).get(1);
+
+		assertThat(range.getMin())
+				.isEqualTo(new Document("ts", 10).append("status", new MinKey()).append("priority", new MaxKey()));
+		assertThat(range.getMax())
+				.isEqualTo(new Document("ts", 20).append("status", new MinKey()).append("priority", new MaxKey()));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void hintsGivenIndex() {
+
+		FindIterable<Document> iterable = mock(FindIterable.class);
+		when(iterable.hint(any())).thenReturn(iterable);
+
+		Document indexKeys = new Document("ts", 1).append("status", 1);
+
+		ScanRange.of(indexKeys, Collections.emptyList()).get(0).apply(iterable);
+
+		verify(iterable).hint(indexKeys);
+		verify(iterable, never()).min(any());
+		verify(iterable, never()).max(any());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsIndexNotLeadingWithSplitKey() {
+		ParallelScanOptions.options().splitBy("ts", new Document("status", 1).append("ts", 1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsDescendingSplitKey() {
+		ParallelScanOptions.options().splitBy("ts", new Document("ts", -1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNonDirectionalIndexKeys() {
+		ParallelScanOptions.options().splitBy("ts", new Document("ts", 1).append("status", "hashed"));
+	}
+
+	private static Document bucket(Object min, Object max) {
+		return new Document("_id", new Document("min", min).append("max", max)).append("count", 1);
+	}
+}
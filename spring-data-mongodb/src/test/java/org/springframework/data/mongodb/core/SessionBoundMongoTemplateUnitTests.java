@@ -19,6 +19,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.data.mongodb.test.util.Assertions.*;
 
 import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.Collections;
 
 import org.bson.Document;
@@ -356,4 +357,19 @@ public class SessionBoundMongoTemplateUnitTests {
 
 		verify(database).runCommand(eq(clientSession), any());
 	}
+
+	@Test
+	public void explainsSlowQueriesWithoutSession() {
+
+		SlowQueryRecorder recorder = new SlowQueryRecorder(Duration.ZERO);
+		recorder.setExplainExecutor(Runnable::run);
+
+		MongoTemplate mongoTemplate = new MongoTemplate(factory, converter);
+		mongoTemplate.setSlowQueryRecorder(recorder);
+
+		new SessionBoundMongoTemplate(clientSession, mongoTemplate).find(new Query(), Document.class, COLLECTION_NAME);
+
+		verify(database).runCommand(any(Document.class), eq(Document.class));
+		verify(database, never()).runCommand(any(ClientSession.class), any(), any(Class.class));
+	}
 }
@@ -18,26 +18,24 @@ package org.springframework.data.mongodb.core;
 import static org.assertj.core.api.Assertions.*;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.util.ReflectionTestUtils.*;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Proxy;
-
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
-import org.springframework.aop.framework.AopProxyUtils;
 import org.springframework.data.mongodb.MongoDbFactory;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import com.mongodb.ClientSessionOptions;
 import com.mongodb.MongoClient;
 import com.mongodb.MongoClientURI;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.ClientSession;
+import com.mongodb.session.ServerSession;
 
 /**
  * Unit tests for {@link SimpleMongoDbFactory}.
@@ -100,12 +98,26 @@ public class SimpleMongoDbFactoryUnitTests {
 		MongoDbFactory factory = new SimpleMongoDbFactory(mongo, "foo");
 		MongoDbFactory wrapped = factory.withSession(clientSession).withSession(clientSession);
 
-		InvocationHandler invocationHandler = Proxy.getInvocationHandler(wrapped.getDb());
+		assertThat(((ClientSessionBoundMongoDatabase) wrapped.getDb()).getDelegate(), is(sameInstance(database)));
+	}
+
+	@Test
+	public void leasesPooledSessions() {
+
+		ServerSession serverSession = mock(ServerSession.class);
+		when(mongo.startSession(any())).thenReturn(clientSession);
+		when(clientSession.getServerSession()).thenReturn(serverSession);
+		when(clientSession.getOptions()).thenReturn(ClientSessionOptions.builder().build());
+
+		SimpleMongoDbFactory factory = new SimpleMongoDbFactory(mongo, "foo");
+		factory.setSessionPoolOptions(ClientSessionPoolOptions.defaults());
 
-		Object singletonTarget = AopProxyUtils
-				.getSingletonTarget(ReflectionTestUtils.getField(invocationHandler, "advised"));
+		factory.getSession(ClientSessionOptions.builder().build()).close();
+		ClientSession session = factory.getSession(ClientSessionOptions.builder().build());
 
-		assertThat(singletonTarget, is(sameInstance(database)));
+		assertThat(session.getServerSession(), is(sameInstance(serverSession)));
+		verify(mongo, times(1)).startSession(any());
+		verify(clientSession, never()).close();
 	}
 
 	private void rejectsDatabaseName(String databaseName) {
@@ -18,22 +18,22 @@ package org.springframework.data.mongodb.core;
 import static org.assertj.core.api.Assertions.*;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Proxy;
+import reactor.core.publisher.Mono;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
-import org.springframework.aop.framework.AopProxyUtils;
 import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import com.mongodb.ClientSessionOptions;
 import com.mongodb.reactivestreams.client.ClientSession;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoDatabase;
+import com.mongodb.session.ServerSession;
 
 /**
  * Unit tests for {@link SimpleReactiveMongoDatabaseFactory}.
@@ -55,12 +55,7 @@ public class SimpleReactiveMongoDatabaseFactoryUnitTests {
 		ReactiveMongoDatabaseFactory factory = new SimpleReactiveMongoDatabaseFactory(mongoClient, "foo");
 		ReactiveMongoDatabaseFactory wrapped = factory.withSession(clientSession).withSession(clientSession);
 
-		InvocationHandler invocationHandler = Proxy.getInvocationHandler(wrapped.getMongoDatabase());
-
-		Object singletonTarget = AopProxyUtils
-				.getSingletonTarget(ReflectionTestUtils.getField(invocationHandler, "advised"));
-
-		assertThat(singletonTarget, is(sameInstance(database)));
+		assertThat(((ReactiveClientSessionBoundMongoDatabase) wrapped.getMongoDatabase()).getDelegate(), is(sameInstance(database)));
 	}
 
 	@Test // DATAMONGO-1903
@@ -74,6 +69,25 @@ public class SimpleReactiveMongoDatabaseFactoryUnitTests {
 		rejectsDatabaseName("foo\"bar");
 	}
 
+	@Test
+	public void leasesPooledSessions() {
+
+		ServerSession serverSession = mock(ServerSession.class);
+		when(mongoClient.startSession(any())).thenReturn(Mono.just(clientSession));
+		when(clientSession.getServerSession()).thenReturn(serverSession);
+		when(clientSession.getOptions()).thenReturn(ClientSessionOptions.builder().build());
+
+		SimpleReactiveMongoDatabaseFactory factory = new SimpleReactiveMongoDatabaseFactory(mongoClient, "foo");
+		factory.setSessionPoolOptions(ClientSessionPoolOptions.defaults());
+
+		factory.getSession(ClientSessionOptions.builder().build()).block().close();
+		ClientSession session = factory.getSession(ClientSessionOptions.builder().build()).block();
+
+		assertThat(session.getServerSession(), is(sameInstance(serverSession)));
+		verify(mongoClient, times(1)).startSession(any());
+		verify(clientSession, never()).close();
+	}
+
 	private void rejectsDatabaseName(String databaseName) {
 		assertThatThrownBy(() -> new SimpleReactiveMongoDatabaseFactory(mongoClient, databaseName))
 				.isInstanceOf(IllegalArgumentException.class);
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.Document;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.SlowQueryRecorder.SlowQueryStatistics;
+
+/**
+ * Unit tests for {@link SlowQueryRecorder}.
+ */
+public class SlowQueryRecorderUnitTests {
+
+	static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+	SlowQueryRecorder recorder = new SlowQueryRecorder(Duration.ofMillis(100), 2);
+
+	@Test
+	public void shapeStripsValues() {
+
+		Document query = new Document("lastname", "Skywalker") //
+				.append("age", new Document("$gt", 18).append("$lt", 99)) //
+				.append("$or", Arrays.asList(new Document("firstname", "Luke"), new Document("firstname", "Anakin"))) //
+				.append("tags", new Document("$in", Arrays.asList("jedi", "sith")));
+
+		assertThat(SlowQueryRecorder.shapeOf(query)).isEqualTo(new Document("lastname", "?") //
+				.append("age", new Document("$gt", "?").append("$lt", "?")) //
+				.append("$or", Arrays.asList(new Document("firstname", "?"), new Document("firstname", "?"))) //
+				.append("tags", new Document("$in", "?")));
+	}
+
+	@Test
+	public void groupsQueriesByShapeAboveThreshold() {
+
+		recorder.record("people", new Document("lastname", "Skywalker"), SLOW, Document::new);
+		recorder.record("people", new Document("lastname", "Solo"), SLOW * 2, Document::new);
+		recorder.record("people", new Document("lastname", "Organa"), 1, Document::new);
+
+		SlowQueryStatistics statistics = recorder.getStatistics("people", "{ \"lastname\" : \"?\" }");
+
+		assertThat(statistics.getCount()).isEqualTo(2);
+		assertThat(statistics.getTotalLatency()).isEqualTo(SLOW * 3);
+		assertThat(statistics.getLatency().getValueAtPercentile(99)).isEqualTo(SLOW * 2);
+		assertThat(statistics.getExplain()).isNull();
+	}
+
+	@Test
+	public void evictsShapeWithLeastLatency() {
+
+		recorder.record("people", new Document("lastname", "Skywalker"), SLOW * 3, Document::new);
+		recorder.record("people", new Document("firstname", "Luke"), SLOW, Document::new);
+		recorder.record("people", new Document("age", 18), SLOW * 2, Document::new);
+
+		assertThat(recorder.getTopOffenders(10)).extracting(SlowQueryStatistics::getShape)
+				.containsExactly("{ \"lastname\" : \"?\" }", "{ \"age\" : \"?\" }");
+	}
+
+	@Test
+	public void capturesExplainOncePerShape() {
+
+		AtomicInteger explains = new AtomicInteger();
+		recorder.setExplainExecutor(Runnable::run);
+
+		recorder.record("people", new Document("lastname", "Skywalker"), SLOW, () -> {
+			explains.incrementAndGet();
+			return new Document("queryPlanner", new Document());
+		});
+		recorder.record("people", new Document("lastname", "Solo"), SLOW, () -> {
+			explains.incrementAndGet();
+			return new Document("queryPlanner", new Document());
+		});
+
+		assertThat(explains).hasValue(1);
+		assertThat(recorder.getTopOffenders(1).get(0).getExplain()).containsKey("queryPlanner");
+	}
+
+	@Test
+	public void ignoresExplainFailures() {
+
+		recorder.setExplainExecutor(Runnable::run);
+
+		recorder.record("people", new Document("lastname", "Skywalker"), SLOW, () -> {
+			throw new IllegalStateException("o_O");
+		});
+
+		assertThat(recorder.getTopOffenders(1).get(0).getExplain()).isNull();
+	}
+
+	@Test
+	public void retriesFailedExplain() {
+
+		recorder.setExplainExecutor(Runnable::run);
+
+		recorder.record("people", new Document("lastname", "Skywalker"), SLOW, () -> {
+			throw new IllegalStateException("o_O");
+		});
+		recorder.record("people", new Document("lastname", "Solo"), SLOW,
+				() -> new Document("queryPlanner", new Document()));
+
+		assertThat(recorder.getTopOffenders(1).get(0).getExplain()).containsKey("queryPlanner");
+	}
+
+	@Test
+	public void capturesExplainAsynchronously() {
+
+		CompletableFuture<Document> explain = new CompletableFuture<>();
+		recorder.setExplainExecutor(Runnable::run);
+
+		recorder.recordAsync("people", new Document("lastname", "Skywalker"), SLOW, () -> explain);
+
+		assertThat(recorder.getTopOffenders(1).get(0).getExplain()).isNull();
+
+		explain.complete(new Document("queryPlanner", new Document()));
+
+		assertThat(recorder.getTopOffenders(1).get(0).getExplain()).containsKey("queryPlanner");
+	}
+
+	@Test
+	public void retriesFailedAsynchronousExplain() {
+
+		AtomicInteger explains = new AtomicInteger();
+		CompletableFuture<Document> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new IllegalStateException("o_O"));
+		recorder.setExplainExecutor(Runnable::run);
+
+		recorder.recordAsync("people", new Document("lastname", "Skywalker"), SLOW, () -> {
+			explains.incrementAndGet();
+			return failed;
+		});
+		recorder.recordAsync("people", new Document("lastname", "Solo"), SLOW, () -> {
+			explains.incrementAndGet();
+			return failed;
+		});
+
+		assertThat(explains).hasValue(2);
+		assertThat(recorder.getTopOffenders(1).get(0).getExplain()).isNull();
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.mongodb.MongoException;
+
+/**
+ * Unit tests for {@link TransactionRetryPolicy}.
+ */
+public class TransactionRetryPolicyUnitTests {
+
+	@Test
+	public void backoffGrowsExponentiallyUpToMaxBackoff() {
+
+		TransactionRetryPolicy policy = TransactionRetryPolicy.defaults()
+				.backoff(Duration.ofMillis(10), Duration.ofMillis(100)).jitter(0);
+
+		assertThat(policy.getBackoff(0)).isEqualTo(Duration.ofMillis(10));
+		assertThat(policy.getBackoff(1)).isEqualTo(Duration.ofMillis(20));
+		assertThat(policy.getBackoff(3)).isEqualTo(Duration.ofMillis(80));
+		assertThat(policy.getBackoff(4)).isEqualTo(Duration.ofMillis(100));
+		assertThat(policy.getBackoff(Integer.MAX_VALUE)).isEqualTo(Duration.ofMillis(100));
+	}
+
+	@Test
+	public void jitterShortensBackoff() {
+
+		TransactionRetryPolicy policy = TransactionRetryPolicy.defaults()
+				.backoff(Duration.ofMillis(100), Duration.ofMillis(100)).jitter(0.5);
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(policy.getBackoff(i)).isBetween(Duration.ofMillis(50), Duration.ofMillis(100));
+		}
+	}
+
+	@Test
+	public void detectsErrorLabelsInCauseChain() {
+
+		MongoException transientError = new MongoException("o_O");
+		transientError.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+
+		assertThat(TransactionRetryPolicy.isTransientTransactionError(transientError)).isTrue();
+		assertThat(TransactionRetryPolicy
+				.isTransientTransactionError(new DataIntegrityViolationException("o_O", transientError))).isTrue();
+		assertThat(TransactionRetryPolicy.isUnknownTransactionCommitResult(transientError)).isFalse();
+		assertThat(TransactionRetryPolicy.isTransientTransactionError(new MongoException("o_O"))).isFalse();
+		assertThat(TransactionRetryPolicy.isTransientTransactionError(null)).isFalse();
+	}
+
+	@Test
+	public void rejectsInvalidSettings() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> TransactionRetryPolicy.defaults().backoff(Duration.ofSeconds(2), Duration.ofSeconds(1)));
+		assertThatIllegalArgumentException().isThrownBy(() -> TransactionRetryPolicy.defaults().multiplier(0.5));
+		assertThatIllegalArgumentException().isThrownBy(() -> TransactionRetryPolicy.defaults().jitter(2));
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.convert.DbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link PreparedAggregation} and {@link PreparedTypedAggregation}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PreparedAggregationUnitTests {
+
+	MongoMappingContext context;
+	QueryMapper mapper;
+
+	@Mock DbRefResolver dbRefResolver;
+
+	@Before
+	public void setUp() {
+
+		this.context = new MongoMappingContext();
+		this.mapper = new QueryMapper(new MappingMongoConverter(dbRefResolver, context));
+	}
+
+	@Test
+	public void rendersSamePipelineAsSourceAggregation() {
+
+		TypedAggregation<Person> aggregation = newAggregation(Person.class, match(where("firstName").is("Dave")),
+				group("lastName").count().as("count"), sort(Direction.DESC, "count"));
+
+		PreparedTypedAggregation<Person> prepared = PreparedAggregation.of(aggregation);
+
+		assertThat(prepared.toPipeline(typedContext())).isEqualTo(aggregation.toPipeline(typedContext()));
+		assertThat(prepared.toPipeline(typedContext()).get(0))
+				.isEqualTo(Document.parse("{ '$match' : { 'first' : 'Dave' } }"));
+		assertThat(prepared.getInputType()).isEqualTo(Person.class);
+	}
+
+	@Test
+	public void rendersOperationsOnlyOnceForEquivalentContexts() {
+
+		CountingOperation operation = new CountingOperation();
+		Aggregation prepared = PreparedAggregation.of(newAggregation(Person.class, operation));
+
+		prepared.toPipeline(typedContext());
+		prepared.toPipeline(typedContext());
+		prepared.toDocument("person", typedContext());
+
+		assertThat(operation.invocations).hasValue(1);
+	}
+
+	@Test
+	public void rendersAgainForDifferentContext() {
+
+		CountingOperation operation = new CountingOperation();
+		Aggregation prepared = PreparedAggregation.of(newAggregation(operation));
+
+		prepared.toPipeline(DEFAULT_CONTEXT);
+		prepared.toPipeline(typedContext());
+		prepared.toPipeline(typedContext());
+
+		assertThat(operation.invocations).hasValue(2);
+	}
+
+	@Test
+	public void doesNotCacheNonTypeBasedContexts() {
+
+		CountingOperation operation = new CountingOperation();
+		Aggregation prepared = PreparedAggregation.of(newAggregation(operation));
+		AggregationOperationContext context = new ExposedFieldsAggregationOperationContext(ExposedFields.empty(),
+				DEFAULT_CONTEXT);
+
+		prepared.toPipeline(context);
+		prepared.toPipeline(context);
+
+		assertThat(operation.invocations).hasValue(2);
+	}
+
+	@Test
+	public void returnsIndependentCopiesOfCachedPipeline() {
+
+		Aggregation prepared = PreparedAggregation.of(newAggregation(match(where("lastname").in("Matthews", "Beauford"))));
+
+		List<Document> first = prepared.toPipeline(DEFAULT_CONTEXT);
+		first.get(0).get("$match", Document.class).put("lastname", "Tinsley");
+
+		assertThat(prepared.toPipeline(DEFAULT_CONTEXT).get(0))
+				.isEqualTo(new Document("$match",
+						new Document("lastname", new Document("$in", Arrays.asList("Matthews", "Beauford")))));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void returnsIndependentCopiesOfNestedMapsInCachedPipeline() {
+
+		Map<String, Object> nested = new LinkedHashMap<>();
+		nested.put("lastname", "Matthews");
+
+		Aggregation prepared = PreparedAggregation
+				.of(newAggregation(context -> new Document("$match", new Document("$or", Collections.singletonList(nested)))));
+
+		List<Document> first = prepared.toPipeline(DEFAULT_CONTEXT);
+		((Map<String, Object>) first.get(0).get("$match", Document.class).get("$or", List.class).get(0)).put("lastname",
+				"Tinsley");
+
+		assertThat(prepared.toPipeline(DEFAULT_CONTEXT).get(0)).isEqualTo(new Document("$match",
+				new Document("$or", Collections.singletonList(Collections.singletonMap("lastname", "Matthews")))));
+	}
+
+	@Test
+	public void mapsDefaultContextPipelineOnlyOncePerMapper() {
+
+		CountingOperation operation = new CountingOperation();
+		PreparedAggregation prepared = (PreparedAggregation) PreparedAggregation.of(newAggregation(operation));
+
+		prepared.toMappedPipeline(mapper);
+		prepared.toMappedPipeline(mapper);
+
+		assertThat(operation.invocations).hasValue(1);
+
+		prepared.toMappedPipeline(new QueryMapper(new MappingMongoConverter(dbRefResolver, context)));
+
+		assertThat(operation.invocations).hasValue(2);
+	}
+
+	@Test
+	public void returnsIndependentCopiesOfMappedPipeline() {
+
+		PreparedAggregation prepared = (PreparedAggregation) PreparedAggregation
+				.of(newAggregation(match(where("lastname").is("Matthews"))));
+
+		prepared.toMappedPipeline(mapper).get(0).get("$match", Document.class).put("lastname", "Tinsley");
+
+		assertThat(prepared.toMappedPipeline(mapper))
+				.containsExactly(new Document("$match", new Document("lastname", "Matthews")));
+	}
+
+	@Test
+	public void doesNotExposeCursorOfOptions() {
+
+		Aggregation prepared = PreparedAggregation.of(newAggregation(match(where("lastname").is("Matthews")))
+				.withOptions(newAggregationOptions().cursorBatchSize(10).build()));
+
+		prepared.getOptions().getCursor().get().put("batchSize", 1);
+		prepared.toDocument("person", DEFAULT_CONTEXT).get("cursor", Document.class).put("batchSize", 1);
+
+		assertThat(prepared.getOptions().getCursorBatchSize()).isEqualTo(10);
+	}
+
+	@Test
+	public void withOptionsSharesRenderedPipeline() {
+
+		CountingOperation operation = new CountingOperation();
+		PreparedTypedAggregation<Person> prepared = PreparedAggregation.of(newAggregation(Person.class, operation));
+
+		prepared.toPipeline(typedContext());
+		PreparedTypedAggregation<Person> withOptions = prepared
+				.withOptions(newAggregationOptions().allowDiskUse(true).build());
+		withOptions.toPipeline(typedContext());
+
+		assertThat(withOptions.getOptions().isAllowDiskUse()).isTrue();
+		assertThat(operation.invocations).hasValue(1);
+	}
+
+	@Test
+	public void preparesTypedAggregationDeclaredAsAggregation() {
+
+		Aggregation aggregation = newAggregation(Person.class, match(where("firstName").is("Dave")));
+
+		assertThat(PreparedAggregation.of(aggregation)).isInstanceOf(PreparedTypedAggregation.class);
+	}
+
+	@Test
+	public void returnsPreparedAggregationAsIs() {
+
+		Aggregation prepared = PreparedAggregation.of(newAggregation(match(where("lastname").is("Matthews"))));
+
+		assertThat(PreparedAggregation.of(prepared)).isSameAs(prepared);
+	}
+
+	private TypeBasedAggregationOperationContext typedContext() {
+		return new TypeBasedAggregationOperationContext(Person.class, context, mapper);
+	}
+
+	static class CountingOperation implements AggregationOperation {
+
+		final AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public Document toDocument(AggregationOperationContext context) {
+
+			invocations.incrementAndGet();
+			return new Document("$limit", 1);
+		}
+	}
+
+	static class Person {
+
+		String id;
+		@Field("first") String firstName;
+		String lastName;
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver.IndexDefinitionHolder;
+import org.springframework.data.mongodb.core.query.Collation;
+
+/**
+ * Unit tests for {@link IndexReconciler}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class IndexReconcilerUnitTests {
+
+	static final IndexInfo ID_INDEX = new IndexInfo(Collections.singletonList(IndexField.create("_id", Direction.ASC)),
+			"_id_", false, false, "");
+
+	@Mock IndexOperations indexOperations;
+	@Mock IndexResolver indexResolver;
+
+	@Test
+	public void reportsDeclaredIndexesThatDoNotExistAsMissing() {
+
+		IndexDefinitionHolder lastname = index(new Index().on("lastname", Direction.ASC).named("lastname"));
+
+		IndexDiff diff = IndexReconciler.diff("people", Collections.singletonList(lastname),
+				Collections.singletonList(ID_INDEX));
+
+		assertThat(diff.getMissing()).containsExactly(lastname);
+		assertThat(diff.getConflicting()).isEmpty();
+		assertThat(diff.getUnused()).isEmpty();
+	}
+
+	@Test
+	public void matchesExistingIndexesByNameOrKeys() {
+
+		IndexDefinitionHolder lastname = index(new Index().on("lastname", Direction.ASC).named("lastname"));
+		IndexDefinitionHolder compound = index(
+				new Index().on("lastname", Direction.ASC).on("age", Direction.DESC).unique());
+
+		IndexDiff diff = IndexReconciler.diff("people", Arrays.asList(lastname, compound),
+				Arrays.asList(ID_INDEX, existing("lastname", false, IndexField.create("lastname", Direction.ASC)),
+						existing("lastname_1_age_-1", true, IndexField.create("lastname", Direction.ASC),
+								IndexField.create("age", Direction.DESC))));
+
+		assertThat(diff.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void reportsIndexesWithDifferentOptionsOrKeysAsConflicting() {
+
+		IndexDefinitionHolder unique = index(new Index().on("lastname", Direction.ASC).named("lastname").unique());
+		IndexDefinitionHolder renamed = index(new Index().on("firstname", Direction.ASC).named("firstname"));
+		IndexDefinitionHolder rekeyed = index(new Index().on("age", Direction.ASC).named("age"));
+
+		IndexDiff diff = IndexReconciler.diff("people", Arrays.asList(unique, renamed, rekeyed),
+				Arrays.asList(existing("lastname", false, IndexField.create("lastname", Direction.ASC)),
+						existing("firstname_1", false, IndexField.create("firstname", Direction.ASC)),
+						existing("age", false, IndexField.create("age", Direction.DESC))));
+
+		assertThat(diff.getConflicting()).extracting(IndexDiff.Conflict::getDeclared).containsExactly(unique, renamed,
+				rekeyed);
+		assertThat(diff.getMissing()).isEmpty();
+		assertThat(diff.getUnused()).isEmpty();
+	}
+
+	@Test
+	public void reportsUndeclaredIndexesExceptIdAsUnused() {
+
+		IndexInfo legacy = existing("legacy", false, IndexField.create("legacy", Direction.ASC));
+
+		IndexDiff diff = IndexReconciler.diff("people", Collections.emptyList(), Arrays.asList(ID_INDEX, legacy));
+
+		assertThat(diff.getUnused()).containsExactly(legacy);
+	}
+
+	@Test
+	public void matchesTextIndexesRegardlessOfFieldOrder() {
+
+		IndexDefinitionHolder text = index(TextIndexDefinition.builder().onFields("title", "description").build());
+
+		IndexInfo existing = IndexInfo.indexInfoOf(Document.parse("{ 'v' : 2, 'key' : { '_fts' : 'text', '_ftsx' : 1 }, "
+				+ "'name' : 'title_text_description_text', 'ns' : 'db.people', "
+				+ "'weights' : { 'description' : 1, 'title' : 1 }, 'default_language' : 'english', "
+				+ "'language_override' : 'language', 'textIndexVersion' : 3 }"));
+
+		IndexDiff diff = IndexReconciler.diff("people", Collections.singletonList(text),
+				Collections.singletonList(existing));
+
+		assertThat(diff.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void reportsIndexesWithDifferentPartialFilterCollationOrExpirationAsConflicting() {
+
+		IndexDefinitionHolder partial = index(new Index().on("lastname", Direction.ASC).named("lastname")
+				.partial(PartialIndexFilter.of(new Document("age", new Document("$gt", 18)))));
+		IndexDefinitionHolder collated = index(
+				new Index().on("firstname", Direction.ASC).named("firstname").collation(Collation.of("de")));
+		IndexDefinitionHolder expiring = index(
+				new Index().on("createdAt", Direction.ASC).named("createdAt").expire(1, TimeUnit.HOURS));
+
+		IndexDiff diff = IndexReconciler.diff("people", Arrays.asList(partial, collated, expiring),
+				Arrays.asList(
+						IndexInfo.indexInfoOf(Document.parse("{ 'key' : { 'lastname' : 1 }, 'name' : 'lastname', "
+								+ "'partialFilterExpression' : { 'age' : { '$gt' : 21 } } }")),
+						IndexInfo.indexInfoOf(Document.parse("{ 'key' : { 'firstname' : 1 }, 'name' : 'firstname', "
+								+ "'collation' : { 'locale' : 'fr', 'strength' : 3 } }")),
+						IndexInfo.indexInfoOf(Document.parse("{ 'key' : { 'createdAt' : 1 }, 'name' : 'createdAt', "
+								+ "'expireAfterSeconds' : 60 }"))));
+
+		assertThat(diff.getConflicting()).extracting(IndexDiff.Conflict::getDeclared).containsExactly(partial, collated,
+				expiring);
+	}
+
+	@Test
+	public void matchesIndexesWithSamePartialFilterCollationAndExpiration() {
+
+		IndexDefinitionHolder partial = index(new Index().on("lastname", Direction.ASC).named("lastname")
+				.partial(PartialIndexFilter.of(new Document("age", new Document("$gt", 18)))));
+		IndexDefinitionHolder collated = index(
+				new Index().on("firstname", Direction.ASC).named("firstname").collation(Collation.of("de")));
+		IndexDefinitionHolder expiring = index(
+				new Index().on("createdAt", Direction.ASC).named("createdAt").expire(1, TimeUnit.HOURS));
+
+		IndexDiff diff = IndexReconciler.diff("people", Arrays.asList(partial, collated, expiring),
+				Arrays.asList(
+						IndexInfo.indexInfoOf(Document.parse("{ 'key' : { 'lastname' : 1 }, 'name' : 'lastname', "
+								+ "'partialFilterExpression' : { 'age' : { '$gt' : 18 } } }")),
+						IndexInfo.indexInfoOf(Document.parse("{ 'key' : { 'firstname' : 1 }, 'name' : 'firstname', "
+								+ "'collation' : { 'locale' : 'de', 'caseLevel' : false, 'strength' : 3 } }")),
+						IndexInfo.indexInfoOf(Document.parse("{ 'key' : { 'createdAt' : 1 }, 'name' : 'createdAt', "
+								+ "'expireAfterSeconds' : 3600 }"))));
+
+		assertThat(diff.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void reconcileCreatesMissingIndexesInOneBatchAndDropsUnusedOnRequest() {
+
+		IndexDefinitionHolder lastname = index(new Index().on("lastname", Direction.ASC).named("lastname"));
+		IndexDefinitionHolder firstname = index(new Index().on("firstname", Direction.ASC).named("firstname"));
+
+		when(indexOperations.getIndexInfo()).thenReturn(Arrays.asList(ID_INDEX,
+				existing("lastname", false, IndexField.create("lastname", Direction.ASC)),
+				existing("legacy", false, IndexField.create("legacy", Direction.ASC))));
+
+		IndexDiff diff = new IndexReconciler(it -> indexOperations, indexResolver).reconcile("people",
+				Arrays.asList(lastname, firstname), true);
+
+		verify(indexOperations, times(1)).getIndexInfo();
+		verify(indexOperations).ensureIndexes(Collections.singletonList(firstname));
+		verify(indexOperations).dropIndex("legacy");
+		verify(indexOperations, never()).ensureIndex(any());
+		assertThat(diff.getMissing()).containsExactly(firstname);
+	}
+
+	@Test
+	public void reconcileRejectsConflictsBeforeCreatingIndexes() {
+
+		IndexDefinitionHolder unique = index(new Index().on("lastname", Direction.ASC).named("lastname").unique());
+		IndexDefinitionHolder firstname = index(new Index().on("firstname", Direction.ASC).named("firstname"));
+
+		when(indexOperations.getIndexInfo())
+				.thenReturn(Collections.singletonList(existing("lastname", false, IndexField.create("lastname", Direction.ASC))));
+
+		IndexReconciler reconciler = new IndexReconciler(it -> indexOperations, indexResolver);
+
+		assertThatExceptionOfType(DataIntegrityViolationException.class)
+				.isThrownBy(() -> reconciler.reconcile("people", Arrays.asList(unique, firstname), false))
+				.withMessageContaining("people");
+		verify(indexOperations, never()).ensureIndexes(anyList());
+	}
+
+	private static IndexDefinitionHolder index(IndexDefinition definition) {
+		return new IndexDefinitionHolder("path", definition, "people");
+	}
+
+	private static IndexInfo existing(String name, boolean unique, IndexField... fields) {
+		return new IndexInfo(Arrays.asList(fields), name, unique, false, "");
+	}
+}
@@ -18,22 +18,37 @@ package org.springframework.data.mongodb.core.index;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.geo.Point;
 import org.springframework.data.mapping.context.MappingContextEvent;
 import org.springframework.data.mongodb.MongoDbFactory;
 import org.springframework.data.mongodb.core.MongoExceptionTranslator;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
@@ -41,8 +56,11 @@ import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 
 import com.mongodb.MongoException;
+import com.mongodb.client.ListIndexesIterable;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexModel;
 import com.mongodb.client.model.IndexOptions;
 
 /**
@@ -63,6 +81,8 @@ public class MongoPersistentEntityIndexCreatorUnitTests {
 	private @Mock MongoCollection<org.bson.Document> collection;
 	private MongoTemplate mongoTemplate;
 
+	public @Rule TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	ArgumentCaptor<org.bson.Document> keysCaptor;
 	ArgumentCaptor<IndexOptions> optionsCaptor;
 	ArgumentCaptor<String> collectionCaptor;
@@ -180,8 +200,8 @@ public class MongoPersistentEntityIndexCreatorUnitTests {
 
 		ArgumentCaptor<String> collectionNameCapturer = ArgumentCaptor.forClass(String.class);
 
-		verify(db, times(1)).getCollection(collectionNameCapturer.capture(), any());
-		assertThat(collectionNameCapturer.getValue()).isEqualTo("wrapper");
+		verify(db, atLeastOnce()).getCollection(collectionNameCapturer.capture(), any());
+		assertThat(collectionNameCapturer.getAllValues()).containsOnly("wrapper");
 	}
 
 	@Test // DATAMONGO-367
@@ -192,8 +212,8 @@ public class MongoPersistentEntityIndexCreatorUnitTests {
 
 		ArgumentCaptor<String> collectionNameCapturer = ArgumentCaptor.forClass(String.class);
 
-		verify(db, times(1)).getCollection(collectionNameCapturer.capture(), any());
-		assertThat(collectionNameCapturer.getValue()).isEqualTo("indexedDocumentWrapper");
+		verify(db, atLeastOnce()).getCollection(collectionNameCapturer.capture(), any());
+		assertThat(collectionNameCapturer.getAllValues()).containsOnly("indexedDocumentWrapper");
 	}
 
 	@Test(expected = DataAccessException.class) // DATAMONGO-1125
@@ -218,6 +238,203 @@ public class MongoPersistentEntityIndexCreatorUnitTests {
 		new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate);
 	}
 
+	@Test
+	public void asyncIndexCreationCreatesIndexesOfCollectionInSingleCommand() {
+
+		when(collection.createIndexes(anyList())).thenReturn(Arrays.asList("firstname", "lastname"));
+
+		List<Runnable> tasks = new ArrayList<>();
+		MongoMappingContext mappingContext = prepareMappingContext(MultipleIndexes.class);
+
+		MongoPersistentEntityIndexCreator creator = new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate,
+				new MongoPersistentEntityIndexResolver(mappingContext), tasks::add);
+
+		assertThat(tasks).hasSize(1);
+		assertThat(creator.getIndexCreation()).isNotDone();
+		verifyZeroInteractions(collection);
+
+		tasks.forEach(Runnable::run);
+
+		ArgumentCaptor<List<IndexModel>> models = ArgumentCaptor.forClass(List.class);
+		verify(collection).createIndexes(models.capture());
+		assertThat(models.getValue()).extracting(it -> (org.bson.Document) it.getKeys())
+				.containsExactlyInAnyOrder(new org.bson.Document("firstname", 1), new org.bson.Document("lastname", 1));
+		assertThat(creator.getIndexCreation()).isCompleted();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void asyncIndexCreationOnlyCreatesMissingIndexes() {
+
+		ListIndexesIterable<org.bson.Document> listIndexes = mock(ListIndexesIterable.class);
+		MongoCursor<org.bson.Document> cursor = mock(MongoCursor.class);
+		when(collection.listIndexes(org.bson.Document.class)).thenReturn(listIndexes);
+		when(listIndexes.iterator()).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new org.bson.Document("key", new org.bson.Document("firstname", 1)).append("name",
+				"firstname"));
+
+		MongoMappingContext mappingContext = prepareMappingContext(MultipleIndexes.class);
+
+		MongoPersistentEntityIndexCreator creator = new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate,
+				new MongoPersistentEntityIndexResolver(mappingContext), Runnable::run);
+
+		assertThat(creator.getIndexCreation()).isCompleted();
+		assertThat(keysCaptor.getAllValues()).containsExactly(new org.bson.Document("lastname", 1));
+		verify(collection, never()).createIndexes(anyList());
+	}
+
+	@Test
+	public void asyncIndexCreationCompletesExceptionallyOnFailure() {
+
+		doThrow(new MongoException(6, "HostUnreachable")).when(collection).createIndexes(anyList());
+
+		MongoMappingContext mappingContext = prepareMappingContext(MultipleIndexes.class);
+
+		MongoPersistentEntityIndexCreator creator = new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate,
+				new MongoPersistentEntityIndexResolver(mappingContext), Runnable::run);
+
+		assertThat(creator.getIndexCreation()).isCompletedExceptionally();
+		assertThatThrownBy(() -> creator.getIndexCreation().join()).hasCauseInstanceOf(DataAccessException.class);
+	}
+
+	@Test
+	public void batchedIndexConflictIsReportedForOffendingIndex() {
+
+		MongoException conflict = new MongoException(85, "IndexOptionsConflict");
+		doThrow(conflict).when(collection).createIndexes(anyList());
+		doThrow(conflict).when(collection).createIndex(any(org.bson.Document.class), any(IndexOptions.class));
+
+		MongoMappingContext mappingContext = prepareMappingContext(MultipleIndexes.class);
+
+		MongoPersistentEntityIndexCreator creator = new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate,
+				new MongoPersistentEntityIndexResolver(mappingContext), Runnable::run);
+
+		assertThatThrownBy(() -> creator.getIndexCreation().join())
+				.hasCauseInstanceOf(DataIntegrityViolationException.class)
+				.hasMessageContaining("Cannot create index for 'firstname'");
+	}
+
+	@Test
+	public void batchedIndexConflictFallsBackToCreatingIndexesOneByOne() {
+
+		doThrow(new MongoException(85, "IndexOptionsConflict")).when(collection).createIndexes(anyList());
+
+		MongoMappingContext mappingContext = prepareMappingContext(MultipleIndexes.class);
+
+		MongoPersistentEntityIndexCreator creator = new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate,
+				new MongoPersistentEntityIndexResolver(mappingContext), Runnable::run);
+
+		assertThat(creator.getIndexCreation()).isCompleted();
+		assertThat(keysCaptor.getAllValues()).containsExactlyInAnyOrder(new org.bson.Document("firstname", 1),
+				new org.bson.Document("lastname", 1));
+	}
+
+	@Test
+	public void templateCreatesIndexesOnConfiguredExecutor() {
+
+		when(collection.createIndexes(anyList())).thenReturn(Arrays.asList("firstname", "lastname"));
+
+		List<Runnable> tasks = new ArrayList<>();
+		MongoMappingContext mappingContext = prepareMappingContext(MultipleIndexes.class);
+
+		MongoTemplate template = new MongoTemplate(factory,
+				new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext), tasks::add);
+
+		assertThat(tasks).hasSize(1);
+		assertThat(template.getIndexCreation()).isNotDone();
+		verifyZeroInteractions(collection);
+
+		tasks.forEach(Runnable::run);
+
+		verify(collection).createIndexes(anyList());
+		verify(collection, never()).createIndex(any(org.bson.Document.class), any(IndexOptions.class));
+		assertThat(template.getIndexCreation()).isCompleted();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void templateIgnoresPrecomputedIndexesByDefault() throws IOException {
+
+		MongoMappingContext mappingContext = prepareMappingContext(MultipleIndexes.class);
+		writePrecomputedIndexes(mappingContext);
+
+		Thread thread = Thread.currentThread();
+		ClassLoader classLoader = thread.getContextClassLoader();
+
+		try (URLClassLoader resourceLoader = new URLClassLoader(new URL[] { temporaryFolder.getRoot().toURI().toURL() },
+				classLoader)) {
+
+			thread.setContextClassLoader(resourceLoader);
+			new MongoTemplate(factory, new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+		} finally {
+			thread.setContextClassLoader(classLoader);
+		}
+
+		ArgumentCaptor<List<IndexModel>> models = ArgumentCaptor.forClass(List.class);
+		verify(collection).createIndexes(models.capture());
+		assertThat(models.getValue()).hasSize(2).extracting(it -> it.getOptions().getName())
+				.doesNotContain("precomputed");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void templateUsesConfiguredPrecomputedIndexResolver() throws IOException {
+
+		MongoMappingContext mappingContext = prepareMappingContext(MultipleIndexes.class);
+		File resource = writePrecomputedIndexes(mappingContext);
+
+		new MongoTemplate(factory, new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext), null,
+				new PrecomputedIndexResolver(mappingContext, new FileSystemResource(resource)));
+
+		ArgumentCaptor<List<IndexModel>> models = ArgumentCaptor.forClass(List.class);
+		verify(collection).createIndexes(models.capture());
+		assertThat(models.getValue()).hasSize(2).extracting(it -> it.getOptions().getName()).containsOnly("precomputed");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void indexCreationOnlyCreatesMissingIndexes() {
+
+		ListIndexesIterable<org.bson.Document> listIndexes = mock(ListIndexesIterable.class);
+		MongoCursor<org.bson.Document> cursor = mock(MongoCursor.class);
+		when(collection.listIndexes(org.bson.Document.class)).thenReturn(listIndexes);
+		when(listIndexes.iterator()).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new org.bson.Document("key", new org.bson.Document("firstname", 1)).append("name",
+				"firstname"));
+
+		MongoMappingContext mappingContext = prepareMappingContext(MultipleIndexes.class);
+		new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate);
+
+		assertThat(keysCaptor.getAllValues()).containsExactly(new org.bson.Document("lastname", 1));
+		verify(collection, never()).createIndexes(anyList());
+	}
+
+	/**
+	 * Write the precomputed indexes of {@link MultipleIndexes} to the default location below the temporary folder, renamed
+	 * to tell them apart from runtime resolution.
+	 */
+	@SuppressWarnings("unchecked")
+	private File writePrecomputedIndexes(MongoMappingContext mappingContext) throws IOException {
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		PrecomputedIndexResolver.write(mappingContext, Collections.singleton(MultipleIndexes.class), outputStream);
+
+		org.bson.Document precomputed = org.bson.Document.parse(new String(outputStream.toByteArray(), "UTF-8"));
+		for (org.bson.Document entity : (List<org.bson.Document>) precomputed.get("entities", List.class)) {
+			for (org.bson.Document index : (List<org.bson.Document>) entity.get("indexes", List.class)) {
+				index.get("options", org.bson.Document.class).put("name", "precomputed");
+			}
+		}
+
+		File resource = new File(temporaryFolder.getRoot(), PrecomputedIndexResolver.DEFAULT_LOCATION);
+		resource.getParentFile().mkdirs();
+		Files.write(resource.toPath(), precomputed.toJson().getBytes("UTF-8"));
+
+		return resource;
+	}
+
 	private static MongoMappingContext prepareMappingContext(Class<?> type) {
 
 		MongoMappingContext mappingContext = new MongoMappingContext();
@@ -236,6 +453,13 @@ public class MongoPersistentEntityIndexCreatorUnitTests {
 
 	}
 
+	@Document
+	static class MultipleIndexes {
+
+		@Indexed String firstname;
+		@Indexed String lastname;
+	}
+
 	@Document
 	static class AnotherPerson {
 
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.mapping.model.SnakeCaseFieldNamingStrategy;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver.IndexDefinitionHolder;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.util.ClassTypeInformation;
+
+/**
+ * Unit tests for {@link PrecomputedIndexResolver}.
+ */
+public class PrecomputedIndexResolverUnitTests {
+
+	MongoMappingContext mappingContext;
+	IndexResolver fallback = mock(IndexResolver.class);
+
+	@Before
+	public void setUp() {
+
+		mappingContext = new MongoMappingContext();
+		mappingContext.setInitialEntitySet(
+				new HashSet<>(Arrays.asList(Customer.class, ExpressionCollection.class)));
+		mappingContext.initialize();
+	}
+
+	@Test
+	public void resolvesPrecomputedIndexesWithoutWalkingTypes() throws IOException {
+
+		PrecomputedIndexResolver resolver = new PrecomputedIndexResolver(mappingContext,
+				new ByteArrayResource(write(Customer.class)));
+
+		List<IndexDefinitionHolder> precomputed = resolve(resolver, Customer.class);
+		List<IndexDefinitionHolder> runtime = resolve(new MongoPersistentEntityIndexResolver(mappingContext),
+				Customer.class);
+
+		assertThat(precomputed).hasSize(2);
+		assertThat(describe(precomputed)).isEqualTo(describe(runtime));
+	}
+
+	@Test
+	public void fallsBackForStaleEntries() throws IOException {
+
+		Map<String, Document> entries = PrecomputedIndexResolver
+				.parse(new String(write(Customer.class), StandardCharsets.UTF_8));
+
+		when(fallback.resolveIndexFor(any())).thenReturn(Collections.emptyList());
+
+		PrecomputedIndexResolver resolver = new PrecomputedIndexResolver(fallback, mappingContext, entries,
+				(classLoader, type) -> 42L);
+
+		assertThat(resolve(resolver, Customer.class)).isEmpty();
+		verify(fallback).resolveIndexFor(ClassTypeInformation.from(Customer.class));
+	}
+
+	@Test
+	public void cachesResolutionOfTypesWithoutEntry() {
+
+		when(fallback.resolveIndexFor(any())).thenReturn(Collections.emptyList());
+
+		PrecomputedIndexResolver resolver = new PrecomputedIndexResolver(fallback, mappingContext,
+				Collections.emptyMap(), (classLoader, type) -> 42L);
+
+		resolve(resolver, Customer.class);
+		resolve(resolver, Customer.class);
+
+		verify(fallback, times(1)).resolveIndexFor(any());
+	}
+
+	@Test
+	public void skipsEntitiesWithExpressionCollectionNames() throws IOException {
+
+		Map<String, Document> entries = PrecomputedIndexResolver
+				.parse(new String(write(Customer.class, ExpressionCollection.class), StandardCharsets.UTF_8));
+
+		assertThat(entries).containsOnlyKeys(Customer.class.getName());
+		assertThat(entries.get(Customer.class.getName()).get("types", List.class)).contains(Customer.class.getName(),
+				Address.class.getName());
+	}
+
+	@Test
+	public void fallsBackForChangedMappingConfiguration() throws IOException {
+
+		MongoMappingContext snakeCaseMappingContext = new MongoMappingContext();
+		snakeCaseMappingContext.setFieldNamingStrategy(new SnakeCaseFieldNamingStrategy());
+		snakeCaseMappingContext.setInitialEntitySet(Collections.singleton(Customer.class));
+		snakeCaseMappingContext.initialize();
+
+		PrecomputedIndexResolver resolver = new PrecomputedIndexResolver(snakeCaseMappingContext,
+				new ByteArrayResource(write(Customer.class)));
+
+		assertThat(resolve(resolver, Customer.class)).extracting(IndexDefinitionHolder::getPath)
+				.contains("address.zip_code");
+	}
+
+	@Test
+	public void checksumsClassFilesOfInterfacesUsingClassLoaderOfEntity() throws IOException {
+
+		Map<String, Document> entries = PrecomputedIndexResolver
+				.parse(new String(write(Customer.class), StandardCharsets.UTF_8));
+		Set<ClassLoader> classLoaders = new CopyOnWriteArraySet<>();
+
+		PrecomputedIndexResolver resolver = new PrecomputedIndexResolver(fallback, mappingContext, entries,
+				(classLoader, type) -> {
+					classLoaders.add(classLoader);
+					return 42L;
+				});
+		when(fallback.resolveIndexFor(any())).thenReturn(Collections.emptyList());
+
+		resolve(resolver, Customer.class);
+
+		assertThat(entries.get(Customer.class.getName()).get("types", List.class)).contains(Contact.class.getName());
+		assertThat(classLoaders).containsExactly(Customer.class.getClassLoader());
+	}
+
+	@Test
+	public void ignoresMissingResource() {
+
+		assertThat(PrecomputedIndexResolver.read(new ByteArrayResource(new byte[0]) {
+			@Override
+			public boolean exists() {
+				return false;
+			}
+		})).isEmpty();
+	}
+
+	private byte[] write(Class<?>... types) throws IOException {
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		PrecomputedIndexResolver.write(mappingContext, Arrays.asList(types), outputStream);
+		return outputStream.toByteArray();
+	}
+
+	private static List<IndexDefinitionHolder> resolve(IndexResolver resolver, Class<?> type) {
+		return StreamSupport.stream(resolver.resolveIndexFor(ClassTypeInformation.from(type)).spliterator(), false)
+				.collect(Collectors.toList());
+	}
+
+	private static List<String> describe(List<IndexDefinitionHolder> holders) {
+		return holders.stream().map(it -> it.getPath() + it.getCollection() + it.getIndexKeys() + it.getIndexOptions())
+				.collect(Collectors.toList());
+	}
+
+	@org.springframework.data.mongodb.core.mapping.Document("customers")
+	static class Customer implements Contact {
+
+		@Indexed(unique = true) String email;
+		Address address;
+	}
+
+	interface Contact {}
+
+	static class Address {
+
+		@Indexed(expireAfterSeconds = 60) String zipCode;
+	}
+
+	@org.springframework.data.mongodb.core.mapping.Document("#{'tenant_' + 'customers'}")
+	static class ExpressionCollection {
+
+		@Indexed String name;
+	}
+}
@@ -18,10 +18,12 @@ package org.springframework.data.mongodb.core.index;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
@@ -39,6 +41,7 @@ import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 
 import com.mongodb.MongoException;
+import com.mongodb.client.model.IndexModel;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -121,6 +124,40 @@ public class ReactiveMongoPersistentEntityIndexCreatorUnitTests {
 		publisher.as(StepVerifier::create).expectError(ClassCastException.class).verify();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsIndexesOfCollectionInSingleCommand() {
+
+		when(collection.createIndexes(anyList())).thenReturn(Flux.just("firstname", "lastname"));
+
+		MongoMappingContext mappingContext = prepareMappingContext(MultipleIndexes.class);
+
+		new ReactiveMongoPersistentEntityIndexCreator(mappingContext, it -> indexOperations)
+				.checkForIndexes(mappingContext.getRequiredPersistentEntity(MultipleIndexes.class)) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		ArgumentCaptor<List<IndexModel>> models = ArgumentCaptor.forClass(List.class);
+		verify(collection).createIndexes(models.capture());
+		assertThat(models.getValue()).hasSize(2);
+	}
+
+	@Test
+	public void batchedIndexConflictFallsBackToCreatingIndexesOneByOne() {
+
+		when(collection.createIndexes(anyList())).thenReturn(Flux.error(new MongoException(85, "IndexOptionsConflict")));
+
+		MongoMappingContext mappingContext = prepareMappingContext(MultipleIndexes.class);
+
+		new ReactiveMongoPersistentEntityIndexCreator(mappingContext, it -> indexOperations)
+				.checkForIndexes(mappingContext.getRequiredPersistentEntity(MultipleIndexes.class)) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		assertThat(keysCaptor.getAllValues()).containsExactlyInAnyOrder(new org.bson.Document("firstname", 1),
+				new org.bson.Document("lastname", 1));
+	}
+
 	private static MongoMappingContext prepareMappingContext(Class<?> type) {
 
 		MongoMappingContext mappingContext = new MongoMappingContext();
@@ -136,6 +173,13 @@ public class ReactiveMongoPersistentEntityIndexCreatorUnitTests {
 				.checkForIndexes(mappingContext.getRequiredPersistentEntity(Person.class));
 	}
 
+	@Document
+	static class MultipleIndexes {
+
+		@Indexed String firstname;
+		@Indexed String lastname;
+	}
+
 	@Document
 	static class Person {
 
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping.event;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.bson.Document;
+import org.junit.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.mongodb.repository.Contact;
+import org.springframework.data.mongodb.repository.Person;
+
+/**
+ * Unit tests for {@link MongoMappingEventDispatcher}.
+ *
+ * @since 2.2
+ */
+public class MongoMappingEventDispatcherUnitTests {
+
+	@Test
+	public void reportsNoListenersForEmptyContext() {
+
+		MongoMappingEventDispatcher dispatcher = new MongoMappingEventDispatcher(refreshedContext());
+
+		assertThat(dispatcher.hasListeners(AfterLoadEvent.class, Person.class)).isFalse();
+		assertThat(dispatcher.hasListeners(BeforeConvertEvent.class, Person.class)).isFalse();
+	}
+
+	@Test
+	public void considersOverriddenCallbacksAndDomainTypeOfMongoEventListener() {
+
+		GenericApplicationContext context = refreshedContext();
+		context.addApplicationListener(new AfterLoadPersonListener());
+
+		MongoMappingEventDispatcher dispatcher = new MongoMappingEventDispatcher(context);
+
+		assertThat(dispatcher.hasListeners(AfterLoadEvent.class, Person.class)).isTrue();
+		assertThat(dispatcher.hasListeners(AfterLoadEvent.class, Contact.class)).isFalse();
+		assertThat(dispatcher.hasListeners(AfterConvertEvent.class, Person.class)).isFalse();
+	}
+
+	@Test
+	public void considersListenerBeansNotInstantiatedYet() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean(AfterLoadPersonListener.class, definition -> definition.setLazyInit(true));
+		context.refresh();
+
+		MongoMappingEventDispatcher dispatcher = new MongoMappingEventDispatcher(context);
+
+		assertThat(dispatcher.hasListeners(AfterLoadEvent.class, Person.class)).isTrue();
+		assertThat(dispatcher.hasListeners(BeforeSaveEvent.class, Person.class)).isFalse();
+	}
+
+	@Test
+	public void considersGenericApplicationListenersForSupportedEventTypes() {
+
+		GenericApplicationContext context = refreshedContext();
+		context.addApplicationListener(new AnyAfterSaveListener());
+
+		MongoMappingEventDispatcher dispatcher = new MongoMappingEventDispatcher(context);
+
+		assertThat(dispatcher.hasListeners(AfterSaveEvent.class, Contact.class)).isTrue();
+		assertThat(dispatcher.hasListeners(BeforeSaveEvent.class, Contact.class)).isFalse();
+	}
+
+	@Test
+	public void refreshesLookupOnceInvalidated() {
+
+		GenericApplicationContext context = refreshedContext();
+		MongoMappingEventDispatcher dispatcher = new MongoMappingEventDispatcher(context);
+
+		assertThat(dispatcher.hasListeners(AfterLoadEvent.class, Person.class)).isFalse();
+
+		context.addApplicationListener(new AfterLoadPersonListener());
+		dispatcher.invalidate();
+
+		assertThat(dispatcher.hasListeners(AfterLoadEvent.class, Person.class)).isTrue();
+	}
+
+	@Test
+	public void refreshesLookupOnContextRefresh() {
+
+		GenericApplicationContext context = refreshedContext();
+		MongoMappingEventDispatcher dispatcher = new MongoMappingEventDispatcher(context);
+
+		assertThat(dispatcher.hasListeners(AfterLoadEvent.class, Person.class)).isFalse();
+
+		context.addApplicationListener(new AfterLoadPersonListener());
+
+		assertThat(dispatcher.hasListeners(AfterLoadEvent.class, Person.class)).isFalse();
+
+		context.publishEvent(new ContextRefreshedEvent(context));
+
+		assertThat(dispatcher.hasListeners(AfterLoadEvent.class, Person.class)).isTrue();
+	}
+
+	@Test
+	public void refreshesLookupOnParentContextRefresh() {
+
+		GenericApplicationContext parent = refreshedContext();
+		GenericApplicationContext context = new GenericApplicationContext(parent);
+		context.refresh();
+
+		MongoMappingEventDispatcher dispatcher = new MongoMappingEventDispatcher(context);
+
+		assertThat(dispatcher.hasListeners(AfterLoadEvent.class, Person.class)).isFalse();
+
+		parent.addApplicationListener(new AfterLoadPersonListener());
+		parent.publishEvent(new ContextRefreshedEvent(parent));
+
+		assertThat(dispatcher.hasListeners(AfterLoadEvent.class, Person.class)).isTrue();
+	}
+
+	@Test
+	public void registersSingleInvalidatingListenerPerContext() {
+
+		GenericApplicationContext context = refreshedContext();
+		MongoMappingEventDispatcher first = new MongoMappingEventDispatcher(context);
+
+		int listeners = context.getApplicationListeners().size();
+
+		MongoMappingEventDispatcher second = new MongoMappingEventDispatcher(context);
+
+		assertThat(context.getApplicationListeners()).hasSize(listeners);
+		assertThat(first.hasListeners(AfterLoadEvent.class, Person.class)).isFalse();
+		assertThat(second.hasListeners(AfterLoadEvent.class, Person.class)).isFalse();
+
+		context.addApplicationListener(new AfterLoadPersonListener());
+		context.publishEvent(new ContextRefreshedEvent(context));
+
+		assertThat(first.hasListeners(AfterLoadEvent.class, Person.class)).isTrue();
+		assertThat(second.hasListeners(AfterLoadEvent.class, Person.class)).isTrue();
+	}
+
+	@Test
+	public void derivesDomainTypeFromEvent() {
+
+		GenericApplicationContext context = refreshedContext();
+		context.addApplicationListener(new AfterLoadPersonListener());
+
+		MongoMappingEventDispatcher dispatcher = new MongoMappingEventDispatcher(context);
+
+		assertThat(dispatcher.hasListeners(new AfterLoadEvent<>(new Document(), Person.class, "people"))).isTrue();
+		assertThat(dispatcher.hasListeners(new AfterLoadEvent<>(new Document(), Contact.class, "people"))).isFalse();
+		assertThat(dispatcher.hasListeners(new AfterConvertEvent<>(new Document(), new Person(), "people"))).isFalse();
+	}
+
+	@Test
+	public void assumesListenersForPlainPublisher() {
+
+		MongoMappingEventDispatcher dispatcher = new MongoMappingEventDispatcher(event -> {});
+
+		assertThat(dispatcher.hasListeners(AfterLoadEvent.class, Person.class)).isTrue();
+	}
+
+	@Test
+	public void publishesAfterSaveEventsOnExecutorOnly() {
+
+		List<Object> published = new ArrayList<>();
+		List<Runnable> tasks = new ArrayList<>();
+
+		MongoMappingEventDispatcher dispatcher = new MongoMappingEventDispatcher(new ApplicationEventPublisher() {
+
+			@Override
+			public void publishEvent(ApplicationEvent event) {
+				published.add(event);
+			}
+
+			@Override
+			public void publishEvent(Object event) {
+				published.add(event);
+			}
+		});
+		dispatcher.setAsyncExecutor((Executor) tasks::add);
+
+		Person person = new Person("Dave", "Matthews");
+		dispatcher.publishEvent(new AfterConvertEvent<>(new Document(), person, "person"));
+		dispatcher.publishEvent(new AfterSaveEvent<>(person, new Document(), "person"));
+
+		assertThat(published).hasSize(1).first().isInstanceOf(AfterConvertEvent.class);
+		assertThat(tasks).hasSize(1);
+
+		tasks.get(0).run();
+
+		assertThat(published).hasSize(2).last().isInstanceOf(AfterSaveEvent.class);
+	}
+
+	private static GenericApplicationContext refreshedContext() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.refresh();
+		return context;
+	}
+
+	static class AfterLoadPersonListener extends AbstractMongoEventListener<Person> {
+
+		@Override
+		public void onAfterLoad(AfterLoadEvent<Person> event) {}
+	}
+
+	static class AnyAfterSaveListener implements ApplicationListener<AfterSaveEvent<?>> {
+
+		@Override
+		public void onApplicationEvent(AfterSaveEvent<?> event) {}
+	}
+}
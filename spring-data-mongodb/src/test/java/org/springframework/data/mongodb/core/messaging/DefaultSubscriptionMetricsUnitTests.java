@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.messaging;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.bson.BsonString;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link DefaultSubscriptionMetrics}.
+ */
+public class DefaultSubscriptionMetricsUnitTests {
+
+	MutableClock clock;
+	DefaultSubscriptionMetrics metrics;
+
+	@Before
+	public void setUp() {
+
+		clock = new MutableClock(Instant.parse("2020-01-01T00:00:00Z"));
+		metrics = new DefaultSubscriptionMetrics(clock);
+	}
+
+	@Test
+	public void reportsNothingInitially() {
+
+		assertThat(metrics.getMessageCount()).isZero();
+		assertThat(metrics.getMessagesPerSecond()).isZero();
+		assertThat(metrics.getLastMessageTime()).isEmpty();
+		assertThat(metrics.getLag()).isEmpty();
+		assertThat(metrics.getLastResumeToken()).isEmpty();
+	}
+
+	@Test
+	public void calculatesRateOfLastCompletedWindow() {
+
+		for (int i = 0; i < 10; i++) {
+
+			metrics.onMessage(null, null);
+			clock.advance(Duration.ofMillis(100));
+		}
+
+		metrics.onMessage(null, null);
+
+		assertThat(metrics.getMessageCount()).isEqualTo(11);
+		assertThat(metrics.getMessagesPerSecond()).isEqualTo(10.0);
+	}
+
+	@Test
+	public void rateDecaysWhileIdle() {
+
+		metrics.onMessage(null, null);
+		metrics.onMessage(null, null);
+
+		clock.advance(Duration.ofSeconds(4));
+
+		assertThat(metrics.getMessagesPerSecond()).isEqualTo(0.5);
+	}
+
+	@Test
+	public void recordsLagAndResumeToken() {
+
+		metrics.onMessage(clock.instant().minusSeconds(3), new BsonString("token"));
+		metrics.onMessage(null, null);
+
+		assertThat(metrics.getLastMessageTime()).contains(clock.instant());
+		assertThat(metrics.getLag()).isEmpty();
+		assertThat(metrics.getLastResumeToken()).contains(new BsonString("token"));
+
+		metrics.onMessage(clock.instant().minusSeconds(3), null);
+
+		assertThat(metrics.getLag()).contains(Duration.ofSeconds(3));
+	}
+
+	@Test
+	public void doesNotReportNegativeLag() {
+
+		metrics.onMessage(clock.instant().plusSeconds(1), null);
+
+		assertThat(metrics.getLag()).contains(Duration.ZERO);
+	}
+
+	static class MutableClock extends Clock {
+
+		private Instant instant;
+
+		MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(java.time.ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.messaging;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+import static org.springframework.data.mongodb.core.query.Query.*;
+
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.ErrorHandler;
+
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+/**
+ * Unit tests for {@link ReactiveMessageListenerContainer}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ReactiveMessageListenerContainerUnitTests {
+
+	@Mock ReactiveMongoTemplate template;
+	@Mock MongoDatabase database;
+	@Mock ErrorHandler errorHandler;
+
+	List<Message<?, ?>> messages = new ArrayList<>();
+	ReactiveMessageListenerContainer container;
+
+	@Before
+	public void setUp() {
+
+		when(template.getConverter())
+				.thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+		when(template.getMongoDatabase()).thenReturn(database);
+		when(database.getName()).thenReturn("db");
+
+		container = new ReactiveMessageListenerContainer(template, Schedulers.immediate(), errorHandler);
+	}
+
+	@After
+	public void tearDown() {
+		container.destroy();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void throwsErrorOnNullTemplate() {
+		new ReactiveMessageListenerContainer(null);
+	}
+
+	@Test
+	public void deliversTailedDocumentsOnceStarted() {
+
+		Document first = new Document("_id", new ObjectId()).append("value", 1);
+		Document second = new Document("_id", new ObjectId()).append("value", 2);
+		when(template.tail(any(), eq(Document.class), eq("collection-1"))).thenReturn(Flux.just(first, second));
+
+		Subscription subscription = container.register(tailableRequest(), Document.class);
+
+		assertThat(messages).isEmpty();
+		verify(template, never()).tail(any(), any(), anyString());
+
+		container.start();
+
+		assertThat(messages).extracting(it -> (Object) it.getRaw()).containsExactly(first, second);
+		assertThat(messages).extracting(it -> (Object) it.getBody()).containsExactly(first, second);
+		assertThat(messages.get(0).getProperties().getDatabaseName()).isEqualTo("db");
+		assertThat(messages.get(0).getProperties().getCollectionName()).isEqualTo("collection-1");
+
+		SubscriptionMetrics metrics = container.getMetrics(subscription).get();
+
+		assertThat(metrics.getMessageCount()).isEqualTo(2);
+		assertThat(metrics.getLastMessageTime()).isPresent();
+		assertThat(metrics.getLag()).isPresent();
+		assertThat(metrics.getLastResumeToken()).isEmpty();
+	}
+
+	@Test
+	public void startsSubscriptionImmediatelyWhenRunning() throws InterruptedException {
+
+		when(template.tail(any(), eq(Document.class), anyString()))
+				.thenReturn(Flux.just(new Document("value", 1)).concatWith(Flux.never()));
+		container.start();
+
+		Subscription subscription = container.register(tailableRequest(), Document.class);
+
+		assertThat(subscription.await(Duration.ofMillis(10))).isTrue();
+		assertThat(subscription.isActive()).isTrue();
+	}
+
+	@Test
+	public void tailableSubscriptionIsStartedOnceFirstMessageArrives() throws InterruptedException {
+
+		DirectProcessor<Document> source = DirectProcessor.create();
+		when(template.tail(any(), eq(Document.class), anyString())).thenReturn(source);
+
+		Subscription subscription = container.register(tailableRequest(), Document.class);
+		container.start();
+
+		assertThat(subscription.isActive()).isTrue();
+		assertThat(subscription.await(Duration.ofMillis(10))).isFalse();
+
+		source.onNext(new Document("value", 1));
+
+		assertThat(subscription.await(Duration.ZERO)).isTrue();
+	}
+
+	@Test
+	public void reopensCompletedTailableCursor() throws InterruptedException {
+
+		Document document = new Document("value", 1);
+		when(template.tail(any(), eq(Document.class), anyString())).thenReturn(Flux.empty(), Flux.just(document),
+				Flux.never());
+
+		Subscription subscription = container.register(tailableRequest(), Document.class);
+		container.start();
+
+		assertThat(subscription.await(Duration.ofSeconds(5))).isTrue();
+
+		verify(template, timeout(5000).times(3)).tail(any(), eq(Document.class), anyString());
+		assertThat(messages).extracting(it -> (Object) it.getRaw()).containsExactly(document);
+		assertThat(subscription.isActive()).isTrue();
+	}
+
+	@Test
+	public void resumesReopenedTailableCursorAfterLastDocument() throws InterruptedException {
+
+		ObjectId lastId = new ObjectId();
+		Document document = new Document("_id", lastId).append("value", 1);
+		when(template.tail(any(), eq(Document.class), anyString())).thenReturn(Flux.just(document), Flux.never());
+
+		Subscription subscription = container.register(TailableCursorRequest.builder() //
+				.collection("collection-1") //
+				.filter(query(where("value").is(1))) //
+				.publishTo(messages::add) //
+				.build(), Document.class);
+		container.start();
+
+		assertThat(subscription.await(Duration.ofSeconds(5))).isTrue();
+
+		ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+		verify(template, timeout(5000).times(2)).tail(queries.capture(), eq(Document.class), anyString());
+
+		assertThat(queries.getAllValues().get(0).getQueryObject()).isEqualTo(new Document("value", 1));
+		assertThat(queries.getAllValues().get(1).getQueryObject()).isEqualTo(new Document("$and",
+				Arrays.asList(new Document("value", 1), new Document("_id", new Document("$gt", lastId)))));
+		assertThat(messages).hasSize(1);
+	}
+
+	@Test
+	public void doesNotReopenTailableCursorOnceCancelled() throws InterruptedException {
+
+		when(template.tail(any(), eq(Document.class), anyString())).thenReturn(Flux.empty());
+
+		Subscription subscription = container.register(tailableRequest(), Document.class);
+		container.start();
+		subscription.cancel();
+
+		Thread.sleep(300);
+
+		verify(template, times(1)).tail(any(), eq(Document.class), anyString());
+		assertThat(subscription.await(Duration.ZERO)).isFalse();
+	}
+
+	@Test
+	public void registeringSameRequestTwiceReturnsExistingSubscription() {
+
+		TailableCursorRequest<Document> request = tailableRequest();
+
+		assertThat(container.register(request, Document.class)).isSameAs(container.register(request, Document.class));
+	}
+
+	@Test
+	public void stopCancelsSubscriptions() {
+
+		DirectProcessor<Document> source = DirectProcessor.create();
+		when(template.tail(any(), eq(Document.class), anyString())).thenReturn(source);
+
+		Subscription subscription = container.register(tailableRequest(), Document.class);
+		container.start();
+
+		assertThat(source.hasDownstreams()).isTrue();
+
+		container.stop();
+
+		assertThat(subscription.isActive()).isFalse();
+		assertThat(source.hasDownstreams()).isFalse();
+	}
+
+	@Test
+	public void removeCancelsSubscription() {
+
+		DirectProcessor<Document> source = DirectProcessor.create();
+		when(template.tail(any(), eq(Document.class), anyString())).thenReturn(source);
+
+		container.start();
+		TailableCursorRequest<Document> request = tailableRequest();
+		Subscription subscription = container.register(request, Document.class);
+
+		container.remove(subscription);
+
+		assertThat(source.hasDownstreams()).isFalse();
+		assertThat(container.lookup(request)).isEmpty();
+		assertThat(container.getMetrics(subscription)).isEmpty();
+	}
+
+	@Test
+	public void delegatesListenerErrorsAndContinues() {
+
+		when(template.tail(any(), eq(Document.class), anyString()))
+				.thenReturn(Flux.just(new Document("value", 1), new Document("value", 2)));
+
+		IllegalStateException failure = new IllegalStateException("o_O");
+		TailableCursorRequest<Document> request = TailableCursorRequest.builder() //
+				.collection("collection-1") //
+				.publishTo(message -> {
+
+					messages.add(message);
+					throw failure;
+				}) //
+				.build();
+
+		container.register(request, Document.class);
+		container.start();
+
+		assertThat(messages).hasSize(2);
+		verify(errorHandler, times(2)).handleError(failure);
+	}
+
+	@Test
+	public void delegatesSourceErrorsAndDeactivatesSubscription() {
+
+		IllegalStateException failure = new IllegalStateException("o_O");
+		when(template.tail(any(), eq(Document.class), anyString())).thenReturn(Flux.error(failure));
+
+		Subscription subscription = container.register(tailableRequest(), Document.class);
+		container.start();
+
+		assertThat(subscription.isActive()).isFalse();
+		verify(errorHandler).handleError(failure);
+	}
+
+	@Test
+	public void mapsTailFilterAgainstTargetType() {
+
+		when(template.tail(any(), eq(Document.class), anyString())).thenReturn(Flux.empty());
+
+		TailableCursorRequest<Document> request = TailableCursorRequest.builder() //
+				.collection("collection-1") //
+				.filter(query(where("value").is(1))) //
+				.publishTo(messages::add) //
+				.build();
+
+		container.register(request, Document.class);
+		container.start();
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		verify(template).tail(captor.capture(), eq(Document.class), eq("collection-1"));
+
+		assertThat(captor.getValue().getQueryObject()).isEqualTo(new Document("value", 1));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void deliversChangeStreamEventsAndRecordsResumeToken() {
+
+		Instant clusterTime = Instant.now().minusSeconds(5);
+		BsonDocument resumeToken = new BsonDocument("_data", new BsonString("token"));
+
+		ChangeStreamEvent<Document> event = mock(ChangeStreamEvent.class);
+		when(event.getTimestamp()).thenReturn(clusterTime);
+		when(event.getResumeToken()).thenReturn(resumeToken);
+		when(event.getDatabaseName()).thenReturn("db");
+		when(event.getCollectionName()).thenReturn("collection-1");
+
+		when(template.changeStream(eq("db"), eq("collection-1"), any(ChangeStreamOptions.class), eq(Document.class)))
+				.thenReturn(Flux.just(event));
+
+		ChangeStreamRequest<Document> request = ChangeStreamRequest.builder((MessageListener) messages::add) //
+				.database("db") //
+				.collection("collection-1") //
+				.build();
+
+		Subscription subscription = container.register(request, Document.class);
+		container.start();
+
+		assertThat(messages).hasSize(1);
+		assertThat(messages.get(0).getProperties().getCollectionName()).isEqualTo("collection-1");
+
+		SubscriptionMetrics metrics = container.getMetrics(subscription).get();
+
+		assertThat(metrics.getLastResumeToken()).contains(resumeToken);
+		assertThat(metrics.getLag().get()).isGreaterThanOrEqualTo(Duration.ofSeconds(5));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnknownRequestType() {
+
+		SubscriptionRequest<Object, Object, SubscriptionRequest.RequestOptions> request = mock(SubscriptionRequest.class);
+		container.register(request, Object.class);
+	}
+
+	private TailableCursorRequest<Document> tailableRequest() {
+
+		return TailableCursorRequest.builder() //
+				.collection("collection-1") //
+				.publishTo(messages::add) //
+				.build();
+	}
+}
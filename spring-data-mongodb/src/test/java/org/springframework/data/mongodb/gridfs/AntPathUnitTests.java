@@ -37,6 +37,21 @@ public class AntPathUnitTests {
 
 		assertThat(Pattern.matches(regex, "foo/bar/foo/foo-bar.xml"), is(true));
 		assertThat(Pattern.matches(regex, "foo/bar/foo/bar/foo-bar.xml"), is(false));
-		assertThat(regex, is(".*\\Q/foo/\\E[^/]*\\Q-bar.xml\\E"));
+		assertThat(regex, is("^.*\\Q/foo/\\E[^/]*\\Q-bar.xml\\E$"));
+	}
+
+	@Test
+	public void regexMatchesEntireFilenameOnly() {
+
+		String regex = new AntPath("*.xml").toRegex();
+
+		assertThat(Pattern.compile(regex).matcher("foo.xml").find(), is(true));
+		assertThat(Pattern.compile(regex).matcher("foo.xml.bak").find(), is(false));
+		assertThat(Pattern.compile(regex).matcher("bar/foo.xml").find(), is(false));
+	}
+
+	@Test
+	public void regexStartsWithLiteralPrefix() {
+		assertThat(new AntPath("reports/2020/*.pdf").toRegex(), is("^\\Qreports/2020/\\E[^/]*\\Q.pdf\\E$"));
 	}
 }
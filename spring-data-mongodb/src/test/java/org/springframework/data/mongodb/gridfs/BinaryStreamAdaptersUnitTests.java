@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import com.mongodb.reactivestreams.client.gridfs.AsyncInputStream;
+
+/**
+ * Unit tests for {@link BinaryStreamAdapters}.
+ */
+public class BinaryStreamAdaptersUnitTests {
+
+	static final String CONTENT = "The quick brown fox jumps over the lazy dog";
+
+	DefaultDataBufferFactory factory = new DefaultDataBufferFactory();
+
+	@Test
+	public void shouldAdaptDataBuffersToAsyncInputStream() {
+
+		AsyncInputStream inputStream = BinaryStreamAdapters.toAsyncInputStream(buffers("The quick ", "brown fox ",
+				"", "jumps over the lazy dog"));
+
+		ByteBuffer target = ByteBuffer.allocate(128);
+		StringBuilder result = new StringBuilder();
+
+		int read;
+		do {
+
+			target.clear();
+			read = Mono.from(inputStream.read(target)).block();
+
+			if (read > 0) {
+				target.flip();
+				result.append(StandardCharsets.UTF_8.decode(target));
+			}
+		} while (read != -1);
+
+		assertThat(result.toString()).isEqualTo(CONTENT);
+	}
+
+	@Test
+	public void shouldSplitDataBufferAcrossMultipleReads() {
+
+		AsyncInputStream inputStream = BinaryStreamAdapters.toAsyncInputStream(buffers(CONTENT));
+
+		ByteBuffer target = ByteBuffer.allocate(4);
+
+		StepVerifier.create(inputStream.read(target)).expectNext(4).verifyComplete();
+		assertThat(new String(target.array(), StandardCharsets.UTF_8)).isEqualTo("The ");
+
+		target.clear();
+
+		StepVerifier.create(inputStream.read(target)).expectNext(4).verifyComplete();
+		assertThat(new String(target.array(), StandardCharsets.UTF_8)).isEqualTo("quic");
+	}
+
+	@Test
+	public void shouldRequestDataBuffersOnDemand() {
+
+		AtomicLong requested = new AtomicLong();
+		Flux<DataBuffer> content = buffers("foo", "bar", "baz").doOnRequest(requested::addAndGet);
+
+		AsyncInputStream inputStream = BinaryStreamAdapters.toAsyncInputStream(content);
+
+		assertThat(requested).hasValue(0);
+
+		StepVerifier.create(inputStream.read(ByteBuffer.allocate(16))).expectNext(3).verifyComplete();
+
+		assertThat(requested).hasValue(1);
+	}
+
+	@Test
+	public void shouldPropagateUpstreamError() {
+
+		AsyncInputStream inputStream = BinaryStreamAdapters
+				.toAsyncInputStream(Flux.error(new IllegalArgumentException("broken")));
+
+		StepVerifier.create(inputStream.read(ByteBuffer.allocate(16))).verifyError(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void shouldRejectReadsAfterClose() {
+
+		AsyncInputStream inputStream = BinaryStreamAdapters.toAsyncInputStream(buffers(CONTENT));
+
+		StepVerifier.create(inputStream.close()).expectNextCount(1).verifyComplete();
+		StepVerifier.create(inputStream.read(ByteBuffer.allocate(16))).verifyError(IllegalStateException.class);
+	}
+
+	@Test
+	public void shouldRoundTripThroughAsyncInputStream() {
+
+		AsyncInputStream inputStream = BinaryStreamAdapters.toAsyncInputStream(buffers("The quick brown ", "fox jumps ",
+				"over the lazy dog"));
+
+		Flux<DataBuffer> publisher = BinaryStreamAdapters.toPublisher(inputStream, factory, 8);
+
+		StepVerifier.create(DataBufferUtils.join(publisher).map(BinaryStreamAdaptersUnitTests::toString)) //
+				.expectNext(CONTENT) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldEmitDataBuffersOnDemand() {
+
+		AsyncInputStream inputStream = BinaryStreamAdapters.toAsyncInputStream(buffers(CONTENT));
+
+		Flux<DataBuffer> publisher = BinaryStreamAdapters.toPublisher(inputStream, factory, 4);
+
+		StepVerifier.create(publisher.map(BinaryStreamAdaptersUnitTests::toString), 0) //
+				.expectSubscription() //
+				.expectNoEvent(Duration.ofMillis(10)) //
+				.thenRequest(2) //
+				.expectNext("The ", "quic") //
+				.thenCancel() //
+				.verify();
+	}
+
+	private static String toString(DataBuffer buffer) {
+
+		byte[] bytes = new byte[buffer.readableByteCount()];
+		buffer.read(bytes);
+		DataBufferUtils.release(buffer);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private Flux<DataBuffer> buffers(String... chunks) {
+		return Flux.fromArray(chunks).map(it -> factory.wrap(it.getBytes(StandardCharsets.UTF_8)));
+	}
+}
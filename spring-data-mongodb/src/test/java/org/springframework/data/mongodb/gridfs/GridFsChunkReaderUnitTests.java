@@ -0,0 +1,186 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Binary;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.util.StreamUtils;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * Unit tests for {@link GridFsChunkReader}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class GridFsChunkReaderUnitTests {
+
+	static final int CHUNK_SIZE = 10;
+	static final int LENGTH = 95;
+
+	@Mock MongoCollection<Document> collection;
+
+	byte[] content;
+	GridFSFile file;
+	List<Bson> queries = new ArrayList<>();
+
+	@Before
+	public void setUp() {
+
+		content = new byte[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			content[i] = (byte) i;
+		}
+
+		file = new GridFSFile(new BsonObjectId(), "foo", LENGTH, CHUNK_SIZE, new Date(), "md5", null);
+
+		when(collection.find(any(Bson.class))).thenAnswer(invocation -> {
+
+			Document filter = invocation.getArgument(0);
+			queries.add(filter);
+
+			return findIterable(filter.get("n"));
+		});
+	}
+
+	@Test
+	public void readsRangeThroughSingleCursor() throws IOException {
+
+		GridFsChunkReader reader = new GridFsChunkReader(collection);
+
+		assertThat(StreamUtils.copyToByteArray(reader.read(file, 25, 30))).isEqualTo(slice(25, 30));
+		assertThat(queries).hasSize(1);
+		assertThat(((Document) queries.get(0)).get("n")).isEqualTo(new Document("$gte", 2).append("$lte", 5));
+	}
+
+	@Test
+	public void readsLastPartialChunk() throws IOException {
+
+		GridFsChunkReader reader = new GridFsChunkReader(collection);
+
+		assertThat(StreamUtils.copyToByteArray(reader.read(file, 0, LENGTH))).isEqualTo(content);
+		assertThat(StreamUtils.copyToByteArray(reader.read(file, 90, 100))).isEqualTo(slice(90, 5));
+	}
+
+	@Test
+	public void returnsEmptyStreamForRangeBeyondFileLength() throws IOException {
+
+		GridFsChunkReader reader = new GridFsChunkReader(collection);
+
+		assertThat(StreamUtils.copyToByteArray(reader.read(file, LENGTH, 10))).isEmpty();
+		assertThat(queries).isEmpty();
+	}
+
+	@Test
+	public void prefetchesIndividualChunks() throws IOException {
+
+		GridFsChunkReader reader = new GridFsChunkReader(collection, 3, Runnable::run);
+
+		assertThat(StreamUtils.copyToByteArray(reader.read(file, 15, 50))).isEqualTo(slice(15, 50));
+		assertThat(queries).hasSize(6).extracting(it -> ((Document) it).get("n")).containsExactly(1, 2, 3, 4, 5, 6);
+	}
+
+	@Test
+	public void skipsContentWithinRange() throws IOException {
+
+		GridFsChunkReader reader = new GridFsChunkReader(collection, 2, Runnable::run);
+
+		InputStream stream = reader.read(file, 0, LENGTH);
+
+		assertThat(stream.skip(42)).isEqualTo(42);
+		assertThat(stream.read()).isEqualTo(42);
+	}
+
+	@Test
+	public void failsOnMissingChunk() {
+
+		when(collection.find(any(Bson.class))).thenAnswer(invocation -> findIterable(null));
+
+		GridFsChunkReader reader = new GridFsChunkReader(collection, 2, Runnable::run);
+
+		assertThatExceptionOfType(MongoGridFSException.class)
+				.isThrownBy(() -> StreamUtils.copyToByteArray(reader.read(file, 0, LENGTH)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsPrefetchingWithoutExecutor() {
+		new GridFsChunkReader(collection, 2, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private FindIterable<Document> findIterable(Object n) {
+
+		FindIterable<Document> iterable = mock(FindIterable.class);
+
+		if (n instanceof Integer) {
+			when(iterable.first()).thenReturn(chunk((Integer) n));
+		}
+
+		if (n instanceof Document) {
+
+			Document range = (Document) n;
+			List<Document> chunks = new ArrayList<>();
+			for (int i = range.getInteger("$gte"); i <= range.getInteger("$lte"); i++) {
+				chunks.add(chunk(i));
+			}
+
+			Iterator<Document> iterator = chunks.iterator();
+			MongoCursor<Document> cursor = mock(MongoCursor.class);
+			when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+			when(cursor.next()).thenAnswer(invocation -> iterator.next());
+
+			when(iterable.sort(any())).thenReturn(iterable);
+			when(iterable.iterator()).thenReturn(cursor);
+		}
+
+		return iterable;
+	}
+
+	private Document chunk(int n) {
+
+		int offset = n * CHUNK_SIZE;
+		return new Document("files_id", file.getId()).append("n", n)
+				.append("data", new Binary(slice(offset, Math.min(CHUNK_SIZE, LENGTH - offset))));
+	}
+
+	private byte[] slice(int offset, int length) {
+
+		byte[] slice = new byte[length];
+		System.arraycopy(content, offset, slice, 0, length);
+		return slice;
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.util.DigestUtils;
+
+import com.mongodb.MongoException;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
+
+/**
+ * Unit tests for {@link GridFsChunkWriter}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GridFsChunkWriterUnitTests {
+
+	@Mock MongoCollection<Document> files;
+	@Mock MongoCollection<Document> chunks;
+
+	List<List<Document>> batches = new ArrayList<>();
+	GridFsChunkWriter writer;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+
+		doAnswer(invocation -> batches.add(new ArrayList<>((List<Document>) invocation.getArgument(0)))).when(chunks)
+				.insertMany(anyList());
+
+		writer = new GridFsChunkWriter(files, chunks, Runnable::run);
+	}
+
+	@Test
+	public void writesChunksInBatchesAndFilesDocumentLast() {
+
+		byte[] content = createContent(95);
+
+		ObjectId id = writer.write(new ByteArrayInputStream(content), "foo.bin", new Document("key", "value"),
+				GridFsStoreOptions.options().chunkSize(10).batchSize(4).maxBatchesInFlight(2));
+
+		assertThat(batches).hasSize(3);
+		assertThat(batches.get(0)).hasSize(4);
+		assertThat(batches.get(2)).hasSize(2);
+		assertThat(batches.get(2).get(1)).containsEntry("n", 9).containsEntry("files_id", id);
+
+		ArgumentCaptor<Document> file = ArgumentCaptor.forClass(Document.class);
+
+		InOrder inOrder = inOrder(chunks, files);
+		inOrder.verify(chunks, times(3)).insertMany(anyList());
+		inOrder.verify(files).insertOne(file.capture());
+
+		assertThat(file.getValue()) //
+				.containsEntry("_id", id) //
+				.containsEntry("length", 95L) //
+				.containsEntry("chunkSize", 10) //
+				.containsEntry("filename", "foo.bin") //
+				.containsEntry("md5", DigestUtils.md5DigestAsHex(content)) //
+				.containsEntry("metadata", new Document("key", "value"));
+	}
+
+	@Test
+	public void writesEmptyContentWithoutChunks() {
+
+		writer.write(new ByteArrayInputStream(new byte[0]), "foo.bin", new Document(), GridFsStoreOptions.options());
+
+		verify(chunks, never()).insertMany(anyList());
+		verify(files).insertOne(any(Document.class));
+	}
+
+	@Test
+	public void appliesWriteConcern() {
+
+		when(files.withWriteConcern(WriteConcern.MAJORITY)).thenReturn(files);
+		when(chunks.withWriteConcern(WriteConcern.MAJORITY)).thenReturn(chunks);
+
+		writer.write(new ByteArrayInputStream(createContent(10)), "foo.bin", new Document(),
+				GridFsStoreOptions.options().writeConcern(WriteConcern.MAJORITY));
+
+		verify(files).withWriteConcern(WriteConcern.MAJORITY);
+		verify(chunks).withWriteConcern(WriteConcern.MAJORITY);
+	}
+
+	@Test
+	public void removesChunksOnFailure() {
+
+		doThrow(new MongoException("boom")).when(chunks).insertMany(anyList());
+
+		assertThatExceptionOfType(MongoException.class)
+				.isThrownBy(() -> writer.write(new ByteArrayInputStream(createContent(95)), "foo.bin", new Document(),
+						GridFsStoreOptions.options().chunkSize(10).maxBatchesInFlight(2)));
+
+		verify(chunks).deleteMany(any(Document.class));
+		verify(files, never()).insertOne(any(Document.class));
+	}
+
+	@Test
+	public void writesContentOfFileChannel() throws Exception {
+
+		byte[] content = createContent(95);
+		Path path = Files.createTempFile("gridfs", ".bin");
+
+		try {
+
+			Files.write(path, content);
+
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+				writer.write(channel, "foo.bin", new Document(), GridFsStoreOptions.options().chunkSize(10).batchSize(100));
+			}
+
+			assertThat(batches).hasSize(1);
+			assertThat(batches.get(0)).hasSize(10);
+
+			ArgumentCaptor<Document> file = ArgumentCaptor.forClass(Document.class);
+			verify(files).insertOne(file.capture());
+
+			assertThat(file.getValue()).containsEntry("length", 95L).containsEntry("md5",
+					DigestUtils.md5DigestAsHex(content));
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test
+	public void writesContentOfFileChannelLargerThanReadBuffer() throws Exception {
+
+		byte[] content = createContent(3 * 1024 * 1024 + 17);
+		Path path = Files.createTempFile("gridfs", ".bin");
+
+		try {
+
+			Files.write(path, content);
+
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+				writer.write(channel, "foo.bin", new Document(),
+						GridFsStoreOptions.options().chunkSize(300 * 1024).batchSize(100));
+			}
+
+			assertThat(batches).hasSize(1);
+			assertThat(batches.get(0)).hasSize(11);
+
+			ArgumentCaptor<Document> file = ArgumentCaptor.forClass(Document.class);
+			verify(files).insertOne(file.capture());
+
+			assertThat(file.getValue()).containsEntry("length", (long) content.length).containsEntry("md5",
+					DigestUtils.md5DigestAsHex(content));
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	private static byte[] createContent(int length) {
+
+		byte[] content = new byte[length];
+		for (int i = 0; i < length; i++) {
+			content[i] = (byte) i;
+		}
+		return content;
+	}
+}
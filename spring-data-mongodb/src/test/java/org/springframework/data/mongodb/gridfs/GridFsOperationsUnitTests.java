@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Unit tests for the default methods of {@link GridFsOperations}.
+ */
+public class GridFsOperationsUnitTests {
+
+	GridFsOperations operations;
+
+	@Before
+	public void setUp() {
+		operations = mock(GridFsOperations.class, CALLS_REAL_METHODS);
+	}
+
+	@Test
+	public void streamsResourcesObtainedThroughGetResourcesByDefault() {
+
+		GridFsResource resource = mock(GridFsResource.class);
+		doReturn(new GridFsResource[] { resource }).when(operations).getResources("*.txt");
+
+		try (Stream<GridFsResource> resources = operations.streamResources("*.txt")) {
+			assertThat(resources).containsExactly(resource);
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void rejectsStoreOptionsByDefault() {
+		operations.store(mock(InputStream.class), "file", null, null, GridFsStoreOptions.options());
+	}
+
+	@Test
+	public void storesFileThroughInputStreamByDefault() throws Exception {
+
+		Path file = Files.createTempFile("gridfs", ".bin");
+		Files.write(file, new byte[] { 1, 2, 3 });
+
+		ObjectId id = new ObjectId();
+		GridFsStoreOptions options = GridFsStoreOptions.options();
+		byte[][] content = new byte[1][];
+
+		doAnswer(invocation -> {
+			content[0] = StreamUtils.copyToByteArray(invocation.getArgument(0));
+			return id;
+		}).when(operations).store(any(InputStream.class), eq("file"), eq("application/octet-stream"), isNull(),
+				same(options));
+
+		try {
+			assertThat(operations.store(file, "file", "application/octet-stream", null, options)).isEqualTo(id);
+			assertThat(content[0]).containsExactly(1, 2, 3);
+		} finally {
+			Files.delete(file);
+		}
+	}
+}
@@ -20,12 +20,19 @@ import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.*;
 import static org.springframework.data.mongodb.gridfs.GridFsCriteria.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.bson.BsonObjectId;
 import org.bson.Document;
@@ -38,12 +45,16 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.util.StreamUtils;
 
 import com.mongodb.MongoGridFSException;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.gridfs.GridFSBuckets;
 import com.mongodb.client.gridfs.GridFSFindIterable;
 import com.mongodb.client.gridfs.model.GridFSFile;
 
@@ -64,6 +75,8 @@ public class GridFsTemplateIntegrationTests {
 	Resource resource = new ClassPathResource("gridfs/gridfs.xml");
 
 	@Autowired GridFsOperations operations;
+	@Autowired MongoDbFactory dbFactory;
+	@Autowired MongoConverter converter;
 
 	@Before
 	public void setUp() {
@@ -265,6 +278,202 @@ public class GridFsTemplateIntegrationTests {
 		}
 	}
 
+	@Test
+	public void readRangeShouldReturnRequestedBytesOnly() throws IOException {
+
+		byte[] content = createContent(1000);
+		ObjectId reference = storeWithChunkSize(content, "range.bin", 64);
+
+		GridFsResource fsFile = operations.getResource(operations.findOne(query(where("_id").is(reference))));
+
+		assertThat(StreamUtils.copyToByteArray(fsFile.readRange(100, 200))).isEqualTo(slice(content, 100, 200));
+		assertThat(StreamUtils.copyToByteArray(fsFile.readRange(128, 64))).isEqualTo(slice(content, 128, 64));
+		assertThat(StreamUtils.copyToByteArray(fsFile.readRange(0, 1))).isEqualTo(slice(content, 0, 1));
+	}
+
+	@Test
+	public void readRangeShouldTruncateAtEndOfFile() throws IOException {
+
+		byte[] content = createContent(1000);
+		ObjectId reference = storeWithChunkSize(content, "range.bin", 64);
+
+		GridFsResource fsFile = operations.getResource(operations.findOne(query(where("_id").is(reference))));
+
+		assertThat(StreamUtils.copyToByteArray(fsFile.readRange(990, 100))).isEqualTo(slice(content, 990, 10));
+		assertThat(StreamUtils.copyToByteArray(fsFile.readRange(1000, 100))).isEmpty();
+	}
+
+	@Test
+	public void prefetchingResourceShouldReadEntireContent() throws IOException {
+
+		byte[] content = createContent(1000);
+		ObjectId reference = storeWithChunkSize(content, "prefetch.bin", 64);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			GridFsTemplate template = new GridFsTemplate(dbFactory, converter);
+			template.setPrefetchChunks(4);
+			template.setPrefetchExecutor(executor);
+
+			GridFsResource fsFile = template.getResource(template.findOne(query(where("_id").is(reference))));
+
+			assertThat(StreamUtils.copyToByteArray(fsFile.getInputStream())).isEqualTo(content);
+			assertThat(StreamUtils.copyToByteArray(fsFile.readRange(500, 300))).isEqualTo(slice(content, 500, 300));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void prefetchingResourceShouldUseSharedDefaultExecutor() throws IOException {
+
+		byte[] content = createContent(1000);
+		ObjectId reference = storeWithChunkSize(content, "prefetch-default.bin", 64);
+
+		GridFsTemplate template = new GridFsTemplate(dbFactory, converter);
+		template.setPrefetchChunks(4);
+
+		GridFSFile file = template.findOne(query(where("_id").is(reference)));
+
+		assertThat(StreamUtils.copyToByteArray(template.getResource(file).getInputStream())).isEqualTo(content);
+		assertThat(StreamUtils.copyToByteArray(template.getResource(file).getInputStream())).isEqualTo(content);
+	}
+
+	@Test
+	public void prefetchingResourceShouldReadContentOnceTemplateIsDestroyed() throws IOException {
+
+		byte[] content = createContent(1000);
+		ObjectId reference = storeWithChunkSize(content, "prefetch-destroyed.bin", 64);
+
+		GridFsTemplate template = new GridFsTemplate(dbFactory, converter);
+		template.setPrefetchChunks(4);
+
+		GridFSFile file = template.findOne(query(where("_id").is(reference)));
+
+		assertThat(StreamUtils.copyToByteArray(template.getResource(file).getInputStream())).isEqualTo(content);
+
+		template.destroy();
+
+		assertThat(StreamUtils.copyToByteArray(template.getResource(file).getInputStream())).isEqualTo(content);
+	}
+
+	@Test
+	public void storesContentInParallelBatches() throws IOException {
+
+		byte[] content = createContent(1000);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			GridFsTemplate template = new GridFsTemplate(dbFactory, converter);
+			template.setUploadExecutor(executor);
+
+			ObjectId reference = template.store(new ByteArrayInputStream(content), "batched.bin", "application/octet-stream",
+					new Document("key", "value"), GridFsStoreOptions.options().chunkSize(64).batchSize(3).maxBatchesInFlight(3));
+
+			GridFSFile file = operations.findOne(query(where("_id").is(reference)));
+			GridFsResource fsFile = operations.getResource(file);
+
+			assertThat(file.getChunkSize()).isEqualTo(64);
+			assertThat(file.getMetadata()).containsEntry("key", "value");
+			assertThat(fsFile.contentLength()).isEqualTo(1000);
+			assertThat(fsFile.getContentType()).isEqualTo("application/octet-stream");
+			assertThat(StreamUtils.copyToByteArray(fsFile.getInputStream())).isEqualTo(content);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void storesContentInParallelBatchesUsingSharedDefaultExecutor() throws IOException {
+
+		byte[] content = createContent(1000);
+
+		GridFsTemplate template = new GridFsTemplate(dbFactory, converter);
+
+		ObjectId reference = template.store(new ByteArrayInputStream(content), "batched-default.bin", null, null,
+				GridFsStoreOptions.options().chunkSize(64).batchSize(3).maxBatchesInFlight(3));
+
+		GridFsResource fsFile = operations.getResource(operations.findOne(query(where("_id").is(reference))));
+
+		assertThat(StreamUtils.copyToByteArray(fsFile.getInputStream())).isEqualTo(content);
+	}
+
+	@Test
+	public void storesContentOfLocalFile() throws IOException {
+
+		byte[] content = createContent(1000);
+		Path path = Files.createTempFile("gridfs", ".bin");
+
+		try {
+
+			Files.write(path, content);
+
+			ObjectId reference = operations.store(path, "local.bin", null, null,
+					GridFsStoreOptions.options().chunkSize(100).writeConcern(WriteConcern.ACKNOWLEDGED));
+
+			GridFsResource fsFile = operations.getResource(operations.findOne(query(where("_id").is(reference))));
+
+			assertThat(StreamUtils.copyToByteArray(fsFile.getInputStream())).isEqualTo(content);
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test
+	public void streamsResourcesMatchingEntireFilenameOnly() throws IOException {
+
+		ObjectId reference = operations.store(resource.getInputStream(), "foo.xml");
+		operations.store(resource.getInputStream(), "foo.xml.bak");
+		operations.store(resource.getInputStream(), "bar/foo.xml");
+
+		try (Stream<GridFsResource> resources = operations.streamResources("*.xml")) {
+
+			assertThat(resources.map(it -> ((BsonObjectId) it.getId()).getValue()).collect(Collectors.toList()))
+					.containsExactly(reference);
+		}
+	}
+
+	@Test
+	public void deleteRemovesFilesAndChunksInBulk() {
+
+		storeWithChunkSize(createContent(1000), "foo.bin", 100);
+		storeWithChunkSize(createContent(1000), "bar.bin", 100);
+		ObjectId retained = storeWithChunkSize(createContent(1000), "foo.txt", 100);
+
+		operations.delete(query(whereFilename().regex("\\.bin$")));
+
+		List<GridFSFile> files = new ArrayList<>();
+		operations.find(new Query()).into(files);
+
+		assertThat(files).extracting(it -> ((BsonObjectId) it.getId()).getValue()).containsExactly(retained);
+		assertThat(dbFactory.getDb().getCollection("fs.chunks").countDocuments()).isEqualTo(10);
+	}
+
+	private ObjectId storeWithChunkSize(byte[] content, String filename, int chunkSize) {
+		return GridFSBuckets.create(dbFactory.getDb()).withChunkSizeBytes(chunkSize).uploadFromStream(filename,
+				new ByteArrayInputStream(content));
+	}
+
+	private static byte[] createContent(int length) {
+
+		byte[] content = new byte[length];
+		for (int i = 0; i < length; i++) {
+			content[i] = (byte) i;
+		}
+		return content;
+	}
+
+	private static byte[] slice(byte[] content, int offset, int length) {
+
+		byte[] slice = new byte[length];
+		System.arraycopy(content, offset, slice, 0, length);
+		return slice;
+	}
+
 	class Metadata {
 		String version;
 	}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.FileNotFoundException;
+import java.util.Date;
+
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.junit.Test;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * Unit tests for {@link ReactiveGridFsResource}.
+ */
+public class ReactiveGridFsResourceUnitTests {
+
+	@Test
+	public void shouldReadContentTypeCorrectly() {
+
+		Document metadata = new Document(GridFsResource.CONTENT_TYPE_FIELD, "text/plain");
+		GridFSFile file = new GridFSFile(new BsonObjectId(), "foo", 0, 0, new Date(), "foo", metadata);
+		ReactiveGridFsResource resource = new ReactiveGridFsResource(file, Flux.empty());
+
+		assertThat(resource.getContentType()).isEqualTo("text/plain");
+	}
+
+	@Test
+	public void shouldThrowExceptionOnEmptyContentType() {
+
+		GridFSFile file = new GridFSFile(new BsonObjectId(), "foo", 0, 0, new Date(), "foo", null);
+		ReactiveGridFsResource resource = new ReactiveGridFsResource(file, Flux.empty());
+
+		assertThatThrownBy(resource::getContentType).isInstanceOf(MongoGridFSException.class);
+	}
+
+	@Test
+	public void gettersThrowExceptionForAbsentResource() {
+
+		ReactiveGridFsResource absent = ReactiveGridFsResource.absent("foo");
+
+		assertThat(absent.exists()).isFalse();
+		assertThat(absent.getDescription()).contains("GridFs resource [foo]");
+
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(absent::getContentType);
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(absent::getId);
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(absent::contentLength);
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(absent::lastModified);
+
+		StepVerifier.create(absent.getDownloadStream()).verifyError(FileNotFoundException.class);
+	}
+}
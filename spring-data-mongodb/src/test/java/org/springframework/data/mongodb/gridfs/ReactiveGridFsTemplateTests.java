@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+import static org.springframework.data.mongodb.core.query.Query.*;
+import static org.springframework.data.mongodb.gridfs.GridFsCriteria.*;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Integration tests for {@link ReactiveGridFsTemplate}.
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration("classpath:gridfs/reactive-gridfs.xml")
+public class ReactiveGridFsTemplateTests {
+
+	Resource resource = new ClassPathResource("gridfs/gridfs.xml");
+
+	@Autowired ReactiveGridFsOperations operations;
+
+	@Before
+	public void setUp() {
+
+		operations.delete(new Query()) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void storesAndFindsSimpleDocument() {
+
+		ObjectId reference = operations.store(content(), "foo.xml").block();
+
+		operations.find(query(where("_id").is(reference))) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual.getObjectId()).isEqualTo(reference)) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void writesMetadataCorrectly() {
+
+		ObjectId reference = operations.store(content(), "foo.xml", new Document("key", "value")).block();
+
+		operations.find(query(whereMetaData("key").is("value"))) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual.getObjectId()).isEqualTo(reference)) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void storesContentType() {
+
+		operations.store(content(), "foo2.xml", "application/xml").block();
+
+		operations.find(query(whereContentType().is("application/xml"))) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void writesAndReadsContent() throws IOException {
+
+		byte[] expected = StreamUtils.copyToByteArray(resource.getInputStream());
+
+		operations.store(content(), "foo.xml").block();
+
+		operations.getResource("foo.xml") //
+				.flatMap(it -> DataBufferUtils.join(it.getDownloadStream())) //
+				.map(ReactiveGridFsTemplateTests::toByteArray) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual).isEqualTo(expected)) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void findsFilesByResourcePattern() {
+
+		ObjectId reference = operations.store(content(), "foo.xml").block();
+
+		operations.getResources("*.xml") //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> {
+
+					assertThat(actual.exists()).isTrue();
+					assertThat(actual.getId()).isEqualTo(new BsonObjectId(reference));
+				}) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void returnsAbsentResourceForNonExistingFile() {
+
+		operations.getResource("missing.xml") //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual.exists()).isFalse()) //
+				.verifyComplete();
+
+		operations.getResource("missing.xml") //
+				.flatMapMany(ReactiveGridFsResource::getDownloadStream) //
+				.as(StepVerifier::create) //
+				.verifyError(FileNotFoundException.class);
+	}
+
+	@Test
+	public void deletesFilesByQuery() {
+
+		operations.store(content(), "foo.xml").block();
+		operations.store(content(), "bar.xml").block();
+
+		operations.delete(query(whereFilename().is("foo.xml"))) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		operations.find(new Query()) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual.getFilename()).isEqualTo("bar.xml")) //
+				.verifyComplete();
+	}
+
+	private Flux<DataBuffer> content() {
+		return DataBufferUtils.read(resource, new DefaultDataBufferFactory(), 256);
+	}
+
+	private static byte[] toByteArray(DataBuffer buffer) {
+
+		byte[] bytes = new byte[buffer.readableByteCount()];
+		buffer.read(bytes);
+		DataBufferUtils.release(buffer);
+
+		return bytes;
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ServerStatusCache}.
+ */
+public class ServerStatusCacheUnitTests {
+
+	AtomicLong nanoTime = new AtomicLong();
+	AtomicInteger commands = new AtomicInteger();
+	List<Runnable> refreshes = new ArrayList<>();
+
+	ServerStatusCache cache;
+
+	@Before
+	public void setUp() {
+
+		cache = new ServerStatusCache(() -> {
+
+			int count = commands.incrementAndGet();
+			return new Document("opcounters", new Document("insert", count * 100));
+		}, Duration.ofSeconds(5), nanoTime::get);
+		cache.setRefreshExecutor(refreshes::add);
+	}
+
+	@Test
+	public void servesReadsWithinRefreshIntervalFromSnapshot() {
+
+		for (int i = 0; i < 30; i++) {
+			cache.getServerStatus();
+		}
+
+		assertThat(commands).hasValue(1);
+		assertThat(refreshes).isEmpty();
+	}
+
+	@Test
+	public void returnsStaleSnapshotWhileRefreshing() {
+
+		Document initial = cache.getServerStatus();
+		advance(6);
+
+		assertThat(cache.getServerStatus()).isSameAs(initial);
+		assertThat(cache.getServerStatus()).isSameAs(initial);
+		assertThat(refreshes).hasSize(1);
+
+		refreshes.remove(0).run();
+
+		assertThat(commands).hasValue(2);
+		assertThat(cache.getServerStatus()).isNotSameAs(initial);
+	}
+
+	@Test
+	public void keepsSnapshotIfRefreshFails() {
+
+		cache = new ServerStatusCache(() -> {
+
+			if (commands.incrementAndGet() > 1) {
+				throw new IllegalStateException("o_O");
+			}
+			return new Document("version", "4.0.0");
+		}, Duration.ofSeconds(5), nanoTime::get);
+		cache.setRefreshExecutor(Runnable::run);
+
+		cache.getServerStatus();
+		advance(6);
+
+		assertThat(cache.getServerStatus()).containsEntry("version", "4.0.0");
+		assertThat(cache.getServerStatus()).containsEntry("version", "4.0.0");
+		assertThat(commands).hasValue(2);
+	}
+
+	@Test
+	public void backsOffAfterFailedRefreshes() {
+
+		cache = new ServerStatusCache(() -> {
+
+			if (commands.incrementAndGet() > 1) {
+				throw new IllegalStateException("o_O");
+			}
+			return new Document("version", "4.0.0");
+		}, Duration.ofSeconds(5), nanoTime::get);
+		cache.setRefreshExecutor(Runnable::run);
+
+		cache.getServerStatus();
+		advance(6);
+		cache.getServerStatus(); // fails, retry after 5 seconds
+
+		advance(4);
+		cache.getServerStatus();
+		assertThat(commands).hasValue(2);
+
+		advance(1);
+		cache.getServerStatus(); // fails, retry after 10 seconds
+		assertThat(commands).hasValue(3);
+
+		advance(9);
+		cache.getServerStatus();
+		assertThat(commands).hasValue(3);
+
+		advance(1);
+		cache.getServerStatus();
+		assertThat(commands).hasValue(4);
+	}
+
+	@Test
+	public void refreshesOnDefaultExecutorUntilDestroyed() throws Exception {
+
+		cache = new ServerStatusCache(() -> {
+
+			commands.incrementAndGet();
+			return new Document("thread", Thread.currentThread().getName());
+		}, Duration.ofSeconds(5), nanoTime::get);
+
+		assertThat(cache.getServerStatus().getString("thread")).isEqualTo(Thread.currentThread().getName());
+
+		advance(6);
+		cache.getServerStatus();
+
+		for (int i = 0; i < 100 && !cache.getServerStatus().getString("thread").startsWith("mongo-server-status-"); i++) {
+			Thread.sleep(10);
+		}
+
+		assertThat(cache.getServerStatus().getString("thread")).startsWith("mongo-server-status-");
+
+		cache.destroy();
+		advance(6);
+		cache.getServerStatus();
+		Thread.sleep(50);
+
+		assertThat(commands).hasValue(2);
+	}
+
+	@Test
+	public void computesRatesBetweenSnapshots() {
+
+		assertThat(cache.getRate("opcounters", "insert")).isZero();
+
+		advance(10);
+		cache.getServerStatus();
+		refreshes.remove(0).run();
+
+		assertThat(cache.getRate("opcounters", "insert")).isEqualTo(10.0);
+		assertThat(cache.getRate("opcounters", "unknown")).isZero();
+	}
+
+	private void advance(long seconds) {
+		nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.repository.query.ExpressionEvaluatingParameterBinder.BindingContext;
+import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery.ParameterBinding;
+import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery.ParameterBindingParser;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Unit tests for {@link ParameterBindingDocumentTemplate}.
+ */
+public class ParameterBindingDocumentTemplateUnitTests {
+
+	MongoConverter converter;
+	ExpressionEvaluatingParameterBinder binder;
+
+	@Before
+	public void setUp() {
+
+		converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+		binder = new ExpressionEvaluatingParameterBinder(new SpelExpressionParser(),
+				QueryMethodEvaluationContextProvider.DEFAULT);
+	}
+
+	@Test
+	public void emptySourceCreatesEmptyDocument() {
+
+		ParameterBindingDocumentTemplate template = ParameterBindingDocumentTemplate.compile(null,
+				Collections.emptyList());
+
+		assertThat(template.bind(StubParameterAccessor.getAccessor(converter))).isEqualTo(new Document());
+	}
+
+	@Test
+	public void bindsValuesWithoutParsing() {
+
+		ParameterBindingDocumentTemplate template = compile("{ 'lastname' : ?0, 'age' : { '$gt' : ?1, '$lt' : ?2 } }");
+
+		assertThat(template.bind(StubParameterAccessor.getAccessor(converter, "Matthews", 18, 65)))
+				.isEqualTo(new Document("lastname", "Matthews").append("age", new Document("$gt", 18).append("$lt", 65)));
+	}
+
+	@Test
+	public void bindsValuesWithinArrays() {
+
+		ParameterBindingDocumentTemplate template = compile("{ '$or' : [ { 'lastname' : ?0 }, { 'firstname' : ?1 } ] }");
+
+		assertThat(template.bind(StubParameterAccessor.getAccessor(converter, "Matthews", "Dave")))
+				.isEqualTo(new Document("$or",
+						Arrays.asList(new Document("lastname", "Matthews"), new Document("firstname", "Dave"))));
+	}
+
+	@Test
+	public void createsIndependentDocumentsPerInvocation() {
+
+		ParameterBindingDocumentTemplate template = compile("{ 'address' : { 'city' : ?0 }, 'active' : true }");
+
+		Document first = template.bind(StubParameterAccessor.getAccessor(converter, "London"));
+		((Document) first.get("address")).put("city", "Paris");
+		first.put("active", false);
+
+		assertThat(template.bind(StubParameterAccessor.getAccessor(converter, "London")))
+				.isEqualTo(new Document("address", new Document("city", "London")).append("active", true));
+	}
+
+	@Test
+	public void doesNotCompileSourcesRequiringStringBinding() {
+
+		assertThat(compile("{ 'lastname' : '?0' }")).isNull();
+		assertThat(compile("{ 'lastname' : 'prefix?0' }")).isNull();
+		assertThat(compile("{ 'lastname' : { '$regex' : '^?0' } }")).isNull();
+		assertThat(compile("{ ?0 : 'Matthews' }")).isNull();
+		assertThat(compile("?0")).isNull();
+		assertThat(compile("{ 'lastname' : ?#{[0]} }")).isNull();
+	}
+
+	@Test
+	public void matchesStringBasedBindingForDirectlyBindableValues() {
+
+		String source = "{ 'value' : ?0 }";
+		ObjectId id = new ObjectId();
+		Date date = new Date();
+
+		List<Object> values = Arrays.asList(null, "Matthews", "{ 'injection' : 1 }", "quote\"d", true, 42, 42L,
+				Long.MAX_VALUE, 4.2D, id, date, Arrays.asList("a", 1, 2L), new Document("nested", new Document("a", 1L)),
+				Collections.singletonMap("key", id), new ArrayList<>());
+
+		for (Object value : values) {
+
+			Document bound = compile(source).bind(StubParameterAccessor.getAccessor(converter, value));
+
+			assertThat(bound).as("Binding %s", value).isNotNull().isEqualTo(bindAsString(source, value));
+		}
+	}
+
+	@Test
+	public void rejectsValuesChangingTypeWhenRenderedToJson() {
+
+		ParameterBindingDocumentTemplate template = compile("{ 'value' : ?0 }");
+
+		assertThat(template.bind(StubParameterAccessor.getAccessor(converter, UUID.randomUUID()))).isNull();
+		assertThat(template.bind(StubParameterAccessor.getAccessor(converter, new byte[] { 1 }))).isNull();
+		assertThat(template.bind(StubParameterAccessor.getAccessor(converter, Pattern.compile("^a")))).isNull();
+		assertThat(template.bind(StubParameterAccessor.getAccessor(converter, 1.5F))).isNull();
+		assertThat(template.bind(StubParameterAccessor.getAccessor(converter, Arrays.asList(UUID.randomUUID()))))
+				.isNull();
+	}
+
+	private static ParameterBindingDocumentTemplate compile(String source) {
+
+		List<ParameterBinding> bindings = new ArrayList<>();
+		String transformed = ParameterBindingParser.INSTANCE.parseAndCollectParameterBindingsFromQueryIntoBindings(source,
+				bindings);
+
+		return ParameterBindingDocumentTemplate.compile(transformed, bindings);
+	}
+
+	private Document bindAsString(String source, Object value) {
+
+		List<ParameterBinding> bindings = new ArrayList<>();
+		String transformed = ParameterBindingParser.INSTANCE.parseAndCollectParameterBindingsFromQueryIntoBindings(source,
+				bindings);
+
+		String bound = binder.bind(transformed, StubParameterAccessor.getAccessor(converter, value),
+				new BindingContext(null, bindings));
+
+		return new BasicQuery(bound).getQueryObject();
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.mongodb.InvalidMongoDbApiUsageException;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.Address;
+import org.springframework.data.mongodb.repository.Person;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * Unit tests for {@link PartTreeQueryTemplate}.
+ */
+public class PartTreeQueryTemplateUnitTests {
+
+	MongoMappingContext context;
+	MappingMongoConverter converter;
+
+	@Before
+	public void setUp() {
+
+		context = new MongoMappingContext();
+		converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+	}
+
+	@Test
+	public void createsQueriesEquivalentToQueryCreator() {
+
+		assertEquivalentQuery("findByFirstname", "Dave");
+		assertEquivalentQuery("findByFirstnameAndLastname", "Dave", "Matthews");
+		assertEquivalentQuery("findByFirstnameOrLastname", "Dave", "Matthews");
+		assertEquivalentQuery("findByFirstnameAndAgeOrLastnameAndAge", "Dave", 42, "Matthews", 43);
+		assertEquivalentQuery("findByLastnameNot", "Matthews");
+		assertEquivalentQuery("findByAgeGreaterThanAndCreatedAtBefore", 18, new Date());
+		assertEquivalentQuery("findByAgeGreaterThanEqualAndCreatedAtAfter", 18, new Date());
+		assertEquivalentQuery("findByAgeLessThanOrAgeLessThanEqual", 18, 21);
+		assertEquivalentQuery("findByAgeBetween", 18, 65);
+		assertEquivalentQuery("findByLastnameIsNullAndFirstnameIsNotNull");
+		assertEquivalentQuery("findBySexIsNullOrAgeIsNotNull");
+		assertEquivalentQuery("findByAgeIn", Arrays.asList(18, 21, 42));
+		assertEquivalentQuery("findByAgeIn", (Object) new Integer[] { 18, 21 });
+		assertEquivalentQuery("findByAgeIn", 18);
+		assertEquivalentQuery("findByAgeNotIn", Collections.emptyList());
+		assertEquivalentQuery("findByAddress", new Address("Foo", "0123", "Bar"));
+		assertEquivalentQuery("findByAddressCity", "Bar");
+		assertEquivalentQuery("findBySkills", Arrays.asList("Java", "MongoDB"));
+		assertEquivalentQuery("findByLastnameOrderByAgeDesc", "Matthews");
+		assertEquivalentQuery("findByLastname", (Object) null);
+		assertEquivalentQuery("findAllBy");
+	}
+
+	@Test
+	public void createsIndependentQueriesPerInvocation() {
+
+		PartTreeQueryTemplate template = compile("findByFirstnameOrLastname");
+
+		Query first = template.createQuery(StubParameterAccessor.getAccessor(converter, "Dave", "Matthews"));
+		Query second = template.createQuery(StubParameterAccessor.getAccessor(converter, "Carter", "Beauford"));
+
+		assertThat(first.getQueryObject()).isEqualTo(Document.parse(
+				"{ '$or' : [ { 'firstname' : 'Dave' }, { 'lastname' : 'Matthews' } ] }"));
+		assertThat(second.getQueryObject()).isEqualTo(Document.parse(
+				"{ '$or' : [ { 'firstname' : 'Carter' }, { 'lastname' : 'Beauford' } ] }"));
+	}
+
+	@Test
+	public void doesNotCompileValueDependentParts() {
+
+		assertThat(compile("findByFirstnameLike")).isNull();
+		assertThat(compile("findByFirstnameStartingWith")).isNull();
+		assertThat(compile("findByFirstnameContaining")).isNull();
+		assertThat(compile("findByFirstnameRegex")).isNull();
+		assertThat(compile("findByFirstnameIgnoreCase")).isNull();
+		assertThat(compile("findByLastnameAndFirstnameAllIgnoreCase")).isNull();
+		assertThat(compile("findByLocationNear")).isNull();
+		assertThat(compile("findByLocationWithin")).isNull();
+		assertThat(compile("findByFirstnameExists")).isNull();
+	}
+
+	@Test(expected = InvalidMongoDbApiUsageException.class)
+	public void rejectsNestedCollectionsForIn() {
+
+		compile("findByAgeIn").createQuery(StubParameterAccessor.getAccessor(converter,
+				(Object) new Object[] { Arrays.asList(1), Arrays.asList(2) }));
+	}
+
+	private void assertEquivalentQuery(String methodName, Object... values) {
+
+		PartTree tree = new PartTree(methodName, Person.class);
+		PartTreeQueryTemplate template = PartTreeQueryTemplate.compile(tree, context);
+
+		assertThat(template).as(methodName).isNotNull();
+
+		Query expected = new MongoQueryCreator(tree, StubParameterAccessor.getAccessor(converter, values), context)
+				.createQuery();
+		Query actual = template.createQuery(StubParameterAccessor.getAccessor(converter, values));
+
+		assertThat(actual.getQueryObject()).as(methodName).isEqualTo(expected.getQueryObject());
+		assertThat(actual.getSortObject()).as(methodName).isEqualTo(expected.getSortObject());
+	}
+
+	private PartTreeQueryTemplate compile(String methodName) {
+		return PartTreeQueryTemplate.compile(new PartTree(methodName, Person.class), context);
+	}
+}
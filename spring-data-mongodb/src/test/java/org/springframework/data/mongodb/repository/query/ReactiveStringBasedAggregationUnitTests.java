@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Method;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.DbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.Person;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Unit tests for {@link ReactiveStringBasedAggregation}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveStringBasedAggregationUnitTests {
+
+	SpelExpressionParser PARSER = new SpelExpressionParser();
+
+	@Mock ReactiveMongoOperations operations;
+	@Mock DbRefResolver dbRefResolver;
+
+	MongoMappingContext mappingContext;
+	MappingMongoConverter converter;
+
+	@Before
+	public void setUp() {
+
+		mappingContext = new MongoMappingContext();
+		converter = new MappingMongoConverter(dbRefResolver, mappingContext);
+		converter.afterPropertiesSet();
+
+		when(operations.getConverter()).thenReturn(converter);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bindsParametersIntoPipeline() {
+
+		when(operations.aggregate(any(TypedAggregation.class), eq("person"), eq(Person.class)))
+				.thenReturn(Flux.just(new Person("Dave", "Matthews")));
+
+		Object result = createAggregationForMethod("findByLastname", String.class).execute(new Object[] { "Matthews" });
+
+		StepVerifier.create((Flux<Person>) result).expectNextCount(1).verifyComplete();
+
+		ArgumentCaptor<TypedAggregation> captor = ArgumentCaptor.forClass(TypedAggregation.class);
+		verify(operations).aggregate(captor.capture(), eq("person"), eq(Person.class));
+
+		TypeBasedAggregationOperationContext context = new TypeBasedAggregationOperationContext(Person.class,
+				mappingContext, new QueryMapper(converter));
+
+		assertThat(captor.getValue().toPipeline(context)).containsExactly( //
+				Document.parse("{ '$match' : { 'lastname' : 'Matthews' } }"), //
+				Document.parse("{ '$project' : { 'firstname' : 1 } }"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void extractsSimpleTypeResult() {
+
+		when(operations.aggregate(any(TypedAggregation.class), eq("person"), eq(Document.class)))
+				.thenReturn(Flux.just(new Document("_id", null).append("total", 42)));
+
+		Object result = createAggregationForMethod("sumAge").execute(new Object[0]);
+
+		StepVerifier.create((Mono<Long>) result).expectNext(42L).verifyComplete();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void extractsSimpleTypeResults() {
+
+		when(operations.aggregate(any(TypedAggregation.class), eq("person"), eq(Document.class)))
+				.thenReturn(Flux.just(new Document("_id", "Matthews"), new Document("_id", "Beauford")));
+
+		Object result = createAggregationForMethod("findAllLastnames").execute(new Object[0]);
+
+		StepVerifier.create((Flux<String>) result).expectNext("Matthews", "Beauford").verifyComplete();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void skipsNullSimpleTypeResults() {
+
+		when(operations.aggregate(any(TypedAggregation.class), eq("person"), eq(Document.class)))
+				.thenReturn(Flux.just(new Document("_id", null), new Document("_id", "Beauford")));
+
+		Object result = createAggregationForMethod("findAllLastnames").execute(new Object[0]);
+
+		StepVerifier.create((Flux<String>) result).expectNext("Beauford").verifyComplete();
+	}
+
+	private ReactiveStringBasedAggregation createAggregationForMethod(String name, Class<?>... parameters) {
+
+		try {
+
+			Method method = SampleRepository.class.getMethod(name, parameters);
+			ReactiveMongoQueryMethod queryMethod = new ReactiveMongoQueryMethod(method,
+					new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(),
+					mappingContext);
+
+			return new ReactiveStringBasedAggregation(queryMethod, operations, PARSER,
+					QueryMethodEvaluationContextProvider.DEFAULT);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	private interface SampleRepository extends Repository<Person, String> {
+
+		@Aggregation({ "{ '$match' : { 'lastname' : ?0 } }", "{ '$project' : { 'firstname' : 1 } }" })
+		Flux<Person> findByLastname(String lastname);
+
+		@Aggregation("{ '$group' : { '_id' : null, 'total' : { '$sum' : '$age' } } }")
+		Mono<Long> sumAge();
+
+		@Aggregation("{ '$group' : { '_id' : '$lastname' } }")
+		Flux<String> findAllLastnames();
+	}
+}
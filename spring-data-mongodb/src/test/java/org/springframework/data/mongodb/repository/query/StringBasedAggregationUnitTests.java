@@ -0,0 +1,293 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.InvalidMongoDbApiUsageException;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.DbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.Meta;
+import org.springframework.data.mongodb.repository.Person;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Unit tests for {@link StringBasedAggregation}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class StringBasedAggregationUnitTests {
+
+	SpelExpressionParser PARSER = new SpelExpressionParser();
+
+	@Mock MongoOperations operations;
+	@Mock DbRefResolver dbRefResolver;
+
+	MongoMappingContext mappingContext;
+	MappingMongoConverter converter;
+
+	@Before
+	public void setUp() {
+
+		mappingContext = new MongoMappingContext();
+		converter = new MappingMongoConverter(dbRefResolver, mappingContext);
+		converter.afterPropertiesSet();
+	}
+
+	@Test
+	public void bindsParametersIntoPipeline() {
+
+		returnResults();
+
+		executeAndCapture("findByLastname", "Matthews");
+
+		assertThat(captured().toPipeline(operationContext())).containsExactly( //
+				Document.parse("{ '$match' : { 'lastname' : 'Matthews' } }"), //
+				Document.parse("{ '$project' : { 'firstname' : 1 } }"));
+	}
+
+	@Test
+	public void mapsFieldNamesOfDomainType() {
+
+		returnResults();
+
+		executeAndCapture("findByCity", "Linz");
+
+		assertThat(captured().toPipeline(operationContext()))
+				.containsExactly(Document.parse("{ '$match' : { 'add.city' : 'Linz' } }"));
+	}
+
+	@Test
+	public void appliesOptions() {
+
+		returnResults();
+
+		executeAndCapture("findAllWithOptions");
+
+		TypedAggregation<?> aggregation = captured();
+
+		assertThat(aggregation.getOptions().isAllowDiskUse()).isTrue();
+		assertThat(aggregation.getOptions().getCursorBatchSize()).isEqualTo(42);
+	}
+
+	@Test
+	public void appendsSortAndPaging() {
+
+		returnResults();
+
+		executeAndCapture("findByLastname", "Matthews", Sort.by(Direction.DESC, "age"));
+		assertThat(captured().toPipeline(operationContext())).endsWith(Document.parse("{ '$sort' : { 'age' : -1 } }"));
+
+		reset(operations);
+		returnResults();
+
+		executeAndCapture("findByLastname", "Matthews", PageRequest.of(2, 10));
+		assertThat(captured().toPipeline(operationContext())).endsWith(new Document("$skip", 20L),
+				new Document("$limit", 10));
+	}
+
+	@Test
+	public void extractsSimpleTypeResult() {
+
+		returnResults(new Document("_id", null).append("total", 42));
+
+		assertThat(executeAndCapture("sumAge")).isEqualTo(42L);
+	}
+
+	@Test
+	public void extractsSimpleTypeResults() {
+
+		returnResults(new Document("_id", "Matthews"), new Document("_id", "Beauford"));
+
+		assertThat(executeAndCapture("findAllLastnames")).isEqualTo(Arrays.asList("Matthews", "Beauford"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void streamsResults() {
+
+		Iterator<Document> documents = Arrays.asList(new Document("total", 1), new Document("total", 2)).iterator();
+
+		when(operations.aggregateStream(any(TypedAggregation.class), eq("person"), eq(Document.class)))
+				.thenReturn(new CloseableIterator<Document>() {
+
+					@Override
+					public boolean hasNext() {
+						return documents.hasNext();
+					}
+
+					@Override
+					public Document next() {
+						return documents.next();
+					}
+
+					@Override
+					public void close() {}
+				});
+
+		Object result = createAggregationForMethod("streamAges").execute(new Object[0]);
+
+		assertThat(((Stream<Object>) result).collect(Collectors.toList())).containsExactly(1, 2);
+	}
+
+	@Test
+	public void readsAdditionalElementForSlice() {
+
+		returnResults(new Person("Dave", "Matthews"), new Person("Carter", "Beauford"));
+
+		Object result = executeAndCapture("findSliceByLastname", "Matthews", PageRequest.of(0, 1));
+
+		assertThat(captured().toPipeline(operationContext())).endsWith(new Document("$limit", 2));
+		assertThat(result).isInstanceOf(Slice.class);
+		assertThat(((Slice<?>) result).getContent()).hasSize(1);
+		assertThat(((Slice<?>) result).hasNext()).isTrue();
+	}
+
+	@Test
+	public void returnsAllResultsForUnpagedSlice() {
+
+		returnResults(new Person("Dave", "Matthews"), new Person("Carter", "Beauford"));
+
+		Object result = executeAndCapture("findSliceByLastname", "Matthews", Pageable.unpaged());
+
+		assertThat(result).isInstanceOf(Slice.class);
+		assertThat(((Slice<?>) result).getContent()).hasSize(2);
+		assertThat(((Slice<?>) result).hasNext()).isFalse();
+	}
+
+	@Test(expected = InvalidMongoDbApiUsageException.class)
+	public void rejectsPageReturnType() {
+
+		new StringBasedAggregation(queryMethod("findPageByLastname", String.class, Pageable.class), operations, PARSER,
+				QueryMethodEvaluationContextProvider.DEFAULT);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void returnResults(Object... results) {
+
+		List<Object> mappedResults = Arrays.asList(results);
+		when(operations.aggregate(any(TypedAggregation.class), eq("person"), any(Class.class)))
+				.thenReturn(new AggregationResults<>(mappedResults, new Document()));
+	}
+
+	private Object executeAndCapture(String name, Object... parameters) {
+
+		Class<?>[] types = Arrays.stream(parameters) //
+				.map(it -> it instanceof Sort ? Sort.class : it instanceof Pageable ? Pageable.class : it.getClass()) //
+				.toArray(Class[]::new);
+
+		return createAggregationForMethod(name, types).execute(parameters);
+	}
+
+	@SuppressWarnings("unchecked")
+	private TypedAggregation<?> captured() {
+
+		ArgumentCaptor<TypedAggregation> captor = ArgumentCaptor.forClass(TypedAggregation.class);
+		verify(operations).aggregate(captor.capture(), eq("person"), any(Class.class));
+
+		return captor.getValue();
+	}
+
+	private TypeBasedAggregationOperationContext operationContext() {
+		return new TypeBasedAggregationOperationContext(Person.class, mappingContext, new QueryMapper(converter));
+	}
+
+	private StringBasedAggregation createAggregationForMethod(String name, Class<?>... parameters) {
+
+		when(operations.getConverter()).thenReturn(converter);
+
+		return new StringBasedAggregation(queryMethod(name, parameters), operations, PARSER,
+				QueryMethodEvaluationContextProvider.DEFAULT);
+	}
+
+	private MongoQueryMethod queryMethod(String name, Class<?>... parameters) {
+
+		try {
+
+			Method method = SampleRepository.class.getMethod(name, parameters);
+			return new MongoQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class),
+					new SpelAwareProxyProjectionFactory(), mappingContext);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	private interface SampleRepository extends Repository<Person, String> {
+
+		@Aggregation({ "{ '$match' : { 'lastname' : ?0 } }", "{ '$project' : { 'firstname' : 1 } }" })
+		List<Person> findByLastname(String lastname);
+
+		@Aggregation({ "{ '$match' : { 'lastname' : ?0 } }" })
+		List<Person> findByLastname(String lastname, Sort sort);
+
+		@Aggregation({ "{ '$match' : { 'lastname' : ?0 } }" })
+		List<Person> findByLastname(String lastname, Pageable pageable);
+
+		@Aggregation("{ '$match' : { 'address.city' : ?0 } }")
+		List<Person> findByCity(String city);
+
+		@Meta(cursorBatchSize = 42)
+		@Aggregation(pipeline = "{ '$match' : { } }", allowDiskUse = true)
+		List<Person> findAllWithOptions();
+
+		@Aggregation("{ '$group' : { '_id' : null, 'total' : { '$sum' : '$age' } } }")
+		Long sumAge();
+
+		@Aggregation("{ '$group' : { '_id' : '$lastname' } }")
+		List<String> findAllLastnames();
+
+		@Aggregation("{ '$project' : { '_id' : 0, 'total' : '$age' } }")
+		Stream<Integer> streamAges();
+
+		@Aggregation("{ '$match' : { 'lastname' : ?0 } }")
+		Slice<Person> findSliceByLastname(String lastname, Pageable pageable);
+
+		@Aggregation("{ '$match' : { 'lastname' : ?0 } }")
+		org.springframework.data.domain.Page<Person> findPageByLastname(String lastname, Pageable pageable);
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.mongodb.repository.query;
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
@@ -53,6 +54,8 @@ import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Base64Utils;
 
@@ -308,6 +311,30 @@ public class StringBasedMongoQueryUnitTests {
 		assertThat(query.getQueryObject(), is(reference.getQueryObject()));
 	}
 
+	@Test
+	public void parsesExpressionsOnceAndCreatesSingleEvaluationContextPerInvocation() {
+
+		SpelExpressionParser parser = spy(new SpelExpressionParser(
+				new SpelParserConfiguration(SpelCompilerMode.MIXED, getClass().getClassLoader())));
+		QueryMethodEvaluationContextProvider evaluationContextProvider = spy(QueryMethodEvaluationContextProvider.DEFAULT);
+
+		StringBasedMongoQuery mongoQuery = createQueryForMethod(parser, evaluationContextProvider,
+				"findByQueryWithExpressionAndMultipleNestedObjects", boolean.class, String.class, String.class);
+		org.springframework.data.mongodb.core.query.Query reference = new BasicQuery(
+				"{ \"id\" : { \"$exists\" : true} , \"foo\" : 42 , \"bar\" : { \"$exists\" : false}}");
+
+		int invocations = 150; // exceeds the threshold for compiling expressions in mixed mode
+		for (int i = 0; i < invocations; i++) {
+
+			ConvertingParameterAccessor accessor = StubParameterAccessor.getAccessor(converter, true, "param1", "param2");
+
+			assertThat(mongoQuery.createQuery(accessor).getQueryObject(), is(reference.getQueryObject()));
+		}
+
+		verify(parser, times(2)).parseExpression(anyString());
+		verify(evaluationContextProvider, times(invocations)).getEvaluationContext(any(), any());
+	}
+
 	@Test // DATAMONGO-1290
 	public void shouldSupportNonQuotedBinaryDataReplacement() {
 
@@ -615,6 +642,11 @@ public class StringBasedMongoQueryUnitTests {
 	}
 
 	private StringBasedMongoQuery createQueryForMethod(String name, Class<?>... parameters) {
+		return createQueryForMethod(PARSER, QueryMethodEvaluationContextProvider.DEFAULT, name, parameters);
+	}
+
+	private StringBasedMongoQuery createQueryForMethod(SpelExpressionParser parser,
+			QueryMethodEvaluationContextProvider evaluationContextProvider, String name, Class<?>... parameters) {
 
 		try {
 
@@ -622,7 +654,7 @@ public class StringBasedMongoQueryUnitTests {
 			ProjectionFactory factory = new SpelAwareProxyProjectionFactory();
 			MongoQueryMethod queryMethod = new MongoQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class),
 					factory, converter.getMappingContext());
-			return new StringBasedMongoQuery(queryMethod, operations, PARSER, QueryMethodEvaluationContextProvider.DEFAULT);
+			return new StringBasedMongoQuery(queryMethod, operations, parser, evaluationContextProvider);
 
 		} catch (Exception e) {
 			throw new IllegalArgumentException(e.getMessage(), e);